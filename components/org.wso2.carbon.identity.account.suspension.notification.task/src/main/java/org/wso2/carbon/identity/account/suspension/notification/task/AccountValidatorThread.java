@@ -49,6 +49,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class AccountValidatorThread implements Runnable {
 
@@ -65,6 +70,12 @@ public class AccountValidatorThread implements Runnable {
             log.debug("Idle account suspension task started.");
         }
 
+        // Run the task only from master node in cluster setup.
+        if (isMasterNodeExclusiveExecutionEnabled() && !isHazelcastMasterNode()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
         RealmService realmService = NotificationTaskDataHolder.getInstance().getRealmService();
 
         Tenant[] tenants = new Tenant[0];
@@ -75,25 +86,50 @@ public class AccountValidatorThread implements Runnable {
             log.error("Error occurred while retrieving tenants", e);
         }
 
-        handleTask(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
-
+        List<String> tenantDomains = new ArrayList<>();
+        tenantDomains.add(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
         for (Tenant tenant : tenants) {
-            handleTask(tenant.getDomain());
+            tenantDomains.add(tenant.getDomain());
+        }
+
+        // Tenants are processed in parallel on a bounded pool, and a failure of a tenant does not affect the others.
+        TaskSummary summary = new TaskSummary();
+        int concurrency = Math.max(1, Math.min(NotificationTaskDataHolder.getInstance().getTenantConcurrency(),
+                tenantDomains.size()));
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (String tenantDomain : tenantDomains) {
+                futures.add(executorService.submit(() -> handleTask(tenantDomain, summary)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    summary.tenantsFailed.incrementAndGet();
+                    log.error("Error occurred while handling idle account suspension task for tenant: " +
+                            tenantDomains.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Idle account suspension task was interrupted.");
+        } finally {
+            executorService.shutdownNow();
         }
 
+        log.info(String.format("Idle account suspension task completed. Tenants processed: %d, tenants failed: %d, " +
+                        "users notified: %d, users locked: %d, duration: %d ms.", summary.tenantsProcessed.get(),
+                summary.tenantsFailed.get(), summary.usersNotified.get(), summary.usersLocked.get(),
+                System.currentTimeMillis() - startTime));
     }
 
-    private void handleTask(String tenantDomain) {
+    private void handleTask(String tenantDomain, TaskSummary summary) {
 
         if (log.isDebugEnabled()) {
             log.debug("Handling idle account suspension task for tenant: " + tenantDomain);
         }
 
-        // Run the task only from master node in cluster setup.
-        if (isMasterNodeExclusiveExecutionEnabled() && !isHazelcastMasterNode()) {
-            return;
-        }
-
         Property[] identityProperties;
         try {
             // Start Tenant flow
@@ -117,6 +153,7 @@ public class AccountValidatorThread implements Runnable {
                     isEnabled = Boolean.parseBoolean(identityProperty.getValue());
 
                     if (!isEnabled) {
+                        summary.tenantsProcessed.incrementAndGet();
                         return;
                     }
                 }
@@ -157,17 +194,21 @@ public class AccountValidatorThread implements Runnable {
             }
 
             if (!isEnabled) {
+                summary.tenantsProcessed.incrementAndGet();
                 return;
             }
 
-            notifyUsers(tenantDomain, suspensionDelay, notificationDelays);
+            summary.usersNotified.addAndGet(notifyUsers(tenantDomain, suspensionDelay, notificationDelays));
 
-            lockAccounts(tenantDomain, suspensionDelay);
+            summary.usersLocked.addAndGet(lockAccounts(tenantDomain, suspensionDelay));
+            summary.tenantsProcessed.incrementAndGet();
 
         } catch (IdentityGovernanceException e) {
-            log.error("Error occurred while loading governance configuration for tenants", e);
+            summary.tenantsFailed.incrementAndGet();
+            log.error("Error occurred while loading governance configuration for tenant: " + tenantDomain, e);
         } catch (IdentityException e) {
-            log.error("Unable to disable user accounts", e);
+            summary.tenantsFailed.incrementAndGet();
+            log.error("Unable to disable user accounts of tenant: " + tenantDomain, e);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -196,8 +237,12 @@ public class AccountValidatorThread implements Runnable {
 
     /**
      * Notify users about account inactivity via Email.
+     *
+     * @return Number of notified users.
      */
-    private void notifyUsers(String tenantDomain, long suspensionDelay, long[] notificationDelays) {
+    private int notifyUsers(String tenantDomain, long suspensionDelay, long[] notificationDelays) {
+
+        int notifiedUsers = 0;
         EmailUtil util = new EmailUtil();
         for (long delay : notificationDelays) {
             List<NotificationReceiver> receivers = null;
@@ -213,17 +258,22 @@ public class AccountValidatorThread implements Runnable {
                                 receiver.getUserStoreDomain()) + "@" + tenantDomain);
                     }
                     util.sendEmail(receiver);
+                    notifiedUsers++;
                 }
             }
         }
+        return notifiedUsers;
     }
 
     /**
      * Disable user accounts which exceeds max inactivity timeout.
      *
+     * @return Number of locked user accounts.
      * @throws IdentityException
      */
-    private void lockAccounts(String tenantDomain, long suspensionDelay) throws IdentityException {
+    private int lockAccounts(String tenantDomain, long suspensionDelay) throws IdentityException {
+
+        int lockedUsers = 0;
         List<NotificationReceiver> receivers = null;
         try {
             receivers = NotificationReceiversRetrievalManager.getReceivers(suspensionDelay, tenantDomain,
@@ -275,8 +325,10 @@ public class AccountValidatorThread implements Runnable {
                 user.setTenantDomain(tenantDomain);
                 user.setUserStoreDomain(receiver.getUserStoreDomain());
                 triggerNotification(user);
+                lockedUsers++;
             }
         }
+        return lockedUsers;
     }
 
     private String[] getPropertyNames() {
@@ -303,4 +355,15 @@ public class AccountValidatorThread implements Runnable {
                     user.toFullQualifiedUsername(), e);
         }
     }
+
+    /**
+     * Counters of a run of the task, updated concurrently by the tenant workers.
+     */
+    private static class TaskSummary {
+
+        private final AtomicInteger tenantsProcessed = new AtomicInteger();
+        private final AtomicInteger tenantsFailed = new AtomicInteger();
+        private final AtomicInteger usersNotified = new AtomicInteger();
+        private final AtomicInteger usersLocked = new AtomicInteger();
+    }
 }
@@ -154,6 +154,7 @@ public class AccountSuspensionNotificationHandler extends AbstractEventHandler i
 
         NotificationTaskDataHolder.getInstance().setNotificationTriggerTime(configs.getModuleProperties().
                 getProperty(NotificationConstants.SUSPENSION_NOTIFICATION_TRIGGER_TIME));
+        setTenantConcurrency();
         startScheduler();
         NotificationTaskDataHolder.getInstance().getBundleContext()
                 .registerService(IdentityConnectorConfig.class.getName(), this, null);
@@ -193,6 +194,27 @@ public class AccountSuspensionNotificationHandler extends AbstractEventHandler i
         return null;
     }
 
+    private void setTenantConcurrency() {
+
+        String tenantConcurrency = configs.getModuleProperties().getProperty(NotificationConstants.
+                SUSPENSION_NOTIFICATION_TENANT_CONCURRENCY);
+        if (StringUtils.isBlank(tenantConcurrency)) {
+            return;
+        }
+        try {
+            int concurrency = Integer.parseInt(tenantConcurrency.trim());
+            if (concurrency > 0) {
+                NotificationTaskDataHolder.getInstance().setTenantConcurrency(concurrency);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value.
+        }
+        log.warn("Invalid value: " + tenantConcurrency + " configured for " +
+                NotificationConstants.SUSPENSION_NOTIFICATION_TENANT_CONCURRENCY + ". Hence using the default value: " +
+                NotificationConstants.DEFAULT_TENANT_CONCURRENCY);
+    }
+
     private void startScheduler() {
 
         if(!Boolean.parseBoolean(configs.getModuleProperties().getProperty(NotificationConstants.
@@ -45,6 +45,7 @@ public class NotificationTaskDataHolder {
     private String schedulerDelay;
     private String notificationSendingThreadPoolSize = "1";
     private ClusteringAgent clusteringAgent;
+    private int tenantConcurrency = NotificationConstants.DEFAULT_TENANT_CONCURRENCY;
 
     public int getNotificationSendingThreadPoolSize() {
         return Integer.parseInt(notificationSendingThreadPoolSize);
@@ -54,6 +55,21 @@ public class NotificationTaskDataHolder {
         this.notificationSendingThreadPoolSize = notificationSendingThreadPoolSize;
     }
 
+    /**
+     * Get the maximum number of tenants processed in parallel by the account suspension task.
+     *
+     * @return Maximum number of tenants processed in parallel.
+     */
+    public int getTenantConcurrency() {
+
+        return tenantConcurrency;
+    }
+
+    public void setTenantConcurrency(int tenantConcurrency) {
+
+        this.tenantConcurrency = tenantConcurrency;
+    }
+
     public Date getNotificationTriggerTime() throws ParseException{
         DateFormat dateFormat = new SimpleDateFormat(NotificationConstants.TRIGGER_TIME_FORMAT);
         return dateFormat.parse(notificationTriggerTime);
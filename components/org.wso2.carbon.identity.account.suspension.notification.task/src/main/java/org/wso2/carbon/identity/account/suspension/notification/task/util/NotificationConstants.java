@@ -31,6 +31,8 @@ public class NotificationConstants {
     public static final String TRIGGER_TIME_FORMAT = "HH:mm:ss";
     public static final long SCHEDULER_DELAY = 24; // In hours
     public static final String SUSPENSION_NOTIFICATION_THREAD_POOL_SIZE = "suspension.notification.thread.pool.size";
+    public static final String SUSPENSION_NOTIFICATION_TENANT_CONCURRENCY = "suspension.notification.tenant.concurrency";
+    public static final int DEFAULT_TENANT_CONCURRENCY = 4;
 
     public static final String GET_USERS_FILTERED_BY_LAST_LOGIN_TIME = "SELECT UM_USER.UM_USER_NAME FROM "
     + "UM_USER, UM_USER_ATTRIBUTE WHERE UM_USER_ATTRIBUTE.UM_USER_ID = UM_USER.UM_ID AND UM_USER_ATTRIBUTE.UM_ATTR_NAME "
@@ -52,6 +52,8 @@ public class ClaimsApi  {
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 200, message = "Successful response"),
         
+        @io.swagger.annotations.ApiResponse(code = 304, message = "Not Modified"),
+        
         @io.swagger.annotations.ApiResponse(code = 400, message = "Bad Request"),
         
         @io.swagger.annotations.ApiResponse(code = 500, message = "Server Error") })
@@ -61,10 +63,13 @@ public class ClaimsApi  {
             @QueryParam("tenant-domain") String tenantDomain,
 
             @ApiParam(value = "profile name.")
-            @QueryParam("profile-name") String profileName)
+            @QueryParam("profile-name") String profileName,
+
+            @ApiParam(value = "entity tags of the claims already held by the client.")
+            @HeaderParam("If-None-Match") String ifNoneMatch)
     {
 
-        return delegate.claimsGet(tenantDomain, profileName);
+        return delegate.claimsGet(tenantDomain, profileName, ifNoneMatch);
     }
 }
 
@@ -38,5 +38,10 @@ public abstract class ClaimsApiService {
 
         return claimsGet(tenantDomain);
     }
+
+    public Response claimsGet(String tenantDomain, String profileName, String ifNoneMatch) {
+
+        return claimsGet(tenantDomain, profileName);
+    }
 }
 
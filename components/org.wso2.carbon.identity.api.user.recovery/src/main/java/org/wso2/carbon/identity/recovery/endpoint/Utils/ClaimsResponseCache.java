@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.endpoint.Utils;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.recovery.endpoint.dto.ClaimDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Node local cache of the claims returned by the claims endpoint, mapped to the tenant domain and the profile name.
+ * Every entry records the claims version of the tenant it was built for and is reused only while the tenant reports
+ * the same version. The entity tag of an entry is derived from the claims, so it is the same on every node. The
+ * least recently used entries are evicted once the cache is full.
+ */
+public class ClaimsResponseCache {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final String KEY_SEPARATOR = "\n";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final ClaimsResponseCache instance = new ClaimsResponseCache();
+
+    private final Map<String, CachedClaims> cachedClaims = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedClaims>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    private ClaimsResponseCache() {
+
+    }
+
+    public static ClaimsResponseCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached claims of a tenant profile.
+     *
+     * @param tenantDomain  Tenant domain.
+     * @param profileName   Profile name or null for the claims of the default dialect.
+     * @param claimsVersion Current claims version of the tenant.
+     * @return Cached claims or null if no claims are cached for the given claims version.
+     */
+    public CachedClaims get(String tenantDomain, String profileName, String claimsVersion) {
+
+        if (claimsVersion == null) {
+            return null;
+        }
+        CachedClaims claims = cachedClaims.get(buildKey(tenantDomain, profileName));
+        if (claims == null || !claimsVersion.equals(claims.getClaimsVersion())) {
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * Cache the claims of a tenant profile.
+     *
+     * @param tenantDomain  Tenant domain.
+     * @param profileName   Profile name or null for the claims of the default dialect.
+     * @param claimsVersion Claims version of the tenant the claims were resolved for. The claims are not cached when
+     *                      the version is not known.
+     * @param claimDTOs     Resolved claims.
+     * @return Cached claims.
+     */
+    public CachedClaims put(String tenantDomain, String profileName, String claimsVersion, ClaimDTO[] claimDTOs) {
+
+        CachedClaims claims = new CachedClaims(claimsVersion, claimDTOs);
+        if (claimsVersion == null) {
+            return claims;
+        }
+        cachedClaims.put(buildKey(tenantDomain, profileName), claims);
+        return claims;
+    }
+
+    /**
+     * Clear all cached claims.
+     */
+    public void clear() {
+
+        cachedClaims.clear();
+    }
+
+    private static String buildKey(String tenantDomain, String profileName) {
+
+        return tenantDomain + KEY_SEPARATOR + StringUtils.defaultString(profileName);
+    }
+
+    /**
+     * Claims resolved for a claims version of a tenant along with their entity tag.
+     */
+    public static class CachedClaims {
+
+        private final String claimsVersion;
+        private final ClaimDTO[] claimDTOs;
+        private final EntityTag entityTag;
+
+        CachedClaims(String claimsVersion, ClaimDTO[] claimDTOs) {
+
+            this.claimsVersion = claimsVersion;
+            this.claimDTOs = claimDTOs;
+            this.entityTag = new EntityTag(buildEntityTagValue(claimDTOs));
+        }
+
+        public String getClaimsVersion() {
+
+            return claimsVersion;
+        }
+
+        public ClaimDTO[] getClaimDTOs() {
+
+            return claimDTOs;
+        }
+
+        public EntityTag getEntityTag() {
+
+            return entityTag;
+        }
+
+        /**
+         * Check whether the value of an If-None-Match header matches the entity tag of the claims. Weak entity tags
+         * are compared by their value.
+         *
+         * @param ifNoneMatch Value of the If-None-Match header.
+         * @return True if the header matches the entity tag.
+         */
+        public boolean matches(String ifNoneMatch) {
+
+            if (StringUtils.isBlank(ifNoneMatch)) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (ANY_ENTITY_TAG.equals(tag)) {
+                    return true;
+                }
+                if (tag.startsWith(WEAK_ENTITY_TAG_PREFIX)) {
+                    tag = tag.substring(WEAK_ENTITY_TAG_PREFIX.length());
+                }
+                if (StringUtils.equals(StringUtils.strip(tag, "\""), entityTag.getValue())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String buildEntityTagValue(ClaimDTO[] claimDTOs) {
+
+            StringBuilder content = new StringBuilder();
+            for (ClaimDTO claimDTO : claimDTOs) {
+                content.append(claimDTO.getUri()).append(KEY_SEPARATOR)
+                        .append(claimDTO.getValue()).append(KEY_SEPARATOR)
+                        .append(claimDTO.getDescription()).append(KEY_SEPARATOR)
+                        .append(claimDTO.getDisplayName()).append(KEY_SEPARATOR)
+                        .append(claimDTO.getDialect()).append(KEY_SEPARATOR)
+                        .append(claimDTO.getValidationRegex()).append(KEY_SEPARATOR)
+                        .append(claimDTO.getRequired()).append(KEY_SEPARATOR)
+                        .append(claimDTO.getReadOnly()).append(KEY_SEPARATOR);
+            }
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                return Integer.toHexString(content.toString().hashCode());
+            }
+        }
+    }
+}
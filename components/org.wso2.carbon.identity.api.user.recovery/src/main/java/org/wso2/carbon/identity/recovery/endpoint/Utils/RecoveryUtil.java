@@ -25,14 +25,13 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.message.BasicNameValuePair;
 import org.slf4j.MDC;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.captcha.util.CaptchaConstants;
+import org.wso2.carbon.identity.captcha.util.CaptchaHttpClient;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
@@ -57,6 +56,7 @@ import org.wso2.carbon.identity.recovery.model.UserClaim;
 import org.wso2.carbon.identity.recovery.password.NotificationPasswordRecoveryManager;
 import org.wso2.carbon.identity.recovery.signup.UserSelfRegistrationManager;
 import org.wso2.carbon.identity.recovery.username.NotificationUsernameRecoveryManager;
+import org.wso2.carbon.identity.recovery.util.Utils;
 import org.wso2.carbon.user.api.Claim;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.securevault.SecretResolver;
@@ -308,6 +308,17 @@ public class RecoveryUtil {
         return properties;
     }
 
+    /**
+     * Get the current version of the recovery supported claims of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Claims version or null if the version cannot be resolved.
+     */
+    public static String getClaimsVersion(String tenantDomain) {
+
+        return Utils.getClaimsVersion(tenantDomain);
+    }
+
     /**
      * Checks whether the specified tenant domain is available
      *
@@ -456,7 +467,9 @@ public class RecoveryUtil {
     }
 
     /**
-     * Make HTTP call for ReCaptcha Verification with the provided ReCaptcha response token
+     * Make HTTP call for ReCaptcha Verification with the provided ReCaptcha response token. The call is made through
+     * the shared captcha verification client, hence the response content should be consumed by the caller to release
+     * the connection.
      *
      * @param reCaptchaResponse ReCaptcha response token
      * @param properties        ReCaptcha properties
@@ -468,14 +481,13 @@ public class RecoveryUtil {
         HttpResponse response = null;
         String reCaptchaSecretKey = properties.getProperty(CaptchaConstants.RE_CAPTCHA_SECRET_KEY);
         String reCaptchaVerifyUrl = properties.getProperty(CaptchaConstants.RE_CAPTCHA_VERIFY_URL);
-        CloseableHttpClient httpclient = HttpClientBuilder.create().useSystemProperties().build();
         HttpPost httppost = new HttpPost(reCaptchaVerifyUrl);
         List<BasicNameValuePair> params = Arrays.asList(new BasicNameValuePair("secret", reCaptchaSecretKey),
                 new BasicNameValuePair("response", reCaptchaResponse.getToken()));
         httppost.setEntity(new UrlEncodedFormEntity(params, StandardCharsets.UTF_8));
 
         try {
-            response = httpclient.execute(httppost);
+            response = CaptchaHttpClient.getInstance().execute(httppost);
         } catch (IOException e) {
             RecoveryUtil.handleBadRequest(String.format("Unable to get the verification response : %s", e.getMessage()),
                     Constants.STATUS_INTERNAL_SERVER_ERROR_MESSAGE_DEFAULT);
@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.recovery.IdentityRecoveryClientException;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
 import org.wso2.carbon.identity.recovery.endpoint.*;
+import org.wso2.carbon.identity.recovery.endpoint.Utils.ClaimsResponseCache;
 import org.wso2.carbon.identity.recovery.endpoint.Utils.RecoveryUtil;
 import org.wso2.carbon.identity.recovery.endpoint.dto.*;
 
@@ -45,27 +46,73 @@ import org.wso2.carbon.identity.recovery.username.NotificationUsernameRecoveryMa
 import org.wso2.carbon.user.api.Claim;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 
 public class ClaimsApiServiceImpl extends ClaimsApiService {
     private static final Log LOG = LogFactory.getLog(ClaimsApiServiceImpl.class);
 
     @Override
-    public Response claimsGet(String tenantDomain, String profileName) {
+    public Response claimsGet(String tenantDomain, String profileName, String ifNoneMatch) {
 
+        tenantDomain = resolveTenantDomain(tenantDomain);
         if (StringUtils.isBlank(profileName)) {
-            return claimsGet(tenantDomain);
+            profileName = null;
+        }
+        ClaimsResponseCache claimsResponseCache = ClaimsResponseCache.getInstance();
+        String claimsVersion = RecoveryUtil.getClaimsVersion(tenantDomain);
+        ClaimsResponseCache.CachedClaims cachedClaims =
+                claimsResponseCache.get(tenantDomain, profileName, claimsVersion);
+        if (cachedClaims == null) {
+            ClaimDTO[] claimDTOs = profileName == null ? getIdentitySupportedClaimDTOs(tenantDomain) :
+                    getProfileClaimDTOs(tenantDomain, profileName);
+            if (claimDTOs == null) {
+                return Response.ok(new ClaimDTO[0]).build();
+            }
+            if (profileName != null && claimDTOs.length == 0) {
+                // Profile names are given by the client, hence only the profiles which resolve to claims are cached.
+                return Response.ok(claimDTOs).build();
+            }
+            cachedClaims = claimsResponseCache.put(tenantDomain, profileName, claimsVersion, claimDTOs);
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("Serving the cached claims of profile: " + profileName + " of tenant: " + tenantDomain);
         }
 
-        tenantDomain = resolveTenantDomain(tenantDomain);
-        ClaimDTO[] claimDTOs = new ClaimDTO[0];
+        EntityTag entityTag = cachedClaims.getEntityTag();
+        if (cachedClaims.matches(ifNoneMatch)) {
+            return Response.notModified(entityTag).build();
+        }
+        return Response.ok(cachedClaims.getClaimDTOs()).tag(entityTag).build();
+    }
+
+    @Override
+    public Response claimsGet(String tenantDomain, String profileName) {
+
+        return claimsGet(tenantDomain, profileName, null);
+    }
+
+    @Override
+    public Response claimsGet(String tenantDomain) {
+
+        return claimsGet(tenantDomain, null, null);
+    }
+
+    /**
+     * Resolve the claims of the given profile.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param profileName  Profile name.
+     * @return Claims of the profile or null if the claims could not be resolved.
+     */
+    private ClaimDTO[] getProfileClaimDTOs(String tenantDomain, String profileName) {
+
         try {
             List<LocalClaim> localClaims = RecoveryUtil.getClaimMetadataManagementService()
                     .getSupportedLocalClaimsForProfile(tenantDomain, profileName);
             if (CollectionUtils.isEmpty(localClaims)) {
-                claimDTOs = new ClaimDTO[0];
+                return new ClaimDTO[0];
             }
-            claimDTOs = RecoveryUtil.getClaimDTOs(localClaims);
+            return toClaimDTOs(RecoveryUtil.getClaimDTOs(localClaims));
         } catch (ClaimMetadataException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Client Error while getting all identity claims ", e);
@@ -75,22 +122,25 @@ public class ClaimsApiServiceImpl extends ClaimsApiService {
             RecoveryUtil.handleInternalServerError(Constants.SERVER_ERROR, IdentityRecoveryConstants
                     .ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), LOG, throwable);
         }
-        return Response.ok(claimDTOs).build();
+        return null;
     }
 
-    @Override
-    public Response claimsGet(String tenantDomain) {
+    /**
+     * Resolve the identity supported claims of the default claim dialect.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Identity supported claims or null if the claims could not be resolved.
+     */
+    private ClaimDTO[] getIdentitySupportedClaimDTOs(String tenantDomain) {
 
-        tenantDomain = resolveTenantDomain(tenantDomain);
         String dialect = IdentityRecoveryConstants.WSO2CARBON_CLAIM_DIALECT;
         NotificationUsernameRecoveryManager notificationBasedUsernameRecoveryManager = RecoveryUtil
                 .getNotificationBasedUsernameRecoveryManager();
-        ClaimDTO[] claimDTOs = new ClaimDTO[0];
 
         try {
             Claim[] userClaims =
                     notificationBasedUsernameRecoveryManager.getIdentitySupportedClaims(dialect, tenantDomain);
-            claimDTOs = RecoveryUtil.getClaimDTOs(userClaims);
+            return toClaimDTOs(RecoveryUtil.getClaimDTOs(userClaims));
         } catch (IdentityRecoveryClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Client Error while getting all identity claims ", e);
@@ -103,7 +153,12 @@ public class ClaimsApiServiceImpl extends ClaimsApiService {
                     .ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), LOG, throwable);
 
         }
-        return Response.ok(claimDTOs).build();
+        return null;
+    }
+
+    private static ClaimDTO[] toClaimDTOs(ClaimDTO[] claimDTOs) {
+
+        return claimDTOs == null ? new ClaimDTO[0] : claimDTOs;
     }
 
     private static String resolveTenantDomain(String tenantDomain) {
@@ -30,7 +30,9 @@ import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementServic
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.recovery.endpoint.Exceptions.BadRequestException;
+import org.wso2.carbon.identity.recovery.endpoint.Utils.ClaimsResponseCache;
 import org.wso2.carbon.identity.recovery.endpoint.Utils.RecoveryUtil;
+import org.wso2.carbon.identity.recovery.endpoint.dto.ClaimDTO;
 import org.wso2.carbon.identity.recovery.endpoint.impl.ClaimsApiServiceImpl;
 import org.wso2.carbon.identity.recovery.password.NotificationPasswordRecoveryManager;
 import org.wso2.carbon.identity.recovery.username.NotificationUsernameRecoveryManager;
@@ -39,8 +41,13 @@ import org.wso2.carbon.user.core.claim.Claim;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertThrows;
 
 /**
@@ -67,6 +74,7 @@ public class ClaimsApiServiceImplTest {
 
         MockitoAnnotations.openMocks(this);
         mockedRecoveryUtil = Mockito.mockStatic(RecoveryUtil.class);
+        ClaimsResponseCache.getInstance().clear();
     }
 
     @AfterMethod
@@ -110,6 +118,53 @@ public class ClaimsApiServiceImplTest {
                 claimsApiService.claimsGet("carbon.super", "selfRegistration"));
     }
 
+    @Test
+    public void testClaimsGetWithEntityTag() throws IdentityException {
+
+        mockedRecoveryUtil.when(RecoveryUtil::getClaimMetadataManagementService).thenReturn(
+                claimMetadataManagementService);
+        mockedRecoveryUtil.when(() -> RecoveryUtil.getClaimsVersion("carbon.super")).thenReturn("version-1");
+        List<LocalClaim> localClaims = new ArrayList<>();
+        localClaims.add(new LocalClaim("http://wso2.org/claims/emailaddress"));
+        ClaimDTO claimDTO = new ClaimDTO();
+        claimDTO.setUri("http://wso2.org/claims/emailaddress");
+        Mockito.when(claimMetadataManagementService
+                .getSupportedLocalClaimsForProfile("carbon.super", "selfRegistration")).thenReturn(localClaims);
+        mockedRecoveryUtil.when(() -> RecoveryUtil.getClaimDTOs(localClaims))
+                .thenReturn(new ClaimDTO[]{claimDTO});
+
+        Response response = claimsApiService.claimsGet("carbon.super", "selfRegistration", null);
+        assertEquals(response.getStatus(), 200);
+        EntityTag entityTag = response.getEntityTag();
+        assertNotNull(entityTag);
+
+        // Case 1: The claims are served from the cache while the claims version is unchanged.
+        response = claimsApiService.claimsGet("carbon.super", "selfRegistration",
+                "\"other\", " + entityTag.toString());
+        assertEquals(response.getStatus(), 304);
+        assertEquals(response.getEntityTag(), entityTag);
+        Mockito.verify(claimMetadataManagementService, Mockito.times(1))
+                .getSupportedLocalClaimsForProfile("carbon.super", "selfRegistration");
+
+        // Case 2: A changed claims version resolves the claims again.
+        mockedRecoveryUtil.when(() -> RecoveryUtil.getClaimsVersion("carbon.super")).thenReturn("version-2");
+        claimDTO.setRequired(true);
+        response = claimsApiService.claimsGet("carbon.super", "selfRegistration", entityTag.toString());
+        assertEquals(response.getStatus(), 200);
+        assertNotEquals(response.getEntityTag(), entityTag);
+        Mockito.verify(claimMetadataManagementService, Mockito.times(2))
+                .getSupportedLocalClaimsForProfile("carbon.super", "selfRegistration");
+
+        // Case 3: Profiles which do not resolve to any claim are not cached.
+        Mockito.when(claimMetadataManagementService.getSupportedLocalClaimsForProfile("carbon.super", "unknown"))
+                .thenReturn(new ArrayList<>());
+        claimsApiService.claimsGet("carbon.super", "unknown", null);
+        response = claimsApiService.claimsGet("carbon.super", "unknown", null);
+        assertEquals(response.getStatus(), 200);
+        Mockito.verify(claimMetadataManagementService, Mockito.times(2))
+                .getSupportedLocalClaimsForProfile("carbon.super", "unknown");
+    }
+
     @Test
     public void testThrowableinClaimsGet() throws IdentityException {
 
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.auth.attribute.handler;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
@@ -28,12 +29,19 @@ import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerClientException;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerException;
 import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerServiceDataHolder;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.cache.ConfiguredAuthenticatorsCache;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.cache.ConfiguredAuthenticatorsCacheEntry;
 import org.wso2.carbon.identity.auth.attribute.handler.model.AuthAttributeHolder;
 import org.wso2.carbon.identity.auth.attribute.handler.model.ValidationResult;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandlerConstants.ErrorMessages.ERROR_CODE_AUTH_ATTRIBUTE_HANDLER_NOT_FOUND;
 import static org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandlerConstants.ErrorMessages.ERROR_CODE_UNEXPECTED_ERROR;
@@ -47,6 +55,8 @@ public class AuthAttributeHandlerManager {
     private static final Log LOG = LogFactory.getLog(AuthAttributeHandlerManager.class);
     private static final AuthAttributeHandlerManager instance = new AuthAttributeHandlerManager();
 
+    private volatile AuthAttributeHandlerIndex authAttributeHandlerIndex;
+
     private AuthAttributeHandlerManager() {
 
     }
@@ -76,12 +86,10 @@ public class AuthAttributeHandlerManager {
             AuthAttributeHandlerException {
 
         List<String> authenticators = getConfiguredAuthenticators(appId);
-        List<AuthAttributeHandler> authAttributeHandlers =
-                AuthAttributeHandlerServiceDataHolder.getInstance().getAuthAttributeHandlers();
+        AuthAttributeHandlerIndex handlerIndex = getAuthAttributeHandlerIndex();
         List<AuthAttributeHolder> selectedAuthAttributeHolders = new ArrayList<>();
-        for (AuthAttributeHandler authAttributeHandler : authAttributeHandlers) {
-            if (authAttributeHandler.getBindingType() == AuthAttributeHandlerBindingType.AUTHENTICATOR
-                    && authenticators.contains(authAttributeHandler.getBoundIdentifier())) {
+        for (String authenticator : authenticators) {
+            for (AuthAttributeHandler authAttributeHandler : handlerIndex.getHandlersByAuthenticator(authenticator)) {
                 selectedAuthAttributeHolders.add(authAttributeHandler.getAuthAttributeData());
             }
         }
@@ -103,17 +111,8 @@ public class AuthAttributeHandlerManager {
     public ValidationResult validateAuthAttributes(String authAttributeHandlerName, Map<String, String> attributeMap)
             throws AuthAttributeHandlerException {
 
-        List<AuthAttributeHandler> authAttributeHandlers =
-                AuthAttributeHandlerServiceDataHolder.getInstance().getAuthAttributeHandlers();
-
-        AuthAttributeHandler authAttributeHandler = null;
-        for (AuthAttributeHandler handler : authAttributeHandlers) {
-            if (StringUtils.equals(handler.getName(), authAttributeHandlerName)) {
-                authAttributeHandler = handler;
-                break;
-            }
-        }
-
+        AuthAttributeHandler authAttributeHandler = authAttributeHandlerName == null ? null :
+                getAuthAttributeHandlerIndex().getHandlerByName(authAttributeHandlerName);
         if (authAttributeHandler == null) {
             throw new AuthAttributeHandlerClientException(ERROR_CODE_AUTH_ATTRIBUTE_HANDLER_NOT_FOUND.getCode(),
                     String.format(ERROR_CODE_AUTH_ATTRIBUTE_HANDLER_NOT_FOUND.getMessage(), authAttributeHandlerName));
@@ -127,10 +126,44 @@ public class AuthAttributeHandlerManager {
         return AuthAttributeHandlerServiceDataHolder.getInstance().getApplicationManagementService();
     }
 
+    /**
+     * Get the index of the registered auth attribute handlers. The index is rebuilt only when a handler is
+     * registered or unregistered.
+     *
+     * @return Index of the registered auth attribute handlers.
+     * @throws AuthAttributeHandlerException If an error occurred while reading the handler metadata.
+     */
+    private AuthAttributeHandlerIndex getAuthAttributeHandlerIndex() throws AuthAttributeHandlerException {
+
+        AuthAttributeHandlerServiceDataHolder dataHolder = AuthAttributeHandlerServiceDataHolder.getInstance();
+        int version = dataHolder.getAuthAttributeHandlersVersion();
+        AuthAttributeHandlerIndex handlerIndex = authAttributeHandlerIndex;
+        if (handlerIndex == null || handlerIndex.version != version) {
+            handlerIndex = new AuthAttributeHandlerIndex(version, dataHolder.getAuthAttributeHandlers());
+            authAttributeHandlerIndex = handlerIndex;
+        }
+        return handlerIndex;
+    }
+
     private List<String> getConfiguredAuthenticators(String appId)
             throws AuthAttributeHandlerException {
 
-        List<String> authenticators = new ArrayList<>();
+        // Applications are resolved in the tenant of the current request, which also scopes the cached entries.
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        StringCacheKey cacheKey = null;
+        if (StringUtils.isNotBlank(appId)) {
+            cacheKey = new StringCacheKey(appId);
+            ConfiguredAuthenticatorsCacheEntry cacheEntry =
+                    ConfiguredAuthenticatorsCache.getInstance().getValueFromCache(cacheKey, tenantDomain);
+            if (cacheEntry != null) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Configured authenticators for appId: " + appId + " are loaded from the cache.");
+                }
+                return cacheEntry.getAuthenticators();
+            }
+        }
+
+        Set<String> authenticators = new LinkedHashSet<>();
         AuthenticationStep[] authenticationSteps;
         try {
             if (LOG.isDebugEnabled()) {
@@ -147,9 +180,7 @@ public class AuthAttributeHandlerManager {
                 LocalAuthenticatorConfig[] configs = authenticationStep.getLocalAuthenticatorConfigs();
                 if (configs != null) {
                     for (LocalAuthenticatorConfig config : configs) {
-                        if (!authenticators.contains(config.getName())) {
-                            authenticators.add(config.getName());
-                        }
+                        authenticators.add(config.getName());
                     }
                 }
             }
@@ -160,6 +191,48 @@ public class AuthAttributeHandlerManager {
                     StringUtils.join(authenticators, ",")));
         }
 
-        return authenticators;
+        ConfiguredAuthenticatorsCacheEntry cacheEntry = new ConfiguredAuthenticatorsCacheEntry(
+                new ArrayList<>(authenticators));
+        if (cacheKey != null) {
+            ConfiguredAuthenticatorsCache.getInstance().addToCache(cacheKey, cacheEntry, tenantDomain);
+        }
+        return cacheEntry.getAuthenticators();
+    }
+
+    /**
+     * Registered auth attribute handlers indexed by the handler name and by the bound authenticator.
+     */
+    private static final class AuthAttributeHandlerIndex {
+
+        private final int version;
+        private final Map<String, AuthAttributeHandler> handlersByName = new HashMap<>();
+        private final Map<String, List<AuthAttributeHandler>> handlersByAuthenticator = new HashMap<>();
+
+        private AuthAttributeHandlerIndex(int version, List<AuthAttributeHandler> authAttributeHandlers)
+                throws AuthAttributeHandlerException {
+
+            this.version = version;
+            for (AuthAttributeHandler authAttributeHandler : authAttributeHandlers) {
+                String name = authAttributeHandler.getName();
+                // The first registered handler is picked when several handlers share the same name.
+                if (name != null) {
+                    handlersByName.putIfAbsent(name, authAttributeHandler);
+                }
+                if (authAttributeHandler.getBindingType() == AuthAttributeHandlerBindingType.AUTHENTICATOR) {
+                    handlersByAuthenticator.computeIfAbsent(authAttributeHandler.getBoundIdentifier(),
+                            authenticator -> new ArrayList<>()).add(authAttributeHandler);
+                }
+            }
+        }
+
+        private AuthAttributeHandler getHandlerByName(String name) {
+
+            return handlersByName.get(name);
+        }
+
+        private List<AuthAttributeHandler> getHandlersByAuthenticator(String authenticator) {
+
+            return handlersByAuthenticator.getOrDefault(authenticator, Collections.emptyList());
+        }
     }
 }
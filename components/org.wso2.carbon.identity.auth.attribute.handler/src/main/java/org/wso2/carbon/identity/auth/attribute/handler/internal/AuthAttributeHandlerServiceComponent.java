@@ -28,8 +28,10 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandler;
 import org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandlerManager;
+import org.wso2.carbon.identity.auth.attribute.handler.listener.AuthAttributeHandlerApplicationMgtListener;
 
 /**
  * This class contains the OSGI components of the Auth Attribute Handler.
@@ -48,6 +50,9 @@ public class AuthAttributeHandlerServiceComponent {
             BundleContext bundleContext = context.getBundleContext();
             bundleContext.registerService(AuthAttributeHandlerManager.class.getName(),
                     AuthAttributeHandlerManager.getInstance(), null);
+            // Register the listener which clears the cached authenticators of an application on updates.
+            bundleContext.registerService(ApplicationMgtListener.class.getName(),
+                    new AuthAttributeHandlerApplicationMgtListener(), null);
         } catch (Exception e) {
             log.error("Error while activating auth attribute handler service component.", e);
         }
@@ -61,12 +66,12 @@ public class AuthAttributeHandlerServiceComponent {
             unbind = "unsetAuthAttributeHandlers")
     protected void setAuthAttributeHandlers(AuthAttributeHandler authAttributeHandler) {
 
-        AuthAttributeHandlerServiceDataHolder.getInstance().getAuthAttributeHandlers().add(authAttributeHandler);
+        AuthAttributeHandlerServiceDataHolder.getInstance().addAuthAttributeHandler(authAttributeHandler);
     }
 
     protected void unsetAuthAttributeHandlers(AuthAttributeHandler authAttributeHandler) {
 
-        AuthAttributeHandlerServiceDataHolder.getInstance().getAuthAttributeHandlers().remove(authAttributeHandler);
+        AuthAttributeHandlerServiceDataHolder.getInstance().removeAuthAttributeHandler(authAttributeHandler);
     }
 
     @Reference(
@@ -21,8 +21,9 @@ package org.wso2.carbon.identity.auth.attribute.handler.internal;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandler;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class holds OSGI services required by the Auth Attribute Handler component.
@@ -31,7 +32,8 @@ public class AuthAttributeHandlerServiceDataHolder {
 
     private static final AuthAttributeHandlerServiceDataHolder instance = new AuthAttributeHandlerServiceDataHolder();
 
-    private final List<AuthAttributeHandler> authAttributeHandlers = new ArrayList<>();
+    private final List<AuthAttributeHandler> authAttributeHandlers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger authAttributeHandlersVersion = new AtomicInteger();
     private ApplicationManagementService applicationManagementService;
 
     public static AuthAttributeHandlerServiceDataHolder getInstance() {
@@ -44,6 +46,29 @@ public class AuthAttributeHandlerServiceDataHolder {
         return authAttributeHandlers;
     }
 
+    public void addAuthAttributeHandler(AuthAttributeHandler authAttributeHandler) {
+
+        authAttributeHandlers.add(authAttributeHandler);
+        authAttributeHandlersVersion.incrementAndGet();
+    }
+
+    public void removeAuthAttributeHandler(AuthAttributeHandler authAttributeHandler) {
+
+        authAttributeHandlers.remove(authAttributeHandler);
+        authAttributeHandlersVersion.incrementAndGet();
+    }
+
+    /**
+     * Get the version of the registered auth attribute handlers, which changes whenever a handler is registered or
+     * unregistered.
+     *
+     * @return Version of the registered auth attribute handlers.
+     */
+    public int getAuthAttributeHandlersVersion() {
+
+        return authAttributeHandlersVersion.get();
+    }
+
     public ApplicationManagementService getApplicationManagementService() {
 
         return this.applicationManagementService;
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.auth.attribute.handler.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+
+/**
+ * Cache to maintain the local authenticators configured in the authentication steps of an application.
+ */
+public class ConfiguredAuthenticatorsCache extends BaseCache<StringCacheKey, ConfiguredAuthenticatorsCacheEntry> {
+
+    private static final String CONFIGURED_AUTHENTICATORS_CACHE = "AuthAttributeConfiguredAuthenticatorsCache";
+    private static volatile ConfiguredAuthenticatorsCache instance;
+
+    public ConfiguredAuthenticatorsCache() {
+
+        super(CONFIGURED_AUTHENTICATORS_CACHE);
+    }
+
+    public static ConfiguredAuthenticatorsCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ConfiguredAuthenticatorsCache.class) {
+                if (instance == null) {
+                    instance = new ConfiguredAuthenticatorsCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
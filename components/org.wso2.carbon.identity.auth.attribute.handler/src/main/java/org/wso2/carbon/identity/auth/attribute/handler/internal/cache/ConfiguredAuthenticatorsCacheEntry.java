@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.auth.attribute.handler.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache entry which holds the names of the local authenticators configured for an application.
+ */
+public class ConfiguredAuthenticatorsCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1596470219324783562L;
+    private final List<String> authenticators;
+
+    public ConfiguredAuthenticatorsCacheEntry(List<String> authenticators) {
+
+        this.authenticators = Collections.unmodifiableList(new ArrayList<>(authenticators));
+    }
+
+    /**
+     * Get the names of the configured local authenticators in the order of the authentication steps.
+     *
+     * @return Unmodifiable list of authenticator names.
+     */
+    public List<String> getAuthenticators() {
+
+        return authenticators;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.auth.attribute.handler.listener;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.listener.AbstractApplicationMgtListener;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.cache.ConfiguredAuthenticatorsCache;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+
+/**
+ * Application management listener which clears the cached authenticators of an application when the application is
+ * updated or deleted, so that the auth attribute holders are resolved against the current authentication steps.
+ */
+public class AuthAttributeHandlerApplicationMgtListener extends AbstractApplicationMgtListener {
+
+    private static final Log LOG = LogFactory.getLog(AuthAttributeHandlerApplicationMgtListener.class);
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return 250;
+    }
+
+    @Override
+    public boolean doPostUpdateApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        clearConfiguredAuthenticators(serviceProvider, tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        clearConfiguredAuthenticators(serviceProvider, tenantDomain);
+        return true;
+    }
+
+    private void clearConfiguredAuthenticators(ServiceProvider serviceProvider, String tenantDomain) {
+
+        String appId = serviceProvider == null ? null : serviceProvider.getApplicationResourceId();
+        if (StringUtils.isNotBlank(appId)) {
+            ConfiguredAuthenticatorsCache.getInstance().clearCacheEntry(new StringCacheKey(appId), tenantDomain);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cleared the cached authenticators of appId: " + appId);
+            }
+        }
+    }
+}
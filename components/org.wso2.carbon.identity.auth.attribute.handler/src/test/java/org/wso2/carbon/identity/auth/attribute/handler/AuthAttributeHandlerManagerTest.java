@@ -27,21 +27,30 @@ import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerClientException;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerException;
 import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerServiceDataHolder;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.cache.ConfiguredAuthenticatorsCache;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.cache.ConfiguredAuthenticatorsCacheEntry;
 import org.wso2.carbon.identity.auth.attribute.handler.model.AuthAttributeHolder;
 import org.wso2.carbon.identity.auth.attribute.handler.model.ValidationResult;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -50,7 +59,9 @@ import static org.mockito.Mockito.when;
 public class AuthAttributeHandlerManagerTest {
 
     private AuthAttributeHandlerManager authAttributeHandlerManager = AuthAttributeHandlerManager.getInstance();
+    private static final String TENANT_DOMAIN = "carbon.super";
     private static final String APP_ID = "0181313d-5c84-4ec4-a931-b73085408eff";
+    private static final String CACHED_APP_ID = "7f1c8c1e-3a5b-4d6e-9f20-1b2c3d4e5f60";
     private static final String AUTHENTICATOR_BASICAUTH = "BasicAuthenticator";
     private static final String AUTH_ATTRIBUTE_HANDLER_MAGICLINK = "MagicLinkAuthAttributeHandler";
     private static final String AUTHENTICATOR_MAGICLINK = "MagicLinkAuthenticator";
@@ -66,7 +77,15 @@ public class AuthAttributeHandlerManagerTest {
     @Mock
     AuthAttributeHandlerServiceDataHolder authAttributeHandlerServiceDataHolder;
 
+    @Mock
+    ConfiguredAuthenticatorsCache configuredAuthenticatorsCache;
+
+    @Mock
+    PrivilegedCarbonContext privilegedCarbonContext;
+
     private MockedStatic<AuthAttributeHandlerServiceDataHolder> mockedAuthAttributeHandlerServiceDataHolder;
+    private MockedStatic<ConfiguredAuthenticatorsCache> mockedConfiguredAuthenticatorsCache;
+    private MockedStatic<PrivilegedCarbonContext> mockedPrivilegedCarbonContext;
 
     @BeforeClass
     private void setup() {
@@ -79,6 +98,8 @@ public class AuthAttributeHandlerManagerTest {
     public void tearDown() {
 
         mockedAuthAttributeHandlerServiceDataHolder.close();
+        mockedConfiguredAuthenticatorsCache.close();
+        mockedPrivilegedCarbonContext.close();
     }
 
     @Test
@@ -137,6 +158,33 @@ public class AuthAttributeHandlerManagerTest {
         }
     }
 
+    @Test
+    public void testGetAvailableAuthAttributeHoldersWithCachedAuthenticators() throws Exception {
+
+        when(configuredAuthenticatorsCache.getValueFromCache(any(StringCacheKey.class),
+                eq(TENANT_DOMAIN)))
+                .thenAnswer(invocation -> {
+                    StringCacheKey cacheKey = invocation.getArgument(0);
+                    if (CACHED_APP_ID.equals(cacheKey.getValue())) {
+                        return new ConfiguredAuthenticatorsCacheEntry(
+                                Arrays.asList(AUTHENTICATOR_MAGICLINK, AUTHENTICATOR_SMSOTP));
+                    }
+                    return null;
+                });
+        try {
+            List<AuthAttributeHolder> authAttributeHolders =
+                    authAttributeHandlerManager.getAvailableAuthAttributeHolders(CACHED_APP_ID);
+
+            Assert.assertEquals(getAuthAttributeHandlers(authAttributeHolders),
+                    new String[]{AUTHENTICATOR_MAGICLINK});
+            verify(applicationManagementService, never()).getConfiguredAuthenticators(CACHED_APP_ID);
+        } finally {
+            when(configuredAuthenticatorsCache.getValueFromCache(any(StringCacheKey.class),
+                    eq(TENANT_DOMAIN)))
+                    .thenReturn(null);
+        }
+    }
+
     private String[] getAuthAttributeHandlers(List<AuthAttributeHolder> authAttributeHolderList) {
 
         List<String> authAttributeHandlers = new ArrayList<>();
@@ -157,6 +205,15 @@ public class AuthAttributeHandlerManagerTest {
                 .thenReturn(applicationManagementService);
         when(authAttributeHandlerServiceDataHolder.getAuthAttributeHandlers())
                 .thenReturn(getAuthAttributeHandlers());
+
+        mockedConfiguredAuthenticatorsCache = Mockito.mockStatic(ConfiguredAuthenticatorsCache.class);
+        mockedConfiguredAuthenticatorsCache.when(ConfiguredAuthenticatorsCache::getInstance)
+                .thenReturn(configuredAuthenticatorsCache);
+
+        mockedPrivilegedCarbonContext = Mockito.mockStatic(PrivilegedCarbonContext.class);
+        mockedPrivilegedCarbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                .thenReturn(privilegedCarbonContext);
+        when(privilegedCarbonContext.getTenantDomain()).thenReturn(TENANT_DOMAIN);
     }
 
     private AuthenticationStep[] getAuthenticators() {
@@ -21,6 +21,8 @@ package org.wso2.carbon.identity.captcha.connector;
 import org.wso2.carbon.identity.captcha.exception.CaptchaException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 
+import java.util.List;
+
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 
@@ -42,4 +44,16 @@ public interface CaptchaConnector {
 
     CaptchaPostValidationResponse postValidate(ServletRequest servletRequest, ServletResponse servletResponse) throws
             CaptchaException;
+
+    /**
+     * Get the request paths secured by the connector. The captcha filter evaluates the connector only for the
+     * requests to these paths.
+     *
+     * @return Secured request paths, or null if the connector is not bound to specific paths and needs to be
+     * evaluated for every request.
+     */
+    default List<String> getSecuredPaths() {
+
+        return null;
+    }
 }
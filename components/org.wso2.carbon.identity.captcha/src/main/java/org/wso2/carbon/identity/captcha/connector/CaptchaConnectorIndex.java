@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.connector;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of the registered captcha connectors by the request paths they secure. Connectors which are not
+ * bound to specific paths are candidates for every request path.
+ */
+public final class CaptchaConnectorIndex {
+
+    private final List<CaptchaConnector> pathIndependentConnectors;
+    private final Map<String, List<CaptchaConnector>> connectorsByPath;
+
+    public CaptchaConnectorIndex(List<CaptchaConnector> captchaConnectors) {
+
+        List<CaptchaConnector> pathIndependent = new ArrayList<>();
+        Map<String, List<CaptchaConnector>> pathBound = new HashMap<>();
+        for (CaptchaConnector captchaConnector : captchaConnectors) {
+            List<String> securedPaths = captchaConnector.getSecuredPaths();
+            if (securedPaths == null) {
+                pathIndependent.add(captchaConnector);
+                continue;
+            }
+            for (String securedPath : securedPaths) {
+                if (StringUtils.isBlank(securedPath)) {
+                    continue;
+                }
+                List<CaptchaConnector> connectors = pathBound.computeIfAbsent(securedPath, path -> new ArrayList<>());
+                if (!connectors.contains(captchaConnector)) {
+                    connectors.add(captchaConnector);
+                }
+            }
+        }
+
+        // Path independent connectors are appended to each path so that a lookup does not need to merge the lists.
+        Map<String, List<CaptchaConnector>> candidatesByPath = new HashMap<>();
+        for (Map.Entry<String, List<CaptchaConnector>> entry : pathBound.entrySet()) {
+            List<CaptchaConnector> candidates = new ArrayList<>(entry.getValue());
+            candidates.addAll(pathIndependent);
+            candidatesByPath.put(entry.getKey(), Collections.unmodifiableList(candidates));
+        }
+        this.pathIndependentConnectors = Collections.unmodifiableList(pathIndependent);
+        this.connectorsByPath = candidatesByPath;
+    }
+
+    /**
+     * Get the captcha connectors which may handle a request to the given path.
+     *
+     * @param path Request path.
+     * @return Candidate captcha connectors in the registration order.
+     */
+    public List<CaptchaConnector> getCandidateConnectors(String path) {
+
+        if (StringUtils.isBlank(path)) {
+            return pathIndependentConnectors;
+        }
+        return connectorsByPath.getOrDefault(path, pathIndependentConnectors);
+    }
+}
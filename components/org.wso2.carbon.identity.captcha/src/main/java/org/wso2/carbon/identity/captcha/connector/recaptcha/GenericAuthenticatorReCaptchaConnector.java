@@ -27,7 +27,10 @@ import org.wso2.carbon.identity.captcha.util.CaptchaConstants;
 import org.wso2.carbon.identity.captcha.util.CaptchaUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.servlet.ServletRequest;
@@ -39,6 +42,9 @@ import javax.servlet.ServletResponse;
 public class GenericAuthenticatorReCaptchaConnector extends AbstractReCaptchaConnector {
 
     private static final String IDF = "IdentifierExecutor";
+    // Authentication requests carrying the session data key of the authentication context.
+    private static final List<String> SECURED_PATHS = Collections.unmodifiableList(
+            Arrays.asList("/commonauth", "/samlsso", "/oauth2"));
 
     @Override
     public void init(IdentityGovernanceService identityGovernanceService) {
@@ -53,6 +59,12 @@ public class GenericAuthenticatorReCaptchaConnector extends AbstractReCaptchaCon
         return 2;
     }
 
+    @Override
+    public List<String> getSecuredPaths() {
+
+        return SECURED_PATHS;
+    }
+
     @Override
     public boolean canHandle(ServletRequest servletRequest, ServletResponse servletResponse)
             throws CaptchaException {
@@ -27,7 +27,9 @@ import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
 import org.wso2.carbon.identity.captcha.util.CaptchaUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.servlet.ServletRequest;
@@ -41,6 +43,7 @@ import javax.servlet.http.HttpServletResponse;
 public class LiteUserSelfSignUpReCaptchaConnector extends AbstractReCaptchaConnector {
 
     private static final String LITE_USER_REGISTRATION_URL = "/api/identity/user/v1.0/lite";
+    private static final List<String> SECURED_PATHS = Collections.singletonList(LITE_USER_REGISTRATION_URL);
     private static final String SELF_REGISTRATION_RECAPTCHA_ENABLE = "SelfRegistration.ReCaptcha";
 
     private IdentityGovernanceService identityGovernanceService;
@@ -57,12 +60,18 @@ public class LiteUserSelfSignUpReCaptchaConnector extends AbstractReCaptchaConne
         return 11;
     }
 
+    @Override
+    public List<String> getSecuredPaths() {
+
+        return SECURED_PATHS;
+    }
+
     @Override
     public boolean canHandle(ServletRequest servletRequest, ServletResponse servletResponse) throws CaptchaException {
 
         String path = ((HttpServletRequest) servletRequest).getRequestURI();
 
-        if (StringUtils.isBlank(path) || !(CaptchaUtil.isPathAvailable(path, LITE_USER_REGISTRATION_URL))) {
+        if (StringUtils.isBlank(path) || !SECURED_PATHS.contains(path)) {
             return false;
         }
 
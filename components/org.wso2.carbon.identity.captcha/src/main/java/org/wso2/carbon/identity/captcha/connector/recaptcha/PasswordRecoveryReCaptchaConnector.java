@@ -49,6 +49,8 @@ import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +78,10 @@ public class PasswordRecoveryReCaptchaConnector extends AbstractReCaptchaConnect
 
     private static final String RECOVER_PASSWORD_URL = "/api/identity/recovery/v0.9/recover-password";
 
+    private static final List<String> SECURED_PATHS = Collections.unmodifiableList(
+            Arrays.asList(ACCOUNT_SECURITY_QUESTION_URL, ACCOUNT_SECURITY_QUESTIONS_URL, ACCOUNT_VALIDATE_ANSWER_URL,
+                    RECOVER_PASSWORD_URL));
+
     private static final String RECOVERY_QUESTION_PASSWORD_RECAPTCHA_ENABLE = "Recovery.Question.Password" +
             ".ReCaptcha.Enable";
     private static final String RECOVERY_QUESTION_PASSWORD_RECAPTCHA_MAX_FAILED_ATTEMPTS = "Recovery.Question" +
@@ -96,6 +102,12 @@ public class PasswordRecoveryReCaptchaConnector extends AbstractReCaptchaConnect
         return 10;
     }
 
+    @Override
+    public List<String> getSecuredPaths() {
+
+        return SECURED_PATHS;
+    }
+
     @Override
     public boolean canHandle(ServletRequest servletRequest, ServletResponse servletResponse) throws CaptchaException {
 
@@ -103,10 +115,7 @@ public class PasswordRecoveryReCaptchaConnector extends AbstractReCaptchaConnect
 
         List<String> reCaptchaBypassedApiEndpoints = CaptchaDataHolder.getInstance().getReCaptchaBypassedApiEndpoints();
         return !StringUtils.isBlank(path) && !reCaptchaBypassedApiEndpoints.contains(path) &&
-                (CaptchaUtil.isPathAvailable(path, ACCOUNT_SECURITY_QUESTION_URL) ||
-                        CaptchaUtil.isPathAvailable(path, ACCOUNT_SECURITY_QUESTIONS_URL) ||
-                        CaptchaUtil.isPathAvailable(path, ACCOUNT_VALIDATE_ANSWER_URL) ||
-                        CaptchaUtil.isPathAvailable(path, RECOVER_PASSWORD_URL));
+                SECURED_PATHS.contains(path);
     }
 
     @Override
@@ -133,7 +142,12 @@ public class PasswordRecoveryReCaptchaConnector extends AbstractReCaptchaConnect
         // Handle recover with security questions option.
         HttpServletRequest httpServletRequestWrapper;
         try {
-            httpServletRequestWrapper = new CaptchaHttpServletRequestWrapper((HttpServletRequest) servletRequest);
+            // Reuse the wrapper of the captcha filter, if any, so that the request body is buffered only once.
+            if (servletRequest instanceof CaptchaHttpServletRequestWrapper) {
+                httpServletRequestWrapper = (CaptchaHttpServletRequestWrapper) servletRequest;
+            } else {
+                httpServletRequestWrapper = new CaptchaHttpServletRequestWrapper((HttpServletRequest) servletRequest);
+            }
             preValidationResponse.setWrappedHttpServletRequest(httpServletRequestWrapper);
         } catch (IOException e) {
             log.error("Error occurred while wrapping ServletRequest.", e);
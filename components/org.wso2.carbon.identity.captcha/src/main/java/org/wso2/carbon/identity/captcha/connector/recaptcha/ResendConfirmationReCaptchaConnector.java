@@ -34,7 +34,9 @@ import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +46,7 @@ public class ResendConfirmationReCaptchaConnector extends AbstractReCaptchaConne
 
     private static final Log log = LogFactory.getLog(ResendConfirmationReCaptchaConnector.class);
     private static final String RESEND_CONFIRMATION_URL = "/api/identity/user/v1.0/resend-code";
+    private static final List<String> SECURED_PATHS = Collections.singletonList(RESEND_CONFIRMATION_URL);
     private static final String RESEND_CONFIRMATION_RECAPTCHA_ENABLE = "SelfRegistration.ResendConfirmationReCaptcha";
     private IdentityGovernanceService identityGovernanceService;
 
@@ -59,12 +62,18 @@ public class ResendConfirmationReCaptchaConnector extends AbstractReCaptchaConne
         return 3;
     }
 
+    @Override
+    public List<String> getSecuredPaths() {
+
+        return SECURED_PATHS;
+    }
+
     @Override
     public boolean canHandle(ServletRequest servletRequest, ServletResponse servletResponse) throws CaptchaException {
 
         String path = ((HttpServletRequest) servletRequest).getRequestURI();
 
-        if (StringUtils.isBlank(path) || !(CaptchaUtil.isPathAvailable(path, RESEND_CONFIRMATION_URL))) {
+        if (StringUtils.isBlank(path) || !SECURED_PATHS.contains(path)) {
             return false;
         }
 
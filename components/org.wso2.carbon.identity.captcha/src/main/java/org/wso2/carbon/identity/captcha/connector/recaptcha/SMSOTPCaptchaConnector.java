@@ -45,6 +45,7 @@ import javax.servlet.http.HttpServletRequest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +59,7 @@ public class SMSOTPCaptchaConnector extends AbstractReCaptchaConnector {
 
     private static final Log log = LogFactory.getLog(SMSOTPCaptchaConnector.class);
     private static final String SECURED_DESTINATIONS = "/commonauth";
+    private static final List<String> SECURED_PATHS = Collections.singletonList(SECURED_DESTINATIONS);
     public static final String SMS_OTP_AUTHENTICATOR_NAME = "SMSOTP";
     public static final String IS_REDIRECT_TO_SMS_OTP = "isRedirectToSmsOTP";
     public static final String RESEND_CODE = "resendCode";
@@ -81,11 +83,17 @@ public class SMSOTPCaptchaConnector extends AbstractReCaptchaConnector {
         return 30;
     }
 
+    @Override
+    public List<String> getSecuredPaths() {
+
+        return SECURED_PATHS;
+    }
+
     @Override
     public boolean canHandle(ServletRequest servletRequest, ServletResponse servletResponse) throws CaptchaException {
 
         String path = ((HttpServletRequest) servletRequest).getRequestURI();
-        if (StringUtils.isBlank(path) || !(CaptchaUtil.isPathAvailable(path, SECURED_DESTINATIONS))) {
+        if (StringUtils.isBlank(path) || !SECURED_PATHS.contains(path)) {
             return false;
         }
 
@@ -42,6 +42,8 @@ import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +68,8 @@ public class SSOLoginReCaptchaConfig extends AbstractReCaptchaConnector implemen
     private static final Log log = LogFactory.getLog(SSOLoginReCaptchaConfig.class);
 
     private static final String SECURED_DESTINATIONS = "/commonauth,/samlsso,/oauth2";
+    private static final List<String> SECURED_PATHS = Collections.unmodifiableList(
+            Arrays.asList(SECURED_DESTINATIONS.split(",")));
     private static final String USERNAME = "username";
     private static final String PASSWORD = "password";
     private static final String OTPCODE = "OTPCode";
@@ -90,6 +94,12 @@ public class SSOLoginReCaptchaConfig extends AbstractReCaptchaConnector implemen
         return 20;
     }
 
+    @Override
+    public List<String> getSecuredPaths() {
+
+        return SECURED_PATHS;
+    }
+
     @Override
     public boolean canHandle(ServletRequest servletRequest, ServletResponse servletResponse) throws CaptchaException {
 
@@ -99,7 +109,7 @@ public class SSOLoginReCaptchaConfig extends AbstractReCaptchaConnector implemen
         }
 
         String currentPath = ((HttpServletRequest) servletRequest).getRequestURI();
-        if (StringUtils.isBlank(currentPath) || !CaptchaUtil.isPathAvailable(currentPath, SECURED_DESTINATIONS)) {
+        if (StringUtils.isBlank(currentPath) || !SECURED_PATHS.contains(currentPath)) {
             return false;
         }
 
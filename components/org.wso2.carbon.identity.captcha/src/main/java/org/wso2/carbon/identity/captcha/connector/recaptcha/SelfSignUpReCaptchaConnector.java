@@ -30,6 +30,8 @@ import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
 import org.wso2.carbon.identity.captcha.util.CaptchaUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.ServletRequest;
@@ -48,6 +50,9 @@ public class SelfSignUpReCaptchaConnector extends AbstractReCaptchaConnector {
 
     private static final String SELF_REGISTRATION_URL = "/api/identity/user/v1.0/me";
 
+    private static final List<String> SECURED_PATHS = Collections.unmodifiableList(
+            Arrays.asList(SELF_REGISTRATION_INITIATE_URL, SELF_REGISTRATION_URL));
+
     private final String PROPERTY_ENABLE_RECAPTCHA = "SelfRegistration.ReCaptcha";
 
     private IdentityGovernanceService identityGovernanceService;
@@ -63,6 +68,12 @@ public class SelfSignUpReCaptchaConnector extends AbstractReCaptchaConnector {
         return 10;
     }
 
+    @Override
+    public List<String> getSecuredPaths() {
+
+        return SECURED_PATHS;
+    }
+
     @Override
     public boolean canHandle(ServletRequest servletRequest, ServletResponse servletResponse) throws CaptchaException {
 
@@ -70,8 +81,7 @@ public class SelfSignUpReCaptchaConnector extends AbstractReCaptchaConnector {
 
         List<String> reCaptchaBypassedApiEndpoints = CaptchaDataHolder.getInstance().getReCaptchaBypassedApiEndpoints();
         if (StringUtils.isBlank(path) || reCaptchaBypassedApiEndpoints.contains(path) ||
-                (!CaptchaUtil.isPathAvailable(path, SELF_REGISTRATION_INITIATE_URL) &&
-                !CaptchaUtil.isPathAvailable(path, SELF_REGISTRATION_URL))) {
+                !SECURED_PATHS.contains(path)) {
             return false;
         }
 
@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.captcha.connector.CaptchaPostValidationResponse;
 import org.wso2.carbon.identity.captcha.connector.CaptchaPreValidationResponse;
 import org.wso2.carbon.identity.captcha.exception.CaptchaClientException;
 import org.wso2.carbon.identity.captcha.exception.CaptchaException;
+import org.wso2.carbon.identity.captcha.exception.CaptchaRequestBodySizeExceededException;
 import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
 import org.wso2.carbon.identity.captcha.util.CaptchaHttpServletRequestWrapper;
 import org.wso2.carbon.identity.captcha.util.CaptchaHttpServletResponseWrapper;
@@ -85,7 +86,11 @@ public class CaptchaFilter implements Filter {
                 }
             }
 
-            List<CaptchaConnector> captchaConnectors = CaptchaDataHolder.getInstance().getCaptchaConnectors();
+            // Only the connectors securing the request path and the path independent connectors are evaluated.
+            String requestPath = servletRequest instanceof HttpServletRequest ?
+                    ((HttpServletRequest) servletRequest).getRequestURI() : null;
+            List<CaptchaConnector> captchaConnectors = CaptchaDataHolder.getInstance().getCaptchaConnectorIndex()
+                    .getCandidateConnectors(requestPath);
 
             CaptchaConnector selectedCaptchaConnector = null;
             for (CaptchaConnector captchaConnector : captchaConnectors) {
@@ -96,7 +101,7 @@ public class CaptchaFilter implements Filter {
             }
 
             if (selectedCaptchaConnector == null) {
-                filterChain.doFilter(servletRequest, servletResponse);
+                filterChain.doFilter(getChainRequest(servletRequest), servletResponse);
                 return;
             }
 
@@ -104,9 +109,15 @@ public class CaptchaFilter implements Filter {
             CaptchaPreValidationResponse captchaPreValidationResponse = selectedCaptchaConnector
                     .preValidate(servletRequest, servletResponse);
 
+            if (isBodySizeExceeded(servletRequest) || (captchaPreValidationResponse != null &&
+                    isBodySizeExceeded(captchaPreValidationResponse.getWrappedHttpServletRequest()))) {
+                rejectRequestBody((HttpServletResponse) servletResponse, null);
+                return;
+            }
+
             if (captchaPreValidationResponse == null) {
                 // Captcha connector failed to response. Default is success.
-                filterChain.doFilter(servletRequest, servletResponse);
+                filterChain.doFilter(getChainRequest(servletRequest), servletResponse);
                 return;
             }
 
@@ -182,6 +193,8 @@ public class CaptchaFilter implements Filter {
                 httpResponse.sendRedirect(CaptchaUtil.getUpdatedUrl(responseWrapper.getRedirectURL(),
                         postValidationResponse.getCaptchaAttributes()));
             }
+        } catch (CaptchaRequestBodySizeExceededException e) {
+            rejectRequestBody((HttpServletResponse) servletResponse, e);
         } catch (CaptchaException e) {
             log.error("Error occurred in processing captcha.", e);
             ((HttpServletResponse) servletResponse).sendRedirect(CaptchaUtil.getErrorPage("Server Error", "Something " +
@@ -194,13 +207,49 @@ public class CaptchaFilter implements Filter {
 
     }
 
+    /**
+     * Get the request to be passed down the filter chain. A captcha request wrapper whose body was not read by the
+     * connectors is unwrapped, so that the body is streamed to the rest of the chain without being buffered.
+     *
+     * @param servletRequest Servlet request.
+     * @return Request to be passed down the filter chain.
+     */
+    private ServletRequest getChainRequest(ServletRequest servletRequest) {
+
+        if (servletRequest instanceof CaptchaHttpServletRequestWrapper &&
+                !((CaptchaHttpServletRequestWrapper) servletRequest).isBodyAccessed()) {
+            return ((CaptchaHttpServletRequestWrapper) servletRequest).getRequest();
+        }
+        return servletRequest;
+    }
+
+    private boolean isBodySizeExceeded(ServletRequest servletRequest) {
+
+        return servletRequest instanceof CaptchaHttpServletRequestWrapper &&
+                ((CaptchaHttpServletRequestWrapper) servletRequest).isBodySizeExceeded();
+    }
+
+    private void rejectRequestBody(HttpServletResponse httpResponse, CaptchaRequestBodySizeExceededException e)
+            throws IOException {
+
+        log.warn("Rejected the request as the request body exceeds the maximum size allowed for captcha " +
+                "validation.");
+        if (log.isDebugEnabled() && e != null) {
+            log.debug(e.getMessage());
+        }
+        if (!httpResponse.isCommitted()) {
+            httpResponse.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        }
+    }
+
     private void doFilter(CaptchaPreValidationResponse preValidationResponse, ServletRequest servletRequest,
                           ServletResponse servletResponse, FilterChain filterChain)
             throws IOException, ServletException {
         if(preValidationResponse.getWrappedHttpServletRequest() != null) {
-            filterChain.doFilter(preValidationResponse.getWrappedHttpServletRequest(), servletResponse);
+            filterChain.doFilter(getChainRequest(preValidationResponse.getWrappedHttpServletRequest()),
+                    servletResponse);
         } else {
-            filterChain.doFilter(servletRequest, servletResponse);
+            filterChain.doFilter(getChainRequest(servletRequest), servletResponse);
         }
     }
 }
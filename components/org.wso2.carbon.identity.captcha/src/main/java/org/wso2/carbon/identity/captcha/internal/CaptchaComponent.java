@@ -31,6 +31,8 @@ import org.wso2.carbon.identity.captcha.connector.recaptcha.SMSOTPCaptchaConnect
 import org.wso2.carbon.identity.captcha.connector.recaptcha.SSOLoginReCaptchaConfig;
 import org.wso2.carbon.identity.captcha.connector.recaptcha.SelfSignUpReCaptchaConnector;
 import org.wso2.carbon.identity.captcha.connector.recaptcha.UsernameRecoveryReCaptchaConnector;
+import org.wso2.carbon.identity.captcha.listener.FailedLoginAttemptCounterListener;
+import org.wso2.carbon.identity.captcha.util.CaptchaHttpClient;
 import org.wso2.carbon.identity.captcha.util.CaptchaUtil;
 import org.wso2.carbon.identity.captcha.validator.FailLoginAttemptValidationHandler;
 import org.wso2.carbon.identity.captcha.validator.FailLoginAttemptValidator;
@@ -38,6 +40,7 @@ import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -101,6 +104,8 @@ public class CaptchaComponent {
                     failedLoginAttemptValidator, null);
             context.getBundleContext().registerService(AbstractEventHandler.class.getName(), new
                     FailLoginAttemptValidationHandler(), null);
+            context.getBundleContext().registerService(UserOperationEventListener.class.getName(),
+                    new FailedLoginAttemptCounterListener(), null);
             if (log.isDebugEnabled()) {
                 log.debug("Captcha Component is activated");
             }
@@ -112,6 +117,7 @@ public class CaptchaComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        CaptchaHttpClient.shutdown();
         if (log.isDebugEnabled()) {
             log.debug("Captcha Component is de-activated");
         }
@@ -130,7 +136,7 @@ public class CaptchaComponent {
 
     protected void unsetCaptchaConnector(CaptchaConnector captchaConnector) {
 
-        CaptchaDataHolder.getInstance().getCaptchaConnectors().remove(captchaConnector);
+        CaptchaDataHolder.getInstance().removeCaptchaConnector(captchaConnector);
     }
 
     @Reference(
@@ -150,7 +156,7 @@ public class CaptchaComponent {
     protected void unsetIdentityGovernanceConnector(IdentityConnectorConfig identityConnectorConfig) {
 
         if (identityConnectorConfig instanceof CaptchaConnector) {
-            CaptchaDataHolder.getInstance().getCaptchaConnectors().remove(identityConnectorConfig);
+            CaptchaDataHolder.getInstance().removeCaptchaConnector((CaptchaConnector) identityConnectorConfig);
         }
     }
 
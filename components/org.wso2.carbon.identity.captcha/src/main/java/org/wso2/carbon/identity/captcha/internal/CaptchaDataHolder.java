@@ -19,14 +19,18 @@
 package org.wso2.carbon.identity.captcha.internal;
 
 import org.wso2.carbon.identity.captcha.connector.CaptchaConnector;
+import org.wso2.carbon.identity.captcha.connector.CaptchaConnectorIndex;
+import org.wso2.carbon.identity.captcha.util.CaptchaConstants;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Captcha Data Holder.
@@ -61,13 +65,29 @@ public class CaptchaDataHolder {
     // Threshold for score for warn logs in reCAPTCHA v3.
     private double reCaptchaWarnScoreThreshold;
 
+    private int reCaptchaVerifyMaxConnections = CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_MAX_CONNECTIONS;
+
+    private int reCaptchaVerifyMaxConnectionsPerRoute =
+            CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+    private int reCaptchaVerifyConnectTimeout = CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_CONNECT_TIMEOUT;
+
+    private int reCaptchaVerifyReadTimeout = CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_READ_TIMEOUT;
+
+    private int reCaptchaVerifyConnectionRequestTimeout =
+            CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+
+    private int reCaptchaRequestBodyMaxSize = CaptchaConstants.RE_CAPTCHA_REQUEST_BODY_DEFAULT_MAX_SIZE;
+
     private IdentityGovernanceService identityGovernanceService;
 
     private RealmService realmService;
 
     private AccountLockService accountLockService;
 
-    private List<CaptchaConnector> captchaConnectors = new ArrayList<>();
+    private List<CaptchaConnector> captchaConnectors = new CopyOnWriteArrayList<>();
+
+    private volatile CaptchaConnectorIndex captchaConnectorIndex = new CaptchaConnectorIndex(captchaConnectors);
 
     private Map<String, String> ssoLoginReCaptchaConnectorPropertyMap = new HashMap<>();
 
@@ -193,6 +213,66 @@ public class CaptchaDataHolder {
         this.reCaptchaWarnScoreThreshold = reCaptchaWarnScoreThreshold;
     }
 
+    public int getReCaptchaVerifyMaxConnections() {
+
+        return reCaptchaVerifyMaxConnections;
+    }
+
+    public void setReCaptchaVerifyMaxConnections(int reCaptchaVerifyMaxConnections) {
+
+        this.reCaptchaVerifyMaxConnections = reCaptchaVerifyMaxConnections;
+    }
+
+    public int getReCaptchaVerifyMaxConnectionsPerRoute() {
+
+        return reCaptchaVerifyMaxConnectionsPerRoute;
+    }
+
+    public void setReCaptchaVerifyMaxConnectionsPerRoute(int reCaptchaVerifyMaxConnectionsPerRoute) {
+
+        this.reCaptchaVerifyMaxConnectionsPerRoute = reCaptchaVerifyMaxConnectionsPerRoute;
+    }
+
+    public int getReCaptchaVerifyConnectTimeout() {
+
+        return reCaptchaVerifyConnectTimeout;
+    }
+
+    public void setReCaptchaVerifyConnectTimeout(int reCaptchaVerifyConnectTimeout) {
+
+        this.reCaptchaVerifyConnectTimeout = reCaptchaVerifyConnectTimeout;
+    }
+
+    public int getReCaptchaVerifyReadTimeout() {
+
+        return reCaptchaVerifyReadTimeout;
+    }
+
+    public void setReCaptchaVerifyReadTimeout(int reCaptchaVerifyReadTimeout) {
+
+        this.reCaptchaVerifyReadTimeout = reCaptchaVerifyReadTimeout;
+    }
+
+    public int getReCaptchaVerifyConnectionRequestTimeout() {
+
+        return reCaptchaVerifyConnectionRequestTimeout;
+    }
+
+    public void setReCaptchaVerifyConnectionRequestTimeout(int reCaptchaVerifyConnectionRequestTimeout) {
+
+        this.reCaptchaVerifyConnectionRequestTimeout = reCaptchaVerifyConnectionRequestTimeout;
+    }
+
+    public int getReCaptchaRequestBodyMaxSize() {
+
+        return reCaptchaRequestBodyMaxSize;
+    }
+
+    public void setReCaptchaRequestBodyMaxSize(int reCaptchaRequestBodyMaxSize) {
+
+        this.reCaptchaRequestBodyMaxSize = reCaptchaRequestBodyMaxSize;
+    }
+
     public String getReCaptchaErrorRedirectUrls() {
         return reCaptchaErrorRedirectUrls;
     }
@@ -234,12 +314,34 @@ public class CaptchaDataHolder {
         this.passwordRecoveryReCaptchaConnectorPropertyMap = passwordRecoveryReCaptchaConnectorPropertyMap;
     }
 
+    /**
+     * Get the registered captcha connectors. The connectors are registered and unregistered through
+     * {@link #addCaptchaConnector(CaptchaConnector)} and {@link #removeCaptchaConnector(CaptchaConnector)}, which keep
+     * the connector index in sync.
+     *
+     * @return Unmodifiable list of the registered captcha connectors.
+     */
     public List<CaptchaConnector> getCaptchaConnectors() {
-        return captchaConnectors;
+        return Collections.unmodifiableList(captchaConnectors);
     }
 
-    public void addCaptchaConnector(CaptchaConnector captchaConnector) {
+    public synchronized void addCaptchaConnector(CaptchaConnector captchaConnector) {
         this.captchaConnectors.add(captchaConnector);
+        this.captchaConnectorIndex = new CaptchaConnectorIndex(captchaConnectors);
+    }
+
+    public synchronized void removeCaptchaConnector(CaptchaConnector captchaConnector) {
+        this.captchaConnectors.remove(captchaConnector);
+        this.captchaConnectorIndex = new CaptchaConnectorIndex(captchaConnectors);
+    }
+
+    /**
+     * Get the index of the registered captcha connectors by the request paths they secure.
+     *
+     * @return Captcha connector index.
+     */
+    public CaptchaConnectorIndex getCaptchaConnectorIndex() {
+        return captchaConnectorIndex;
     }
 
     public void setRealmService(RealmService realmService) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+
+/**
+ * Cache to maintain the failed login attempts of users, used to decide whether captcha needs to be engaged.
+ */
+public class FailedLoginAttemptsCache extends BaseCache<StringCacheKey, FailedLoginAttemptsCacheEntry> {
+
+    private static final String FAILED_LOGIN_ATTEMPTS_CACHE = "CaptchaFailedLoginAttemptsCache";
+    private static volatile FailedLoginAttemptsCache instance;
+
+    public FailedLoginAttemptsCache() {
+
+        super(FAILED_LOGIN_ATTEMPTS_CACHE);
+    }
+
+    public static FailedLoginAttemptsCache getInstance() {
+
+        if (instance == null) {
+            synchronized (FailedLoginAttemptsCache.class) {
+                if (instance == null) {
+                    instance = new FailedLoginAttemptsCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
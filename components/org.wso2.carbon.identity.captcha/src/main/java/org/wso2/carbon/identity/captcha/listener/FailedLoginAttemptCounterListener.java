@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.listener;
+
+import org.apache.commons.lang.ArrayUtils;
+import org.wso2.carbon.identity.captcha.util.CaptchaConstants;
+import org.wso2.carbon.identity.captcha.validator.FailedLoginAttemptCounter;
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.util.Map;
+
+/**
+ * User operation event listener which discards the failed login attempts of a user known to the captcha component
+ * whenever the failed login attempts claim of the user changes, so that they are loaded again from the user store.
+ */
+public class FailedLoginAttemptCounterListener extends AbstractIdentityUserOperationEventListener {
+
+    private static final String FAILED_LOGIN_ATTEMPTS_CLAIM_UPDATED = "CaptchaFailedLoginAttemptsClaimUpdated";
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 96;
+    }
+
+    @Override
+    public boolean doPreSetUserClaimValues(String userName, Map<String, String> claims, String profileName,
+                                           UserStoreManager userStoreManager) throws UserStoreException {
+
+        // Identity claims are removed from the claims map by the identity data store before the post listeners run.
+        if (claims != null && claims.containsKey(CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM)) {
+            markFailedLoginAttemptsClaimUpdated();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValues(String userName, Map<String, String> claims, String profileName,
+                                            UserStoreManager userStoreManager) throws UserStoreException {
+
+        clearUpdatedFailedLoginAttempts(userName, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPreSetUserClaimValue(String userName, String claimURI, String claimValue, String profileName,
+                                          UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM.equals(claimURI)) {
+            markFailedLoginAttemptsClaimUpdated();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValue(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        clearUpdatedFailedLoginAttempts(userName, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPreDeleteUserClaimValues(String userName, String[] claims, String profileName,
+                                              UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (ArrayUtils.contains(claims, CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM)) {
+            markFailedLoginAttemptsClaimUpdated();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValues(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        clearUpdatedFailedLoginAttempts(userName, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPreDeleteUserClaimValue(String userName, String claimURI, String profileName,
+                                             UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM.equals(claimURI)) {
+            markFailedLoginAttemptsClaimUpdated();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValue(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        clearUpdatedFailedLoginAttempts(userName, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUser(String userName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearFailedLoginAttempts(userName, userStoreManager);
+        return true;
+    }
+
+    private void markFailedLoginAttemptsClaimUpdated() {
+
+        if (isEnable()) {
+            IdentityUtil.threadLocalProperties.get().put(FAILED_LOGIN_ATTEMPTS_CLAIM_UPDATED, true);
+        }
+    }
+
+    private void clearUpdatedFailedLoginAttempts(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (IdentityUtil.threadLocalProperties.get().remove(FAILED_LOGIN_ATTEMPTS_CLAIM_UPDATED) == null) {
+            return;
+        }
+        clearFailedLoginAttempts(userName, userStoreManager);
+    }
+
+    private void clearFailedLoginAttempts(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        FailedLoginAttemptCounter.getInstance().clearFailedLoginAttempts(
+                UserCoreUtil.addDomainToName(userName,
+                        UserCoreUtil.getDomainName(userStoreManager.getRealmConfiguration())),
+                IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId()));
+    }
+}
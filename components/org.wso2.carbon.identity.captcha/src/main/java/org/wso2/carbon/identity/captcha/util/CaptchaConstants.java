@@ -61,6 +61,22 @@ public class CaptchaConstants {
 
     public static final String RE_CAPTCHA_WARN_SCORE_THRESHOLD = "recaptcha.threshold.warn";
 
+    public static final String RE_CAPTCHA_VERIFY_MAX_CONNECTIONS = "recaptcha.verify.max.connections";
+
+    public static final String RE_CAPTCHA_VERIFY_MAX_CONNECTIONS_PER_ROUTE =
+            "recaptcha.verify.max.connections.per.route";
+
+    public static final String RE_CAPTCHA_VERIFY_CONNECT_TIMEOUT = "recaptcha.verify.connect.timeout";
+
+    public static final String RE_CAPTCHA_VERIFY_READ_TIMEOUT = "recaptcha.verify.read.timeout";
+
+    public static final String RE_CAPTCHA_VERIFY_CONNECTION_REQUEST_TIMEOUT =
+            "recaptcha.verify.connection.request.timeout";
+
+    public static final String RE_CAPTCHA_REQUEST_BODY_MAX_SIZE = "recaptcha.request.body.max.size";
+
+    public static final String FAILED_LOGIN_ATTEMPTS_CLAIM = "http://wso2.org/claims/identity/failedLoginAttempts";
+
     public static final String BASIC_AUTHENTICATOR = "BasicAuthenticator";
 
     public static final String BASIC_AUTH_MECHANISM = "basic";
@@ -87,6 +103,16 @@ public class CaptchaConstants {
     // Default value for threshold for score to issue warn logs in reCAPTCHA v3.
     public static final double CAPTCHA_V3_DEFAULT_WARN_THRESHOLD = 0.7;
 
+    // Default connection pool and timeout (in milliseconds) values of the captcha verification client.
+    public static final int RE_CAPTCHA_VERIFY_DEFAULT_MAX_CONNECTIONS = 100;
+    public static final int RE_CAPTCHA_VERIFY_DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+    public static final int RE_CAPTCHA_VERIFY_DEFAULT_CONNECT_TIMEOUT = 5000;
+    public static final int RE_CAPTCHA_VERIFY_DEFAULT_READ_TIMEOUT = 10000;
+    public static final int RE_CAPTCHA_VERIFY_DEFAULT_CONNECTION_REQUEST_TIMEOUT = 5000;
+
+    // Default maximum size (in bytes) of a request body buffered for captcha validation.
+    public static final int RE_CAPTCHA_REQUEST_BODY_DEFAULT_MAX_SIZE = 1024 * 1024;
+
     public static final String SSO_LOGIN_RECAPTCHA_CONNECTOR_NAME = "sso.login.recaptcha";
 
     /**
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
+
+import java.io.IOException;
+
+/**
+ * HTTP client used to send the captcha verification requests to the captcha provider. A single client is shared by
+ * all the verifications so that the connections to the provider are pooled and kept alive between requests.
+ */
+public class CaptchaHttpClient {
+
+    private static final Log log = LogFactory.getLog(CaptchaHttpClient.class);
+    private static final int VALIDATE_AFTER_INACTIVITY = 2000;
+    private static volatile CaptchaHttpClient instance;
+
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Create a captcha verification client.
+     *
+     * @param maxConnections           Maximum number of pooled connections.
+     * @param maxConnectionsPerRoute   Maximum number of pooled connections per route.
+     * @param connectTimeout           Connect timeout in milliseconds.
+     * @param readTimeout              Read timeout in milliseconds.
+     * @param connectionRequestTimeout Timeout in milliseconds to lease a connection from the pool.
+     */
+    public CaptchaHttpClient(int maxConnections, int maxConnectionsPerRoute, int connectTimeout, int readTimeout,
+                             int connectionRequestTimeout) {
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+                .build();
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        // Pooled connections idle for longer than this are validated before they are leased again.
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+
+        httpClient = HttpClientBuilder.create()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+    }
+
+    /**
+     * Get the shared captcha verification client. The client is created with the connection pool and timeout
+     * configurations of the captcha configuration file on the first call.
+     *
+     * @return Captcha verification client.
+     */
+    public static CaptchaHttpClient getInstance() {
+
+        if (instance == null) {
+            synchronized (CaptchaHttpClient.class) {
+                if (instance == null) {
+                    CaptchaDataHolder captchaDataHolder = CaptchaDataHolder.getInstance();
+                    instance = new CaptchaHttpClient(captchaDataHolder.getReCaptchaVerifyMaxConnections(),
+                            captchaDataHolder.getReCaptchaVerifyMaxConnectionsPerRoute(),
+                            captchaDataHolder.getReCaptchaVerifyConnectTimeout(),
+                            captchaDataHolder.getReCaptchaVerifyReadTimeout(),
+                            captchaDataHolder.getReCaptchaVerifyConnectionRequestTimeout());
+                    if (log.isDebugEnabled()) {
+                        log.debug("Captcha verification client is initialized.");
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Close the shared captcha verification client and release the pooled connections.
+     */
+    public static void shutdown() {
+
+        synchronized (CaptchaHttpClient.class) {
+            if (instance != null) {
+                instance.close();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Execute the given request. The response entity should be consumed or the response should be closed by the
+     * caller to release the connection back to the pool.
+     *
+     * @param request Request to be executed.
+     * @return Response of the request.
+     * @throws IOException If an error occurred while executing the request.
+     */
+    public CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+
+        return httpClient.execute(request);
+    }
+
+    /**
+     * Close the client along with the connection pool.
+     */
+    public void close() {
+
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.error("Error while closing the captcha verification client.", e);
+        }
+    }
+}
@@ -18,7 +18,8 @@
 
 package org.wso2.carbon.identity.captcha.util;
 
-import org.apache.commons.io.IOUtils;
+import org.wso2.carbon.identity.captcha.exception.CaptchaRequestBodySizeExceededException;
+import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
 
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
@@ -28,24 +29,35 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Arrays;
 
 /**
- * Captcha Response Wrapper.
+ * Captcha Response Wrapper. The request body is buffered on the first read so that it can be read again by the
+ * rest of the filter chain. Bodies larger than the configured maximum size are rejected.
  */
 public class CaptchaHttpServletRequestWrapper extends HttpServletRequestWrapper {
 
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    private final int maxBodySize;
     private byte[] body;
+    private int bodyLength;
+    private boolean bodyAccessed;
+    private boolean bodySizeExceeded;
 
     public CaptchaHttpServletRequestWrapper(HttpServletRequest httpServletRequest) throws IOException {
+        this(httpServletRequest, CaptchaDataHolder.getInstance().getReCaptchaRequestBodyMaxSize());
+    }
+
+    public CaptchaHttpServletRequestWrapper(HttpServletRequest httpServletRequest, int maxBodySize) {
         super(httpServletRequest);
-        // Read the request body and save it as a byte array
-        InputStream is = super.getInputStream();
-        body = IOUtils.toByteArray(is);
+        this.maxBodySize = maxBodySize;
     }
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return new ServletInputStreamImpl(new ByteArrayInputStream(body));
+        bufferBody();
+        return new ServletInputStreamImpl(new ByteArrayInputStream(body, 0, bodyLength));
     }
 
     @Override
@@ -55,6 +67,75 @@ public class CaptchaHttpServletRequestWrapper extends HttpServletRequestWrapper
         return new BufferedReader(new InputStreamReader(getInputStream(), enc));
     }
 
+    /**
+     * Check whether the request body has been read through the wrapper. Until then the wrapped request can be
+     * passed down the filter chain as it is.
+     *
+     * @return True if the request body has been read through the wrapper.
+     */
+    public boolean isBodyAccessed() {
+        return bodyAccessed;
+    }
+
+    /**
+     * Check whether the request body was rejected for exceeding the configured maximum size.
+     *
+     * @return True if the request body exceeded the maximum size.
+     */
+    public boolean isBodySizeExceeded() {
+        return bodySizeExceeded;
+    }
+
+    private void bufferBody() throws IOException {
+
+        if (bodySizeExceeded) {
+            throw newBodySizeExceededException();
+        }
+        if (body != null) {
+            return;
+        }
+        bodyAccessed = true;
+
+        int contentLength = getContentLength();
+        if (contentLength > maxBodySize) {
+            bodySizeExceeded = true;
+            throw newBodySizeExceededException();
+        }
+
+        byte[] buffer = new byte[contentLength > 0 ? contentLength : Math.min(READ_BUFFER_SIZE, maxBodySize)];
+        int length = 0;
+        InputStream is = super.getInputStream();
+        while (true) {
+            if (length == buffer.length) {
+                // Probe for more data before growing the buffer or rejecting the body.
+                int next = is.read();
+                if (next == -1) {
+                    break;
+                }
+                if (length >= maxBodySize) {
+                    bodySizeExceeded = true;
+                    throw newBodySizeExceededException();
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min((long) length * 2, maxBodySize));
+                buffer[length++] = (byte) next;
+                continue;
+            }
+            int read = is.read(buffer, length, buffer.length - length);
+            if (read == -1) {
+                break;
+            }
+            length += read;
+        }
+        body = buffer;
+        bodyLength = length;
+    }
+
+    private CaptchaRequestBodySizeExceededException newBodySizeExceededException() {
+
+        return new CaptchaRequestBodySizeExceededException("Request body of " + getRequestURI() +
+                " exceeds the maximum size of " + maxBodySize + " bytes allowed for captcha validation.");
+    }
+
     private class ServletInputStreamImpl extends ServletInputStream {
 
         private InputStream is;
@@ -67,6 +148,21 @@ public class CaptchaHttpServletRequestWrapper extends HttpServletRequestWrapper
             return is.read();
         }
 
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return is.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return is.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return is.available();
+        }
+
         public boolean markSupported() {
             return false;
         }
@@ -28,15 +28,14 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
-import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.authentication.framework.ApplicationAuthenticator;
 import org.wso2.carbon.identity.application.authentication.framework.config.ConfigurationFacade;
@@ -50,6 +49,7 @@ import org.wso2.carbon.identity.captcha.exception.CaptchaClientException;
 import org.wso2.carbon.identity.captcha.exception.CaptchaException;
 import org.wso2.carbon.identity.captcha.exception.CaptchaServerException;
 import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
+import org.wso2.carbon.identity.captcha.validator.FailedLoginAttemptCounter;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
@@ -274,7 +274,6 @@ public class CaptchaUtil {
 
     public static boolean isValidCaptcha(String reCaptchaResponse) throws CaptchaException {
 
-        CloseableHttpClient httpclient = HttpClientBuilder.create().useSystemProperties().build();
         String reCaptchaType = CaptchaDataHolder.getInstance().getReCaptchaType();
 
         HttpPost httpPost;
@@ -289,26 +288,28 @@ public class CaptchaUtil {
             httpPost = createReCaptchaVerificationHttpPost(reCaptchaResponse);
         }
 
-        HttpResponse response;
-        try {
-            response = httpclient.execute(httpPost);
+        try (CloseableHttpResponse response = CaptchaHttpClient.getInstance().execute(httpPost)) {
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                throw new CaptchaServerException("reCaptcha verification response is not received.");
+            }
+
+            try {
+                if (CaptchaConstants.RE_CAPTCHA_TYPE_ENTERPRISE.equals(reCaptchaType)) {
+                    // For ReCaptcha Enterprise.
+                    verifyReCaptchaEnterpriseResponse(entity);
+                } else {
+                    // For Recaptcha v2 and v3.
+                    verifyReCaptchaResponse(entity);
+                }
+            } finally {
+                // Consume the remaining content so that the connection can be reused.
+                EntityUtils.consumeQuietly(entity);
+            }
         } catch (IOException e) {
             throw new CaptchaServerException("Unable to get the verification response.", e);
         }
 
-        HttpEntity entity = response.getEntity();
-        if (entity == null) {
-            throw new CaptchaServerException("reCaptcha verification response is not received.");
-        }
-
-        if (CaptchaConstants.RE_CAPTCHA_TYPE_ENTERPRISE.equals(reCaptchaType)) {
-            // For ReCaptcha Enterprise.
-            verifyReCaptchaEnterpriseResponse(entity);
-        } else {
-            // For Recaptcha v2 and v3.
-            verifyReCaptchaResponse(entity);
-        }
-
         return true;
     }
 
@@ -443,8 +444,8 @@ public class CaptchaUtil {
     public static boolean isMaximumFailedLoginAttemptsReached(String usernameWithDomain, String tenantDomain) throws
             CaptchaException {
 
-        String RECAPTCHA_VERIFICATION_CLAIM = "http://wso2.org/claims/identity/failedLoginAttempts";
-        return isMaximumFailedLoginAttemptsReached(usernameWithDomain, tenantDomain, RECAPTCHA_VERIFICATION_CLAIM);
+        return isMaximumFailedLoginAttemptsReached(usernameWithDomain, tenantDomain,
+                CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM);
     }
 
     public static boolean isMaximumFailedLoginAttemptsReached(String usernameWithDomain, String tenantDomain,
@@ -483,6 +484,19 @@ public class CaptchaUtil {
 
         int maxAttempts = Integer.parseInt(maxAttemptsStr);
 
+        // Failed login attempts known to this node are used without reading the user store.
+        boolean isFailedLoginAttemptsClaim = CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM.equals(failedAttemptsClaim);
+        long loadStamp = 0;
+        if (isFailedLoginAttemptsClaim) {
+            // Taken before the lookup, so that a claim change during the user store read discards the read value.
+            loadStamp = FailedLoginAttemptCounter.getInstance().getLoadStamp(usernameWithDomain, tenantDomain);
+            Integer failedLoginAttempts = FailedLoginAttemptCounter.getInstance()
+                    .getFailedLoginAttempts(usernameWithDomain, tenantDomain);
+            if (failedLoginAttempts != null) {
+                return failedLoginAttempts >= maxAttempts;
+            }
+        }
+
         RealmService realmService = CaptchaDataHolder.getInstance().getRealmService();
         int tenantId;
         try {
@@ -536,6 +550,10 @@ public class CaptchaUtil {
         if (NumberUtils.isNumber(claimValues.get(failedAttemptsClaim))) {
             currentAttempts = Integer.parseInt(claimValues.get(failedAttemptsClaim));
         }
+        if (isFailedLoginAttemptsClaim) {
+            FailedLoginAttemptCounter.getInstance().addFailedLoginAttempts(usernameWithDomain, tenantDomain,
+                    currentAttempts, loadStamp);
+        }
 
         return currentAttempts >= maxAttempts;
     }
@@ -631,6 +649,25 @@ public class CaptchaUtil {
         double reCaptchaWarnScoreThreshold = getReCaptchaWarnThreshold(properties);
         CaptchaDataHolder.getInstance().setReCaptchaWarnScoreThreshold(reCaptchaWarnScoreThreshold);
 
+        CaptchaDataHolder.getInstance().setReCaptchaVerifyMaxConnections(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_MAX_CONNECTIONS,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_MAX_CONNECTIONS));
+        CaptchaDataHolder.getInstance().setReCaptchaVerifyMaxConnectionsPerRoute(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_MAX_CONNECTIONS_PER_ROUTE,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_MAX_CONNECTIONS_PER_ROUTE));
+        CaptchaDataHolder.getInstance().setReCaptchaVerifyConnectTimeout(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_CONNECT_TIMEOUT,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_CONNECT_TIMEOUT));
+        CaptchaDataHolder.getInstance().setReCaptchaVerifyReadTimeout(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_READ_TIMEOUT,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_READ_TIMEOUT));
+        CaptchaDataHolder.getInstance().setReCaptchaVerifyConnectionRequestTimeout(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_CONNECTION_REQUEST_TIMEOUT,
+                CaptchaConstants.RE_CAPTCHA_VERIFY_DEFAULT_CONNECTION_REQUEST_TIMEOUT));
+        CaptchaDataHolder.getInstance().setReCaptchaRequestBodyMaxSize(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_REQUEST_BODY_MAX_SIZE,
+                CaptchaConstants.RE_CAPTCHA_REQUEST_BODY_DEFAULT_MAX_SIZE));
+
         String forcefullyEnableRecaptchaForAllTenants =
                 properties.getProperty(CaptchaConstants.FORCEFULLY_ENABLED_RECAPTCHA_FOR_ALL_TENANTS);
         CaptchaDataHolder.getInstance().setForcefullyEnabledRecaptchaForAllTenants(
@@ -682,6 +719,33 @@ public class CaptchaUtil {
         }
     }
 
+    /**
+     * Method to get a positive integer configuration of the captcha component.
+     *
+     * @param properties   Properties.
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to be used if the property is not configured or is invalid.
+     * @return Configured value or the default value.
+     */
+    private static int getPositiveIntProperty(Properties properties, String propertyName, int defaultValue) {
+
+        String value = properties.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value.
+        }
+        log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default value : " +
+                defaultValue);
+        return defaultValue;
+    }
+
     private static void setSSOLoginConnectorConfigs(Properties properties) {
 
         Map<String, String> connectorPropertyMap = new HashMap<>();
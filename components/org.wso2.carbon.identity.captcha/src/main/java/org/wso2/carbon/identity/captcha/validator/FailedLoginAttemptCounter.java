@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.validator;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.captcha.internal.cache.FailedLoginAttemptsCache;
+import org.wso2.carbon.identity.captcha.internal.cache.FailedLoginAttemptsCacheEntry;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tenant scoped view of the failed login attempts claim of users, used to evaluate captcha thresholds without
+ * reading the user store. The attempts are loaded from the claim on a miss and are never counted locally, hence all
+ * nodes see the same value as the user store. Entries are only added on a miss, and any change to the claim clears
+ * the entry of the user, which is propagated to the other nodes through the cache invalidation of the cluster.
+ */
+public class FailedLoginAttemptCounter {
+
+    private static final Log log = LogFactory.getLog(FailedLoginAttemptCounter.class);
+    private static final FailedLoginAttemptCounter instance = new FailedLoginAttemptCounter();
+    private static final int LOAD_STAMP_STRIPES = 1024;
+    // Count of the clears per stripe of users, so that a clear only discards the loads of the users in its stripe.
+    private final AtomicLongArray clearedCounts = new AtomicLongArray(LOAD_STAMP_STRIPES);
+
+    private FailedLoginAttemptCounter() {
+
+    }
+
+    public static FailedLoginAttemptCounter getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the failed login attempts of the user known to this node.
+     *
+     * @param username     Username with or without the user store domain.
+     * @param tenantDomain Tenant domain of the user.
+     * @return Failed login attempts of the user, or null if the attempts are not known to this node.
+     */
+    public Integer getFailedLoginAttempts(String username, String tenantDomain) {
+
+        if (StringUtils.isBlank(username) || StringUtils.isBlank(tenantDomain)) {
+            return null;
+        }
+        FailedLoginAttemptsCacheEntry cacheEntry = FailedLoginAttemptsCache.getInstance()
+                .getValueFromCache(getCacheKey(username), tenantDomain);
+        return cacheEntry == null ? null : cacheEntry.getFailedLoginAttempts();
+    }
+
+    /**
+     * Get the stamp to be taken before reading the failed login attempts claim of the user from the user store, and
+     * to be passed when adding the read value with {@link #addFailedLoginAttempts(String, String, int, long)}.
+     *
+     * @param username     Username with or without the user store domain.
+     * @param tenantDomain Tenant domain of the user.
+     * @return Load stamp.
+     */
+    public long getLoadStamp(String username, String tenantDomain) {
+
+        if (StringUtils.isBlank(username) || StringUtils.isBlank(tenantDomain)) {
+            return 0;
+        }
+        return clearedCounts.get(getLoadStampStripe(getCacheKey(username), tenantDomain));
+    }
+
+    /**
+     * Add the failed login attempts of the user, as read from the user store. The value is discarded if the failed
+     * login attempts of the user were cleared since the load stamp was taken, as the read value may then be stale.
+     *
+     * @param username            Username with or without the user store domain.
+     * @param tenantDomain        Tenant domain of the user.
+     * @param failedLoginAttempts Failed login attempts of the user.
+     * @param loadStamp           Stamp taken before reading the failed login attempts.
+     */
+    public void addFailedLoginAttempts(String username, String tenantDomain, int failedLoginAttempts,
+                                       long loadStamp) {
+
+        if (StringUtils.isBlank(username) || StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        StringCacheKey cacheKey = getCacheKey(username);
+        int stripe = getLoadStampStripe(cacheKey, tenantDomain);
+        if (clearedCounts.get(stripe) != loadStamp) {
+            return;
+        }
+        FailedLoginAttemptsCache.getInstance().addToCache(cacheKey,
+                new FailedLoginAttemptsCacheEntry(failedLoginAttempts), tenantDomain);
+        // A clear racing with the addition may have missed the value. Discard it, as it cannot be trusted.
+        if (clearedCounts.get(stripe) != loadStamp) {
+            FailedLoginAttemptsCache.getInstance().clearCacheEntry(cacheKey, tenantDomain);
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded failed login attempts: " + failedLoginAttempts + " of user: " + username +
+                    " in tenant: " + tenantDomain);
+        }
+    }
+
+    /**
+     * Discard the failed login attempts of the user, so that they are loaded from the user store when needed.
+     *
+     * @param username     Username with or without the user store domain.
+     * @param tenantDomain Tenant domain of the user.
+     */
+    public void clearFailedLoginAttempts(String username, String tenantDomain) {
+
+        if (StringUtils.isBlank(username) || StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        StringCacheKey cacheKey = getCacheKey(username);
+        // Counted before clearing, so that loads which read the claim before the change are not added afterwards.
+        clearedCounts.incrementAndGet(getLoadStampStripe(cacheKey, tenantDomain));
+        FailedLoginAttemptsCache.getInstance().clearCacheEntry(cacheKey, tenantDomain);
+    }
+
+    private int getLoadStampStripe(StringCacheKey cacheKey, String tenantDomain) {
+
+        int hash = 31 * tenantDomain.hashCode() + cacheKey.getValue().hashCode();
+        return (hash ^ (hash >>> 16)) & (LOAD_STAMP_STRIPES - 1);
+    }
+
+    private StringCacheKey getCacheKey(String username) {
+
+        // Users of the primary user store are keyed without the domain, so that both forms of the username match.
+        String domain = UserCoreUtil.extractDomainFromName(username);
+        String tenantAwareUsername = UserCoreUtil.removeDomainFromName(username);
+        if (IdentityUtil.getPrimaryDomainName().equalsIgnoreCase(domain)) {
+            return new StringCacheKey(tenantAwareUsername);
+        }
+        return new StringCacheKey(UserCoreUtil.addDomainToName(tenantAwareUsername, domain));
+    }
+}
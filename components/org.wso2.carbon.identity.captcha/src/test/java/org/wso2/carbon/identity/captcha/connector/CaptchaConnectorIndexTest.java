@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.connector;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.captcha.connector.recaptcha.GenericAuthenticatorReCaptchaConnector;
+import org.wso2.carbon.identity.captcha.connector.recaptcha.SSOLoginReCaptchaConfig;
+import org.wso2.carbon.identity.captcha.connector.recaptcha.SelfSignUpReCaptchaConnector;
+import org.wso2.carbon.identity.captcha.connector.recaptcha.UsernameRecoveryReCaptchaConnector;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CaptchaConnectorIndex.java.
+ */
+public class CaptchaConnectorIndexTest {
+
+    @Test
+    public void testGetCandidateConnectors() {
+
+        CaptchaConnector ssoLoginConnector = new SSOLoginReCaptchaConfig();
+        CaptchaConnector selfSignUpConnector = new SelfSignUpReCaptchaConnector();
+        CaptchaConnector usernameRecoveryConnector = new UsernameRecoveryReCaptchaConnector();
+        CaptchaConnector genericConnector = new GenericAuthenticatorReCaptchaConnector();
+        CaptchaConnector pathIndependentConnector = mock(CaptchaConnector.class);
+        when(pathIndependentConnector.getSecuredPaths()).thenReturn(null);
+        CaptchaConnectorIndex captchaConnectorIndex = new CaptchaConnectorIndex(Arrays.asList(ssoLoginConnector,
+                selfSignUpConnector, genericConnector, pathIndependentConnector, usernameRecoveryConnector));
+
+        Assert.assertEquals(captchaConnectorIndex.getCandidateConnectors("/commonauth"),
+                Arrays.asList(ssoLoginConnector, genericConnector, pathIndependentConnector));
+        Assert.assertEquals(captchaConnectorIndex.getCandidateConnectors("/api/identity/user/v1.0/me"),
+                Arrays.asList(selfSignUpConnector, pathIndependentConnector));
+        Assert.assertEquals(captchaConnectorIndex.getCandidateConnectors(
+                "/api/identity/recovery/v0.9/recover-username/"), Arrays.asList(usernameRecoveryConnector,
+                pathIndependentConnector));
+
+        // Paths which are not secured by any connector are evaluated only against the path independent connectors.
+        Assert.assertEquals(captchaConnectorIndex.getCandidateConnectors("/api/identity/user/v1.0/pi-info"),
+                Collections.singletonList(pathIndependentConnector));
+        Assert.assertEquals(captchaConnectorIndex.getCandidateConnectors(null),
+                Collections.singletonList(pathIndependentConnector));
+    }
+
+    @Test
+    public void testGenericConnectorIsBoundToAuthenticationPaths() {
+
+        CaptchaConnector genericConnector = new GenericAuthenticatorReCaptchaConnector();
+        CaptchaConnectorIndex captchaConnectorIndex =
+                new CaptchaConnectorIndex(Collections.singletonList(genericConnector));
+
+        Assert.assertEquals(captchaConnectorIndex.getCandidateConnectors("/commonauth"),
+                Collections.singletonList(genericConnector));
+        Assert.assertTrue(captchaConnectorIndex.getCandidateConnectors("/scim2/Users").isEmpty());
+        Assert.assertTrue(captchaConnectorIndex.getCandidateConnectors(null).isEmpty());
+    }
+
+    @Test
+    public void testGetCandidateConnectorsWithoutPathIndependentConnectors() {
+
+        CaptchaConnector ssoLoginConnector = new SSOLoginReCaptchaConfig();
+        CaptchaConnectorIndex captchaConnectorIndex =
+                new CaptchaConnectorIndex(Collections.singletonList(ssoLoginConnector));
+
+        List<CaptchaConnector> candidates = captchaConnectorIndex.getCandidateConnectors("/oauth2");
+        Assert.assertEquals(candidates, Collections.singletonList(ssoLoginConnector));
+        Assert.assertTrue(captchaConnectorIndex.getCandidateConnectors("/scim2/Users").isEmpty());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.listener;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.captcha.util.CaptchaConstants;
+import org.wso2.carbon.identity.captcha.validator.FailedLoginAttemptCounter;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for FailedLoginAttemptCounterListener.java.
+ */
+public class FailedLoginAttemptCounterListenerTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String USERNAME = "john";
+    private static final String DOMAIN_QUALIFIED_USERNAME = "SECONDARY/john";
+
+    private FailedLoginAttemptCounterListener listener;
+    private FailedLoginAttemptCounter failedLoginAttemptCounter;
+    private UserStoreManager userStoreManager;
+    private MockedStatic<FailedLoginAttemptCounter> mockedFailedLoginAttemptCounter;
+    private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        listener = new FailedLoginAttemptCounterListener();
+        failedLoginAttemptCounter = Mockito.mock(FailedLoginAttemptCounter.class);
+        mockedFailedLoginAttemptCounter = Mockito.mockStatic(FailedLoginAttemptCounter.class);
+        mockedFailedLoginAttemptCounter.when(FailedLoginAttemptCounter::getInstance)
+                .thenReturn(failedLoginAttemptCounter);
+        mockedIdentityTenantUtil = Mockito.mockStatic(IdentityTenantUtil.class);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(anyInt())).thenReturn(TENANT_DOMAIN);
+        mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
+
+        RealmConfiguration realmConfiguration = Mockito.mock(RealmConfiguration.class);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn("SECONDARY");
+        userStoreManager = Mockito.mock(UserStoreManager.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        IdentityUtil.threadLocalProperties.get().clear();
+        mockedFailedLoginAttemptCounter.close();
+        mockedIdentityTenantUtil.close();
+        mockedIdentityUtil.close();
+    }
+
+    @Test
+    public void testSetFailedLoginAttemptsClaim() throws Exception {
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put(CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM, "3");
+        listener.doPreSetUserClaimValues(USERNAME, claims, null, userStoreManager);
+        // Identity claims are removed from the map before the post listeners run.
+        claims.clear();
+        listener.doPostSetUserClaimValues(USERNAME, claims, null, userStoreManager);
+        verify(failedLoginAttemptCounter).clearFailedLoginAttempts(DOMAIN_QUALIFIED_USERNAME, TENANT_DOMAIN);
+
+        listener.doPreSetUserClaimValue(USERNAME, CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM, "0", null,
+                userStoreManager);
+        listener.doPostSetUserClaimValue(USERNAME, userStoreManager);
+        verify(failedLoginAttemptCounter, times(2)).clearFailedLoginAttempts(DOMAIN_QUALIFIED_USERNAME,
+                TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testSetOtherClaims() throws Exception {
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put("http://wso2.org/claims/lastname", "doe");
+        listener.doPreSetUserClaimValues(USERNAME, claims, null, userStoreManager);
+        listener.doPostSetUserClaimValues(USERNAME, claims, null, userStoreManager);
+
+        listener.doPreSetUserClaimValue(USERNAME, "http://wso2.org/claims/lastname", "doe", null,
+                userStoreManager);
+        listener.doPostSetUserClaimValue(USERNAME, userStoreManager);
+
+        listener.doPreDeleteUserClaimValues(USERNAME, new String[]{"http://wso2.org/claims/lastname"}, null,
+                userStoreManager);
+        listener.doPostDeleteUserClaimValues(USERNAME, userStoreManager);
+        verify(failedLoginAttemptCounter, never()).clearFailedLoginAttempts(anyString(), anyString());
+    }
+
+    @Test
+    public void testDeleteFailedLoginAttemptsClaimAndUser() throws Exception {
+
+        listener.doPreDeleteUserClaimValues(USERNAME, new String[]{CaptchaConstants.FAILED_LOGIN_ATTEMPTS_CLAIM},
+                null, userStoreManager);
+        listener.doPostDeleteUserClaimValues(USERNAME, userStoreManager);
+        verify(failedLoginAttemptCounter).clearFailedLoginAttempts(DOMAIN_QUALIFIED_USERNAME, TENANT_DOMAIN);
+
+        listener.doPostDeleteUser(USERNAME, userStoreManager);
+        verify(failedLoginAttemptCounter, times(2)).clearFailedLoginAttempts(DOMAIN_QUALIFIED_USERNAME,
+                TENANT_DOMAIN);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.captcha.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.captcha.exception.CaptchaClientException;
+import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit tests for CaptchaHttpClient.java against a local stub of the reCaptcha verify endpoint.
+ */
+public class CaptchaHttpClientTest {
+
+    private static final String VERIFY_PATH = "/recaptcha/api/siteverify";
+    private static final String VALID_TOKEN = "validToken";
+
+    private HttpServer verifyServer;
+    private final Set<Integer> clientPorts = new HashSet<>();
+    private int requestCount;
+
+    @BeforeClass
+    public void startVerifyServer() throws IOException {
+
+        verifyServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        verifyServer.createContext(VERIFY_PATH, this::handleVerifyRequest);
+        verifyServer.start();
+    }
+
+    @AfterClass
+    public void stopVerifyServer() {
+
+        CaptchaHttpClient.shutdown();
+        verifyServer.stop(0);
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        CaptchaHttpClient.shutdown();
+        synchronized (clientPorts) {
+            clientPorts.clear();
+            requestCount = 0;
+        }
+        CaptchaDataHolder.getInstance().setReCaptchaType(null);
+        CaptchaDataHolder.getInstance().setReCaptchaSecretKey("dummySecret");
+        CaptchaDataHolder.getInstance().setReCaptchaScoreThreshold(CaptchaConstants.CAPTCHA_V3_DEFAULT_THRESHOLD);
+        CaptchaDataHolder.getInstance().setReCaptchaWarnScoreThreshold(
+                CaptchaConstants.CAPTCHA_V3_DEFAULT_WARN_THRESHOLD);
+        CaptchaDataHolder.getInstance().setReCaptchaVerifyUrl("http://" +
+                verifyServer.getAddress().getHostString() + ":" + verifyServer.getAddress().getPort() + VERIFY_PATH);
+    }
+
+    @Test(description = "Verify that the pooled client reuses the connection for consecutive verifications.")
+    public void testIsValidCaptchaReusesConnection() throws Exception {
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(CaptchaUtil.isValidCaptcha(VALID_TOKEN));
+        }
+        synchronized (clientPorts) {
+            Assert.assertEquals(requestCount, 5);
+            Assert.assertEquals(clientPorts.size(), 1);
+        }
+    }
+
+    @Test(description = "Verify that the connection is released when the verification fails.")
+    public void testIsValidCaptchaWithInvalidToken() throws Exception {
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(CaptchaClientException.class, () -> CaptchaUtil.isValidCaptcha("invalidToken"));
+        }
+        Assert.assertTrue(CaptchaUtil.isValidCaptcha(VALID_TOKEN));
+        synchronized (clientPorts) {
+            Assert.assertEquals(requestCount, 4);
+            Assert.assertEquals(clientPorts.size(), 1);
+        }
+    }
+
+    @Test(description = "Verify that a new client is created after the shared client is shut down.")
+    public void testShutdown() throws Exception {
+
+        CaptchaHttpClient client = CaptchaHttpClient.getInstance();
+        Assert.assertSame(CaptchaHttpClient.getInstance(), client);
+        CaptchaHttpClient.shutdown();
+        Assert.assertNotSame(CaptchaHttpClient.getInstance(), client);
+        Assert.assertTrue(CaptchaUtil.isValidCaptcha(VALID_TOKEN));
+    }
+
+    private void handleVerifyRequest(HttpExchange exchange) throws IOException {
+
+        String requestBody = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+        synchronized (clientPorts) {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            requestCount++;
+        }
+        boolean success = requestBody.contains("response=" + VALID_TOKEN);
+        byte[] response = ("{\"success\": " + success + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+}
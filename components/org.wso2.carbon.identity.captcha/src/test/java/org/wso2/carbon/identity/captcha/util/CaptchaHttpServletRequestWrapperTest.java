@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.util;
+
+import org.apache.commons.io.IOUtils;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.captcha.exception.CaptchaRequestBodySizeExceededException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Unit tests for CaptchaHttpServletRequestWrapper.java.
+ */
+public class CaptchaHttpServletRequestWrapperTest {
+
+    private static final String BODY = "{\"key\":\"2d5d5f4d-8e3b-4a4d-9a43-0c5f2d8e6f1a\",\"answers\":[]}";
+
+    @Test
+    public void testBodyIsBufferedLazilyAndReplayed() throws IOException {
+
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        HttpServletRequest request = mockRequest(body, body.length);
+        CaptchaHttpServletRequestWrapper wrapper = new CaptchaHttpServletRequestWrapper(request, 1024);
+
+        Assert.assertFalse(wrapper.isBodyAccessed());
+        verify(request, never()).getInputStream();
+
+        Assert.assertEquals(IOUtils.toString(wrapper.getInputStream(), StandardCharsets.UTF_8), BODY);
+        Assert.assertEquals(IOUtils.toString(wrapper.getReader()), BODY);
+        Assert.assertTrue(wrapper.isBodyAccessed());
+        verify(request, times(1)).getInputStream();
+    }
+
+    @Test
+    public void testBulkReadOfBodyWithoutContentLength() throws IOException {
+
+        byte[] body = new byte[10000];
+        Arrays.fill(body, (byte) 'a');
+        CaptchaHttpServletRequestWrapper wrapper = new CaptchaHttpServletRequestWrapper(mockRequest(body, -1),
+                body.length);
+
+        byte[] read = new byte[body.length];
+        InputStream inputStream = wrapper.getInputStream();
+        Assert.assertEquals(IOUtils.read(inputStream, read, 0, read.length), body.length);
+        Assert.assertEquals(inputStream.read(), -1);
+        Assert.assertEquals(read, body);
+    }
+
+    @Test
+    public void testBodyLargerThanMaximumSizeIsRejected() throws IOException {
+
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+
+        // Rejected based on the declared content length.
+        HttpServletRequest request = mockRequest(body, body.length);
+        CaptchaHttpServletRequestWrapper wrapper = new CaptchaHttpServletRequestWrapper(request, body.length - 1);
+        assertThrows(CaptchaRequestBodySizeExceededException.class, wrapper::getInputStream);
+        Assert.assertTrue(wrapper.isBodySizeExceeded());
+        verify(request, never()).getInputStream();
+
+        // Rejected while reading a body without a declared content length.
+        wrapper = new CaptchaHttpServletRequestWrapper(mockRequest(body, -1), body.length - 1);
+        assertThrows(CaptchaRequestBodySizeExceededException.class, wrapper::getInputStream);
+        assertThrows(CaptchaRequestBodySizeExceededException.class, wrapper::getReader);
+        Assert.assertTrue(wrapper.isBodySizeExceeded());
+
+        // A body of exactly the maximum size is accepted.
+        wrapper = new CaptchaHttpServletRequestWrapper(mockRequest(body, -1), body.length);
+        Assert.assertEquals(IOUtils.toString(wrapper.getInputStream(), StandardCharsets.UTF_8), BODY);
+        Assert.assertFalse(wrapper.isBodySizeExceeded());
+    }
+
+    private HttpServletRequest mockRequest(byte[] body, int contentLength) throws IOException {
+
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+        when(request.getContentLength()).thenReturn(contentLength);
+        when(request.getInputStream()).thenReturn(new ServletInputStream() {
+
+            @Override
+            public int read() {
+
+                return inputStream.read();
+            }
+        });
+        return request;
+    }
+}
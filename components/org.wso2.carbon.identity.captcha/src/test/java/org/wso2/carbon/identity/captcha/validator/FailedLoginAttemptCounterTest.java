@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.captcha.validator;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.captcha.internal.cache.FailedLoginAttemptsCache;
+import org.wso2.carbon.identity.captcha.internal.cache.FailedLoginAttemptsCacheEntry;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for FailedLoginAttemptCounter.java.
+ */
+public class FailedLoginAttemptCounterTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "wso2.com";
+
+    private final Map<String, FailedLoginAttemptsCacheEntry> cacheEntries = new HashMap<>();
+    private MockedStatic<FailedLoginAttemptsCache> mockedFailedLoginAttemptsCache;
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        cacheEntries.clear();
+        FailedLoginAttemptsCache failedLoginAttemptsCache = Mockito.mock(FailedLoginAttemptsCache.class);
+        when(failedLoginAttemptsCache.getValueFromCache(any(StringCacheKey.class), anyString()))
+                .thenAnswer(invocation -> cacheEntries.get(getEntryKey(invocation.getArgument(0),
+                        invocation.getArgument(1))));
+        doAnswer(invocation -> cacheEntries.put(getEntryKey(invocation.getArgument(0), invocation.getArgument(2)),
+                invocation.getArgument(1))).when(failedLoginAttemptsCache)
+                .addToCache(any(StringCacheKey.class), any(FailedLoginAttemptsCacheEntry.class),
+                        anyString());
+        doAnswer(invocation -> cacheEntries.remove(getEntryKey(invocation.getArgument(0),
+                invocation.getArgument(1)))).when(failedLoginAttemptsCache)
+                .clearCacheEntry(any(StringCacheKey.class), anyString());
+
+        mockedFailedLoginAttemptsCache = Mockito.mockStatic(FailedLoginAttemptsCache.class);
+        mockedFailedLoginAttemptsCache.when(FailedLoginAttemptsCache::getInstance).thenReturn(failedLoginAttemptsCache);
+        mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
+        mockedIdentityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn("PRIMARY");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedFailedLoginAttemptsCache.close();
+        mockedIdentityUtil.close();
+    }
+
+    @Test
+    public void testFailedLoginAttemptsAreTenantScoped() {
+
+        FailedLoginAttemptCounter counter = FailedLoginAttemptCounter.getInstance();
+        Assert.assertNull(counter.getFailedLoginAttempts("john", TENANT_DOMAIN));
+
+        counter.addFailedLoginAttempts("john", TENANT_DOMAIN, 2, counter.getLoadStamp("john", TENANT_DOMAIN));
+        Assert.assertEquals(counter.getFailedLoginAttempts("john", TENANT_DOMAIN), Integer.valueOf(2));
+        // Users of the primary user store match with and without the domain.
+        Assert.assertEquals(counter.getFailedLoginAttempts("PRIMARY/john", TENANT_DOMAIN), Integer.valueOf(2));
+        Assert.assertNull(counter.getFailedLoginAttempts("SECONDARY/john", TENANT_DOMAIN));
+        Assert.assertNull(counter.getFailedLoginAttempts("john", OTHER_TENANT_DOMAIN));
+
+        counter.clearFailedLoginAttempts("PRIMARY/john", TENANT_DOMAIN);
+        Assert.assertNull(counter.getFailedLoginAttempts("john", TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testFailedLoginAttemptsReadBeforeClearAreDiscarded() {
+
+        FailedLoginAttemptCounter counter = FailedLoginAttemptCounter.getInstance();
+
+        // The claim of the user changes while its previous value is being read from the user store.
+        long loadStamp = counter.getLoadStamp("SECONDARY/alex", TENANT_DOMAIN);
+        counter.clearFailedLoginAttempts("SECONDARY/alex", TENANT_DOMAIN);
+        counter.addFailedLoginAttempts("SECONDARY/alex", TENANT_DOMAIN, 1, loadStamp);
+        Assert.assertNull(counter.getFailedLoginAttempts("SECONDARY/alex", TENANT_DOMAIN));
+
+        counter.addFailedLoginAttempts("SECONDARY/alex", TENANT_DOMAIN, 3,
+                counter.getLoadStamp("SECONDARY/alex", TENANT_DOMAIN));
+        Assert.assertEquals(counter.getFailedLoginAttempts("SECONDARY/alex", TENANT_DOMAIN), Integer.valueOf(3));
+    }
+
+    @Test
+    public void testFailedLoginAttemptsAreNotDiscardedByClearOfOtherUsers() {
+
+        FailedLoginAttemptCounter counter = FailedLoginAttemptCounter.getInstance();
+
+        // Claims of other users change while the claim of the user is being read from the user store.
+        long loadStamp = counter.getLoadStamp("SECONDARY/alex", TENANT_DOMAIN);
+        counter.clearFailedLoginAttempts("SECONDARY/sam", TENANT_DOMAIN);
+        counter.clearFailedLoginAttempts("SECONDARY/alex", OTHER_TENANT_DOMAIN);
+        counter.addFailedLoginAttempts("SECONDARY/alex", TENANT_DOMAIN, 2, loadStamp);
+        Assert.assertEquals(counter.getFailedLoginAttempts("SECONDARY/alex", TENANT_DOMAIN), Integer.valueOf(2));
+    }
+
+    private String getEntryKey(StringCacheKey cacheKey, String tenantDomain) {
+
+        return tenantDomain + ":" + cacheKey.getValue();
+    }
+}
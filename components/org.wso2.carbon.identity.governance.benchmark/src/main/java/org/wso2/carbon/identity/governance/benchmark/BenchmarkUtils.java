@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.benchmark;
+
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.jdbc.JDBCUserStoreManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Utilities shared by the benchmarks.
+ */
+public class BenchmarkUtils {
+
+    static final String[] IDENTITY_CLAIM_URIS = {
+            "http://wso2.org/claims/identity/accountLocked",
+            "http://wso2.org/claims/identity/failedLoginAttempts",
+            "http://wso2.org/claims/identity/lastLogonTime",
+            "http://wso2.org/claims/identity/lastPasswordUpdateTime",
+            "http://wso2.org/claims/identity/accountState"
+    };
+
+    private BenchmarkUtils() {
+
+    }
+
+    /**
+     * Build a primary domain user store manager stub. The stub does not record invocations, hence it does not
+     * accumulate state over the benchmark iterations.
+     *
+     * @param tenantId Tenant id of the user store manager.
+     * @return User store manager.
+     * @throws Exception If an error occurred while stubbing the user store manager.
+     */
+    static UserStoreManager mockUserStoreManager(int tenantId) throws Exception {
+
+        RealmConfiguration realmConfiguration = new RealmConfiguration();
+        Map<String, String> userStoreProperties = new HashMap<>();
+        userStoreProperties.put(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME,
+                UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME);
+        realmConfiguration.setUserStoreProperties(userStoreProperties);
+
+        UserStoreManager userStoreManager = mock(JDBCUserStoreManager.class, withSettings().stubOnly());
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(userStoreManager.getTenantId()).thenReturn(tenantId);
+        return userStoreManager;
+    }
+
+    /**
+     * Build a set of identity claims with the given suffix as the claim values.
+     *
+     * @param suffix Suffix of the claim values.
+     * @return Identity claims.
+     */
+    static Map<String, String> buildIdentityClaims(long suffix) {
+
+        Map<String, String> identityClaims = new HashMap<>();
+        for (String claimURI : IDENTITY_CLAIM_URIS) {
+            identityClaims.put(claimURI, String.valueOf(suffix));
+        }
+        return identityClaims;
+    }
+}
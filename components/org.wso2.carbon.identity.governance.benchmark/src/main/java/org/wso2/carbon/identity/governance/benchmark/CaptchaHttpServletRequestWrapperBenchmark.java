@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.captcha.util.CaptchaHttpServletRequestWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks buffering of the request body by the captcha request wrapper and reading the buffered body back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CaptchaHttpServletRequestWrapperBenchmark {
+
+    @Param({"512", "16384", "1048576"})
+    private int bodySize;
+
+    private HttpServletRequest request;
+    private final byte[] readBuffer = new byte[4096];
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        byte[] body = new byte[bodySize];
+        Arrays.fill(body, (byte) 'a');
+        request = mock(HttpServletRequest.class, withSettings().stubOnly());
+        when(request.getInputStream()).thenAnswer(invocation -> new ByteArrayServletInputStream(body));
+    }
+
+    @Benchmark
+    public CaptchaHttpServletRequestWrapper wrapRequest() throws IOException {
+
+        return new CaptchaHttpServletRequestWrapper(request);
+    }
+
+    @Benchmark
+    public long wrapRequestAndReadBody() throws IOException {
+
+        CaptchaHttpServletRequestWrapper requestWrapper = new CaptchaHttpServletRequestWrapper(request);
+        long totalRead = 0;
+        try (InputStream inputStream = requestWrapper.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(readBuffer)) != -1) {
+                totalRead += read;
+            }
+        }
+        return totalRead;
+    }
+
+    private static class ByteArrayServletInputStream extends ServletInputStream {
+
+        private final InputStream inputStream;
+
+        ByteArrayServletInputStream(byte[] body) {
+
+            this.inputStream = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            return inputStream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+
+            return inputStream.read(b, off, len);
+        }
+    }
+}
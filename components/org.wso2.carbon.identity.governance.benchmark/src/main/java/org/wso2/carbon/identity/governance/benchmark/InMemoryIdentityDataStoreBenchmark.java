@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.benchmark;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.store.InMemoryIdentityDataStore;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks storing and loading identity claims through the identity data store cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InMemoryIdentityDataStoreBenchmark {
+
+    private static final String USERNAME = "benchmarkUser";
+
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
+    private UserStoreManager userStoreManager;
+    private InMemoryIdentityDataStore identityDataStore;
+    private UserIdentityClaim userIdentityClaim;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        // Caches are tenant scoped, hence the carbon context is initialized on the benchmark thread.
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, Files.createTempDirectory("carbon-home").toString());
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+
+        mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class, withSettings().stubOnly());
+        mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreCaseSensitive(any(UserStoreManager.class)))
+                .thenReturn(true);
+        mockedIdentityUtil.when(() -> IdentityUtil.isUseCaseSensitiveUsernameForCacheKeys(
+                any(UserStoreManager.class))).thenReturn(true);
+
+        userStoreManager = BenchmarkUtils.mockUserStoreManager(MultitenantConstants.SUPER_TENANT_ID);
+        identityDataStore = new InMemoryIdentityDataStore();
+        userIdentityClaim = new UserIdentityClaim(USERNAME, BenchmarkUtils.buildIdentityClaims(0));
+        identityDataStore.store(userIdentityClaim, userStoreManager);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        mockedIdentityUtil.close();
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    @Benchmark
+    public void store() throws IdentityException {
+
+        identityDataStore.store(userIdentityClaim, userStoreManager);
+    }
+
+    @Benchmark
+    public UserIdentityClaim load() {
+
+        return identityDataStore.load(USERNAME, userStoreManager);
+    }
+}
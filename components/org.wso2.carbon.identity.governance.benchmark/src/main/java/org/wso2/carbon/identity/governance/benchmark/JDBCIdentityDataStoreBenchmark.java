@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.benchmark;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityDataStoreCache;
+import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.store.JDBCIdentityDataStore;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks the identity claim operations of the JDBC identity data store against an embedded H2 database. The
+ * identity data store cache is bypassed so that every operation reaches the database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JDBCIdentityDataStoreBenchmark {
+
+    private static final int TENANT_ID = 1;
+    private static final String USERNAME_PREFIX = "benchmarkUser";
+    private static final String DB_URL = "jdbc:h2:mem:identity_benchmark;DB_CLOSE_DELAY=-1";
+
+    @Param({"1000"})
+    private int userCount;
+
+    @Param({"100"})
+    private int bulkLoadSize;
+
+    private JdbcConnectionPool connectionPool;
+    private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
+    private MockedStatic<IdentityDataStoreCache> mockedIdentityDataStoreCache;
+    private UserStoreManager userStoreManager;
+    private JDBCIdentityDataStore identityDataStore;
+    private List<String> bulkLoadUserNames;
+    private long storeCount;
+    private int loadCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        connectionPool = JdbcConnectionPool.create(DB_URL, "sa", "");
+        try (Connection connection = connectionPool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:/dbscripts/h2.sql'");
+        }
+        insertUsers();
+
+        mockedIdentityDatabaseUtil = Mockito.mockStatic(IdentityDatabaseUtil.class, withSettings().stubOnly());
+        mockedIdentityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenAnswer(invocation ->
+                getConnection(false));
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenAnswer(
+                invocation -> getConnection(invocation.getArgument(0)));
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    Connection connection = invocation.getArgument(0);
+                    if (!connection.getAutoCommit()) {
+                        connection.commit();
+                    }
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.rollbackTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    Connection connection = invocation.getArgument(0);
+                    if (!connection.getAutoCommit()) {
+                        connection.rollback();
+                    }
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeConnection(any(Connection.class)))
+                .thenAnswer(invocation -> close(invocation.getArgument(0)));
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeStatement(any(PreparedStatement.class)))
+                .thenAnswer(invocation -> close(invocation.getArgument(0)));
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeResultSet(any(ResultSet.class)))
+                .thenAnswer(invocation -> close(invocation.getArgument(0)));
+
+        mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class, withSettings().stubOnly());
+        mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(true);
+        mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreCaseSensitive(any(UserStoreManager.class)))
+                .thenReturn(true);
+        mockedIdentityUtil.when(() -> IdentityUtil.isUseCaseSensitiveUsernameForCacheKeys(
+                any(UserStoreManager.class))).thenReturn(true);
+
+        mockedIdentityDataStoreCache = Mockito.mockStatic(IdentityDataStoreCache.class, withSettings().stubOnly());
+        mockedIdentityDataStoreCache.when(IdentityDataStoreCache::getInstance).thenReturn(
+                mock(IdentityDataStoreCache.class, withSettings().stubOnly()));
+
+        userStoreManager = BenchmarkUtils.mockUserStoreManager(TENANT_ID);
+        identityDataStore = new JDBCIdentityDataStore();
+        bulkLoadUserNames = new ArrayList<>(bulkLoadSize);
+        for (int i = 0; i < bulkLoadSize; i++) {
+            bulkLoadUserNames.add(USERNAME_PREFIX + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+
+        mockedIdentityDataStoreCache.close();
+        mockedIdentityUtil.close();
+        mockedIdentityDatabaseUtil.close();
+        try (Connection connection = connectionPool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connectionPool.dispose();
+    }
+
+    @Benchmark
+    public UserIdentityClaim load() {
+
+        loadCount = (loadCount + 1) % userCount;
+        return identityDataStore.load(USERNAME_PREFIX + loadCount, userStoreManager);
+    }
+
+    @Benchmark
+    public Map<String, UserIdentityClaim> loadUsers() {
+
+        return identityDataStore.loadUsers(bulkLoadUserNames, userStoreManager);
+    }
+
+    @Benchmark
+    public void store() throws IdentityException {
+
+        // Claim values change on each invocation so that the existing claims are updated.
+        storeCount++;
+        identityDataStore.store(new UserIdentityClaim(USERNAME_PREFIX + (storeCount % userCount),
+                BenchmarkUtils.buildIdentityClaims(storeCount)), userStoreManager);
+    }
+
+    private void insertUsers() throws SQLException {
+
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement prepStmt = connection.prepareStatement("INSERT INTO IDN_IDENTITY_USER_DATA " +
+                     "(TENANT_ID, USER_NAME, DATA_KEY, DATA_VALUE) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < userCount; i++) {
+                String userName = UserCoreUtil.addDomainToName(USERNAME_PREFIX + i,
+                        UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME);
+                for (String claimURI : BenchmarkUtils.IDENTITY_CLAIM_URIS) {
+                    prepStmt.setInt(1, TENANT_ID);
+                    prepStmt.setString(2, userName);
+                    prepStmt.setString(3, claimURI);
+                    prepStmt.setString(4, String.valueOf(i));
+                    prepStmt.addBatch();
+                }
+            }
+            prepStmt.executeBatch();
+        }
+    }
+
+    private Connection getConnection(boolean autoCommit) throws SQLException {
+
+        Connection connection = connectionPool.getConnection();
+        connection.setAutoCommit(autoCommit);
+        return connection;
+    }
+
+    private static Object close(AutoCloseable closeable) throws Exception {
+
+        if (closeable != null) {
+            closeable.close();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorException;
+import org.wso2.carbon.identity.governance.internal.service.impl.otp.DefaultOTPGenerator;
+import org.wso2.carbon.identity.governance.internal.service.impl.otp.OTPGeneratorImpl;
+import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks OTP generation of the OTP generators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OTPGeneratorBenchmark {
+
+    private static final String RECOVERY_SCENARIO = "PASSWORD_RECOVERY";
+    private static final String OTP_CHARACTER_SET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+
+    @Param({"6", "10"})
+    private int otpLength;
+
+    private final OTPGenerator otpGenerator = new OTPGeneratorImpl();
+    private final OTPGenerator defaultOTPGenerator = new DefaultOTPGenerator();
+
+    @Benchmark
+    public String generateOTPWithCharacterTypes() throws OTPGeneratorException {
+
+        return otpGenerator.generateOTP(true, true, true, otpLength, RECOVERY_SCENARIO);
+    }
+
+    @Benchmark
+    public String generateOTPWithCharacterSet() throws OTPGeneratorException {
+
+        return otpGenerator.generateOTP(OTP_CHARACTER_SET, otpLength, RECOVERY_SCENARIO);
+    }
+
+    @Benchmark
+    public String generateDefaultOTPWithCharacterTypes() throws OTPGeneratorException {
+
+        return defaultOTPGenerator.generateOTP(true, true, true, otpLength, RECOVERY_SCENARIO);
+    }
+
+    @Benchmark
+    public String generateDefaultOTPWithCharacterSet() throws OTPGeneratorException {
+
+        return defaultOTPGenerator.generateOTP(OTP_CHARACTER_SET, otpLength, RECOVERY_SCENARIO);
+    }
+}
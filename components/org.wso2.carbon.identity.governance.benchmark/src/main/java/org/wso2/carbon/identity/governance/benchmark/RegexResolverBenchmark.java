@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.benchmark;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.RegexResolver;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaim;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaimsCache;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaimsCacheEntry;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.utils.UserResolverUtil;
+import org.wso2.carbon.user.api.Claim;
+import org.wso2.carbon.user.core.UniqueIDUserStoreManager;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.claim.ClaimManager;
+import org.wso2.carbon.user.core.common.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks resolving a user from a login identifier with the regex based multi attribute login resolver. The user
+ * store lookups are stubbed, hence the benchmark covers the claim resolution and the regex matching.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RegexResolverBenchmark {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String USERNAME_CLAIM_URI = "http://wso2.org/claims/username";
+    private static final String EMAIL_CLAIM_URI = "http://wso2.org/claims/emailaddress";
+    private static final String MOBILE_CLAIM_URI = "http://wso2.org/claims/mobile";
+    private static final String USERNAME_CLAIM_REGEX = "^[a-zA-Z0-9._-]{3,30}$";
+    private static final String EMAIL_CLAIM_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+    private static final String MOBILE_CLAIM_REGEX = "^\\+?\\d{7,15}$";
+    private static final List<String> ALLOWED_ATTRIBUTES = Collections.unmodifiableList(Arrays.asList(
+            USERNAME_CLAIM_URI, EMAIL_CLAIM_URI, MOBILE_CLAIM_URI));
+
+    /*
+    Whether the resolved login claims of the tenant are served from the cache. When false, the claim metadata is
+    read and the patterns are compiled on every resolution.
+    */
+    @Param({"true", "false"})
+    private boolean cachedLoginClaims;
+
+    @Param({"john.doe@example.com", "+94771234567", "john.doe"})
+    private String loginIdentifier;
+
+    private MockedStatic<UserResolverUtil> mockedUserResolverUtil;
+    private MockedStatic<ResolvedLoginClaimsCache> mockedResolvedLoginClaimsCache;
+    private RegexResolver regexResolver;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        User user = new User();
+        user.setUserID("8b1b4c3e-5e4c-4e1c-9d6a-1f1b8e2d7c11");
+        user.setUsername("john.doe");
+        user.setUserStoreDomain("PRIMARY");
+
+        UniqueIDUserStoreManager userStoreManager = mock(UniqueIDUserStoreManager.class, withSettings().stubOnly());
+        when(userStoreManager.getUserListWithID(anyString(), eq(loginIdentifier), any()))
+                .thenAnswer(invocation -> new ArrayList<>(Collections.singletonList(user)));
+        when(userStoreManager.getUserListWithID(eq(USERNAME_CLAIM_URI), eq(loginIdentifier), any()))
+                .thenAnswer(invocation -> "john.doe".equals(loginIdentifier) ?
+                        new ArrayList<>(Collections.singletonList(user)) : new ArrayList<>());
+
+        ClaimManager claimManager = mock(ClaimManager.class, withSettings().stubOnly());
+        when(claimManager.getClaim(USERNAME_CLAIM_URI)).thenReturn(buildClaim(USERNAME_CLAIM_URI, "Username",
+                USERNAME_CLAIM_REGEX));
+        when(claimManager.getClaim(EMAIL_CLAIM_URI)).thenReturn(buildClaim(EMAIL_CLAIM_URI, "Email",
+                EMAIL_CLAIM_REGEX));
+        when(claimManager.getClaim(MOBILE_CLAIM_URI)).thenReturn(buildClaim(MOBILE_CLAIM_URI, "Mobile",
+                MOBILE_CLAIM_REGEX));
+        UserRealm userRealm = mock(UserRealm.class, withSettings().stubOnly());
+        when(userRealm.getClaimManager()).thenReturn(claimManager);
+
+        mockedUserResolverUtil = Mockito.mockStatic(UserResolverUtil.class, withSettings().stubOnly());
+        mockedUserResolverUtil.when(() -> UserResolverUtil.getUserStoreManager(TENANT_DOMAIN))
+                .thenReturn(userStoreManager);
+        mockedUserResolverUtil.when(() -> UserResolverUtil.getUserRealm(TENANT_DOMAIN)).thenReturn(userRealm);
+
+        ResolvedLoginClaimsCache resolvedLoginClaimsCache = mock(ResolvedLoginClaimsCache.class,
+                withSettings().stubOnly());
+        if (cachedLoginClaims) {
+            ResolvedLoginClaimsCacheEntry resolvedLoginClaims = new ResolvedLoginClaimsCacheEntry(ALLOWED_ATTRIBUTES,
+                    Arrays.asList(new ResolvedLoginClaim(USERNAME_CLAIM_URI, "Username", USERNAME_CLAIM_REGEX),
+                            new ResolvedLoginClaim(EMAIL_CLAIM_URI, "Email", EMAIL_CLAIM_REGEX),
+                            new ResolvedLoginClaim(MOBILE_CLAIM_URI, "Mobile", MOBILE_CLAIM_REGEX)));
+            when(resolvedLoginClaimsCache.getValueFromCache(any(StringCacheKey.class),
+                    eq(TENANT_DOMAIN))).thenReturn(resolvedLoginClaims);
+        }
+        mockedResolvedLoginClaimsCache = Mockito.mockStatic(ResolvedLoginClaimsCache.class,
+                withSettings().stubOnly());
+        mockedResolvedLoginClaimsCache.when(ResolvedLoginClaimsCache::getInstance)
+                .thenReturn(resolvedLoginClaimsCache);
+
+        regexResolver = new RegexResolver();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        mockedResolvedLoginClaimsCache.close();
+        mockedUserResolverUtil.close();
+    }
+
+    @Benchmark
+    public ResolvedUserResult resolveUser() {
+
+        return regexResolver.resolveUser(loginIdentifier, ALLOWED_ATTRIBUTES, TENANT_DOMAIN);
+    }
+
+    private static Claim buildClaim(String claimURI, String displayTag, String regEx) {
+
+        Claim claim = new Claim();
+        claim.setClaimUri(claimURI);
+        claim.setDisplayTag(displayTag);
+        claim.setRegEx(regEx);
+        return claim;
+    }
+}
@@ -29,8 +29,11 @@ import org.wso2.carbon.identity.application.common.util.IdentityApplicationConst
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
 import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.governance.exceptions.general.IdentityGovernanceClientException;
 import org.wso2.carbon.identity.governance.internal.IdentityMgtServiceDataHolder;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCache;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCacheEntry;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdpManager;
@@ -39,6 +42,7 @@ import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -106,6 +110,7 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
             residentIdp.setFederatedAuthenticatorConfigs(configsToSave.toArray(new
                     FederatedAuthenticatorConfig[configsToSave.size()]));
             identityProviderManager.updateResidentIdP(residentIdp, tenantDomain);
+            clearConfigurationSnapshot(tenantDomain);
         } catch (IdentityProviderManagementClientException e) {
             log.debug("Client error while updating identityManagement properties of Resident IdP.", e);
             throw new IdentityGovernanceClientException(e.getMessage(), e);
@@ -117,8 +122,47 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
     @Override
     public Property[] getConfiguration(String tenantDomain) throws IdentityGovernanceException {
 
+        return getConfigurationSnapshot(tenantDomain).toProperties();
+    }
+
+    @Override
+    public Property[] getConfiguration(String[] propertyNames, String tenantDomain) throws
+            IdentityGovernanceException {
+
+        IdentityGovernanceConfigCacheEntry configSnapshot = getConfigurationSnapshot(tenantDomain);
+        List<Property> requestedProperties = new ArrayList<>(propertyNames.length);
+        for (String propertyName : propertyNames) {
+            Property property = configSnapshot.toProperty(propertyName);
+            if (property != null) {
+                requestedProperties.add(property);
+            }
+        }
+        return requestedProperties.toArray(new Property[0]);
+    }
+
+    /**
+     * Get the governance configuration snapshot of the tenant. The snapshot is built from the resident identity
+     * provider on a cache miss and served from the cache until the configuration gets updated.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Configuration snapshot of the tenant.
+     * @throws IdentityGovernanceException If an error occurred while retrieving the resident identity provider.
+     */
+    private IdentityGovernanceConfigCacheEntry getConfigurationSnapshot(String tenantDomain)
+            throws IdentityGovernanceException {
+
+        IdentityGovernanceConfigCache configCache = IdentityGovernanceConfigCache.getInstance();
+        StringCacheKey cacheKey = new StringCacheKey(tenantDomain);
+        IdentityGovernanceConfigCacheEntry configSnapshot = configCache.getValueFromCache(cacheKey, tenantDomain);
+        if (configSnapshot != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Governance configurations of tenant: " + tenantDomain + " are loaded from the cache.");
+            }
+            return configSnapshot;
+        }
+
         IdpManager identityProviderManager = IdentityMgtServiceDataHolder.getInstance().getIdpManager();
-        IdentityProvider residentIdp = null;
+        IdentityProvider residentIdp;
         try {
             residentIdp = identityProviderManager.getResidentIdP(tenantDomain);
         } catch (IdentityProviderManagementException e) {
@@ -126,40 +170,31 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
             throw new IdentityGovernanceException(errorMsg, e);
         }
         IdentityProviderProperty[] identityMgtProperties = residentIdp.getIdpProperties();
-        Property[] configMap = new Property[identityMgtProperties.length];
-        int index = 0;
+        Map<String, String> configProperties = new LinkedHashMap<>();
         for (IdentityProviderProperty identityMgtProperty : identityMgtProperties) {
             if (IdentityEventConstants.PropertyConfig.ALREADY_WRITTEN_PROPERTY_KEY
                     .equals(identityMgtProperty.getName())) {
                 continue;
             }
-            Property property = new Property();
-            property.setName(identityMgtProperty.getName());
-            property.setValue(identityMgtProperty.getValue());
-            configMap[index] = property;
-            index++;
+            configProperties.put(identityMgtProperty.getName(), identityMgtProperty.getValue());
         }
-
-        return configMap;
+        configSnapshot = new IdentityGovernanceConfigCacheEntry(configProperties);
+        configCache.addToCache(cacheKey, configSnapshot, tenantDomain);
+        return configSnapshot;
     }
 
-    @Override
-    public Property[] getConfiguration(String[] propertyNames, String tenantDomain) throws
-            IdentityGovernanceException {
-
-        List<Property> requestedProperties = new ArrayList<>();
-        Property[] allProperties = getConfiguration(tenantDomain);
-        for (String propertyName : propertyNames) {
-            for (int i = 0; i < allProperties.length; i++) {
-                if (propertyName.equals(allProperties[i].getName())) {
-                    requestedProperties.add(allProperties[i]);
-                    break;
-                }
-            }
+    /**
+     * Clear the governance configuration snapshot of the tenant. Removing the cache entry also invalidates the
+     * snapshot in the other nodes of the cluster.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearConfigurationSnapshot(String tenantDomain) {
 
+        IdentityGovernanceConfigCache.getInstance().clearCacheEntry(new StringCacheKey(tenantDomain), tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Cleared the governance configuration snapshot of tenant: " + tenantDomain);
         }
-        return requestedProperties.toArray(new Property[requestedProperties.size()]);
-
     }
 
     public List<IdentityConnectorConfig> getConnectorList() throws IdentityGovernanceException {
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.common;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache entry holding values mapped to names, which are resolved one at a time. A cached entry is never modified,
+ * as it may be read concurrently and replicated to the other nodes. An entry with an additional value is built with
+ * {@link #with(String, Serializable)} and put to the cache in place of the previous entry.
+ *
+ * @param <V> Type of the values.
+ */
+public class CopyOnWriteCacheEntry<V extends Serializable> extends CacheEntry {
+
+    private static final long serialVersionUID = -4127384566601358247L;
+    private final Map<String, V> values;
+
+    public CopyOnWriteCacheEntry() {
+
+        this.values = Collections.emptyMap();
+    }
+
+    private CopyOnWriteCacheEntry(Map<String, V> values) {
+
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Get the value mapped to the given name.
+     *
+     * @param name Name of the value.
+     * @return Value or null if no value is mapped to the name.
+     */
+    public V getValue(String name) {
+
+        return values.get(name);
+    }
+
+    /**
+     * Build a new entry with the values of this entry and the given value.
+     *
+     * @param name  Name of the value.
+     * @param value Value.
+     * @return New entry.
+     */
+    public CopyOnWriteCacheEntry<V> with(String name, V value) {
+
+        Map<String, V> newValues = new HashMap<>(values);
+        newValues.put(name, value);
+        return new CopyOnWriteCacheEntry<>(newValues);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.common;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared provider of message digests for hashing confirmation codes and password history entries.
+ * <p>
+ * Looking up a {@link MessageDigest} walks the registered security providers on every call. Instead, a digest of
+ * each algorithm is looked up once and kept as a prototype, and callers get a clone of it. Nothing is kept per
+ * thread, so pooled threads do not retain digests or security provider classes after the bundle is stopped.
+ */
+public final class MessageDigestProvider {
+
+    private static final ConcurrentMap<String, MessageDigest> PROTOTYPES = new ConcurrentHashMap<>();
+
+    private MessageDigestProvider() {
+
+    }
+
+    /**
+     * Get a new message digest of the given algorithm. The digest is owned by the caller.
+     *
+     * @param algorithm Digest algorithm.
+     * @return Message digest in the initial state.
+     * @throws NoSuchAlgorithmException If the algorithm is not supported.
+     */
+    public static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+
+        MessageDigest prototype = PROTOTYPES.get(algorithm);
+        if (prototype == null) {
+            // Resolve the algorithm before registering it, so unsupported algorithms are not kept.
+            MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
+            try {
+                PROTOTYPES.putIfAbsent(algorithm, (MessageDigest) messageDigest.clone());
+            } catch (CloneNotSupportedException e) {
+                // Digests of this algorithm cannot be cloned, hence they are looked up on each call.
+            }
+            return messageDigest;
+        }
+        try {
+            // The prototype is never updated, hence it can be cloned concurrently.
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return MessageDigest.getInstance(algorithm);
+        }
+    }
+
+    /**
+     * Compute the digest of the given input.
+     *
+     * @param algorithm Digest algorithm.
+     * @param input     Input to be hashed.
+     * @return Digest of the input.
+     * @throws NoSuchAlgorithmException If the algorithm is not supported.
+     */
+    public static byte[] digest(String algorithm, byte[] input) throws NoSuchAlgorithmException {
+
+        return getMessageDigest(algorithm).digest(input);
+    }
+}
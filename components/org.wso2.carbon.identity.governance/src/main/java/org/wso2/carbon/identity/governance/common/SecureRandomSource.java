@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Shared source of secure random values for OTPs, generated passwords and salts.
+ * <p>
+ * Creating a {@link SecureRandom} seeds it from the entropy source of the platform, hence creating one per value
+ * contends on the entropy source under load. A single DRBG instance is shared instead, which is thread safe and
+ * reseeds itself as required.
+ */
+public final class SecureRandomSource {
+
+    private static final Log log = LogFactory.getLog(SecureRandomSource.class);
+    private static final String RANDOM_ALG_DRBG = "DRBG";
+    private static final SecureRandom SECURE_RANDOM = createSecureRandom();
+
+    private SecureRandomSource() {
+
+    }
+
+    /**
+     * Get the shared secure random.
+     *
+     * @return Secure random.
+     */
+    public static SecureRandom getSecureRandom() {
+
+        return SECURE_RANDOM;
+    }
+
+    /**
+     * Generate a random string of the characters of the given alphabet.
+     *
+     * @param alphabet Characters allowed in the string.
+     * @param length   Length of the string.
+     * @return Random string.
+     */
+    public static String generateString(String alphabet, int length) {
+
+        char[] characters = new char[length];
+        for (int i = 0; i < length; i++) {
+            characters[i] = alphabet.charAt(SECURE_RANDOM.nextInt(alphabet.length()));
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Generate random bytes.
+     *
+     * @param length Number of bytes.
+     * @return Random bytes.
+     */
+    public static byte[] generateBytes(int length) {
+
+        byte[] bytes = new byte[length];
+        SECURE_RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static SecureRandom createSecureRandom() {
+
+        try {
+            return SecureRandom.getInstance(RANDOM_ALG_DRBG);
+        } catch (NoSuchAlgorithmException e) {
+            if (log.isDebugEnabled()) {
+                log.debug(RANDOM_ALG_DRBG + " algorithm is not available. Hence using the default secure random.");
+            }
+            return new SecureRandom();
+        }
+    }
+}
@@ -37,19 +37,27 @@ import org.wso2.carbon.identity.governance.internal.service.impl.otp.OTPGenerato
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreServiceImpl;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannelManager;
+import org.wso2.carbon.identity.governance.listener.IdentityGovernanceConfigCacheListener;
 import org.wso2.carbon.identity.governance.listener.IdentityMgtEventListener;
 import org.wso2.carbon.identity.governance.listener.IdentityStoreEventListener;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
+import org.wso2.carbon.identity.governance.store.TimestampClaimIndex;
+import org.wso2.carbon.identity.governance.store.TimestampClaimIndexMigrationTask;
 import org.wso2.carbon.idp.mgt.IdpManager;
+import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Component(
         name = "org.wso2.carbon.identity.governance.internal.IdentityMgtServiceComponent",
         immediate = true)
 public class IdentityMgtServiceComponent {
 
     private static final Log log = LogFactory.getLog(IdentityMgtServiceComponent.class);
+    private ExecutorService timestampClaimIndexMigrationExecutor;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -62,12 +70,24 @@ public class IdentityMgtServiceComponent {
             context.getBundleContext()
                     .registerService(IdentityDataStoreService.class.getName(), identityDataStoreService, null);
             IdentityMgtServiceDataHolder.getInstance().setIdentityDataStoreService(identityDataStoreService);
+            if (TimestampClaimIndex.isMigrateOnStartupEnabled() &&
+                    !identityDataStoreService.isUserStoreBasedIdentityDataStore()) {
+                // Index the existing timestamp claim values without delaying the activation.
+                timestampClaimIndexMigrationExecutor = Executors.newSingleThreadExecutor();
+                timestampClaimIndexMigrationExecutor.execute(new TimestampClaimIndexMigrationTask());
+            } else if (TimestampClaimIndex.isEnabled()) {
+                log.warn("The timestamp claim index is not backfilled as " +
+                        TimestampClaimIndex.TIMESTAMP_INDEX_MIGRATE_ON_STARTUP + " is disabled. The timestamp " +
+                        "claims are filtered without the index.");
+            }
             context.getBundleContext().registerService(UserOperationEventListener.class, new
                     IdentityStoreEventListener(), null);
             IdentityGovernanceServiceImpl identityGovernanceService = new IdentityGovernanceServiceImpl();
             context.getBundleContext().registerService(IdentityGovernanceService.class, identityGovernanceService,
                     null);
             IdentityMgtServiceDataHolder.getInstance().setIdentityGovernanceService(identityGovernanceService);
+            context.getBundleContext().registerService(IdentityProviderMgtListener.class,
+                    new IdentityGovernanceConfigCacheListener(), null);
             DefaultNotificationChannelManager defaultNotificationChannelManager =
                     new DefaultNotificationChannelManager();
             context.getBundleContext()
@@ -87,6 +107,10 @@ public class IdentityMgtServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        if (timestampClaimIndexMigrationExecutor != null) {
+            timestampClaimIndexMigrationExecutor.shutdownNow();
+            timestampClaimIndexMigrationExecutor = null;
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.internal.cache;
+
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the governance connector properties of a tenant. Property values are kept in the order
+ * they are defined in the resident identity provider and can be looked up by name in constant time.
+ */
+public class IdentityGovernanceConfigCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 5127489303617452146L;
+    private final Map<String, String> properties;
+
+    public IdentityGovernanceConfigCacheEntry(Map<String, String> properties) {
+
+        this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+    }
+
+    /**
+     * Get the value of the given property.
+     *
+     * @param propertyName Name of the property.
+     * @return Value of the property or null if the property is not available in the snapshot.
+     */
+    public String getPropertyValue(String propertyName) {
+
+        return properties.get(propertyName);
+    }
+
+    /**
+     * Check whether the given property is available in the snapshot.
+     *
+     * @param propertyName Name of the property.
+     * @return True if the property is available.
+     */
+    public boolean containsProperty(String propertyName) {
+
+        return properties.containsKey(propertyName);
+    }
+
+    /**
+     * Get all the properties of the snapshot as an unmodifiable map.
+     *
+     * @return Property name to value mapping.
+     */
+    public Map<String, String> getProperties() {
+
+        return properties;
+    }
+
+    /**
+     * Build a new property array from the snapshot. A fresh copy is returned on each call so that callers can not
+     * modify the cached state.
+     *
+     * @return Properties of the snapshot.
+     */
+    public Property[] toProperties() {
+
+        Property[] configProperties = new Property[properties.size()];
+        int index = 0;
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            configProperties[index++] = buildProperty(entry.getKey(), entry.getValue());
+        }
+        return configProperties;
+    }
+
+    /**
+     * Build a new property from the snapshot.
+     *
+     * @param propertyName Name of the property.
+     * @return Property or null if the property is not available in the snapshot.
+     */
+    public Property toProperty(String propertyName) {
+
+        if (!properties.containsKey(propertyName)) {
+            return null;
+        }
+        return buildProperty(propertyName, properties.get(propertyName));
+    }
+
+    private static Property buildProperty(String name, String value) {
+
+        Property property = new Property();
+        property.setName(name);
+        property.setValue(value);
+        return property;
+    }
+}
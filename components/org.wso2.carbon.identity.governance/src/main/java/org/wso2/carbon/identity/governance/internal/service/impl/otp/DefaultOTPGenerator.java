@@ -19,12 +19,11 @@ package org.wso2.carbon.identity.governance.internal.service.impl.otp;
 
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+import org.wso2.carbon.identity.governance.common.SecureRandomSource;
 import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorClientException;
 import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorException;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 
-import java.security.SecureRandom;
-
 /**
  * @deprecated
  * {@link org.wso2.carbon.identity.governance.internal.service.impl.otp.OTPGeneratorImpl
@@ -36,6 +35,11 @@ public class DefaultOTPGenerator implements OTPGenerator {
     private static final String SMS_OTP_GENERATE_ALPHABET_CHAR_SET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
     private static final String SMS_OTP_GENERATE_NUMERIC_CHAR_SET = "0123456789";
     private static final String DEFAULT_OTP_GENERATOR = "DefaultOTPGenerator";
+    private static final int NUMERIC = 1;
+    private static final int UPPERCASE_LETTERS = 2;
+    private static final int LOWERCASE_LETTERS = 4;
+    // Character sets of all the combinations of the character types, indexed by the combination.
+    private static final String[] CHAR_SETS = buildCharSets();
 
     /**
      * Generates the OTP based on the provided charSet and length.
@@ -61,13 +65,7 @@ public class DefaultOTPGenerator implements OTPGenerator {
                     IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_LENGTH.getMessage()
             );
         }
-        SecureRandom secureRandom = new SecureRandom();
-        StringBuilder stringBuilder = new StringBuilder();
-        char[] otpCharacters = charSet.toCharArray();
-        for (int otpCharacterIndex = 0; otpCharacterIndex < otpLength; otpCharacterIndex++) {
-            stringBuilder.append(otpCharacters[secureRandom.nextInt(otpCharacters.length)]);
-        }
-        return stringBuilder.toString();
+        return SecureRandomSource.generateString(charSet, otpLength);
     }
 
     /**
@@ -90,17 +88,9 @@ public class DefaultOTPGenerator implements OTPGenerator {
                     IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getCode(),
                     IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getMessage());
         }
-        StringBuilder charSet = new StringBuilder();
-        if (useUppercaseLetters) {
-            charSet.append(SMS_OTP_GENERATE_ALPHABET_CHAR_SET);
-        }
-        if (useLowercaseLetters) {
-            charSet.append(SMS_OTP_GENERATE_ALPHABET_CHAR_SET.toLowerCase());
-        }
-        if (useNumeric) {
-            charSet.append(SMS_OTP_GENERATE_NUMERIC_CHAR_SET);
-        }
-        return generateOTP(charSet.toString(), otpLength, recoveryScenario);
+        int charSetIndex = (useNumeric ? NUMERIC : 0) | (useUppercaseLetters ? UPPERCASE_LETTERS : 0) |
+                (useLowercaseLetters ? LOWERCASE_LETTERS : 0);
+        return generateOTP(CHAR_SETS[charSetIndex], otpLength, recoveryScenario);
     }
 
     /**
@@ -111,4 +101,23 @@ public class DefaultOTPGenerator implements OTPGenerator {
 
         return DEFAULT_OTP_GENERATOR;
     }
+
+    private static String[] buildCharSets() {
+
+        String[] charSets = new String[(NUMERIC | UPPERCASE_LETTERS | LOWERCASE_LETTERS) + 1];
+        for (int index = 0; index < charSets.length; index++) {
+            StringBuilder charSet = new StringBuilder();
+            if ((index & UPPERCASE_LETTERS) != 0) {
+                charSet.append(SMS_OTP_GENERATE_ALPHABET_CHAR_SET);
+            }
+            if ((index & LOWERCASE_LETTERS) != 0) {
+                charSet.append(SMS_OTP_GENERATE_ALPHABET_CHAR_SET.toLowerCase());
+            }
+            if ((index & NUMERIC) != 0) {
+                charSet.append(SMS_OTP_GENERATE_NUMERIC_CHAR_SET);
+            }
+            charSets[index] = charSet.toString();
+        }
+        return charSets;
+    }
 }
@@ -21,10 +21,9 @@ package org.wso2.carbon.identity.governance.internal.service.impl.otp;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+import org.wso2.carbon.identity.governance.common.SecureRandomSource;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 
-import java.security.SecureRandom;
-
 /**
  * Default class to generate OTP.
  */
@@ -32,6 +31,11 @@ public class OTPGeneratorImpl implements OTPGenerator {
 
     private static final Log log = LogFactory.getLog(OTPGeneratorImpl.class);
     private static final String OTP_GENERATOR_IMPL = "OTPGeneratorImpl";
+    private static final int NUMERIC = 1;
+    private static final int UPPERCASE_LETTERS = 2;
+    private static final int LOWERCASE_LETTERS = 4;
+    // Character sets of all the combinations of the character types, indexed by the combination.
+    private static final String[] CHAR_SETS = buildCharSets();
 
     /**
      * Generate the OTP according to given length and pattern. If pattern is not defined default pattern will be used.
@@ -57,28 +61,9 @@ public class OTPGeneratorImpl implements OTPGenerator {
                         IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MAX_LENGTH + ". Hence using default length for OTP");
             }
         }
-        StringBuilder charSet = new StringBuilder();
-        if (!useNumeric && !useUppercaseLetters && !useLowercaseLetters) {
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE);
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE);
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITHOUT_ZERO);
-            return generateOTP(charSet.toString(), otpLength, recoveryScenario);
-        }
-        if (useUppercaseLetters) {
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE);
-        }
-        if (useLowercaseLetters) {
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE);
-        }
-        if (useNumeric) {
-            if (useUppercaseLetters || useLowercaseLetters) {
-                charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITHOUT_ZERO);
-            } else {
-                charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITH_ZERO);
-            }
-
-        }
-        return generateOTP(charSet.toString(), otpLength, recoveryScenario);
+        int charSetIndex = (useNumeric ? NUMERIC : 0) | (useUppercaseLetters ? UPPERCASE_LETTERS : 0) |
+                (useLowercaseLetters ? LOWERCASE_LETTERS : 0);
+        return generateOTP(CHAR_SETS[charSetIndex], otpLength, recoveryScenario);
     }
 
     /**
@@ -92,13 +77,7 @@ public class OTPGeneratorImpl implements OTPGenerator {
     @Override
     public String generateOTP(String charSet, int otpLength, String recoveryScenario) {
 
-        SecureRandom secureRandom = new SecureRandom();
-        StringBuilder stringBuilder = new StringBuilder();
-        char[] otpCharacters = charSet.toCharArray();
-        for (int otpCharacterIndex = 0; otpCharacterIndex < otpLength; otpCharacterIndex++) {
-            stringBuilder.append(otpCharacters[secureRandom.nextInt(otpCharacters.length)]);
-        }
-        return stringBuilder.toString();
+        return SecureRandomSource.generateString(charSet, otpLength);
     }
 
     /**
@@ -109,4 +88,39 @@ public class OTPGeneratorImpl implements OTPGenerator {
 
         return OTP_GENERATOR_IMPL;
     }
+
+    private static String[] buildCharSets() {
+
+        String[] charSets = new String[(NUMERIC | UPPERCASE_LETTERS | LOWERCASE_LETTERS) + 1];
+        for (int index = 0; index < charSets.length; index++) {
+            charSets[index] = buildCharSet((index & NUMERIC) != 0, (index & UPPERCASE_LETTERS) != 0,
+                    (index & LOWERCASE_LETTERS) != 0);
+        }
+        return charSets;
+    }
+
+    private static String buildCharSet(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters) {
+
+        StringBuilder charSet = new StringBuilder();
+        if (!useNumeric && !useUppercaseLetters && !useLowercaseLetters) {
+            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE);
+            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE);
+            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITHOUT_ZERO);
+            return charSet.toString();
+        }
+        if (useUppercaseLetters) {
+            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE);
+        }
+        if (useLowercaseLetters) {
+            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE);
+        }
+        if (useNumeric) {
+            if (useUppercaseLetters || useLowercaseLetters) {
+                charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITHOUT_ZERO);
+            } else {
+                charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITH_ZERO);
+            }
+        }
+        return charSet.toString();
+    }
 }
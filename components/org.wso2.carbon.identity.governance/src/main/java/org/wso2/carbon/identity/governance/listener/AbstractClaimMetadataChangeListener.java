@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.governance.listener;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.listener.AbstractClaimMetadataMgtListener;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+/**
+ * Claim metadata management listener which notifies the extending listener whenever the local claims or claim
+ * dialects of a tenant change, so that values derived from the claims of the tenant can be cleared.
+ */
+public abstract class AbstractClaimMetadataChangeListener extends AbstractClaimMetadataMgtListener {
+
+    @Override
+    public boolean doPostAddLocalClaim(int tenantId, LocalClaim localClaim) throws ClaimMetadataException {
+
+        onClaimMetadataChange(IdentityTenantUtil.getTenantDomain(tenantId));
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateLocalClaim(int tenantId, LocalClaim localClaim) throws ClaimMetadataException {
+
+        onClaimMetadataChange(IdentityTenantUtil.getTenantDomain(tenantId));
+        return true;
+    }
+
+    @Override
+    public boolean doPostRemoveLocalClaim(int tenantId, String localClaimURI) throws ClaimMetadataException {
+
+        onClaimMetadataChange(IdentityTenantUtil.getTenantDomain(tenantId));
+        return true;
+    }
+
+    @Override
+    public boolean doPostRenameClaimDialect(int tenantId, ClaimDialect oldClaimDialect, ClaimDialect newClaimDialect)
+            throws ClaimMetadataException {
+
+        onClaimMetadataChange(IdentityTenantUtil.getTenantDomain(tenantId));
+        return true;
+    }
+
+    @Override
+    public boolean doPostRemoveClaimDialect(int tenantId, ClaimDialect claimDialect) throws ClaimMetadataException {
+
+        onClaimMetadataChange(IdentityTenantUtil.getTenantDomain(tenantId));
+        return true;
+    }
+
+    /**
+     * Handle a change of the local claims or claim dialects of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    protected abstract void onClaimMetadataChange(String tenantDomain);
+}
@@ -25,8 +25,10 @@ import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.model.ExpressionCondition;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * This interface is used to store data in the identity data store.
@@ -55,6 +57,26 @@ public interface IdentityDataStoreService {
      */
     UserIdentityClaim getIdentityClaimData(String username, UserStoreManager userStoreManager);
 
+    /**
+     * Get identity claim data from the identity data store for a set of users of a user store.
+     *
+     * @param usernames         Usernames of the users.
+     * @param userStoreManager  User store manager of the users.
+     * @return                  Identity claim data mapped against the usernames.
+     */
+    default Map<String, UserIdentityClaim> getIdentityClaimData(List<String> usernames,
+                                                                UserStoreManager userStoreManager) {
+
+        Map<String, UserIdentityClaim> identityClaimData = new HashMap<>();
+        for (String username : usernames) {
+            UserIdentityClaim userIdentityClaim = getIdentityClaimData(username, userStoreManager);
+            if (userIdentityClaim != null) {
+                identityClaimData.put(username, userIdentityClaim);
+            }
+        }
+        return identityClaimData;
+    }
+
     /**
      * Return an array of user who have the given claim URI and claim value.
      *
@@ -129,6 +151,67 @@ public interface IdentityDataStoreService {
     List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
                                                         int tenantId) throws IdentityException;
 
+    /**
+     * Get a page of usernames who have the claim value less than the provided claim value for a given claim URI.
+     * Usernames are returned in ascending order, starting after the provided username, so that the last username of
+     * a page can be used as the cursor for the next page.
+     *
+     * @param claimURI              Claim URI.
+     * @param claimValue            Claim value.
+     * @param tenantId              Tenant ID.
+     * @param afterUserName         Username after which the page starts. Null to start from the first username.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      List of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    default List<String> getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                                String afterUserName, int limit)
+            throws IdentityException {
+
+        return getUserNamesPage(getUserNamesLessThanProvidedClaimValue(claimURI, claimValue, tenantId),
+                afterUserName, limit);
+    }
+
+    /**
+     * Get a page of usernames who have the claim value between the provided claim values for a given claim URI.
+     * Usernames are returned in ascending order, starting after the provided username, so that the last username of
+     * a page can be used as the cursor for the next page.
+     *
+     * @param claimURI              Claim URI.
+     * @param startValue            Start value.
+     * @param endValue              End value.
+     * @param tenantId              Tenant ID.
+     * @param afterUserName         Username after which the page starts. Null to start from the first username.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      List of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    default List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                                int tenantId, String afterUserName, int limit)
+            throws IdentityException {
+
+        return getUserNamesPage(getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId),
+                afterUserName, limit);
+    }
+
+    /**
+     * Extract a page of usernames from a complete list of usernames. This is the paging fallback of the identity data
+     * stores which cannot page the usernames themselves.
+     *
+     * @param userNames     Complete list of usernames.
+     * @param afterUserName Username after which the page starts. Null to start from the first username.
+     * @param limit         Maximum number of usernames in the page.
+     * @return Sorted page of usernames.
+     */
+    static List<String> getUserNamesPage(List<String> userNames, String afterUserName, int limit) {
+
+        return userNames.stream()
+                .filter(userName -> afterUserName == null || userName.compareTo(afterUserName) > 0)
+                .sorted()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Get the list of usernames who have the claim value less than the provided claim value for a given claim URI
      * and include or exclude the users with the boolean isIncluded
@@ -135,6 +135,13 @@ public class IdentityDataStoreServiceImpl implements IdentityDataStoreService {
         return identityDataStore.load(username, userStoreManager);
     }
 
+    @Override
+    public Map<String, UserIdentityClaim> getIdentityClaimData(List<String> usernames,
+                                                               UserStoreManager userStoreManager) {
+
+        return identityDataStore.loadUsers(usernames, userStoreManager);
+    }
+
     @Override
     public List<String> listUsersByClaimURIAndValue(String claimURI, String claimValue,
                                                     UserStoreManager userStoreManager) throws IdentityException {
@@ -179,6 +186,24 @@ public class IdentityDataStoreServiceImpl implements IdentityDataStoreService {
         return identityDataStore.getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId);
     }
 
+    @Override
+    public List<String> getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                               String afterUserName, int limit)
+            throws IdentityException {
+
+        return identityDataStore.getUserNamesLessThanProvidedClaimValue(claimURI, claimValue, tenantId, afterUserName,
+                limit);
+    }
+
+    @Override
+    public List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                               int tenantId, String afterUserName, int limit)
+            throws IdentityException {
+
+        return identityDataStore.getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId,
+                afterUserName, limit);
+    }
+
     @Override
     public List<String> getUserNamesLessThanClaimWithNestedClaim(String claimURI,
                                                                  String claimValue,
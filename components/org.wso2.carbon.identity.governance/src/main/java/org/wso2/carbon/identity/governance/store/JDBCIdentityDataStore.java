@@ -41,8 +41,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  *
@@ -59,6 +62,8 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     private static final String ORACLE = "oracle";
     private static final String POSTGRE_SQL = "postgresql";
     private static final String MYSQL = "mysql";
+    // Kept below the IN clause and bind parameter limits of the supported databases.
+    private static final int MAX_USERS_PER_BULK_LOAD = 500;
 
     @Override
     public void store(UserIdentityClaim userIdentityDTO, UserStoreManager userStoreManager)
@@ -116,6 +121,9 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
 
             addUserDataValues(connection, userName, tenantId, newClaims);
             updateUserDataValues(connection, userName, tenantId, availableClaims);
+            if (TimestampClaimIndex.isEnabled()) {
+                indexTimestampClaims(connection, userName, tenantId, newClaims, availableClaims);
+            }
 
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException e) {
@@ -198,6 +206,26 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         }
     }
 
+    private void indexTimestampClaims(Connection connection, String userName, int tenantId,
+                                      Map<String, String> newClaims, Map<String, String> updatedClaims)
+            throws SQLException {
+
+        Set<String> timestampClaims = TimestampClaimIndex.getTimestampClaims();
+        Map<String, String> changedTimestampClaims = new HashMap<>();
+        newClaims.forEach((key, value) -> {
+            if (timestampClaims.contains(key)) {
+                changedTimestampClaims.put(key, value);
+            }
+        });
+        updatedClaims.forEach((key, value) -> {
+            if (timestampClaims.contains(key)) {
+                changedTimestampClaims.put(key, value);
+            }
+        });
+        TimestampClaimIndex.index(connection, userName, tenantId,
+                IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId), changedTimestampClaims);
+    }
+
     @Override
     public UserIdentityClaim load(String userName, UserStoreManager userStoreManager) {
 
@@ -240,6 +268,116 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         return null;
     }
 
+    @Override
+    public Map<String, UserIdentityClaim> loadUsers(List<String> userNames, UserStoreManager userStoreManager) {
+
+        Map<String, UserIdentityClaim> userIdentityClaims = new HashMap<>();
+        if (userNames == null || userNames.isEmpty()) {
+            return userIdentityClaims;
+        }
+
+        String domainName = ((org.wso2.carbon.user.core.UserStoreManager) userStoreManager).getRealmConfiguration().
+                getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+        int tenantId;
+        try {
+            tenantId = userStoreManager.getTenantId();
+        } catch (UserStoreException e) {
+            log.error("Error while getting tenant Id.", e);
+            return userIdentityClaims;
+        }
+
+        // Domain qualified usernames of the users who are not in the cache, mapped to the requested usernames.
+        Map<String, String> usersToLoad = new LinkedHashMap<>();
+        for (String userName : userNames) {
+            if (userName == null) {
+                continue;
+            }
+            String domainQualifiedUserName = UserCoreUtil.addDomainToName(userName, domainName);
+            // Getting from cache
+            UserIdentityClaim dto = super.load(domainQualifiedUserName, userStoreManager);
+            if (dto != null) {
+                userIdentityClaims.put(userName, dto);
+            } else {
+                usersToLoad.put(domainQualifiedUserName, userName);
+            }
+        }
+        if (usersToLoad.isEmpty()) {
+            return userIdentityClaims;
+        }
+
+        // All the users belong to the same user store, hence the case sensitivity is the same for all of them.
+        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(
+                usersToLoad.keySet().iterator().next(), tenantId);
+        Map<String, Map<String, String>> dataValues = isUsernameCaseSensitive ? new HashMap<>() :
+                new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            List<String> userNamesChunk = new ArrayList<>(MAX_USERS_PER_BULK_LOAD);
+            for (String userName : usersToLoad.keySet()) {
+                userNamesChunk.add(userName);
+                if (userNamesChunk.size() == MAX_USERS_PER_BULK_LOAD) {
+                    getUsersDataValues(connection, userNamesChunk, tenantId, isUsernameCaseSensitive, dataValues);
+                    userNamesChunk.clear();
+                }
+            }
+            if (!userNamesChunk.isEmpty()) {
+                getUsersDataValues(connection, userNamesChunk, tenantId, isUsernameCaseSensitive, dataValues);
+            }
+        } catch (SQLException e) {
+            log.error("Error while reading identity data of users in tenant: " + tenantId, e);
+            return userIdentityClaims;
+        }
+
+        for (Map.Entry<String, String> userToLoad : usersToLoad.entrySet()) {
+            String userName = userToLoad.getKey();
+            Map<String, String> data = dataValues.get(userName);
+            if (data == null) {
+                data = new HashMap<>();
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Retrieved identity data for:" + tenantId + ":" + userName);
+            }
+            UserIdentityClaim dto = new UserIdentityClaim(userName, data);
+            dto.setTenantId(tenantId);
+            try {
+                super.store(dto, userStoreManager);
+            } catch (IdentityException e) {
+                log.error("Error while caching user identity data of user: " + userName, e);
+            }
+            userIdentityClaims.put(userToLoad.getValue(), dto);
+        }
+        return userIdentityClaims;
+    }
+
+    private void getUsersDataValues(Connection connection, List<String> userNames, int tenantId,
+                                    boolean isUsernameCaseSensitive, Map<String, Map<String, String>> dataValues)
+            throws SQLException {
+
+        StringBuilder query = new StringBuilder(isUsernameCaseSensitive ? SQLQuery.LOAD_USERS_DATA :
+                SQLQuery.LOAD_USERS_DATA_CASE_INSENSITIVE);
+        String bindingSymbol = isUsernameCaseSensitive ? QUERY_BINDING_SYMBOL : "LOWER(?)";
+        for (int i = 0; i < userNames.size(); i++) {
+            if (i > 0) {
+                query.append(", ");
+            }
+            query.append(bindingSymbol);
+        }
+        query.append(")");
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(query.toString())) {
+            prepStmt.setInt(1, tenantId);
+            int parameterIndex = 2;
+            for (String userName : userNames) {
+                prepStmt.setString(parameterIndex++, userName);
+            }
+            try (ResultSet results = prepStmt.executeQuery()) {
+                while (results.next()) {
+                    dataValues.computeIfAbsent(results.getString(1), key -> new HashMap<>())
+                            .put(results.getString(2), results.getString(3));
+                }
+            }
+        }
+    }
+
     @Override
     public void remove(String userName, UserStoreManager userStoreManager) throws IdentityException {
 
@@ -262,6 +400,9 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
             prepStmt.setInt(1, tenantId);
             prepStmt.setString(2, userName);
             prepStmt.execute();
+            if (TimestampClaimIndex.isEnabled()) {
+                TimestampClaimIndex.remove(connection, userName, tenantId, isUsernameCaseSensitive);
+            }
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException | UserStoreException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
@@ -393,13 +534,15 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     public List<String> getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId)
             throws IdentityException {
 
-        String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE;
+        boolean isTimestampIndexed = TimestampClaimIndex.canFilter(claimURI, claimValue);
+        String sqlStmt = isTimestampIndexed ? TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_TIME_VALUE :
+                SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE;
         List<String> userNames = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
             try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
                 prepStmt.setString(1, claimURI);
                 prepStmt.setInt(2, tenantId);
-                prepStmt.setString(3, claimValue);
+                setClaimValue(prepStmt, 3, claimValue, isTimestampIndexed);
                 try (ResultSet resultSet = prepStmt.executeQuery()) {
                     while (resultSet.next()) {
                         String username = resultSet.getString(1);
@@ -418,13 +561,15 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     public List<String> getUserNamesMoreThanProvidedClaimValue(String claimURI, String claimValue, int tenantId)
             throws IdentityException {
 
-        String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_MORE_THAN_DATA_VALUE;
+        boolean isTimestampIndexed = TimestampClaimIndex.canFilter(claimURI, claimValue);
+        String sqlStmt = isTimestampIndexed ? TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_MORE_THAN_TIME_VALUE :
+                SQLQuery.FILTER_USERS_BY_DATA_KEY_MORE_THAN_DATA_VALUE;
         List<String> userNames = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
             try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
                 prepStmt.setString(1, claimURI);
                 prepStmt.setInt(2, tenantId);
-                prepStmt.setString(3, claimValue);
+                setClaimValue(prepStmt, 3, claimValue, isTimestampIndexed);
                 try (ResultSet resultSet = prepStmt.executeQuery()) {
                     while (resultSet.next()) {
                         String username = resultSet.getString(1);
@@ -443,14 +588,17 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     public  List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
                                                                 int tenantId) throws IdentityException {
 
-        String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES;
+        boolean isTimestampIndexed = TimestampClaimIndex.canFilter(claimURI, startValue, endValue);
+        String sqlStmt = isTimestampIndexed ?
+                TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_TIME_VALUES :
+                SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES;
         List<String> userNames = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
             try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
                 prepStmt.setString(1, claimURI);
                 prepStmt.setInt(2, tenantId);
-                prepStmt.setString(3, endValue);
-                prepStmt.setString(4, startValue);
+                setClaimValue(prepStmt, 3, endValue, isTimestampIndexed);
+                setClaimValue(prepStmt, 4, startValue, isTimestampIndexed);
                 try (ResultSet resultSet = prepStmt.executeQuery()) {
                     while (resultSet.next()) {
                         String username = resultSet.getString(1);
@@ -465,6 +613,85 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         }
     }
 
+    @Override
+    public List<String> getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                               String afterUserName, int limit)
+            throws IdentityException {
+
+        boolean isTimestampIndexed = TimestampClaimIndex.canFilter(claimURI, claimValue);
+        // The first page is queried without the username cursor, as an empty cursor is stored as null by some
+        // databases and would not match any username.
+        boolean isFirstPage = StringUtils.isEmpty(afterUserName);
+        String sqlStmt;
+        if (isTimestampIndexed) {
+            sqlStmt = isFirstPage ? TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_TIME_VALUE_FIRST_PAGE :
+                    TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_TIME_VALUE_PAGINATED;
+        } else {
+            sqlStmt = isFirstPage ? SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE_FIRST_PAGE :
+                    SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE_PAGINATED;
+        }
+        List<String> userNames = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
+                prepStmt.setString(1, claimURI);
+                prepStmt.setInt(2, tenantId);
+                setClaimValue(prepStmt, 3, claimValue, isTimestampIndexed);
+                if (!isFirstPage) {
+                    prepStmt.setString(4, afterUserName);
+                }
+                prepStmt.setMaxRows(limit);
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        userNames.add(resultSet.getString(1));
+                    }
+                }
+                return userNames;
+            }
+        } catch (SQLException e) {
+            throw new IdentityException("Error occurred while retrieving users from Identity Store.", e);
+        }
+    }
+
+    @Override
+    public List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                               int tenantId, String afterUserName, int limit)
+            throws IdentityException {
+
+        boolean isTimestampIndexed = TimestampClaimIndex.canFilter(claimURI, startValue, endValue);
+        boolean isFirstPage = StringUtils.isEmpty(afterUserName);
+        String sqlStmt;
+        if (isTimestampIndexed) {
+            sqlStmt = isFirstPage ?
+                    TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_TIME_VALUES_FIRST_PAGE :
+                    TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_TIME_VALUES_PAGINATED;
+        } else {
+            sqlStmt = isFirstPage ?
+                    SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES_FIRST_PAGE :
+                    SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES_PAGINATED;
+        }
+        List<String> userNames = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
+                prepStmt.setString(1, claimURI);
+                prepStmt.setInt(2, tenantId);
+                setClaimValue(prepStmt, 3, endValue, isTimestampIndexed);
+                setClaimValue(prepStmt, 4, startValue, isTimestampIndexed);
+                if (!isFirstPage) {
+                    prepStmt.setString(5, afterUserName);
+                }
+                prepStmt.setMaxRows(limit);
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        userNames.add(resultSet.getString(1));
+                    }
+                }
+                return userNames;
+            }
+        } catch (SQLException e) {
+            throw new IdentityException("Error occurred while retrieving users from Identity Store.", e);
+        }
+    }
+
     @Override
     public List<String> getUserNamesLessThanClaimWithNestedClaim(String claimURI, String claimValue,
                                                                  String nestedClaimURI,
@@ -472,7 +699,9 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
                                                                  boolean isIncluded)
             throws IdentityException {
 
-        String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE;
+        boolean isTimestampIndexed = TimestampClaimIndex.canFilter(claimURI, claimValue);
+        String sqlStmt = isTimestampIndexed ? TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_TIME_VALUE :
+                SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE;
         String subSqlStmt = SQLQuery.LIST_USERS_FROM_CLAIM;
         if (isIncluded) {
             sqlStmt = sqlStmt + " AND USER_NAME IN (" + subSqlStmt + ")";
@@ -485,7 +714,7 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
             try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
                 prepStmt.setString(1, claimURI);
                 prepStmt.setInt(2, tenantId);
-                prepStmt.setString(3, claimValue);
+                setClaimValue(prepStmt, 3, claimValue, isTimestampIndexed);
                 prepStmt.setString(4, nestedClaimURI);
                 prepStmt.setString(5, nestedClaimValue);
                 prepStmt.setInt(6, tenantId);
@@ -511,7 +740,10 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
                                                                     boolean isIncluded)
             throws IdentityException {
 
-        String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES;
+        boolean isTimestampIndexed = TimestampClaimIndex.canFilter(claimURI, startValue, endValue);
+        String sqlStmt = isTimestampIndexed ?
+                TimestampClaimIndex.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_TIME_VALUES :
+                SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES;
         String subSqlStmt = SQLQuery.LIST_USERS_FROM_CLAIM;
         if (isIncluded) {
             sqlStmt = sqlStmt + " AND USER_NAME IN (" + subSqlStmt + ")";
@@ -523,8 +755,8 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
             try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
                 prepStmt.setString(1, claimURI);
                 prepStmt.setInt(2, tenantId);
-                prepStmt.setString(3, endValue);
-                prepStmt.setString(4, startValue);
+                setClaimValue(prepStmt, 3, endValue, isTimestampIndexed);
+                setClaimValue(prepStmt, 4, startValue, isTimestampIndexed);
                 prepStmt.setString(5, nestedClaimURI);
                 prepStmt.setString(6, nestedClaimValue);
                 prepStmt.setInt(7, tenantId);
@@ -542,6 +774,16 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         }
     }
 
+    private void setClaimValue(PreparedStatement prepStmt, int index, String claimValue, boolean isTimestampIndexed)
+            throws SQLException {
+
+        if (isTimestampIndexed) {
+            prepStmt.setLong(index, TimestampClaimIndex.toTimeValue(claimValue));
+        } else {
+            prepStmt.setString(index, claimValue);
+        }
+    }
+
     private void populatePrepareStatement(SqlBuilder sqlBuilder, PreparedStatement prepStmt, int startIndex,
                                           int endIndex) throws SQLException {
 
@@ -704,6 +946,11 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         public static final String LOAD_USER_DATA_CASE_INSENSITIVE = "SELECT " + "DATA_KEY, DATA_VALUE FROM " +
                 "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
 
+        public static final String LOAD_USERS_DATA = "SELECT USER_NAME, DATA_KEY, DATA_VALUE FROM " +
+                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND USER_NAME IN (";
+        public static final String LOAD_USERS_DATA_CASE_INSENSITIVE = "SELECT USER_NAME, DATA_KEY, DATA_VALUE FROM " +
+                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) IN (";
+
         public static final String DELETE_USER_DATA = "DELETE FROM IDN_IDENTITY_USER_DATA WHERE " +
                 "TENANT_ID = ? AND USER_NAME = ?";
         public static final String DELETE_USER_DATA_CASE_INSENSITIVE = "DELETE FROM IDN_IDENTITY_USER_DATA WHERE " +
@@ -726,6 +973,23 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
                 "SELECT USER_NAME, DATA_VALUE FROM IDN_IDENTITY_USER_DATA WHERE " +
                         "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ? AND DATA_VALUE > ?";
 
+        public static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE_FIRST_PAGE =
+                "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA WHERE " +
+                        "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ? ORDER BY USER_NAME";
+
+        public static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE_PAGINATED =
+                "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA WHERE " +
+                        "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ? AND USER_NAME > ? ORDER BY USER_NAME";
+
+        public static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES_FIRST_PAGE =
+                "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA WHERE " +
+                        "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ? AND DATA_VALUE > ? ORDER BY USER_NAME";
+
+        public static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES_PAGINATED =
+                "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA WHERE " +
+                        "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ? AND DATA_VALUE > ? AND USER_NAME > ? " +
+                        "ORDER BY USER_NAME";
+
         private SQLQuery() {
         }
     }
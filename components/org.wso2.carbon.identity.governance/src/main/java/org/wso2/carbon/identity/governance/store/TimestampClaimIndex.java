@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Numeric index of the identity claims holding epoch millisecond timestamps.
+ * <p>
+ * The values of the identity claims are stored as strings in IDN_IDENTITY_USER_DATA, hence range filters on them
+ * are lexicographic and can not seek an index. When enabled, the values of the timestamp claims are also kept in the
+ * BIGINT column of IDN_IDENTITY_USER_DATA_TIME, which is indexed by the tenant, the claim and the value, so that the
+ * range filters of the {@link JDBCIdentityDataStore} are numeric index range scans. The table should be created with
+ * the scripts in dbscripts/identity-user-data-time before the index is enabled. The range filters fall back to
+ * IDN_IDENTITY_USER_DATA until the {@link TimestampClaimIndexMigrationTask} has backfilled the index on this node.
+ */
+public final class TimestampClaimIndex {
+
+    private static final Log log = LogFactory.getLog(TimestampClaimIndex.class);
+
+    public static final String TIMESTAMP_INDEX_ENABLE = "IdentityDataStore.TimestampIndex.Enable";
+    public static final String TIMESTAMP_INDEX_CLAIMS = "IdentityDataStore.TimestampIndex.Claims";
+    public static final String TIMESTAMP_INDEX_MIGRATE_ON_STARTUP = "IdentityDataStore.TimestampIndex.MigrateOnStartup";
+
+    private static final Set<String> DEFAULT_TIMESTAMP_CLAIMS = new HashSet<>(Arrays.asList(
+            UserIdentityDataStore.LAST_LOGON_TIME,
+            UserIdentityDataStore.LAST_FAILED_LOGIN_ATTEMPT_TIME,
+            UserIdentityDataStore.UNLOCKING_TIME,
+            "http://wso2.org/claims/identity/lastLoginTime",
+            "http://wso2.org/claims/identity/lastPasswordUpdateTime",
+            "http://wso2.org/claims/identity/accountConfirmedTime"));
+
+    static final String INSERT_TIME_DATA = "INSERT INTO IDN_IDENTITY_USER_DATA_TIME (TENANT_ID, USER_NAME, " +
+            "DATA_KEY, TIME_VALUE) VALUES (?,?,?,?)";
+
+    // Indexes a claim value unless the claim is already indexed or the claim no longer holds the value.
+    static final String INSERT_TIME_DATA_IF_ABSENT = "INSERT INTO IDN_IDENTITY_USER_DATA_TIME (TENANT_ID, " +
+            "USER_NAME, DATA_KEY, TIME_VALUE) SELECT D.TENANT_ID, D.USER_NAME, D.DATA_KEY, CAST(? AS DECIMAL(19)) " +
+            "FROM IDN_IDENTITY_USER_DATA D WHERE D.TENANT_ID = ? AND D.USER_NAME = ? AND D.DATA_KEY = ? AND " +
+            "D.DATA_VALUE = ? AND NOT EXISTS (SELECT 1 FROM IDN_IDENTITY_USER_DATA_TIME T WHERE " +
+            "T.TENANT_ID = D.TENANT_ID AND T.USER_NAME = D.USER_NAME AND T.DATA_KEY = D.DATA_KEY)";
+
+    static final String DELETE_TIME_DATA = "DELETE FROM IDN_IDENTITY_USER_DATA_TIME WHERE TENANT_ID = ? AND " +
+            "USER_NAME = ? AND DATA_KEY = ?";
+    static final String DELETE_TIME_DATA_CASE_INSENSITIVE = "DELETE FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+            "TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?) AND DATA_KEY = ?";
+
+    static final String DELETE_USER_TIME_DATA = "DELETE FROM IDN_IDENTITY_USER_DATA_TIME WHERE TENANT_ID = ? AND " +
+            "USER_NAME = ?";
+    static final String DELETE_USER_TIME_DATA_CASE_INSENSITIVE = "DELETE FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+            "TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
+
+    static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_TIME_VALUE =
+            "SELECT USER_NAME, TIME_VALUE FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+                    "DATA_KEY = ? AND TENANT_ID = ? AND TIME_VALUE < ?";
+
+    static final String FILTER_USERS_BY_DATA_KEY_MORE_THAN_TIME_VALUE =
+            "SELECT USER_NAME, TIME_VALUE FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+                    "DATA_KEY = ? AND TENANT_ID = ? AND TIME_VALUE > ?";
+
+    static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_TIME_VALUES =
+            "SELECT USER_NAME, TIME_VALUE FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+                    "DATA_KEY = ? AND TENANT_ID = ? AND TIME_VALUE < ? AND TIME_VALUE > ?";
+
+    static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_TIME_VALUE_FIRST_PAGE =
+            "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+                    "DATA_KEY = ? AND TENANT_ID = ? AND TIME_VALUE < ? ORDER BY USER_NAME";
+
+    static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_TIME_VALUE_PAGINATED =
+            "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+                    "DATA_KEY = ? AND TENANT_ID = ? AND TIME_VALUE < ? AND USER_NAME > ? ORDER BY USER_NAME";
+
+    static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_TIME_VALUES_FIRST_PAGE =
+            "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+                    "DATA_KEY = ? AND TENANT_ID = ? AND TIME_VALUE < ? AND TIME_VALUE > ? ORDER BY USER_NAME";
+
+    static final String FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_TIME_VALUES_PAGINATED =
+            "SELECT USER_NAME FROM IDN_IDENTITY_USER_DATA_TIME WHERE " +
+                    "DATA_KEY = ? AND TENANT_ID = ? AND TIME_VALUE < ? AND TIME_VALUE > ? AND USER_NAME > ? " +
+                    "ORDER BY USER_NAME";
+
+    // Number of failed index writes. The index misses the values of those writes until it is backfilled again.
+    private static final AtomicLong FAILED_WRITES = new AtomicLong();
+
+    // Failed index writes counted when the last completed backfill started, or -1 if the index is not backfilled.
+    private static volatile long backfilledFailedWrites = -1;
+
+    private TimestampClaimIndex() {
+
+    }
+
+    /**
+     * Check whether the numeric index of the timestamp claims is enabled.
+     *
+     * @return True if the index is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(TIMESTAMP_INDEX_ENABLE));
+    }
+
+    /**
+     * Check whether the index holds all the timestamp claim values, i.e. a backfill of the index completed and no
+     * index write failed after the backfill started.
+     *
+     * @return True if the index is backfilled.
+     */
+    public static boolean isBackfilled() {
+
+        return backfilledFailedWrites == FAILED_WRITES.get();
+    }
+
+    /**
+     * Get the stamp of a backfill of the index, to be taken before the backfill starts.
+     *
+     * @return Backfill stamp.
+     */
+    static long getBackfillStamp() {
+
+        return FAILED_WRITES.get();
+    }
+
+    /**
+     * Mark the index as backfilled. The index is not considered backfilled if an index write failed after the given
+     * stamp was taken.
+     *
+     * @param backfillStamp Stamp taken before the backfill started.
+     */
+    static void markBackfilled(long backfillStamp) {
+
+        backfilledFailedWrites = backfillStamp;
+    }
+
+    /**
+     * Mark the index as missing values, so that the range filters are not served by the index until it is backfilled
+     * again.
+     */
+    static void markIncomplete() {
+
+        FAILED_WRITES.incrementAndGet();
+    }
+
+    /**
+     * Check whether the existing timestamp claim values should be indexed when the server starts.
+     *
+     * @return True if the index is enabled and the migration on startup is enabled.
+     */
+    public static boolean isMigrateOnStartupEnabled() {
+
+        return isEnabled() && Boolean.parseBoolean(IdentityUtil.getProperty(TIMESTAMP_INDEX_MIGRATE_ON_STARTUP));
+    }
+
+    /**
+     * Get the URIs of the indexed timestamp claims. The claims configured with
+     * {@value #TIMESTAMP_INDEX_CLAIMS} as a comma separated list are indexed in addition to the default claims.
+     *
+     * @return URIs of the timestamp claims.
+     */
+    public static Set<String> getTimestampClaims() {
+
+        String configuredClaims = IdentityUtil.getProperty(TIMESTAMP_INDEX_CLAIMS);
+        if (StringUtils.isBlank(configuredClaims)) {
+            return DEFAULT_TIMESTAMP_CLAIMS;
+        }
+        Set<String> timestampClaims = new HashSet<>(DEFAULT_TIMESTAMP_CLAIMS);
+        for (String claim : configuredClaims.split(",")) {
+            if (StringUtils.isNotBlank(claim)) {
+                timestampClaims.add(claim.trim());
+            }
+        }
+        return timestampClaims;
+    }
+
+    /**
+     * Check whether the range filters of the given claim can be served by the index. The bounds are compared with
+     * the indexed values numerically, hence they must be epoch milliseconds as well.
+     *
+     * @param claimURI    Claim URI.
+     * @param claimValues Bounds of the range.
+     * @return True if the index is enabled and backfilled, the claim is a timestamp claim and all the bounds are
+     * numeric.
+     */
+    static boolean canFilter(String claimURI, String... claimValues) {
+
+        if (!isEnabled() || !isBackfilled() || !getTimestampClaims().contains(claimURI)) {
+            return false;
+        }
+        for (String claimValue : claimValues) {
+            if (toTimeValue(claimValue) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert a claim value to the value stored in the index.
+     *
+     * @param claimValue Claim value.
+     * @return Epoch milliseconds, or null if the value is not a number.
+     */
+    static Long toTimeValue(String claimValue) {
+
+        if (StringUtils.isBlank(claimValue)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(claimValue.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Replace the indexed values of the given timestamp claims of a user. Claims without a numeric value are removed
+     * from the index. A failed index write is rolled back on its own, so that it does not fail the identity data
+     * write of the same transaction.
+     *
+     * @param connection              Database connection.
+     * @param userName                Domain qualified username.
+     * @param tenantId                Tenant ID.
+     * @param isUsernameCaseSensitive Whether the username is case sensitive.
+     * @param claims                  Claims of the user, mapped to the values.
+     * @throws SQLException If an error occurred while rolling back a failed index write.
+     */
+    static void index(Connection connection, String userName, int tenantId, boolean isUsernameCaseSensitive,
+                      Map<String, String> claims) throws SQLException {
+
+        if (claims.isEmpty()) {
+            return;
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        PreparedStatement deleteStmt = null;
+        PreparedStatement insertStmt = null;
+        try {
+            deleteStmt = connection.prepareStatement(isUsernameCaseSensitive ? DELETE_TIME_DATA :
+                    DELETE_TIME_DATA_CASE_INSENSITIVE);
+            insertStmt = connection.prepareStatement(INSERT_TIME_DATA);
+            boolean hasInserts = false;
+            for (Map.Entry<String, String> claim : claims.entrySet()) {
+                deleteStmt.setInt(1, tenantId);
+                deleteStmt.setString(2, userName);
+                deleteStmt.setString(3, claim.getKey());
+                deleteStmt.addBatch();
+                Long timeValue = toTimeValue(claim.getValue());
+                if (timeValue != null) {
+                    insertStmt.setInt(1, tenantId);
+                    insertStmt.setString(2, userName);
+                    insertStmt.setString(3, claim.getKey());
+                    insertStmt.setLong(4, timeValue);
+                    insertStmt.addBatch();
+                    hasInserts = true;
+                }
+            }
+            deleteStmt.executeBatch();
+            if (hasInserts) {
+                insertStmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            rollbackFailedWrite(connection, savepoint, tenantId, e);
+        } finally {
+            IdentityDatabaseUtil.closeStatement(deleteStmt);
+            IdentityDatabaseUtil.closeStatement(insertStmt);
+        }
+    }
+
+    /**
+     * Remove all the indexed values of a user. A failed index write is rolled back on its own, so that it does not
+     * fail the identity data removal of the same transaction.
+     *
+     * @param connection              Database connection.
+     * @param userName                Domain qualified username.
+     * @param tenantId                Tenant ID.
+     * @param isUsernameCaseSensitive Whether the username is case sensitive.
+     * @throws SQLException If an error occurred while rolling back a failed index write.
+     */
+    static void remove(Connection connection, String userName, int tenantId, boolean isUsernameCaseSensitive)
+            throws SQLException {
+
+        Savepoint savepoint = connection.setSavepoint();
+        try (PreparedStatement prepStmt = connection.prepareStatement(isUsernameCaseSensitive ?
+                DELETE_USER_TIME_DATA : DELETE_USER_TIME_DATA_CASE_INSENSITIVE)) {
+            prepStmt.setInt(1, tenantId);
+            prepStmt.setString(2, userName);
+            prepStmt.execute();
+        } catch (SQLException e) {
+            rollbackFailedWrite(connection, savepoint, tenantId, e);
+        }
+    }
+
+    private static void rollbackFailedWrite(Connection connection, Savepoint savepoint, int tenantId,
+                                            SQLException e) throws SQLException {
+
+        connection.rollback(savepoint);
+        // The index misses the write, hence the range filters should not be served by it until it is backfilled.
+        markIncomplete();
+        log.error("Error while updating the timestamp claim index of a user in the tenant: " + tenantId + ". The " +
+                "timestamp claims are filtered without the index until it is backfilled again.", e);
+    }
+}
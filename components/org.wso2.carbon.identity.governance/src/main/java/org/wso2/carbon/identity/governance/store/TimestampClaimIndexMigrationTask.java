@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Populates the numeric index of the timestamp claims from the existing identity data.
+ * <p>
+ * The values of each timestamp claim are scanned from IDN_IDENTITY_USER_DATA in batches ordered by the tenant and the
+ * username, and the numeric values of each batch are written to IDN_IDENTITY_USER_DATA_TIME in a short transaction of
+ * its own. A value is only indexed when the claim still holds the value that was read and the claim is not indexed
+ * yet, so the task does not overwrite a value indexed by a concurrent update of the claim. The task can be run again,
+ * e.g. after a failure or after a claim is added to the indexed claims. The range filters are served by the index
+ * once all the timestamp claims are indexed.
+ */
+public class TimestampClaimIndexMigrationTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(TimestampClaimIndexMigrationTask.class);
+
+    public static final String MIGRATION_BATCH_SIZE = "IdentityDataStore.TimestampIndex.MigrationBatchSize";
+    private static final int DEFAULT_MIGRATION_BATCH_SIZE = 500;
+
+    private static final String LIST_CLAIM_VALUES = "SELECT TENANT_ID, USER_NAME, DATA_VALUE FROM " +
+            "IDN_IDENTITY_USER_DATA WHERE DATA_KEY = ? AND (TENANT_ID > ? OR (TENANT_ID = ? AND USER_NAME > ?)) " +
+            "ORDER BY TENANT_ID, USER_NAME";
+
+    private final int batchSize;
+
+    /**
+     * Create the migration task with the configurations of the identity.xml.
+     */
+    public TimestampClaimIndexMigrationTask() {
+
+        this(getBatchSize());
+    }
+
+    /**
+     * Create the migration task.
+     *
+     * @param batchSize Maximum number of claim values migrated in a transaction.
+     */
+    TimestampClaimIndexMigrationTask(int batchSize) {
+
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+
+        long startTime = System.currentTimeMillis();
+        long backfillStamp = TimestampClaimIndex.getBackfillStamp();
+        int migratedCount = 0;
+        try {
+            for (String claimURI : TimestampClaimIndex.getTimestampClaims()) {
+                migratedCount += migrate(claimURI);
+            }
+            TimestampClaimIndex.markBackfilled(backfillStamp);
+            log.info(String.format("Indexed %d timestamp claim values of the identity data in %d ms.", migratedCount,
+                    System.currentTimeMillis() - startTime));
+        } catch (SQLException | RuntimeException e) {
+            log.error("Error while indexing the timestamp claim values of the identity data.", e);
+        }
+    }
+
+    /**
+     * Index the values of a timestamp claim.
+     *
+     * @param claimURI Claim URI.
+     * @return Number of indexed claim values.
+     * @throws SQLException If an error occurred while indexing the claim values.
+     */
+    int migrate(String claimURI) throws SQLException {
+
+        int lastTenantId = Integer.MIN_VALUE;
+        String lastUserName = StringUtils.EMPTY;
+        int migratedCount = 0;
+        while (true) {
+            List<ClaimValue> claimValues = new ArrayList<>();
+            try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+                try (PreparedStatement prepStmt = connection.prepareStatement(LIST_CLAIM_VALUES)) {
+                    prepStmt.setMaxRows(batchSize);
+                    prepStmt.setString(1, claimURI);
+                    prepStmt.setInt(2, lastTenantId);
+                    prepStmt.setInt(3, lastTenantId);
+                    prepStmt.setString(4, lastUserName);
+                    try (ResultSet resultSet = prepStmt.executeQuery()) {
+                        while (resultSet.next()) {
+                            claimValues.add(new ClaimValue(resultSet.getInt(1), resultSet.getString(2),
+                                    resultSet.getString(3)));
+                        }
+                    }
+                }
+                if (claimValues.isEmpty()) {
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                    return migratedCount;
+                }
+                try {
+                    migratedCount += index(connection, claimURI, claimValues);
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                } catch (SQLException e) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    throw e;
+                }
+            }
+            ClaimValue lastClaimValue = claimValues.get(claimValues.size() - 1);
+            lastTenantId = lastClaimValue.tenantId;
+            lastUserName = lastClaimValue.userName;
+            if (log.isDebugEnabled()) {
+                log.debug("Indexed the values of the claim: " + claimURI + " up to the user: " + lastUserName +
+                        " of the tenant: " + lastTenantId);
+            }
+            if (claimValues.size() < batchSize) {
+                return migratedCount;
+            }
+        }
+    }
+
+    private int index(Connection connection, String claimURI, List<ClaimValue> claimValues) throws SQLException {
+
+        int indexedCount = 0;
+        try (PreparedStatement insertStmt = connection.prepareStatement(
+                TimestampClaimIndex.INSERT_TIME_DATA_IF_ABSENT)) {
+            for (ClaimValue claimValue : claimValues) {
+                Long timeValue = TimestampClaimIndex.toTimeValue(claimValue.value);
+                if (timeValue != null) {
+                    insertStmt.setLong(1, timeValue);
+                    insertStmt.setInt(2, claimValue.tenantId);
+                    insertStmt.setString(3, claimValue.userName);
+                    insertStmt.setString(4, claimURI);
+                    insertStmt.setString(5, claimValue.value);
+                    insertStmt.addBatch();
+                    indexedCount++;
+                }
+            }
+            if (indexedCount > 0) {
+                insertStmt.executeBatch();
+            }
+        }
+        return indexedCount;
+    }
+
+    private static int getBatchSize() {
+
+        String batchSize = IdentityUtil.getProperty(MIGRATION_BATCH_SIZE);
+        if (StringUtils.isNotBlank(batchSize) && StringUtils.isNumeric(batchSize) &&
+                Integer.parseInt(batchSize) > 0) {
+            return Integer.parseInt(batchSize);
+        }
+        return DEFAULT_MIGRATION_BATCH_SIZE;
+    }
+
+    /**
+     * Value of a claim of a user.
+     */
+    private static class ClaimValue {
+
+        private final int tenantId;
+        private final String userName;
+        private final String value;
+
+        ClaimValue(int tenantId, String userName, String value) {
+
+            this.tenantId = tenantId;
+            this.userName = userName;
+            this.value = value;
+        }
+    }
+}
@@ -20,12 +20,15 @@ package org.wso2.carbon.identity.governance.store;
 
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.model.ExpressionCondition;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This interface provides to plug module for preferred persistence store.
@@ -72,6 +75,28 @@ public abstract class UserIdentityDataStore {
      */
     public abstract UserIdentityClaim load(String userName, UserStoreManager userStoreManager);
 
+    /**
+     * Loads the identity claims of the given users of a user store.
+     *
+     * @param userNames        Usernames of the users.
+     * @param userStoreManager User store manager of the users.
+     * @return Identity claims of the users mapped against the given usernames. Users without identity data are
+     * not included in the map.
+     */
+    public Map<String, UserIdentityClaim> loadUsers(List<String> userNames, UserStoreManager userStoreManager) {
+
+        // This method should be overridden by the sub classes which can load the data of several users at once.
+        // Load the users one by one to give backward compatibility.
+        Map<String, UserIdentityClaim> userIdentityClaims = new HashMap<>();
+        for (String userName : userNames) {
+            UserIdentityClaim userIdentityClaim = load(userName, userStoreManager);
+            if (userIdentityClaim != null) {
+                userIdentityClaims.put(userName, userIdentityClaim);
+            }
+        }
+        return userIdentityClaims;
+    }
+
 
     /**
      * Removes
@@ -164,6 +189,51 @@ public abstract class UserIdentityDataStore {
         return Collections.emptyList();
     }
 
+    /**
+     * Get a page of usernames who have the claim value less than the provided claim value for a given claim URI.
+     * Usernames are returned in ascending order, starting after the provided username, so that the last username of
+     * a page can be used as the cursor for the next page.
+     *
+     * @param claimURI              Claim URI.
+     * @param claimValue            Claim value.
+     * @param tenantId              Tenant ID.
+     * @param afterUserName         Username after which the page starts. Null to start from the first username.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      List of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    public List<String> getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                               String afterUserName, int limit)
+            throws IdentityException {
+
+        // Fall back to paginating the complete result if subclasses do not have any overrides.
+        return IdentityDataStoreService.getUserNamesPage(
+                getUserNamesLessThanProvidedClaimValue(claimURI, claimValue, tenantId), afterUserName, limit);
+    }
+
+    /**
+     * Get a page of usernames who have the claim value between the provided claim values for a given claim URI.
+     * Usernames are returned in ascending order, starting after the provided username, so that the last username of
+     * a page can be used as the cursor for the next page.
+     *
+     * @param claimURI              Claim URI.
+     * @param startValue            Start value.
+     * @param endValue              End value.
+     * @param tenantId              Tenant ID.
+     * @param afterUserName         Username after which the page starts. Null to start from the first username.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      List of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    public List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                               int tenantId, String afterUserName, int limit)
+            throws IdentityException {
+
+        // Fall back to paginating the complete result if subclasses do not have any overrides.
+        return IdentityDataStoreService.getUserNamesPage(
+                getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId), afterUserName, limit);
+    }
+
     /**
      * Get the list of usernames who have the claim value less than the provided claim value for a given claim URI
      * and include or exclude the users with the boolean isIncluded
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS IDN_IDENTITY_USER_DATA_TIME (
+            TENANT_ID INTEGER DEFAULT -1234,
+            USER_NAME VARCHAR(255) NOT NULL,
+            DATA_KEY VARCHAR(255) NOT NULL,
+            TIME_VALUE BIGINT NOT NULL,
+            PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_IDN_USER_DATA_TIME_VALUE ON IDN_IDENTITY_USER_DATA_TIME (TENANT_ID, DATA_KEY, TIME_VALUE);
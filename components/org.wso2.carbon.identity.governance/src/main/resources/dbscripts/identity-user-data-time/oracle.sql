@@ -0,0 +1,9 @@
+CREATE TABLE IDN_IDENTITY_USER_DATA_TIME (
+            TENANT_ID INTEGER DEFAULT -1234,
+            USER_NAME VARCHAR2(255) NOT NULL,
+            DATA_KEY VARCHAR2(255) NOT NULL,
+            TIME_VALUE NUMBER(19) NOT NULL,
+            PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY))
+/
+CREATE INDEX IDX_IDN_USER_DATA_TIME_VALUE ON IDN_IDENTITY_USER_DATA_TIME (TENANT_ID, DATA_KEY, TIME_VALUE)
+/
@@ -29,14 +29,24 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.governance.internal.IdentityMgtServiceDataHolder;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCache;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCacheEntry;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdpManager;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
@@ -60,8 +70,13 @@ public class IdentityGovernanceServiceImplTest {
     @Mock
     IdentityProvider identityProvider;
 
+    @Mock
+    IdentityGovernanceConfigCache identityGovernanceConfigCache;
+
     MockedStatic<IdentityMgtServiceDataHolder> identityMgtServiceDataHolderMockedStatic;
 
+    MockedStatic<IdentityGovernanceConfigCache> identityGovernanceConfigCacheMockedStatic;
+
     private IdentityGovernanceServiceImpl identityGovernanceService;
 
     @BeforeMethod
@@ -72,6 +87,9 @@ public class IdentityGovernanceServiceImplTest {
         identityMgtServiceDataHolderMockedStatic.when(IdentityMgtServiceDataHolder::
                 getInstance).thenReturn(identityMgtServiceDataHolder);
         when(identityMgtServiceDataHolder.getIdpManager()).thenReturn(idpManager);
+        identityGovernanceConfigCacheMockedStatic = mockStatic(IdentityGovernanceConfigCache.class);
+        identityGovernanceConfigCacheMockedStatic.when(IdentityGovernanceConfigCache::getInstance)
+                .thenReturn(identityGovernanceConfigCache);
         when(idpManager.getResidentIdP(TENANT_DOMAIN)).thenReturn(identityProvider);
 
         FederatedAuthenticatorConfig[] authenticatorConfigs = new FederatedAuthenticatorConfig[0];
@@ -84,6 +102,7 @@ public class IdentityGovernanceServiceImplTest {
     public void tearDown() {
 
         identityMgtServiceDataHolderMockedStatic.close();
+        identityGovernanceConfigCacheMockedStatic.close();
     }
 
     @Test(dataProvider = "updateConfigurations")
@@ -105,7 +124,51 @@ public class IdentityGovernanceServiceImplTest {
         for (IdentityProviderProperty capturedProperty : capturedProperties) {
             assertEquals(expected.get(capturedProperty.getName()), capturedProperty.getValue());
         }
+        verify(identityGovernanceConfigCache).clearCacheEntry(any(StringCacheKey.class),
+                eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testGetConfigurationFromResidentIdP() throws Exception {
+
+        IdentityProviderProperty alreadyWrittenProperty = new IdentityProviderProperty();
+        alreadyWrittenProperty.setName(IdentityEventConstants.PropertyConfig.ALREADY_WRITTEN_PROPERTY_KEY);
+        alreadyWrittenProperty.setValue(TRUE_STRING);
+        IdentityProviderProperty[] identityProviderProperties = getIdentityProviderProperties(true, true, false);
+        IdentityProviderProperty[] residentIdPProperties = new IdentityProviderProperty[]{
+                identityProviderProperties[0], alreadyWrittenProperty, identityProviderProperties[1],
+                identityProviderProperties[2]};
+        when(identityProvider.getIdpProperties()).thenReturn(residentIdPProperties);
+
+        Property[] properties = identityGovernanceService.getConfiguration(TENANT_DOMAIN);
+
+        assertEquals(3, properties.length);
+        assertEquals(USERNAME_RECOVERY_ENABLE, properties[0].getName());
+        assertEquals(TRUE_STRING, properties[0].getValue());
+        assertEquals(USERNAME_RECOVERY_SMS_ENABLE, properties[1].getName());
+        assertEquals(FALSE_STRING, properties[1].getValue());
+        assertEquals(USERNAME_RECOVERY_EMAIL_ENABLE, properties[2].getName());
+        assertEquals(TRUE_STRING, properties[2].getValue());
+        verify(identityGovernanceConfigCache).addToCache(any(StringCacheKey.class),
+                any(IdentityGovernanceConfigCacheEntry.class), eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testGetConfigurationFromSnapshot() throws Exception {
+
+        Map<String, String> snapshotProperties = new LinkedHashMap<>();
+        snapshotProperties.put(USERNAME_RECOVERY_ENABLE, TRUE_STRING);
+        snapshotProperties.put(USERNAME_RECOVERY_EMAIL_ENABLE, FALSE_STRING);
+        when(identityGovernanceConfigCache.getValueFromCache(any(StringCacheKey.class),
+                eq(TENANT_DOMAIN))).thenReturn(new IdentityGovernanceConfigCacheEntry(snapshotProperties));
+
+        Property[] properties = identityGovernanceService.getConfiguration(
+                new String[]{USERNAME_RECOVERY_EMAIL_ENABLE, USERNAME_RECOVERY_SMS_ENABLE}, TENANT_DOMAIN);
 
+        assertEquals(1, properties.length);
+        assertEquals(USERNAME_RECOVERY_EMAIL_ENABLE, properties[0].getName());
+        assertEquals(FALSE_STRING, properties[0].getValue());
+        verify(idpManager, never()).getResidentIdP(anyString());
     }
 
     @DataProvider(name = "updateConfigurations")
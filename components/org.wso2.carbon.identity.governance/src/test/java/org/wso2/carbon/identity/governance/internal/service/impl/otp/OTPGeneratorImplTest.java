@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.internal.service.impl.otp;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorClientException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Class contains test cases for OTPGeneratorImpl and DefaultOTPGenerator.
+ */
+public class OTPGeneratorImplTest {
+
+    private static final String UPPERCASE = IdentityMgtConstants.OTPGeneratorConstants
+            .OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE;
+    private static final String LOWERCASE = IdentityMgtConstants.OTPGeneratorConstants
+            .OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE;
+    private static final String NUMERIC_WITH_ZERO = IdentityMgtConstants.OTPGeneratorConstants
+            .OTP_GENERATE_NUMERIC_CHAR_SET_WITH_ZERO;
+    private static final String NUMERIC_WITHOUT_ZERO = IdentityMgtConstants.OTPGeneratorConstants
+            .OTP_GENERATE_NUMERIC_CHAR_SET_WITHOUT_ZERO;
+
+    @DataProvider
+    public Object[][] otpCharacterTypes() {
+
+        return new Object[][]{
+                {false, false, false, UPPERCASE + LOWERCASE + NUMERIC_WITHOUT_ZERO},
+                {true, false, false, NUMERIC_WITH_ZERO},
+                {false, true, false, UPPERCASE},
+                {false, false, true, LOWERCASE},
+                {true, true, false, UPPERCASE + NUMERIC_WITHOUT_ZERO},
+                {true, false, true, LOWERCASE + NUMERIC_WITHOUT_ZERO},
+                {false, true, true, UPPERCASE + LOWERCASE},
+                {true, true, true, UPPERCASE + LOWERCASE + NUMERIC_WITHOUT_ZERO}
+        };
+    }
+
+    @Test(dataProvider = "otpCharacterTypes")
+    public void testGenerateOTP(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters,
+                                String expectedCharSet) {
+
+        String otp = new OTPGeneratorImpl().generateOTP(useNumeric, useUppercaseLetters, useLowercaseLetters, 8,
+                null);
+
+        assertEquals(otp.length(), 8);
+        assertOTPCharacters(otp, expectedCharSet);
+    }
+
+    @Test
+    public void testGenerateOTPWithInvalidLength() {
+
+        String otp = new OTPGeneratorImpl().generateOTP(true, false, false, 100, null);
+
+        assertEquals(otp.length(), IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_DEFAULT_LENGTH);
+        assertOTPCharacters(otp, NUMERIC_WITH_ZERO);
+    }
+
+    @Test
+    public void testGenerateOTPWithDefaultOTPGenerator() throws Exception {
+
+        String otp = new DefaultOTPGenerator().generateOTP(true, false, true, 12, null);
+
+        assertEquals(otp.length(), 12);
+        assertOTPCharacters(otp, "abcdefghijklmnopqrstuvwxyz0123456789");
+    }
+
+    @Test(expectedExceptions = OTPGeneratorClientException.class)
+    public void testGenerateOTPWithDefaultOTPGeneratorWithoutCharacterTypes() throws Exception {
+
+        new DefaultOTPGenerator().generateOTP(false, false, false, 6, null);
+    }
+
+    private void assertOTPCharacters(String otp, String charSet) {
+
+        for (char otpCharacter : otp.toCharArray()) {
+            assertTrue(charSet.indexOf(otpCharacter) >= 0, "Unexpected OTP character: " + otpCharacter);
+        }
+    }
+}
@@ -28,20 +28,37 @@ import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityDataStoreCache;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityDataStoreCacheKey;
+import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreServiceImpl;
 import org.wso2.carbon.identity.governance.store.Utils.TestUtils;
+import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.config.RealmConfiguration;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class JDBCIdentityDataStoreTest {
 
@@ -53,6 +70,9 @@ public class JDBCIdentityDataStoreTest {
     private static final String CLAIM_VALUE_2 = "1673000000000";
     private static final String NESTED_CLAIM_URI = "http://wso2.org/claims/identity/accountState";
     private static final String NESTED_CLAIM_VALUE = "DISABLED";
+    private static final String USER_STORE_DOMAIN = "DEFAULT";
+    // Lexicographically greater than the 13 digit timestamps of the other users.
+    private static final String TWELVE_DIGIT_TIMESTAMP_USER = "DEFAULT/sampleUser7@xmail.com";
 
     private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtils;
     private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
@@ -68,10 +88,9 @@ public class JDBCIdentityDataStoreTest {
         TestUtils.initiateH2Base();
         TestUtils.mockDataSource();
 
-        Connection connection = TestUtils.getConnection();
         mockedIdentityDatabaseUtils = Mockito.mockStatic(IdentityDatabaseUtil.class);
         mockedIdentityDatabaseUtils.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
-                .thenReturn(connection);
+                .thenAnswer(invocation -> TestUtils.getConnection());
 
         mockedIdentityTenantUtil = Mockito.mockStatic(IdentityTenantUtil.class);
         mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString()))
@@ -101,6 +120,7 @@ public class JDBCIdentityDataStoreTest {
         mockedIdentityTenantUtil.close();
         mockedCarbonContext.close();
         mockedIdentityUtil.close();
+        TimestampClaimIndex.markIncomplete();
         TestUtils.closeH2Base();
     }
 
@@ -139,4 +159,213 @@ public class JDBCIdentityDataStoreTest {
 
         assertEquals(userNames.size(), expected);
     }
+
+    @Test
+    public void testGetUserNamesLessThanProvidedClaimValueInPages() throws Exception {
+
+        List<String> userNames = new ArrayList<>();
+        List<String> page;
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            page = identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI, CLAIM_VALUE_1,
+                    TENANT_ID, cursor, 2);
+            assertTrue(page.size() <= 2);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1);
+                userNames.addAll(page);
+            }
+            pageCount++;
+        } while (page.size() == 2);
+
+        assertEquals(userNames, identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI,
+                CLAIM_VALUE_1, TENANT_ID, null, Integer.MAX_VALUE));
+        assertEquals(userNames.size(), identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI,
+                CLAIM_VALUE_1, TENANT_ID).size());
+        assertEquals(pageCount, userNames.size() / 2 + 1);
+    }
+
+    @Test
+    public void testGetUserNamesBetweenProvidedClaimValuesInPages() throws Exception {
+
+        List<String> firstPage = identityDataStoreService.getUserNamesBetweenProvidedClaimValues(CLAIM_URI,
+                CLAIM_VALUE_2, CLAIM_VALUE_1, TENANT_ID, null, 2);
+        List<String> secondPage = identityDataStoreService.getUserNamesBetweenProvidedClaimValues(CLAIM_URI,
+                CLAIM_VALUE_2, CLAIM_VALUE_1, TENANT_ID, firstPage.get(firstPage.size() - 1), 2);
+
+        List<String> userNames = new ArrayList<>(firstPage);
+        userNames.addAll(secondPage);
+        assertEquals(firstPage.size(), 2);
+        assertTrue(firstPage.get(1).compareTo(firstPage.get(0)) > 0);
+        assertTrue(secondPage.stream().noneMatch(firstPage::contains));
+        assertEquals(userNames.size(), identityDataStoreService.getUserNamesBetweenProvidedClaimValues(CLAIM_URI,
+                CLAIM_VALUE_2, CLAIM_VALUE_1, TENANT_ID).size());
+    }
+
+    @Test
+    public void testLoadUsers() throws Exception {
+
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn(USER_STORE_DOMAIN);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+
+        IdentityDataStoreCache identityDataStoreCache = mock(IdentityDataStoreCache.class);
+        try (MockedStatic<IdentityDataStoreCache> mockedIdentityDataStoreCache =
+                     Mockito.mockStatic(IdentityDataStoreCache.class)) {
+            mockedIdentityDataStoreCache.when(IdentityDataStoreCache::getInstance).thenReturn(identityDataStoreCache);
+            JDBCIdentityDataStore identityDataStore = new JDBCIdentityDataStore();
+
+            Map<String, UserIdentityClaim> userIdentityClaims = identityDataStore.loadUsers(Arrays.asList(
+                    "sampleUser1@xmail.com", USER_STORE_DOMAIN + "/sampleUser2@xmail.com", "sampleUser6@xmail.com"),
+                    userStoreManager);
+
+            assertEquals(userIdentityClaims.size(), 3);
+            assertEquals(userIdentityClaims.get("sampleUser1@xmail.com").getUserIdentityDataMap()
+                    .get(NESTED_CLAIM_URI), NESTED_CLAIM_VALUE);
+            assertEquals(userIdentityClaims.get(USER_STORE_DOMAIN + "/sampleUser2@xmail.com").getUserIdentityDataMap()
+                    .get(CLAIM_URI), "1673481600000");
+            assertTrue(userIdentityClaims.get("sampleUser6@xmail.com").getUserIdentityDataMap().isEmpty());
+            verify(identityDataStoreCache, times(3)).addToCache(any(IdentityDataStoreCacheKey.class),
+                    any(UserIdentityClaim.class), eq(TENANT_ID));
+        }
+    }
+
+    @Test
+    public void testGetUserNamesWithTimestampIndex() throws Exception {
+
+        assertFalse(identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI, CLAIM_VALUE_1,
+                TENANT_ID).contains(TWELVE_DIGIT_TIMESTAMP_USER));
+
+        enableTimestampIndex();
+        assertEquals(new TimestampClaimIndexMigrationTask(2).migrate(CLAIM_URI), 6);
+        // The index is not used until all the timestamp claims are backfilled.
+        assertFalse(identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI, CLAIM_VALUE_1,
+                TENANT_ID).contains(TWELVE_DIGIT_TIMESTAMP_USER));
+
+        new TimestampClaimIndexMigrationTask(2).run();
+        List<String> userNames = identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI,
+                CLAIM_VALUE_1, TENANT_ID);
+        assertEquals(userNames.size(), 6);
+        assertTrue(userNames.contains(TWELVE_DIGIT_TIMESTAMP_USER));
+        assertEquals(identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI, CLAIM_VALUE_1,
+                TENANT_ID, null, 10).size(), 6);
+        assertEquals(identityDataStoreService.getUserNamesMoreThanProvidedClaimValue(CLAIM_URI, CLAIM_VALUE_2,
+                TENANT_ID).size(), 4);
+        assertEquals(identityDataStoreService.getUserNamesBetweenProvidedClaimValues(CLAIM_URI, CLAIM_VALUE_2,
+                CLAIM_VALUE_1, TENANT_ID).size(), 4);
+        assertEquals(identityDataStoreService.getUserNamesLessThanClaimWithNestedClaim(CLAIM_URI, CLAIM_VALUE_1,
+                NESTED_CLAIM_URI, NESTED_CLAIM_VALUE, TENANT_ID, false).size(), 3);
+    }
+
+    @Test
+    public void testMigrationKeepsIndexedValues() throws Exception {
+
+        // A value indexed by a concurrent update of the claim, which is newer than the value in the identity data.
+        try (Connection connection = TestUtils.getConnection();
+             PreparedStatement prepStmt = connection.prepareStatement(TimestampClaimIndex.INSERT_TIME_DATA)) {
+            prepStmt.setInt(1, TENANT_ID);
+            prepStmt.setString(2, USER_STORE_DOMAIN + "/sampleUser1@xmail.com");
+            prepStmt.setString(3, CLAIM_URI);
+            prepStmt.setLong(4, 1690000000000L);
+            prepStmt.executeUpdate();
+        }
+
+        enableTimestampIndex();
+        new TimestampClaimIndexMigrationTask(2).run();
+
+        List<String> userNames = identityDataStoreService.getUserNamesLessThanProvidedClaimValue(CLAIM_URI,
+                CLAIM_VALUE_1, TENANT_ID);
+        assertEquals(userNames.size(), 5);
+        assertFalse(userNames.contains(USER_STORE_DOMAIN + "/sampleUser1@xmail.com"));
+    }
+
+    @Test
+    public void testFailedTimestampIndexWriteKeepsIdentityData() throws Exception {
+
+        enableTimestampIndex();
+        new TimestampClaimIndexMigrationTask(2).run();
+        assertTrue(TimestampClaimIndex.isBackfilled());
+        try (Connection connection = TestUtils.getConnection()) {
+            connection.createStatement().executeUpdate("DROP TABLE IDN_IDENTITY_USER_DATA_TIME");
+        }
+        mockedIdentityDatabaseUtils.when(IdentityDatabaseUtil::getDBConnection).thenAnswer(invocation -> {
+            Connection connection = TestUtils.getConnection();
+            connection.setAutoCommit(false);
+            return connection;
+        });
+        mockedIdentityDatabaseUtils.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                .thenCallRealMethod();
+        mockedIdentityDatabaseUtils.when(() -> IdentityDatabaseUtil.closeConnection(any(Connection.class)))
+                .thenCallRealMethod();
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn(USER_STORE_DOMAIN);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+
+        try (MockedStatic<IdentityDataStoreCache> mockedIdentityDataStoreCache =
+                     Mockito.mockStatic(IdentityDataStoreCache.class)) {
+            mockedIdentityDataStoreCache.when(IdentityDataStoreCache::getInstance)
+                    .thenReturn(mock(IdentityDataStoreCache.class));
+            JDBCIdentityDataStore identityDataStore = new JDBCIdentityDataStore();
+
+            UserIdentityClaim userIdentityClaim = new UserIdentityClaim("sampleUser8@xmail.com");
+            userIdentityClaim.setUserIdentityDataClaim(CLAIM_URI, "999990000000");
+            identityDataStore.store(userIdentityClaim, userStoreManager);
+
+            // The claim is persisted and filtered without the index, which misses the failed write.
+            assertFalse(TimestampClaimIndex.isBackfilled());
+            assertTrue(identityDataStore.getUserNamesLessThanProvidedClaimValue(CLAIM_URI, "999993600000",
+                    TENANT_ID).contains(USER_STORE_DOMAIN + "/sampleUser8@xmail.com"));
+        }
+    }
+
+    @Test
+    public void testStoreAndRemoveWithTimestampIndex() throws Exception {
+
+        enableTimestampIndex();
+        new TimestampClaimIndexMigrationTask(2).run();
+        mockedIdentityDatabaseUtils.when(IdentityDatabaseUtil::getDBConnection)
+                .thenAnswer(invocation -> TestUtils.getConnection());
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn(USER_STORE_DOMAIN);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+
+        try (MockedStatic<IdentityDataStoreCache> mockedIdentityDataStoreCache =
+                     Mockito.mockStatic(IdentityDataStoreCache.class)) {
+            mockedIdentityDataStoreCache.when(IdentityDataStoreCache::getInstance)
+                    .thenReturn(mock(IdentityDataStoreCache.class));
+            JDBCIdentityDataStore identityDataStore = new JDBCIdentityDataStore();
+
+            UserIdentityClaim userIdentityClaim = new UserIdentityClaim("sampleUser8@xmail.com");
+            userIdentityClaim.setUserIdentityDataClaim(CLAIM_URI, "999990000000");
+            identityDataStore.store(userIdentityClaim, userStoreManager);
+            assertEquals(identityDataStore.getUserNamesLessThanProvidedClaimValue(CLAIM_URI, "999993600000",
+                    TENANT_ID), Collections.singletonList(USER_STORE_DOMAIN + "/sampleUser8@xmail.com"));
+
+            userIdentityClaim = new UserIdentityClaim("sampleUser8@xmail.com");
+            userIdentityClaim.setUserIdentityDataClaim(CLAIM_URI, "1690000000000");
+            identityDataStore.store(userIdentityClaim, userStoreManager);
+            assertTrue(identityDataStore.getUserNamesLessThanProvidedClaimValue(CLAIM_URI, "999993600000",
+                    TENANT_ID).isEmpty());
+            assertEquals(identityDataStore.getUserNamesMoreThanProvidedClaimValue(CLAIM_URI, CLAIM_VALUE_1,
+                    TENANT_ID), Collections.singletonList(USER_STORE_DOMAIN + "/sampleUser8@xmail.com"));
+
+            identityDataStore.remove("sampleUser8@xmail.com", userStoreManager);
+            assertTrue(identityDataStore.getUserNamesMoreThanProvidedClaimValue(CLAIM_URI, CLAIM_VALUE_1,
+                    TENANT_ID).isEmpty());
+        }
+    }
+
+    private void enableTimestampIndex() {
+
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(TimestampClaimIndex.TIMESTAMP_INDEX_ENABLE))
+                .thenReturn("true");
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(TimestampClaimIndex.TIMESTAMP_INDEX_CLAIMS))
+                .thenReturn(null);
+    }
 }
@@ -29,6 +29,9 @@ public class IdleAccIdentificationConstants {
     public static final String ACCOUNT_STATE_CLAIM_URI = "http://wso2.org/claims/identity/accountState";
     public static final String ACCOUNT_STATE_DISABLED = "DISABLED";
 
+    public static final int DEFAULT_INACTIVE_USERS_PAGE_LIMIT = 1000;
+    public static final int MAX_INACTIVE_USERS_PAGE_LIMIT = 10000;
+
     /**
      * Class containing SQL queries.
      */
@@ -48,6 +51,11 @@ public class IdleAccIdentificationConstants {
      */
     public enum ErrorMessages {
 
+        // Client errors 600xx.
+        ERROR_INVALID_PAGE_LIMIT("60001",
+                "Invalid page limit.",
+                "Page limit should be between 1 and %d."),
+
         // Server errors 650xx.
         ERROR_RETRIEVE_INACTIVE_USERS_FROM_DB("65002",
                 "Error while retrieving inactive users from database.",
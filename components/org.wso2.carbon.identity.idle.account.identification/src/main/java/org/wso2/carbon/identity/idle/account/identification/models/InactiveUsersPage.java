@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.idle.account.identification.models;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Object for a page of inactive users along with the cursor to retrieve the next page.
+ */
+public class InactiveUsersPage {
+
+    private final List<InactiveUserModel> inactiveUsers;
+    private final String nextCursor;
+
+    public InactiveUsersPage(List<InactiveUserModel> inactiveUsers, String nextCursor) {
+
+        this.inactiveUsers = inactiveUsers == null ? Collections.emptyList() : inactiveUsers;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Method to get inactive users of the page.
+     *
+     * @return inactive users.
+     */
+    public List<InactiveUserModel> getInactiveUsers() {
+
+        return inactiveUsers;
+    }
+
+    /**
+     * Method to get the cursor to be used to retrieve the next page.
+     *
+     * @return next cursor, or null if there are no more pages.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    /**
+     * Method to check whether there are more pages to be retrieved.
+     *
+     * @return true if there are more pages.
+     */
+    public boolean hasNextPage() {
+
+        return nextCursor != null;
+    }
+}
@@ -2,6 +2,7 @@ package org.wso2.carbon.identity.idle.account.identification.services;
 
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationException;
 import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
+import org.wso2.carbon.identity.idle.account.identification.models.InactiveUsersPage;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -40,6 +41,28 @@ public interface IdleAccountIdentificationService {
     List<InactiveUserModel> getLimitedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
             LocalDateTime excludeBefore, String tenantDomain) throws IdleAccountIdentificationException;
 
+    /**
+     * Get a page of inactive users from a specific date, optionally excluding the oldest inactive users.
+     * Pages are ordered by username. The cursor of the returned page should be passed to retrieve the next page,
+     * until a page without a next cursor is returned.
+     *
+     * @param inactiveAfter date after which the user should be inactive.
+     * @param excludeBefore date before which the user should be excluded. Null to not exclude any users.
+     * @param tenantDomain  tenant domain.
+     * @param cursor        cursor returned with the previous page. Null to retrieve the first page.
+     * @param limit         maximum number of users in the page.
+     * @return              page of inactive users.
+     * @throws IdleAccountIdentificationException Exception when retrieving inactive users from database.
+     */
+    default InactiveUsersPage getPaginatedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
+                                                                        LocalDateTime excludeBefore,
+                                                                        String tenantDomain, String cursor,
+                                                                        int limit)
+            throws IdleAccountIdentificationException {
+
+        return new InactiveUsersPage(Collections.emptyList(), null);
+    }
+
     /**
      * Get inactive users from a specific date or from a specific date excluding the oldest inactive users while
      * filtering the disabled users based on the value provided for the isDisabled.
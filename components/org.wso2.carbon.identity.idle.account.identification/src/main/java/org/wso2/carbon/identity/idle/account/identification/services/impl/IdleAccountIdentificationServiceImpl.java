@@ -23,14 +23,17 @@ import org.wso2.carbon.context.CarbonContext;
 
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.idle.account.identification.constants.IdleAccIdentificationConstants;
+import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationServerException;
 import org.wso2.carbon.identity.idle.account.identification.internal.IdleAccountIdentificationDataHolder;
 import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
+import org.wso2.carbon.identity.idle.account.identification.models.InactiveUsersPage;
 import org.wso2.carbon.identity.idle.account.identification.services.IdleAccountIdentificationService;
 
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.UserStoreManager;
@@ -40,7 +43,10 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the service interface for idle account identification.
@@ -51,44 +57,83 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
     public List<InactiveUserModel> getInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter, String tenantDomain)
             throws IdleAccountIdentificationException {
 
-        List<InactiveUserModel> inactiveUsers = new ArrayList<>();
-        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        String lastLoginTime = Long.toString(inactiveAfter.toEpochSecond(ZoneOffset.UTC));
-        try {
-            List<String> usernames = IdleAccountIdentificationDataHolder.getInstance().getIdentityDataStoreService()
-                    .getUserNamesLessThanProvidedClaimValue(IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM,
-                            lastLoginTime, tenantId);
-            if (!usernames.isEmpty()) {
-                inactiveUsers = buildInactiveUsers(usernames);
-            }
-        } catch (IdentityException e) {
-            IdleAccIdentificationConstants.ErrorMessages errorEnum =
-                    IdleAccIdentificationConstants.ErrorMessages.ERROR_RETRIEVE_INACTIVE_USERS_FROM_DB;
-            throw new IdleAccountIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
-        }
-        return inactiveUsers;
+        return getAllInactiveUsers(inactiveAfter, null, tenantDomain);
     }
 
     @Override
     public List<InactiveUserModel> getLimitedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
                        LocalDateTime excludeBefore, String tenantDomain) throws IdleAccountIdentificationException {
 
-        List<InactiveUserModel> inactiveUsers = new ArrayList<>();
+        return getAllInactiveUsers(inactiveAfter, excludeBefore, tenantDomain);
+    }
+
+    @Override
+    public InactiveUsersPage getPaginatedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
+                                                                       LocalDateTime excludeBefore,
+                                                                       String tenantDomain, String cursor,
+                                                                       int limit)
+            throws IdleAccountIdentificationException {
+
+        if (limit <= 0 || limit > IdleAccIdentificationConstants.MAX_INACTIVE_USERS_PAGE_LIMIT) {
+            IdleAccIdentificationConstants.ErrorMessages errorEnum =
+                    IdleAccIdentificationConstants.ErrorMessages.ERROR_INVALID_PAGE_LIMIT;
+            throw new IdleAccountIdentificationClientException(errorEnum.getCode(), errorEnum.getMessage(),
+                    String.format(errorEnum.getDescription(),
+                            IdleAccIdentificationConstants.MAX_INACTIVE_USERS_PAGE_LIMIT));
+        }
+
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        String inactiveDateEpoch = Long.toString(inactiveAfter.toEpochSecond(ZoneOffset.UTC));
-        String excludeDateEpoch = Long.toString(excludeBefore.toEpochSecond(ZoneOffset.UTC));
+        // The last login time claim holds epoch milliseconds.
+        String inactiveDateEpoch = Long.toString(inactiveAfter.toInstant(ZoneOffset.UTC).toEpochMilli());
+        List<String> usernames;
         try {
-            List<String> usernames = IdleAccountIdentificationDataHolder.getInstance().getIdentityDataStoreService()
-                    .getUserNamesBetweenProvidedClaimValues(IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM,
-                            excludeDateEpoch, inactiveDateEpoch, tenantId);
-            if (!usernames.isEmpty()) {
-                inactiveUsers = buildInactiveUsers(usernames);
+            IdentityDataStoreService identityDataStoreService =
+                    IdleAccountIdentificationDataHolder.getInstance().getIdentityDataStoreService();
+            if (excludeBefore == null) {
+                usernames = identityDataStoreService.getUserNamesLessThanProvidedClaimValue(
+                        IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM, inactiveDateEpoch, tenantId, cursor,
+                        limit);
+            } else {
+                String excludeDateEpoch = Long.toString(excludeBefore.toInstant(ZoneOffset.UTC).toEpochMilli());
+                usernames = identityDataStoreService.getUserNamesBetweenProvidedClaimValues(
+                        IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM, excludeDateEpoch, inactiveDateEpoch,
+                        tenantId, cursor, limit);
             }
         } catch (IdentityException e) {
             IdleAccIdentificationConstants.ErrorMessages errorEnum =
                     IdleAccIdentificationConstants.ErrorMessages.ERROR_RETRIEVE_INACTIVE_USERS_FROM_DB;
             throw new IdleAccountIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
         }
+
+        if (usernames.isEmpty()) {
+            return new InactiveUsersPage(new ArrayList<>(), null);
+        }
+        // A full page indicates that there may be more users after the last username of this page.
+        String nextCursor = usernames.size() < limit ? null : usernames.get(usernames.size() - 1);
+        return new InactiveUsersPage(buildInactiveUsers(usernames), nextCursor);
+    }
+
+    /**
+     * Retrieve all inactive users by iterating through the pages of inactive users.
+     *
+     * @param inactiveAfter Inactive after date.
+     * @param excludeBefore Exclude before date. Null to not exclude any users.
+     * @param tenantDomain  Tenant domain.
+     * @return List of inactive users.
+     * @throws IdleAccountIdentificationException Idle account identification exception.
+     */
+    private List<InactiveUserModel> getAllInactiveUsers(LocalDateTime inactiveAfter, LocalDateTime excludeBefore,
+                                                        String tenantDomain)
+            throws IdleAccountIdentificationException {
+
+        List<InactiveUserModel> inactiveUsers = new ArrayList<>();
+        String cursor = null;
+        do {
+            InactiveUsersPage page = getPaginatedInactiveUsersFromSpecificDate(inactiveAfter, excludeBefore,
+                    tenantDomain, cursor, IdleAccIdentificationConstants.DEFAULT_INACTIVE_USERS_PAGE_LIMIT);
+            inactiveUsers.addAll(page.getInactiveUsers());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
         return inactiveUsers;
     }
 
@@ -109,7 +154,7 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
 
         List<InactiveUserModel> inactiveUsers = new ArrayList<>();
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        String lastLoginTime = Long.toString(inactiveAfter.toEpochSecond(ZoneOffset.UTC));
+        String lastLoginTime = Long.toString(inactiveAfter.toInstant(ZoneOffset.UTC).toEpochMilli());
         List<String> usernames;
         try {
             if (excludeBefore == null) {
@@ -119,7 +164,7 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
                                 IdleAccIdentificationConstants.ACCOUNT_STATE_CLAIM_URI,
                                 IdleAccIdentificationConstants.ACCOUNT_STATE_DISABLED, tenantId, isDisabled);
             } else {
-                String excludeDateEpoch = Long.toString(excludeBefore.toEpochSecond(ZoneOffset.UTC));
+                String excludeDateEpoch = Long.toString(excludeBefore.toInstant(ZoneOffset.UTC).toEpochMilli());
                 usernames = IdleAccountIdentificationDataHolder.getInstance().getIdentityDataStoreService()
                         .getUserNamesBetweenGivenClaimsWithNestedClaim(
                                 IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM, excludeDateEpoch, lastLoginTime,
@@ -147,8 +192,9 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
             throws IdleAccountIdentificationServerException {
 
         List<InactiveUserModel> inactiveUsers = new ArrayList<>();
+        Map<String, String> userIds = fetchUserIds(usernames);
         for (String username : usernames) {
-            String userId = fetchUserId(username);
+            String userId = userIds.get(username);
             if (StringUtils.isNotBlank(userId)) {
                 InactiveUserModel inactiveUser = new InactiveUserModel();
                 inactiveUser.setUsername(username);
@@ -160,6 +206,40 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
         return inactiveUsers;
     }
 
+    /**
+     * Fetch UUIDs of a list of users. The user store manager is resolved once per user store domain.
+     *
+     * @param usernames         list of usernames.
+     * @return                  map of username to UUID of the user.
+     */
+    public Map<String, String> fetchUserIds(List<String> usernames) throws IdleAccountIdentificationServerException {
+
+        Map<String, List<String>> usernamesByDomain = new LinkedHashMap<>();
+        for (String username : usernames) {
+            usernamesByDomain.computeIfAbsent(UserCoreUtil.extractDomainFromName(username),
+                    domain -> new ArrayList<>()).add(username);
+        }
+
+        Map<String, String> userIds = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : usernamesByDomain.entrySet()) {
+            UserStoreManager userStoreManager = getUserStoreManager(entry.getKey());
+            if (!(userStoreManager instanceof AbstractUserStoreManager)) {
+                continue;
+            }
+            try {
+                for (String username : entry.getValue()) {
+                    userIds.put(username,
+                            ((AbstractUserStoreManager) userStoreManager).getUserIDFromUserName(username));
+                }
+            } catch (UserStoreException e) {
+                IdleAccIdentificationConstants.ErrorMessages errorEnum =
+                        IdleAccIdentificationConstants.ErrorMessages.ERROR_RETRIEVE_USER_UUID;
+                throw new IdleAccountIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
+            }
+        }
+        return userIds;
+    }
+
     /**
      * Fetch UUID of the user.
      *
@@ -26,8 +26,10 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.context.CarbonContext;
 
+import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 import org.wso2.carbon.identity.idle.account.identification.internal.IdleAccountIdentificationDataHolder;
 import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
+import org.wso2.carbon.identity.idle.account.identification.models.InactiveUsersPage;
 import org.wso2.carbon.identity.idle.account.identification.services.impl.IdleAccountIdentificationServiceImpl;
 import org.wso2.carbon.identity.idle.account.identification.util.TestUtils;
 
@@ -36,20 +38,29 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreServiceImpl;
+import org.wso2.carbon.identity.governance.store.TimestampClaimIndex;
+import org.wso2.carbon.identity.governance.store.TimestampClaimIndexMigrationTask;
 import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.UserStoreManager;
 
-import java.sql.Connection;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class IdleAccountIdentificationServiceImplTest {
 
@@ -59,8 +70,6 @@ public class IdleAccountIdentificationServiceImplTest {
     private static final String IDENTITY_DATA_STORE_TYPE = "org.wso2.carbon.identity." +
             "governance.store.JDBCIdentityDataStore";
 
-    private Connection connection;
-
     private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtils;
     private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
     private MockedStatic<CarbonContext> mockedCarbonContext;
@@ -76,10 +85,9 @@ public class IdleAccountIdentificationServiceImplTest {
         TestUtils.initiateH2Base();
         TestUtils.mockDataSource();
 
-        connection = TestUtils.getConnection();
         mockedIdentityDatabaseUtils = Mockito.mockStatic(IdentityDatabaseUtil.class);
         mockedIdentityDatabaseUtils.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
-                .thenReturn(connection);
+                .thenAnswer(invocation -> TestUtils.getConnection());
 
         mockedIdentityTenantUtil = Mockito.mockStatic(IdentityTenantUtil.class);
         mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString()))
@@ -127,7 +135,7 @@ public class IdleAccountIdentificationServiceImplTest {
 
         IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
                 spy(IdleAccountIdentificationServiceImpl.class);
-        doReturn(SAMPLE_USER_ID).when(idleAccountIdentificationService).fetchUserId(anyString());
+        mockFetchUserIds(idleAccountIdentificationService);
 
         List<InactiveUserModel> inactiveUsers = idleAccountIdentificationService.
                 getInactiveUsersFromSpecificDate(inactiveAfter, TENANT_DOMAIN);
@@ -150,7 +158,7 @@ public class IdleAccountIdentificationServiceImplTest {
 
         IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
                 spy(IdleAccountIdentificationServiceImpl.class);
-        doReturn(SAMPLE_USER_ID).when(idleAccountIdentificationService).fetchUserId(anyString());
+        mockFetchUserIds(idleAccountIdentificationService);
 
         List<InactiveUserModel> inactiveUsers = idleAccountIdentificationService.
                 getLimitedInactiveUsersFromSpecificDate(inactiveAfter, excludeBefore, TENANT_DOMAIN);
@@ -175,11 +183,90 @@ public class IdleAccountIdentificationServiceImplTest {
 
         IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
                 spy(IdleAccountIdentificationServiceImpl.class);
-        doReturn(SAMPLE_USER_ID).when(idleAccountIdentificationService).fetchUserId(anyString());
+        mockFetchUserIds(idleAccountIdentificationService);
 
         List<InactiveUserModel> inactiveUsers = idleAccountIdentificationService.
                 filterInactiveUsersIfDisabled(inactiveAfter, excludeBefore, TENANT_DOMAIN, isDisabled);
 
         assertEquals(inactiveUsers.size(), expected);
     }
+
+    @DataProvider
+    public Object[][] getDatesAndPageLimits() {
+
+        return new Object[][]{
+                {LocalDate.parse("2023-01-31").atStartOfDay(), null, 2, 5, 3},
+                {LocalDate.parse("2023-01-31").atStartOfDay(), null, 5, 5, 2},
+                {LocalDate.parse("2023-01-31").atStartOfDay(), LocalDate.parse("2023-01-15").atStartOfDay(), 2, 3, 2},
+                {LocalDate.parse("2023-01-01").atStartOfDay(), null, 2, 0, 1}
+        };
+    }
+
+    @Test(dataProvider = "getDatesAndPageLimits")
+    public void testGetPaginatedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
+                                                              LocalDateTime excludeBefore, int limit,
+                                                              int expectedUsers, int expectedPages) throws Exception {
+
+        IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
+                spy(IdleAccountIdentificationServiceImpl.class);
+        mockFetchUserIds(idleAccountIdentificationService);
+
+        Set<String> usernames = new HashSet<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            InactiveUsersPage page = idleAccountIdentificationService.getPaginatedInactiveUsersFromSpecificDate(
+                    inactiveAfter, excludeBefore, TENANT_DOMAIN, cursor, limit);
+            assertTrue(page.getInactiveUsers().size() <= limit);
+            for (InactiveUserModel inactiveUser : page.getInactiveUsers()) {
+                assertTrue(usernames.add(inactiveUser.getUsername()));
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(usernames.size(), expectedUsers);
+        assertEquals(pages, expectedPages);
+        verify(idleAccountIdentificationService, never()).fetchUserId(anyString());
+    }
+
+    @Test(dataProvider = "getDates1")
+    public void testGetInactiveUsersFromSpecificDateWithTimestampIndex(LocalDateTime inactiveAfter, int expected)
+            throws Exception {
+
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(TimestampClaimIndex.TIMESTAMP_INDEX_ENABLE))
+                .thenReturn("true");
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(TimestampClaimIndex.TIMESTAMP_INDEX_CLAIMS))
+                .thenReturn(null);
+        new TimestampClaimIndexMigrationTask().run();
+
+        IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
+                spy(IdleAccountIdentificationServiceImpl.class);
+        mockFetchUserIds(idleAccountIdentificationService);
+
+        // The last login times are epoch milliseconds, compared numerically by the index.
+        List<InactiveUserModel> inactiveUsers = idleAccountIdentificationService.
+                getInactiveUsersFromSpecificDate(inactiveAfter, TENANT_DOMAIN);
+
+        assertEquals(inactiveUsers.size(), expected);
+    }
+
+    @Test(expectedExceptions = IdleAccountIdentificationClientException.class)
+    public void testGetPaginatedInactiveUsersWithInvalidLimit() throws Exception {
+
+        new IdleAccountIdentificationServiceImpl().getPaginatedInactiveUsersFromSpecificDate(
+                LocalDate.parse("2023-01-31").atStartOfDay(), null, TENANT_DOMAIN, null, 0);
+    }
+
+    private void mockFetchUserIds(IdleAccountIdentificationServiceImpl idleAccountIdentificationService)
+            throws Exception {
+
+        doAnswer(invocation -> {
+            Map<String, String> userIds = new HashMap<>();
+            for (String username : (List<String>) invocation.getArgument(0)) {
+                userIds.put(username, SAMPLE_USER_ID);
+            }
+            return userIds;
+        }).when(idleAccountIdentificationService).fetchUserIds(anyList());
+    }
 }
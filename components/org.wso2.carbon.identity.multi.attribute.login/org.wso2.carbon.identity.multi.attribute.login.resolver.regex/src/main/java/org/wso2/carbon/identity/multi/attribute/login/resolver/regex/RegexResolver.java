@@ -22,15 +22,18 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.CarbonConstants;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.MultiAttributeLoginResolver;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaim;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaimsCache;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaimsCacheEntry;
 import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.utils.UserResolverUtil;
 import org.wso2.carbon.user.api.Claim;
 import org.wso2.carbon.user.api.ClaimManager;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UniqueIDUserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
-import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.common.AuthenticationResult;
@@ -45,10 +48,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -67,11 +70,11 @@ public class RegexResolver implements MultiAttributeLoginResolver {
             if (allowedAttributes == null) {
                 return resolvedUserResult;
             }
-            UserRealm userRealm = UserResolverUtil.getUserRealm(tenantDomain);
             UniqueIDUserStoreManager userStoreManager = UserResolverUtil.getUserStoreManager(tenantDomain);
-            ClaimManager claimManager = userRealm.getClaimManager();
+            ResolvedLoginClaimsCacheEntry resolvedLoginClaims = getResolvedLoginClaims(allowedAttributes,
+                    tenantDomain);
 
-            resolveDistinctUsersForClaims(loginAttribute, allowedAttributes, claimManager, userStoreManager,
+            resolveDistinctUsersForClaims(loginAttribute, allowedAttributes, resolvedLoginClaims, userStoreManager,
                     resolvedUserResult);
 
         } catch (UserStoreException e) {
@@ -81,7 +84,7 @@ public class RegexResolver implements MultiAttributeLoginResolver {
     }
 
     private void resolveDistinctUsersForClaims(String loginAttribute, List<String> allowedAttributes,
-                                               ClaimManager claimManager,
+                                               ResolvedLoginClaimsCacheEntry resolvedLoginClaims,
                                                UniqueIDUserStoreManager userStoreManager,
                                                ResolvedUserResult resolvedUserResult)
             throws UserStoreException {
@@ -91,16 +94,10 @@ public class RegexResolver implements MultiAttributeLoginResolver {
         List<String> userStorePreferenceOrder  = getUserStorePreferenceOrder();
 
         // Resolve the user from the regex matching.
-        for (String claimURI : allowedAttributes) {
-            Claim claim = claimManager.getClaim(claimURI);
-            if (claim == null || StringUtils.isBlank(claim.getRegEx())) {
-                continue;
-            }
-
-            Pattern pattern = Pattern.compile(claim.getRegEx());
-            String domainSeparateAttribute = UserCoreUtil.removeDomainFromName(loginAttribute);
-
-            if (pattern.matcher(domainSeparateAttribute).matches()) {
+        String domainSeparateAttribute = UserCoreUtil.removeDomainFromName(loginAttribute);
+        for (ResolvedLoginClaim claim : resolvedLoginClaims.getClaimsWithPattern()) {
+            String claimURI = claim.getClaimURI();
+            if (claim.matches(domainSeparateAttribute)) {
                 List<User> userList = getUserList(claimURI, loginAttribute, userStorePreferenceOrder, userStoreManager);
 
                 if (userList.isEmpty()) {
@@ -140,9 +137,9 @@ public class RegexResolver implements MultiAttributeLoginResolver {
         }
 
         // Check the users from username by default if there is no regex for username claim.
-        Claim usernameClaim = claimManager.getClaim(UserCoreClaimConstants.USERNAME_CLAIM_URI);
+        ResolvedLoginClaim usernameClaim = resolvedLoginClaims.getClaim(UserCoreClaimConstants.USERNAME_CLAIM_URI);
         if (allowedAttributes.contains(UserCoreClaimConstants.USERNAME_CLAIM_URI)
-                && StringUtils.isBlank(usernameClaim.getRegEx())) {
+                && (usernameClaim == null || usernameClaim.getPattern() == null)) {
             List<User> userList = getUserList(UserCoreClaimConstants.USERNAME_CLAIM_URI, loginAttribute,
                     userStorePreferenceOrder, userStoreManager);
             if (!userList.isEmpty()) {
@@ -162,7 +159,7 @@ public class RegexResolver implements MultiAttributeLoginResolver {
         if (distinctUsers.size() == 1) {
             Map.Entry<String, List<User>> entry = distinctUsers.entrySet().iterator().next();
             setResolvedUserResult(entry.getValue(), entry.getKey(), loginAttribute, resolvedUserResult,
-                    claimManager.getClaim(entry.getKey()));
+                    resolvedLoginClaims.getClaim(entry.getKey()));
         } else {
             resolvedUserResult.setErrorMessage("Found multiple users for " + allowedAttributes +
                     " to value " + loginAttribute);
@@ -282,8 +279,61 @@ public class RegexResolver implements MultiAttributeLoginResolver {
         return initialUserStoreManager;
     }
 
+    /**
+     * Get the resolved login claims of the tenant for the given allowed login attributes. The claim metadata and the
+     * compiled regex patterns are cached per tenant and rebuilt only when the allowed login attributes or the claims
+     * of the tenant change.
+     *
+     * @param allowedAttributes Allowed login attribute claim URIs.
+     * @param tenantDomain      Tenant domain.
+     * @return Resolved login claims.
+     * @throws UserStoreException If an error occurred while retrieving the claim metadata.
+     */
+    private ResolvedLoginClaimsCacheEntry getResolvedLoginClaims(List<String> allowedAttributes, String tenantDomain)
+            throws UserStoreException {
+
+        ResolvedLoginClaimsCache resolvedLoginClaimsCache = ResolvedLoginClaimsCache.getInstance();
+        StringCacheKey cacheKey = new StringCacheKey(tenantDomain);
+        ResolvedLoginClaimsCacheEntry resolvedLoginClaims =
+                resolvedLoginClaimsCache.getValueFromCache(cacheKey, tenantDomain);
+        if (resolvedLoginClaims != null && resolvedLoginClaims.isBuiltFor(allowedAttributes)) {
+            return resolvedLoginClaims;
+        }
+
+        ClaimManager claimManager = UserResolverUtil.getUserRealm(tenantDomain).getClaimManager();
+        Set<String> claimURIs = new LinkedHashSet<>(allowedAttributes);
+        claimURIs.add(UserCoreClaimConstants.USERNAME_CLAIM_URI);
+        List<ResolvedLoginClaim> claims = new ArrayList<>();
+        for (String claimURI : claimURIs) {
+            Claim claim = claimManager.getClaim(claimURI);
+            if (claim != null) {
+                claims.add(new ResolvedLoginClaim(claimURI, claim.getDisplayTag(), claim.getRegEx()));
+            }
+        }
+        resolvedLoginClaims = new ResolvedLoginClaimsCacheEntry(allowedAttributes, claims);
+        resolvedLoginClaimsCache.addToCache(cacheKey, resolvedLoginClaims, tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Resolved multi attribute login claims: " + allowedAttributes + " of tenant: " + tenantDomain);
+        }
+        return resolvedLoginClaims;
+    }
+
+    /**
+     * Clear the resolved login claims of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearResolvedLoginClaims(String tenantDomain) {
+
+        ResolvedLoginClaimsCache.getInstance().clearCacheEntry(new StringCacheKey(tenantDomain), tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Cleared the resolved multi attribute login claims of tenant: " + tenantDomain);
+        }
+    }
+
     private void setResolvedUserResult(List<User> userList, String claimURI,
-                                       String loginAttribute, ResolvedUserResult resolvedUserResult, Claim claim)
+                                       String loginAttribute, ResolvedUserResult resolvedUserResult,
+                                       ResolvedLoginClaim claim)
             throws org.wso2.carbon.user.core.UserStoreException {
 
         if (userList.size() == 1) {
@@ -313,27 +363,17 @@ public class RegexResolver implements MultiAttributeLoginResolver {
 
         AuthenticationResult authenticationResult =
                 new AuthenticationResult(AuthenticationResult.AuthenticationStatus.FAIL);
-        ClaimManager claimManager;
         try {
             if (allowedAttributes == null) {
                 return authenticationResult;
             }
-            UserRealm userRealm = UserResolverUtil.getUserRealm(tenantDomain);
             UniqueIDUserStoreManager userStoreManager = UserResolverUtil.getUserStoreManager(tenantDomain);
-            claimManager = userRealm.getClaimManager();
-            for (String claimURI : allowedAttributes) {
-                Claim claim = claimManager.getClaim(claimURI);
-                if (claim == null) {
-                    continue;
-                }
-                String regex = claim.getRegEx();
-                if (StringUtils.isBlank(regex)) {
-                    continue;
-                }
-                Pattern pattern = Pattern.compile(regex);
-                if (pattern.matcher(loginAttributeValue).matches()) {
-                    authenticationResult = userStoreManager.
-                            authenticateWithID(claimURI, loginAttributeValue, credential, StringUtils.EMPTY);
+            ResolvedLoginClaimsCacheEntry resolvedLoginClaims = getResolvedLoginClaims(allowedAttributes,
+                    tenantDomain);
+            for (ResolvedLoginClaim claim : resolvedLoginClaims.getClaimsWithPattern()) {
+                if (claim.matches(loginAttributeValue)) {
+                    authenticationResult = userStoreManager.authenticateWithID(claim.getClaimURI(),
+                            loginAttributeValue, credential, StringUtils.EMPTY);
                     if (AuthenticationResult.AuthenticationStatus.SUCCESS.
                             equals(authenticationResult.getAuthenticationStatus())) {
                         break;
@@ -27,8 +27,10 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.claim.metadata.mgt.listener.ClaimMetadataMgtListener;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.MultiAttributeLoginResolver;
 import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.RegexResolver;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.listener.ResolvedLoginClaimsCacheListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -51,6 +53,8 @@ public class RegexResolverServiceComponent {
                     new RegexResolver();
             bundleContext.registerService(MultiAttributeLoginResolver.class.getName(), multiAttributeLoginResolver,
                     null);
+            bundleContext.registerService(ClaimMetadataMgtListener.class.getName(),
+                    new ResolvedLoginClaimsCacheListener(), null);
             if (log.isDebugEnabled()) {
                 log.debug("MultiAttributeLoginResolver activated successfully.");
             }
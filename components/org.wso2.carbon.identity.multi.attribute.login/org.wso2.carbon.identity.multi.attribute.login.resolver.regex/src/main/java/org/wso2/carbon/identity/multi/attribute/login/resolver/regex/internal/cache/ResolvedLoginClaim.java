@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.io.Serializable;
+import java.util.regex.Pattern;
+
+/**
+ * Metadata of a claim used as a login attribute along with its compiled regex pattern.
+ */
+public class ResolvedLoginClaim implements Serializable {
+
+    private static final long serialVersionUID = 7781530562193046254L;
+    private final String claimURI;
+    private final String displayTag;
+    private final String regEx;
+    private final Pattern pattern;
+
+    public ResolvedLoginClaim(String claimURI, String displayTag, String regEx) {
+
+        this.claimURI = claimURI;
+        this.displayTag = displayTag;
+        this.regEx = regEx;
+        this.pattern = StringUtils.isBlank(regEx) ? null : Pattern.compile(regEx);
+    }
+
+    public String getClaimURI() {
+
+        return claimURI;
+    }
+
+    public String getDisplayTag() {
+
+        return displayTag;
+    }
+
+    public String getRegEx() {
+
+        return regEx;
+    }
+
+    /**
+     * Get the compiled regex pattern of the claim.
+     *
+     * @return Compiled pattern or null if the claim does not have a regex.
+     */
+    public Pattern getPattern() {
+
+        return pattern;
+    }
+
+    /**
+     * Check whether the given value matches the regex pattern of the claim.
+     *
+     * @param value Value to be matched.
+     * @return True if the claim has a regex pattern and the value matches it.
+     */
+    public boolean matches(String value) {
+
+        return pattern != null && pattern.matcher(value).matches();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+
+/**
+ * Cache to maintain the resolved multi attribute login claims of a tenant.
+ */
+public class ResolvedLoginClaimsCache extends BaseCache<StringCacheKey, ResolvedLoginClaimsCacheEntry> {
+
+    private static final String RESOLVED_LOGIN_CLAIMS_CACHE = "MultiAttributeLoginResolvedClaimsCache";
+    private static volatile ResolvedLoginClaimsCache instance;
+
+    public ResolvedLoginClaimsCache() {
+
+        super(RESOLVED_LOGIN_CLAIMS_CACHE);
+    }
+
+    public static ResolvedLoginClaimsCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResolvedLoginClaimsCache.class) {
+                if (instance == null) {
+                    instance = new ResolvedLoginClaimsCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of resolved login claims of a tenant. The entry is built for a specific list of allowed login
+ * attributes and holds the claim metadata and compiled regex patterns of those claims and the username claim.
+ */
+public class ResolvedLoginClaimsCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -2307641962281340573L;
+    private final List<String> allowedAttributes;
+    private final List<ResolvedLoginClaim> claimsWithPattern;
+    private final Map<String, ResolvedLoginClaim> claims;
+
+    public ResolvedLoginClaimsCacheEntry(List<String> allowedAttributes, List<ResolvedLoginClaim> claims) {
+
+        this.allowedAttributes = Collections.unmodifiableList(new ArrayList<>(allowedAttributes));
+        List<ResolvedLoginClaim> claimsWithPattern = new ArrayList<>();
+        Map<String, ResolvedLoginClaim> claimsByURI = new HashMap<>();
+        for (ResolvedLoginClaim claim : claims) {
+            claimsByURI.put(claim.getClaimURI(), claim);
+            if (claim.getPattern() != null && this.allowedAttributes.contains(claim.getClaimURI())) {
+                claimsWithPattern.add(claim);
+            }
+        }
+        this.claimsWithPattern = Collections.unmodifiableList(claimsWithPattern);
+        this.claims = Collections.unmodifiableMap(claimsByURI);
+    }
+
+    /**
+     * Check whether the entry was built for the given allowed login attributes.
+     *
+     * @param allowedAttributes Allowed login attribute claim URIs.
+     * @return True if the entry was built for the same attributes in the same order.
+     */
+    public boolean isBuiltFor(List<String> allowedAttributes) {
+
+        return this.allowedAttributes.equals(allowedAttributes);
+    }
+
+    /**
+     * Get the allowed login attribute claims which have a regex pattern, in the configured order.
+     *
+     * @return Claims with a compiled regex pattern.
+     */
+    public List<ResolvedLoginClaim> getClaimsWithPattern() {
+
+        return claimsWithPattern;
+    }
+
+    /**
+     * Get a resolved claim by its URI.
+     *
+     * @param claimURI Claim URI.
+     * @return Resolved claim or null if the claim does not exist.
+     */
+    public ResolvedLoginClaim getClaim(String claimURI) {
+
+        return claims.get(claimURI);
+    }
+}
@@ -26,8 +26,12 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
 import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.RegexResolverServiceDataHolder;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaim;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaimsCache;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.internal.cache.ResolvedLoginClaimsCacheEntry;
 import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.utils.UserResolverUtil;
 import org.wso2.carbon.user.api.Claim;
 import org.wso2.carbon.user.core.UniqueIDUserStoreManager;
@@ -38,8 +42,15 @@ import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
@@ -58,6 +69,8 @@ public class RegexResolverTest {
     private static final String TEST_TENANT_DOMAIN = "testTenantDomain";
     private MockedStatic<RegexResolverServiceDataHolder> mockedRegexResolverServiceDataHolder;
     private MockedStatic<ResolvedUserResult> mockedResolvedUserResult;
+    private MockedStatic<ResolvedLoginClaimsCache> mockedResolvedLoginClaimsCache;
+    private ResolvedLoginClaimsCache mockResolvedLoginClaimsCache;
 
     @Mock
     UniqueIDUserStoreManager mockUserStoreManager;
@@ -85,6 +98,10 @@ public class RegexResolverTest {
 
         mockedRegexResolverServiceDataHolder = Mockito.mockStatic(RegexResolverServiceDataHolder.class);
         mockedResolvedUserResult = Mockito.mockStatic(ResolvedUserResult.class);
+        mockResolvedLoginClaimsCache = mock(ResolvedLoginClaimsCache.class);
+        mockedResolvedLoginClaimsCache = Mockito.mockStatic(ResolvedLoginClaimsCache.class);
+        mockedResolvedLoginClaimsCache.when(ResolvedLoginClaimsCache::getInstance)
+                .thenReturn(mockResolvedLoginClaimsCache);
     }
 
     @AfterMethod
@@ -92,6 +109,7 @@ public class RegexResolverTest {
 
         mockedRegexResolverServiceDataHolder.close();
         mockedResolvedUserResult.close();
+        mockedResolvedLoginClaimsCache.close();
     }
 
     @BeforeTest
@@ -129,6 +147,74 @@ public class RegexResolverTest {
         }
     }
 
+    @Test
+    public void testResolveUserWithCachedLoginClaims() throws Exception {
+
+        List<String> allowedAttributes = Collections.singletonList(TELEPHONE_CLAIM_URI);
+        ResolvedLoginClaimsCacheEntry resolvedLoginClaims = new ResolvedLoginClaimsCacheEntry(allowedAttributes,
+                Collections.singletonList(new ResolvedLoginClaim(TELEPHONE_CLAIM_URI, "Telephone",
+                        TELEPHONE_CLAIM_REGEX)));
+        when(mockResolvedLoginClaimsCache.getValueFromCache(any(StringCacheKey.class),
+                eq(TEST_TENANT_DOMAIN))).thenReturn(resolvedLoginClaims);
+        ClaimManager claimManager = mockUserRealmWithClaimManager();
+        when(mockUserStoreManager.getUserListWithID(TELEPHONE_CLAIM_URI, TEST_LOGIN_IDENTIFIER1, null))
+                .thenReturn(Collections.singletonList(buildUser("1234", "chathuranga")));
+
+        ResolvedUserResult result = regexResolver.resolveUser(TEST_LOGIN_IDENTIFIER1, allowedAttributes,
+                TEST_TENANT_DOMAIN);
+
+        assertEquals(result.getUser().getUsername(), "chathuranga");
+        verify(claimManager, never()).getClaim(anyString());
+        verify(mockResolvedLoginClaimsCache, never()).addToCache(any(StringCacheKey.class),
+                any(ResolvedLoginClaimsCacheEntry.class), anyString());
+    }
+
+    @Test
+    public void testResolveUserRebuildsLoginClaimsWhenAllowedAttributesChange() throws Exception {
+
+        List<String> cachedAttributes = Collections.singletonList(USERNAME_CLAIM_URI);
+        ResolvedLoginClaimsCacheEntry resolvedLoginClaims = new ResolvedLoginClaimsCacheEntry(cachedAttributes,
+                Collections.singletonList(new ResolvedLoginClaim(USERNAME_CLAIM_URI, "Username", "")));
+        when(mockResolvedLoginClaimsCache.getValueFromCache(any(StringCacheKey.class),
+                eq(TEST_TENANT_DOMAIN))).thenReturn(resolvedLoginClaims);
+        ClaimManager claimManager = mockUserRealmWithClaimManager();
+        Claim telephoneClaim = mock(Claim.class);
+        when(telephoneClaim.getRegEx()).thenReturn(TELEPHONE_CLAIM_REGEX);
+        when(claimManager.getClaim(TELEPHONE_CLAIM_URI)).thenReturn(telephoneClaim);
+        when(mockUserStoreManager.getUserListWithID(TELEPHONE_CLAIM_URI, TEST_LOGIN_IDENTIFIER1, null))
+                .thenReturn(Collections.singletonList(buildUser("1234", "chathuranga")));
+
+        ResolvedUserResult result = regexResolver.resolveUser(TEST_LOGIN_IDENTIFIER1,
+                Collections.singletonList(TELEPHONE_CLAIM_URI), TEST_TENANT_DOMAIN);
+
+        assertEquals(result.getUser().getUsername(), "chathuranga");
+        verify(claimManager).getClaim(TELEPHONE_CLAIM_URI);
+        verify(mockResolvedLoginClaimsCache).addToCache(any(StringCacheKey.class),
+                any(ResolvedLoginClaimsCacheEntry.class), eq(TEST_TENANT_DOMAIN));
+    }
+
+    private ClaimManager mockUserRealmWithClaimManager() throws Exception {
+
+        ClaimManager claimManager = mock(ClaimManager.class);
+        mockedRegexResolverServiceDataHolder.when(RegexResolverServiceDataHolder::getInstance)
+                .thenReturn(mockRegexResolverServiceDataHolder);
+        when(mockRegexResolverServiceDataHolder.getRealmService()).thenReturn(mockRealmService);
+        when(mockRealmService.getTenantManager()).thenReturn(mockTenantManager);
+        when(mockTenantManager.getTenantId(TEST_TENANT_DOMAIN)).thenReturn(-1234);
+        when(mockRealmService.getTenantUserRealm(-1234)).thenReturn(mockUserRealm);
+        when(mockUserRealm.getClaimManager()).thenReturn(claimManager);
+        when(mockUserRealm.getUserStoreManager()).thenReturn(mockUserStoreManager);
+        return claimManager;
+    }
+
+    private User buildUser(String userId, String username) {
+
+        User user = new User();
+        user.setUserID(userId);
+        user.setUsername(username);
+        return user;
+    }
+
     @DataProvider(name = "resolveUserData")
     private Object[][] resolveUserData() {
 
@@ -32,7 +32,10 @@ import org.wso2.carbon.user.core.common.AuthenticationResult;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This service provides the services needed to multi attribute login.
@@ -40,6 +43,10 @@ import java.util.List;
 public class MultiAttributeLoginServiceServiceImpl implements MultiAttributeLoginService {
 
     private static final Log log = LogFactory.getLog(MultiAttributeLoginServiceServiceImpl.class);
+    private static final List<String> DEFAULT_ALLOWED_CLAIMS =
+            Collections.singletonList(MultiAttributeLoginConstants.USERNAME_CLAIM_URI);
+
+    private final Map<String, AllowedClaims> allowedClaimsByTenant = new ConcurrentHashMap<>();
 
     /**
      * This method is used to determine whether the multi attribute login feature is enable or disable.
@@ -65,28 +72,29 @@ public class MultiAttributeLoginServiceServiceImpl implements MultiAttributeLogi
      * This method is used to get list of claim URIs which are enable for multi attribute login on given tenant domain.
      *
      * @param tenantDomain User tenant domain.
-     * @return Multi attribute login enabled claim URI list.
+     * @return Multi attribute login enabled claim URI list. The returned list is a copy owned by the caller.
      */
     public List<String> getAllowedClaimsForTenant(String tenantDomain) {
 
-        List<String> allowedClaimsList = new ArrayList<>();
         if (StringUtils.isNotBlank(tenantDomain)) {
             try {
                 String claimList = MultiAttributeLoginUtil.
                         getConnectorConfig(MultiAttributeLoginConstants.ALLOWED_LOGIN_ATTRIBUTES, tenantDomain);
                 if (StringUtils.isNotBlank(claimList)) {
-                    claimList = StringUtils.deleteWhitespace(claimList);
-                    allowedClaimsList = Arrays.asList(claimList.split(","));
+                    // The parsed claim list is reused until the connector configuration of the tenant changes.
+                    AllowedClaims allowedClaims = allowedClaimsByTenant.get(tenantDomain);
+                    if (allowedClaims == null || !allowedClaims.configValue.equals(claimList)) {
+                        allowedClaims = new AllowedClaims(claimList);
+                        allowedClaimsByTenant.put(tenantDomain, allowedClaims);
+                    }
+                    return new ArrayList<>(allowedClaims.claims);
                 }
-
+                allowedClaimsByTenant.remove(tenantDomain);
             } catch (IdentityEventException e) {
                 log.error("Error occurred while retrieving allowed login claims.", e);
             }
         }
-        if (allowedClaimsList.isEmpty()) {
-            allowedClaimsList.add(MultiAttributeLoginConstants.USERNAME_CLAIM_URI);
-        }
-        return allowedClaimsList;
+        return new ArrayList<>(DEFAULT_ALLOWED_CLAIMS);
     }
 
     /**
@@ -149,4 +157,20 @@ public class MultiAttributeLoginServiceServiceImpl implements MultiAttributeLogi
         }
         return resolvedUserResult;
     }
+
+    /**
+     * Allowed login attribute claim list parsed from the connector configuration value.
+     */
+    private static final class AllowedClaims {
+
+        private final String configValue;
+        private final List<String> claims;
+
+        private AllowedClaims(String configValue) {
+
+            this.configValue = configValue;
+            this.claims = Collections.unmodifiableList(
+                    Arrays.asList(StringUtils.deleteWhitespace(configValue).split(",")));
+        }
+    }
 }
@@ -35,12 +35,14 @@ import org.wso2.carbon.identity.application.authentication.framework.handler.req
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
+import org.wso2.carbon.identity.password.expiry.listener.PasswordExpiryConfigCacheListener;
 import org.wso2.carbon.identity.password.expiry.listener.PasswordExpiryEventListener;
 import org.wso2.carbon.identity.password.expiry.services.ExpiredPasswordIdentificationService;
 import org.wso2.carbon.identity.password.expiry.services.impl.ExpiredPasswordIdentificationServiceImpl;
 import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
+import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 
 /**
  * OSGi declarative services component which handles registration and un-registration of password enforce reset handler
@@ -76,6 +78,9 @@ public class EnforcePasswordResetComponent {
                     enforcePasswordResetAuthenticationHandler, null);
             bundleContext.registerService(ExpiredPasswordIdentificationService.class.getName(),
                     new ExpiredPasswordIdentificationServiceImpl(), null);
+            // Register the listener which clears the compiled password expiry policy on resident IdP updates.
+            bundleContext.registerService(IdentityProviderMgtListener.class.getName(),
+                    new PasswordExpiryConfigCacheListener(), null);
 
         } catch (Throwable e) {
             log.error("Error while activating EnforcePasswordResetAuthenticationHandler.", e);
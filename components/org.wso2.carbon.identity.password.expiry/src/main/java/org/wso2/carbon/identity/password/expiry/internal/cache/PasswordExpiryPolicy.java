@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.password.expiry.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRule;
+import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRuleOperatorEnum;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compiled password expiry policy of a tenant. Holds the password expiry configurations of the tenant along with the
+ * parsed password expiry rules in the order they should be evaluated.
+ */
+public class PasswordExpiryPolicy extends CacheEntry {
+
+    private static final long serialVersionUID = 2870148526378906741L;
+    private final boolean passwordExpiryEnabled;
+    private final int passwordExpiryInDays;
+    private final boolean skipIfNoApplicableRules;
+    private final List<PasswordExpiryRule> passwordExpiryRules;
+
+    public PasswordExpiryPolicy(boolean passwordExpiryEnabled, int passwordExpiryInDays,
+                                boolean skipIfNoApplicableRules, List<PasswordExpiryRule> passwordExpiryRules) {
+
+        this.passwordExpiryEnabled = passwordExpiryEnabled;
+        this.passwordExpiryInDays = passwordExpiryInDays;
+        this.skipIfNoApplicableRules = skipIfNoApplicableRules;
+
+        List<PasswordExpiryRule> applicableRules = new ArrayList<>(passwordExpiryRules.size());
+        for (PasswordExpiryRule passwordExpiryRule : passwordExpiryRules) {
+            // If the default behavior is to skip the password expiry, rules with skip logic are not required.
+            if (skipIfNoApplicableRules &&
+                    PasswordExpiryRuleOperatorEnum.NE.equals(passwordExpiryRule.getOperator())) {
+                continue;
+            }
+            applicableRules.add(passwordExpiryRule);
+        }
+        applicableRules.sort(Comparator.comparingInt(PasswordExpiryRule::getPriority));
+        this.passwordExpiryRules = Collections.unmodifiableList(applicableRules);
+    }
+
+    public boolean isPasswordExpiryEnabled() {
+
+        return passwordExpiryEnabled;
+    }
+
+    public int getPasswordExpiryInDays() {
+
+        return passwordExpiryInDays;
+    }
+
+    public boolean isSkipIfNoApplicableRules() {
+
+        return skipIfNoApplicableRules;
+    }
+
+    /**
+     * Get the password expiry rules to be evaluated, sorted by the rule priority.
+     *
+     * @return Unmodifiable list of password expiry rules.
+     */
+    public List<PasswordExpiryRule> getPasswordExpiryRules() {
+
+        return passwordExpiryRules;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.password.expiry.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+
+/**
+ * Cache to maintain the compiled password expiry policy of a tenant.
+ */
+public class PasswordExpiryPolicyCache extends BaseCache<StringCacheKey, PasswordExpiryPolicy> {
+
+    private static final String PASSWORD_EXPIRY_POLICY_CACHE = "PasswordExpiryPolicyCache";
+    private static volatile PasswordExpiryPolicyCache instance;
+
+    public PasswordExpiryPolicyCache() {
+
+        super(PASSWORD_EXPIRY_POLICY_CACHE);
+    }
+
+    public static PasswordExpiryPolicyCache getInstance() {
+
+        if (instance == null) {
+            synchronized (PasswordExpiryPolicyCache.class) {
+                if (instance == null) {
+                    instance = new PasswordExpiryPolicyCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
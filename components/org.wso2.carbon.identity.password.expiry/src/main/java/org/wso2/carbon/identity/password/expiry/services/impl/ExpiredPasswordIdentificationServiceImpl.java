@@ -57,7 +57,8 @@ public class ExpiredPasswordIdentificationServiceImpl implements ExpiredPassword
         try {
             int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
             LocalDateTime expireDate = expiredAfter.minusDays(getPasswordExpiryInDays(tenantDomain));
-            String expireDateEpoch = Long.toString(expireDate.toEpochSecond(ZoneOffset.UTC));
+            // The last password update time claim holds epoch milliseconds.
+            String expireDateEpoch = Long.toString(expireDate.toInstant(ZoneOffset.UTC).toEpochMilli());
 
             List<String> usernames = EnforcePasswordResetComponentDataHolder.getInstance().getIdentityDataStoreService()
                     .getUserNamesMoreThanProvidedClaimValue(
@@ -84,8 +85,8 @@ public class ExpiredPasswordIdentificationServiceImpl implements ExpiredPassword
             LocalDateTime expiredDate = expiredAfter.minusDays(getPasswordExpiryInDays(tenantDomain));
             LocalDateTime excludeDate = excludeAfter.minusDays(getPasswordExpiryInDays(tenantDomain) - 1);
 
-            String expiredDateEpoch = Long.toString(expiredDate.toEpochSecond(ZoneOffset.UTC));
-            String excludeDateEpoch = Long.toString(excludeDate.toEpochSecond(ZoneOffset.UTC));
+            String expiredDateEpoch = Long.toString(expiredDate.toInstant(ZoneOffset.UTC).toEpochMilli());
+            String excludeDateEpoch = Long.toString(excludeDate.toInstant(ZoneOffset.UTC).toEpochMilli());
 
             List<String> usernames = EnforcePasswordResetComponentDataHolder.getInstance().getIdentityDataStoreService()
                     .getUserNamesBetweenProvidedClaimValues(
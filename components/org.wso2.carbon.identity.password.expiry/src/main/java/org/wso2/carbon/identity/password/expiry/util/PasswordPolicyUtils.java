@@ -23,6 +23,8 @@ import org.apache.commons.collections.CollectionUtils;
 import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
 import org.wso2.carbon.identity.password.expiry.constants.PasswordPolicyConstants;
 import org.wso2.carbon.identity.password.expiry.internal.EnforcePasswordResetComponentDataHolder;
+import org.wso2.carbon.identity.password.expiry.internal.cache.PasswordExpiryPolicy;
+import org.wso2.carbon.identity.password.expiry.internal.cache.PasswordExpiryPolicyCache;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,7 +35,7 @@ import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
-import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRuleAttributeEnum;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRuleOperatorEnum;
 import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRule;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
@@ -53,12 +55,15 @@ import org.wso2.carbon.user.core.common.Group;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationException;
 
 import java.util.ArrayList;
-import java.util.EnumMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.password.expiry.constants.PasswordPolicyConstants.CONNECTOR_CONFIG_NAME;
@@ -132,17 +137,9 @@ public class PasswordPolicyUtils {
             for (Property property : properties) {
                 if (StringUtils.startsWith(property.getName(), PasswordPolicyConstants.PASSWORD_EXPIRY_RULES_PREFIX) &&
                         StringUtils.isNotEmpty(property.getValue())) {
-                    try {
-                        PasswordExpiryRule passwordExpiryRule = new PasswordExpiryRule(property.getValue());
+                    PasswordExpiryRule passwordExpiryRule = parsePasswordExpiryRule(property.getValue());
+                    if (passwordExpiryRule != null) {
                         passwordExpiryRules.add(passwordExpiryRule);
-                    } catch (Exception e) {
-                        // Log and skip the rule if an error occurred while parsing the rule, without failing the
-                        // authentication flow.
-                        if (log.isDebugEnabled()) {
-                            log.debug(String.format("Error parsing password expiry rule: %s. Rule will be skipped.",
-                                    property.getValue()));
-                        }
-                        log.error("Error parsing password expiry rule.", e);
                     }
                 }
             }
@@ -154,6 +151,114 @@ public class PasswordPolicyUtils {
         return passwordExpiryRules;
     }
 
+    /**
+     * Parse the given password expiry rule.
+     *
+     * @param rule Password expiry rule definition.
+     * @return Parsed password expiry rule or null if the rule definition is invalid.
+     */
+    @SuppressFBWarnings("CRLF_INJECTION_LOGS")
+    private static PasswordExpiryRule parsePasswordExpiryRule(String rule) {
+
+        try {
+            return new PasswordExpiryRule(rule);
+        } catch (Exception e) {
+            // Log and skip the rule if an error occurred while parsing the rule, without failing the
+            // authentication flow.
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Error parsing password expiry rule: %s. Rule will be skipped.", rule));
+            }
+            log.error("Error parsing password expiry rule.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the compiled password expiry policy of the tenant. The policy is built from a single read of the tenant's
+     * governance configurations and served from the cache until the configurations are updated.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Password expiry policy of the tenant.
+     * @throws PostAuthenticationFailedException If an error occurred while reading the password expiry configurations.
+     */
+    private static PasswordExpiryPolicy getPasswordExpiryPolicy(String tenantDomain)
+            throws PostAuthenticationFailedException {
+
+        PasswordExpiryPolicyCache passwordExpiryPolicyCache = PasswordExpiryPolicyCache.getInstance();
+        StringCacheKey cacheKey = new StringCacheKey(tenantDomain);
+        PasswordExpiryPolicy passwordExpiryPolicy = passwordExpiryPolicyCache.getValueFromCache(cacheKey,
+                tenantDomain);
+        if (passwordExpiryPolicy != null) {
+            return passwordExpiryPolicy;
+        }
+
+        long startTime = System.nanoTime();
+        passwordExpiryPolicy = buildPasswordExpiryPolicy(tenantDomain);
+        passwordExpiryPolicyCache.addToCache(cacheKey, passwordExpiryPolicy, tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Password expiry policy of tenant: " + tenantDomain + " with " +
+                    passwordExpiryPolicy.getPasswordExpiryRules().size() + " rules is compiled in " +
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + " microseconds.");
+        }
+        return passwordExpiryPolicy;
+    }
+
+    private static PasswordExpiryPolicy buildPasswordExpiryPolicy(String tenantDomain)
+            throws PostAuthenticationFailedException {
+
+        Property[] properties;
+        try {
+            IdentityGovernanceService governanceService =
+                    EnforcePasswordResetComponentDataHolder.getInstance().getIdentityGovernanceService();
+            properties = governanceService.getConfiguration(tenantDomain);
+        } catch (IdentityGovernanceException e) {
+            throw new PostAuthenticationFailedException(PasswordPolicyConstants.ErrorMessages.
+                    ERROR_WHILE_READING_SYSTEM_CONFIGURATIONS.getCode(),
+                    PasswordPolicyConstants.ErrorMessages.ERROR_WHILE_READING_SYSTEM_CONFIGURATIONS.getMessage(), e);
+        }
+
+        boolean passwordExpiryEnabled = false;
+        int passwordExpiryInDays = PasswordPolicyConstants.CONNECTOR_CONFIG_PASSWORD_EXPIRY_IN_DAYS_DEFAULT_VALUE;
+        boolean skipIfNoApplicableRules = false;
+        List<PasswordExpiryRule> passwordExpiryRules = new ArrayList<>();
+        if (properties != null) {
+            for (Property property : properties) {
+                String propertyName = property.getName();
+                String propertyValue = property.getValue();
+                if (PasswordPolicyConstants.CONNECTOR_CONFIG_ENABLE_PASSWORD_EXPIRY.equals(propertyName)) {
+                    passwordExpiryEnabled = Boolean.parseBoolean(propertyValue);
+                } else if (PasswordPolicyConstants.CONNECTOR_CONFIG_PASSWORD_EXPIRY_IN_DAYS.equals(propertyName)) {
+                    if (propertyValue != null) {
+                        passwordExpiryInDays = Integer.parseInt(propertyValue);
+                    }
+                } else if (PasswordPolicyConstants.CONNECTOR_CONFIG_SKIP_IF_NO_APPLICABLE_RULES.equals(propertyName)) {
+                    skipIfNoApplicableRules = Boolean.parseBoolean(propertyValue);
+                } else if (StringUtils.startsWith(propertyName, PasswordPolicyConstants.PASSWORD_EXPIRY_RULES_PREFIX)
+                        && StringUtils.isNotEmpty(propertyValue)) {
+                    PasswordExpiryRule passwordExpiryRule = parsePasswordExpiryRule(propertyValue);
+                    if (passwordExpiryRule != null) {
+                        passwordExpiryRules.add(passwordExpiryRule);
+                    }
+                }
+            }
+        }
+        return new PasswordExpiryPolicy(passwordExpiryEnabled, passwordExpiryInDays, skipIfNoApplicableRules,
+                passwordExpiryRules);
+    }
+
+    /**
+     * Clear the compiled password expiry policy of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearPasswordExpiryPolicy(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        PasswordExpiryPolicyCache.getInstance().clearCacheEntry(new StringCacheKey(tenantDomain), tenantDomain);
+    }
+
     /**
      * This method checks if the password has expired.
      *
@@ -166,7 +271,8 @@ public class PasswordPolicyUtils {
             throws PostAuthenticationFailedException {
 
         try {
-            if (!isPasswordExpiryEnabled(tenantDomain)) return false;
+            PasswordExpiryPolicy passwordExpiryPolicy = getPasswordExpiryPolicy(tenantDomain);
+            if (!passwordExpiryPolicy.isPasswordExpiryEnabled()) return false;
 
             UserRealm userRealm = getUserRealm(tenantDomain);
             UserStoreManager userStoreManager = getUserStoreManager(userRealm);
@@ -176,35 +282,24 @@ public class PasswordPolicyUtils {
             long lastPasswordUpdatedTimeInMillis = getLastPasswordUpdatedTimeInMillis(lastPasswordUpdatedTime);
             int daysDifference = getDaysDifference(lastPasswordUpdatedTimeInMillis);
 
-            List<PasswordExpiryRule> passwordExpiryRules = getPasswordExpiryRules(tenantDomain);
-            boolean skipIfNoApplicableRules = isSkipIfNoApplicableRulesEnabled(tenantDomain);
-
-            // Apply default password expiry policy if no rules given.
-            if (CollectionUtils.isEmpty(passwordExpiryRules)) {
-                return isPasswordExpiredUnderDefaultPolicy(tenantDomain, daysDifference, lastPasswordUpdatedTime,
-                        skipIfNoApplicableRules);
-            }
-
-            List<PasswordExpiryRule> filteredRules =
-                    filterApplicableExpiryRules(passwordExpiryRules, skipIfNoApplicableRules);
-
-            Map<PasswordExpiryRuleAttributeEnum, Set<String>> fetchedUserAttributes =
-                    new EnumMap<>(PasswordExpiryRuleAttributeEnum.class);
+            UserAttributes userAttributes = new UserAttributes(tenantDomain, userId, userStoreManager);
 
-            for (PasswordExpiryRule rule : filteredRules) {
-                if (isRuleApplicable(rule, fetchedUserAttributes, tenantDomain, userId, userStoreManager)) {
+            // Rules are sorted by priority, hence the first applicable rule decides the password expiry.
+            for (PasswordExpiryRule rule : passwordExpiryPolicy.getPasswordExpiryRules()) {
+                if (isRuleApplicable(rule, userAttributes)) {
                     // Skip the rule if the operator is not equals.
                     if (PasswordExpiryRuleOperatorEnum.NE.equals(rule.getOperator())) {
                         return false;
                     }
-                    int expiryDays =
-                            rule.getExpiryDays() > 0 ? rule.getExpiryDays() : getPasswordExpiryInDays(tenantDomain);
+                    int expiryDays = rule.getExpiryDays() > 0 ? rule.getExpiryDays() :
+                            passwordExpiryPolicy.getPasswordExpiryInDays();
                     return daysDifference >= expiryDays || StringUtils.isBlank(lastPasswordUpdatedTime);
                 }
             }
-            // Apply default password expiry policy if no specific rule applies.
-            return isPasswordExpiredUnderDefaultPolicy(tenantDomain, daysDifference, lastPasswordUpdatedTime,
-                    skipIfNoApplicableRules);
+            // Apply default password expiry policy if no rules given or no specific rule applies.
+            if (passwordExpiryPolicy.isSkipIfNoApplicableRules()) return false;
+            return StringUtils.isBlank(lastPasswordUpdatedTime) ||
+                    daysDifference >= passwordExpiryPolicy.getPasswordExpiryInDays();
         } catch (UserStoreException e) {
             throw new PostAuthenticationFailedException(PasswordPolicyConstants.ErrorMessages.
                     ERROR_WHILE_GETTING_USER_STORE_DOMAIN.getCode(),
@@ -213,92 +308,41 @@ public class PasswordPolicyUtils {
     }
 
     /**
-     * Check if the given rule is applicable for the user.
+     * Check if the given rule is applicable for the user. Only the user attributes required by the rule are fetched.
+     * Roles assigned to the user through groups are resolved only if the roles directly assigned to the user do not
+     * satisfy the rule.
      *
-     * @param rule                   Password expiry rule.
-     * @param fetchedUserAttributes  Fetched user attributes.
-     * @param tenantDomain           Tenant domain.
-     * @param userId                 User ID.
-     * @param userStoreManager       User store manager.
+     * @param rule           Password expiry rule.
+     * @param userAttributes Attributes of the user fetched during the evaluation.
      * @return true if the rule is applicable, false otherwise.
      * @throws PostAuthenticationFailedException If an error occurred while checking the rule applicability.
      */
-    private static boolean isRuleApplicable(PasswordExpiryRule rule,
-                                            Map<PasswordExpiryRuleAttributeEnum, Set<String>> fetchedUserAttributes,
-                                            String tenantDomain, String userId,
-                                            UserStoreManager userStoreManager)
+    private static boolean isRuleApplicable(PasswordExpiryRule rule, UserAttributes userAttributes)
             throws PostAuthenticationFailedException {
 
-        PasswordExpiryRuleAttributeEnum ruleAttribute = rule.getAttribute();
-        Set<String> userAttributeValues =
-                getUserAttributes(ruleAttribute, fetchedUserAttributes, tenantDomain, userId, userStoreManager);
-        if (CollectionUtils.isEmpty(userAttributeValues)) {
-            return false;
-        }
-        return userAttributeValues.containsAll(rule.getValues());
-    }
-
-    /**
-     * Get the user attribute values for the given password expiry rule attribute.
-     *
-     * @param attribute              Password expiry rule attribute.
-     * @param fetchedUserAttributes  Fetched user attributes.
-     * @param tenantDomain           Tenant domain.
-     * @param userId                 User ID.
-     * @param userStoreManager       User store manager.
-     * @return  The user attribute values.
-     * @throws PostAuthenticationFailedException If an error occurred while getting the user attributes.
-     */
-    private static Set<String> getUserAttributes(PasswordExpiryRuleAttributeEnum attribute,
-                                                 Map<PasswordExpiryRuleAttributeEnum, Set<String>> fetchedUserAttributes,
-                                                 String tenantDomain, String userId,
-                                                 UserStoreManager userStoreManager)
-            throws PostAuthenticationFailedException {
-
-        if (!fetchedUserAttributes.containsKey(attribute)) {
-            switch (attribute) {
-                case ROLES:
-                    // Fetch roles assigned to user via groups.
-                    Set<String> userGroupIds;
-                    if (fetchedUserAttributes.containsKey(PasswordExpiryRuleAttributeEnum.GROUPS)) {
-                        userGroupIds = fetchedUserAttributes.get(PasswordExpiryRuleAttributeEnum.GROUPS);
-                    } else {
-                        userGroupIds = getUserGroupIds(userId, userStoreManager);
-                        fetchedUserAttributes.put(PasswordExpiryRuleAttributeEnum.GROUPS, userGroupIds);
+        List<String> ruleValues = rule.getValues();
+        switch (rule.getAttribute()) {
+            case GROUPS:
+                Set<String> groupIds = userAttributes.getGroupIds();
+                return !groupIds.isEmpty() && groupIds.containsAll(ruleValues);
+            case ROLES:
+                Set<String> directRoleIds = userAttributes.getDirectRoleIds();
+                if (!directRoleIds.isEmpty() && directRoleIds.containsAll(ruleValues)) {
+                    return true;
+                }
+                Set<String> groupRoleIds = userAttributes.getGroupRoleIds();
+                if (directRoleIds.isEmpty() && groupRoleIds.isEmpty()) {
+                    return false;
+                }
+                for (String ruleValue : ruleValues) {
+                    if (!directRoleIds.contains(ruleValue) && !groupRoleIds.contains(ruleValue)) {
+                        return false;
                     }
-                    List<String> roleIdsOfGroups = getRoleIdsOfGroups(new ArrayList<>(userGroupIds), tenantDomain);
-
-                    List<RoleBasicInfo> userRoles = getUserRoles(tenantDomain, userId);
-                    Set<String> userRoleIds = userRoles.stream().map(RoleBasicInfo::getId).filter(Objects::nonNull)
-                                    .collect(Collectors.toSet());
-                    userRoleIds.addAll(roleIdsOfGroups);
-                    fetchedUserAttributes.put(PasswordExpiryRuleAttributeEnum.ROLES, userRoleIds);
-                    break;
-                case GROUPS:
-                    Set<String> groupIds = getUserGroupIds(userId, userStoreManager);
-                    fetchedUserAttributes.put(PasswordExpiryRuleAttributeEnum.GROUPS, groupIds);
-                    break;
-            }
+                }
+                return true;
+            default:
+                return false;
         }
-        return fetchedUserAttributes.get(attribute);
-    }
-
-    /**
-     * Check if the password has expired according to the default password expiry policy.
-     *
-     * @param tenantDomain            The tenant domain.
-     * @param daysDifference          The number of days since the password was last updated.
-     * @param lastPasswordUpdatedTime The last password updated time.
-     * @return true if the password has expired, false otherwise.
-     * @throws PostAuthenticationFailedException If an error occurs while checking the password expiry.
-     */
-    private static boolean isPasswordExpiredUnderDefaultPolicy(String tenantDomain, int daysDifference,
-                                                               String lastPasswordUpdatedTime,
-                                                               boolean skipIfNoApplicableRules)
-            throws PostAuthenticationFailedException {
-
-        if (skipIfNoApplicableRules) return false;
-        return StringUtils.isBlank(lastPasswordUpdatedTime) || daysDifference >= getPasswordExpiryInDays(tenantDomain);
     }
 
     /**
@@ -337,20 +381,27 @@ public class PasswordPolicyUtils {
         throws ExpiredPasswordIdentificationException {
 
         try {
+            // Configurations not given by the caller are taken from the compiled password expiry policy.
+            PasswordExpiryPolicy passwordExpiryPolicy = null;
             if (isPasswordExpiryEnabled == null) {
-                isPasswordExpiryEnabled = isPasswordExpiryEnabled(tenantDomain);
+                passwordExpiryPolicy = getPasswordExpiryPolicy(tenantDomain);
+                isPasswordExpiryEnabled = passwordExpiryPolicy.isPasswordExpiryEnabled();
             }
             // If the password expiry is not enabled, password expiry time is not applicable.
             if (!isPasswordExpiryEnabled) return Optional.empty();
 
+            if (passwordExpiryPolicy == null && (isSkipIfNoApplicableRulesEnabled == null ||
+                    defaultPasswordExpiryInDays == null || passwordExpiryRules == null)) {
+                passwordExpiryPolicy = getPasswordExpiryPolicy(tenantDomain);
+            }
             if (isSkipIfNoApplicableRulesEnabled == null) {
-                isSkipIfNoApplicableRulesEnabled = isSkipIfNoApplicableRulesEnabled(tenantDomain);
+                isSkipIfNoApplicableRulesEnabled = passwordExpiryPolicy.isSkipIfNoApplicableRules();
             }
             if (defaultPasswordExpiryInDays == null) {
-                defaultPasswordExpiryInDays = getPasswordExpiryInDays(tenantDomain);
+                defaultPasswordExpiryInDays = passwordExpiryPolicy.getPasswordExpiryInDays();
             }
             if (passwordExpiryRules == null) {
-                passwordExpiryRules = getPasswordExpiryRules(tenantDomain);
+                passwordExpiryRules = passwordExpiryPolicy.getPasswordExpiryRules();
             }
 
             UserRealm userRealm = getUserRealm(tenantDomain);
@@ -376,13 +427,12 @@ public class PasswordPolicyUtils {
                         lastPasswordUpdatedTimeInMillis + getDaysTimeInMillis(defaultPasswordExpiryInDays));
             }
 
-            Map<PasswordExpiryRuleAttributeEnum, Set<String>> userAttributes =
-                    new EnumMap<>(PasswordExpiryRuleAttributeEnum.class);
+            UserAttributes userAttributes = new UserAttributes(tenantDomain, userId, userStoreManager);
 
             List<PasswordExpiryRule> filteredRules =
                     filterApplicableExpiryRules(passwordExpiryRules, isSkipIfNoApplicableRulesEnabled);
             for (PasswordExpiryRule rule : filteredRules) {
-                if (isRuleApplicable(rule, userAttributes, tenantDomain, userId, userStoreManager)) {
+                if (isRuleApplicable(rule, userAttributes)) {
                     // Skip the rule if the operator is not equals.
                     if (PasswordExpiryRuleOperatorEnum.NE.equals(rule.getOperator())) {
                         return Optional.empty();
@@ -390,8 +440,7 @@ public class PasswordPolicyUtils {
                     if (isLastPasswordUpdatedTimeBlank) {
                         return Optional.of(System.currentTimeMillis());
                     }
-                    int expiryDays =
-                            rule.getExpiryDays() > 0 ? rule.getExpiryDays() : getPasswordExpiryInDays(tenantDomain);
+                    int expiryDays = rule.getExpiryDays() > 0 ? rule.getExpiryDays() : defaultPasswordExpiryInDays;
                     return Optional.of(lastPasswordUpdatedTimeInMillis + getDaysTimeInMillis(expiryDays));
                 }
             }
@@ -412,12 +461,11 @@ public class PasswordPolicyUtils {
     private static List<PasswordExpiryRule> filterApplicableExpiryRules(List<PasswordExpiryRule> passwordExpiryRules,
                                                                         boolean skipIfNoApplicableRules) {
 
-        if (!skipIfNoApplicableRules) {
-            return passwordExpiryRules;
-        }
-        // If the default behavior is to skip the password expiry, rules with skip logic are not required.
-        return passwordExpiryRules.stream().filter(
-                rule -> !PasswordExpiryRuleOperatorEnum.NE.equals(rule.getOperator())).collect(Collectors.toList());
+        // If the default behavior is to skip the password expiry, rules with skip logic are not required. The first
+        // applicable rule decides the password expiry, hence the rules are evaluated in the order of the priority.
+        return passwordExpiryRules.stream().filter(rule -> !skipIfNoApplicableRules ||
+                        !PasswordExpiryRuleOperatorEnum.NE.equals(rule.getOperator()))
+                .sorted(Comparator.comparingInt(PasswordExpiryRule::getPriority)).collect(Collectors.toList());
     }
 
     /**
@@ -773,4 +821,53 @@ public class PasswordPolicyUtils {
         long millisSinceEpoch = (fileTime / HUNDREDS_OF_NANOSECONDS) - WINDOWS_EPOCH_DIFF;
         return String.valueOf(millisSinceEpoch);
     }
+
+    /**
+     * Attributes of a user required to evaluate the password expiry rules. Each attribute is fetched only when a rule
+     * requires it and reused by the remaining rules of the same evaluation.
+     */
+    private static final class UserAttributes {
+
+        private final String tenantDomain;
+        private final String userId;
+        private final UserStoreManager userStoreManager;
+        private Set<String> groupIds;
+        private Set<String> directRoleIds;
+        private Set<String> groupRoleIds;
+
+        private UserAttributes(String tenantDomain, String userId, UserStoreManager userStoreManager) {
+
+            this.tenantDomain = tenantDomain;
+            this.userId = userId;
+            this.userStoreManager = userStoreManager;
+        }
+
+        private Set<String> getGroupIds() throws PostAuthenticationFailedException {
+
+            if (groupIds == null) {
+                groupIds = getUserGroupIds(userId, userStoreManager);
+            }
+            return groupIds;
+        }
+
+        private Set<String> getDirectRoleIds() throws PostAuthenticationFailedException {
+
+            if (directRoleIds == null) {
+                directRoleIds = getUserRoles(tenantDomain, userId).stream().map(RoleBasicInfo::getId)
+                        .filter(Objects::nonNull).collect(Collectors.toSet());
+            }
+            return directRoleIds;
+        }
+
+        private Set<String> getGroupRoleIds() throws PostAuthenticationFailedException {
+
+            if (groupRoleIds == null) {
+                Set<String> userGroupIds = getGroupIds();
+                // Avoid the role lookup if the user is not a member of any group.
+                groupRoleIds = userGroupIds.isEmpty() ? Collections.emptySet() :
+                        new HashSet<>(getRoleIdsOfGroups(new ArrayList<>(userGroupIds), tenantDomain));
+            }
+            return groupRoleIds;
+        }
+    }
 }
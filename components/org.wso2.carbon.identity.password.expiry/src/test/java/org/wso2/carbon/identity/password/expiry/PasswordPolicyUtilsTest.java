@@ -27,6 +27,8 @@ import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.identity.password.expiry.constants.PasswordPolicyConstants;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationException;
 import org.wso2.carbon.identity.password.expiry.internal.EnforcePasswordResetComponentDataHolder;
+import org.wso2.carbon.identity.password.expiry.internal.cache.PasswordExpiryPolicy;
+import org.wso2.carbon.identity.password.expiry.internal.cache.PasswordExpiryPolicyCache;
 import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRuleAttributeEnum;
 import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
 import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRuleOperatorEnum;
@@ -45,6 +47,7 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
@@ -71,6 +74,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.wso2.carbon.identity.password.expiry.constants.PasswordPolicyConstants.PASSWORD_RESET_PAGE;
@@ -111,8 +115,12 @@ public class PasswordPolicyUtilsTest {
     @Mock
     private ServiceURL serviceURL;
 
+    @Mock
+    private PasswordExpiryPolicyCache passwordExpiryPolicyCache;
+
     private MockedStatic<UserCoreUtil> mockedStaticUserCoreUtil;
     private MockedStatic<ServiceURLBuilder> mockedStaticServiceURLBuilder;
+    private MockedStatic<PasswordExpiryPolicyCache> mockedStaticPasswordExpiryPolicyCache;
 
     private final String tenantDomain = "test.com";
     private final String tenantAwareUsername = "tom@gmail.com";
@@ -138,6 +146,7 @@ public class PasswordPolicyUtilsTest {
         mockedStaticIdentityTenantUtil = mockStatic(IdentityTenantUtil.class);
         mockedStaticUserCoreUtil = mockStatic(UserCoreUtil.class);
         mockedStaticServiceURLBuilder = mockStatic(ServiceURLBuilder.class);
+        mockedStaticPasswordExpiryPolicyCache = mockStatic(PasswordExpiryPolicyCache.class);
     }
 
     @AfterClass
@@ -145,6 +154,7 @@ public class PasswordPolicyUtilsTest {
 
         mockedStaticIdentityTenantUtil.close();
         mockedStaticUserCoreUtil.close();
+        mockedStaticPasswordExpiryPolicyCache.close();
     }
 
     @BeforeMethod
@@ -155,6 +165,8 @@ public class PasswordPolicyUtilsTest {
         EnforcePasswordResetComponentDataHolder.getInstance().setRealmService(realmService);
         EnforcePasswordResetComponentDataHolder.getInstance().setRoleManagementService(roleManagementService);
         EnforcePasswordResetComponentDataHolder.getInstance().setIdentityDataStoreService(identityDataStoreService);
+        mockedStaticPasswordExpiryPolicyCache.when(PasswordExpiryPolicyCache::getInstance)
+                .thenReturn(passwordExpiryPolicyCache);
     }
 
     @Test
@@ -270,22 +282,12 @@ public class PasswordPolicyUtilsTest {
         when(abstractUserStoreManager.getUserIDFromUserName(tenantAwareUsername)).thenReturn(userId);
         when(identityDataStoreService.isUserStoreBasedIdentityDataStore()).thenReturn(false);
 
-        mockPasswordExpiryEnabled(identityGovernanceService, PasswordPolicyConstants.TRUE);
-
         // Mock last password updated time.
         Long updateTime = getUpdateTime(daysAgo);
         mockLastPasswordUpdateTime(updateTime, abstractUserStoreManager);
 
-        // Mock empty password expiry rules by returning an empty ConnectorConfig.
-        when(identityGovernanceService.getConnectorWithConfigs(tenantDomain,
-                PasswordPolicyConstants.CONNECTOR_CONFIG_NAME)).thenReturn(new ConnectorConfig());
-
-        when(identityGovernanceService.getConfiguration(
-                new String[]{PasswordPolicyConstants.CONNECTOR_CONFIG_PASSWORD_EXPIRY_IN_DAYS},
-                tenantDomain)).thenReturn(getPasswordExpiryInDaysProperty());
-        when(identityGovernanceService.getConfiguration(
-                new String[]{PasswordPolicyConstants.CONNECTOR_CONFIG_SKIP_IF_NO_APPLICABLE_RULES},
-                tenantDomain)).thenReturn(getSkipIfNoRulesApplicableProperty(PasswordPolicyConstants.FALSE));
+        // Mock password expiry configurations without password expiry rules.
+        mockPasswordExpiryConfigs(PasswordPolicyConstants.FALSE, new Property[0]);
 
         boolean isExpired = PasswordPolicyUtils.isPasswordExpired(tenantDomain, tenantAwareUsername);
         Assert.assertEquals(isExpired, expectedExpired, testDescription);
@@ -325,31 +327,80 @@ public class PasswordPolicyUtilsTest {
         when(roleManagementService.getRoleListOfUser(userId, tenantDomain)).thenReturn(getRoles(roles));
         when(identityDataStoreService.isUserStoreBasedIdentityDataStore()).thenReturn(false);
 
-        mockPasswordExpiryEnabled(identityGovernanceService, PasswordPolicyConstants.TRUE);
-
         when(abstractUserStoreManager.getGroupListOfUser(userId, null, null)).thenReturn(getGroups(groups));
 
         // Mock last password update time.
         Long updateTime = getUpdateTime(daysAgo);
         mockLastPasswordUpdateTime(updateTime, abstractUserStoreManager);
 
-        // Mock password expiry rules.
-        ConnectorConfig connectorConfig = new ConnectorConfig();
-        connectorConfig.setProperties(getPasswordExpiryRulesProperties());
-        when(identityGovernanceService.getConnectorWithConfigs(tenantDomain,
-                PasswordPolicyConstants.CONNECTOR_CONFIG_NAME)).thenReturn(connectorConfig);
-
-        when(identityGovernanceService.getConfiguration(
-                new String[]{PasswordPolicyConstants.CONNECTOR_CONFIG_PASSWORD_EXPIRY_IN_DAYS},
-                tenantDomain)).thenReturn(getPasswordExpiryInDaysProperty());
-        when(identityGovernanceService.getConfiguration(
-                new String[]{PasswordPolicyConstants.CONNECTOR_CONFIG_SKIP_IF_NO_APPLICABLE_RULES},
-                tenantDomain)).thenReturn(getSkipIfNoRulesApplicableProperty(Boolean.toString(skipIfNoApplicableRules)));
+        // Mock password expiry configurations with password expiry rules.
+        mockPasswordExpiryConfigs(Boolean.toString(skipIfNoApplicableRules), getPasswordExpiryRulesProperties());
 
         boolean isExpired = PasswordPolicyUtils.isPasswordExpired(tenantDomain, tenantAwareUsername);
         Assert.assertEquals(isExpired, expectedExpired, description);
     }
 
+    @Test
+    public void testIsPasswordExpiredWithCachedPolicy()
+            throws PostAuthenticationFailedException, UserStoreException, IdentityGovernanceException,
+            IdentityRoleManagementException {
+
+        when(IdentityTenantUtil.getTenantId(anyString())).thenReturn(3);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(abstractUserStoreManager);
+        when(userRealm.getClaimManager()).thenReturn(claimManager);
+        when(abstractUserStoreManager.getUserIDFromUserName(tenantAwareUsername)).thenReturn(userId);
+        when(UserCoreUtil.addDomainToName(any(), any())).thenReturn(tenantAwareUsername);
+        when(roleManagementService.getRoleListOfUser(userId, tenantDomain))
+                .thenReturn(getRoles(new String[]{"employee", "manager", "contractor"}));
+        when(abstractUserStoreManager.getGroupListOfUser(userId, null, null)).thenReturn(getGroups(new String[]{}));
+        when(identityDataStoreService.isUserStoreBasedIdentityDataStore()).thenReturn(false);
+        mockLastPasswordUpdateTime(getUpdateTime(50), abstractUserStoreManager);
+
+        // Rules are given in the reverse order of the priority.
+        List<PasswordExpiryRule> passwordExpiryRules = new ArrayList<>();
+        Property[] ruleProperties = getPasswordExpiryRulesProperties();
+        for (int i = ruleProperties.length - 1; i >= 0; i--) {
+            passwordExpiryRules.add(new PasswordExpiryRule(ruleProperties[i].getValue()));
+        }
+        PasswordExpiryPolicy passwordExpiryPolicy =
+                new PasswordExpiryPolicy(true, DEFAULT_EXPIRY_DAYS, false, passwordExpiryRules);
+        Assert.assertEquals(passwordExpiryPolicy.getPasswordExpiryRules().stream()
+                .map(PasswordExpiryRule::getPriority).collect(Collectors.toList()), Arrays.asList(1, 2, 3));
+        when(passwordExpiryPolicyCache.getValueFromCache(any(StringCacheKey.class), eq(tenantDomain)))
+                .thenReturn(passwordExpiryPolicy);
+
+        // The 2nd rule (40 days) has the highest priority among the rules applicable to the user.
+        Assert.assertTrue(PasswordPolicyUtils.isPasswordExpired(tenantDomain, tenantAwareUsername));
+        verify(identityGovernanceService, never()).getConfiguration(tenantDomain);
+    }
+
+    @Test
+    public void testIsPasswordExpiredResolvesGroupsOnlyWhenRequired()
+            throws PostAuthenticationFailedException, UserStoreException, IdentityRoleManagementException {
+
+        when(IdentityTenantUtil.getTenantId(anyString())).thenReturn(3);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(abstractUserStoreManager);
+        when(userRealm.getClaimManager()).thenReturn(claimManager);
+        when(abstractUserStoreManager.getUserIDFromUserName(tenantAwareUsername)).thenReturn(userId);
+        when(UserCoreUtil.addDomainToName(any(), any())).thenReturn(tenantAwareUsername);
+        when(roleManagementService.getRoleListOfUser(userId, tenantDomain))
+                .thenReturn(getRoles(new String[]{"employee", "contractor"}));
+        when(identityDataStoreService.isUserStoreBasedIdentityDataStore()).thenReturn(false);
+        mockLastPasswordUpdateTime(getUpdateTime(50), abstractUserStoreManager);
+
+        // Only the rule with the directly assigned roles of the user is defined.
+        PasswordExpiryPolicy passwordExpiryPolicy = new PasswordExpiryPolicy(true, DEFAULT_EXPIRY_DAYS, false,
+                Collections.singletonList(new PasswordExpiryRule(getPasswordExpiryRulesProperties()[1].getValue())));
+        when(passwordExpiryPolicyCache.getValueFromCache(any(StringCacheKey.class), eq(tenantDomain)))
+                .thenReturn(passwordExpiryPolicy);
+
+        Assert.assertTrue(PasswordPolicyUtils.isPasswordExpired(tenantDomain, tenantAwareUsername));
+        verify(abstractUserStoreManager, never()).getGroupListOfUser(anyString(), any(), any());
+        verify(roleManagementService, never()).getRoleIdListOfGroups(any(), anyString());
+    }
+
     @DataProvider(name = "passwordExpiryTimeTestCases")
     public Object[][] passwordExpiryTimeTestCases() {
         return new Object[][] {
@@ -380,20 +431,7 @@ public class PasswordPolicyUtilsTest {
         Long updateTime = daysAgo != null ? System.currentTimeMillis() - getDaysTimeInMillis(daysAgo) : null;
         mockLastPasswordUpdateTime(updateTime, abstractUserStoreManager);
 
-        mockPasswordExpiryEnabled(identityGovernanceService, PasswordPolicyConstants.TRUE);
-
-        // Mock password expiry rules.
-        ConnectorConfig connectorConfig = new ConnectorConfig();
-        connectorConfig.setProperties(getPasswordExpiryRulesProperties());
-        when(identityGovernanceService.getConnectorWithConfigs(tenantDomain,
-                PasswordPolicyConstants.CONNECTOR_CONFIG_NAME)).thenReturn(connectorConfig);
-
-        when(identityGovernanceService.getConfiguration(
-                new String[]{PasswordPolicyConstants.CONNECTOR_CONFIG_PASSWORD_EXPIRY_IN_DAYS},
-                tenantDomain)).thenReturn(getPasswordExpiryInDaysProperty());
-        when(identityGovernanceService.getConfiguration(
-                new String[]{PasswordPolicyConstants.CONNECTOR_CONFIG_SKIP_IF_NO_APPLICABLE_RULES},
-                tenantDomain)).thenReturn(getSkipIfNoRulesApplicableProperty(PasswordPolicyConstants.FALSE));
+        mockPasswordExpiryConfigs(PasswordPolicyConstants.FALSE, getPasswordExpiryRulesProperties());
 
         // Mock user roles.
         when(roleManagementService.getRoleListOfUser(userId, tenantDomain)).thenReturn(getRoles(roles));
@@ -420,6 +458,47 @@ public class PasswordPolicyUtilsTest {
         }
     }
 
+    @Test
+    public void testGetUserPasswordExpiryTimeWithOverlappingRules()
+            throws IdentityGovernanceException, UserStoreException, ExpiredPasswordIdentificationException,
+            IdentityRoleManagementException {
+
+        when(IdentityTenantUtil.getTenantId(anyString())).thenReturn(3);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(abstractUserStoreManager);
+        when(userRealm.getClaimManager()).thenReturn(claimManager);
+        when(abstractUserStoreManager.getUserIDFromUserName(tenantAwareUsername)).thenReturn(userId);
+        when(UserCoreUtil.addDomainToName(any(), any())).thenReturn(tenantAwareUsername);
+        when(identityDataStoreService.isUserStoreBasedIdentityDataStore()).thenReturn(false);
+        when(roleManagementService.getRoleListOfUser(userId, tenantDomain))
+                .thenReturn(getRoles(new String[]{"employee", "contractor"}));
+        when(abstractUserStoreManager.getGroupListOfUser(userId, null, null)).thenReturn(getGroups(new String[]{}));
+        Long updateTime = getUpdateTime(50);
+        mockLastPasswordUpdateTime(updateTime, abstractUserStoreManager);
+
+        // Both rules apply to the user, and are given in the reverse order of the priority.
+        Property lowPriorityRule = new Property();
+        lowPriorityRule.setName(PasswordPolicyConstants.PASSWORD_EXPIRY_RULES_PREFIX + "1");
+        lowPriorityRule.setValue(String.format("2,40,roles,eq,%s", ROLE_MAP.get("employee")));
+        Property highPriorityRule = new Property();
+        highPriorityRule.setName(PasswordPolicyConstants.PASSWORD_EXPIRY_RULES_PREFIX + "2");
+        highPriorityRule.setValue(
+                String.format("1,20,roles,eq,%s,%s", ROLE_MAP.get("employee"), ROLE_MAP.get("contractor")));
+        mockPasswordExpiryConfigs(PasswordPolicyConstants.FALSE, new Property[]{lowPriorityRule, highPriorityRule});
+
+        long expectedExpiryTime = updateTime + getDaysTimeInMillis(20);
+        Optional<Long> expiryTime = PasswordPolicyUtils.getUserPasswordExpiryTime(tenantDomain, tenantAwareUsername);
+        Assert.assertTrue(expiryTime.isPresent());
+        Assert.assertTrue(Math.abs(expiryTime.get() - expectedExpiryTime) <= TIME_TOLERANCE_MS);
+
+        // Rules given by the caller should also be evaluated in the order of the priority.
+        expiryTime = PasswordPolicyUtils.getUserPasswordExpiryTime(tenantDomain, tenantAwareUsername, true, false,
+                Arrays.asList(new PasswordExpiryRule(lowPriorityRule.getValue()),
+                        new PasswordExpiryRule(highPriorityRule.getValue())), DEFAULT_EXPIRY_DAYS);
+        Assert.assertTrue(expiryTime.isPresent());
+        Assert.assertTrue(Math.abs(expiryTime.get() - expectedExpiryTime) <= TIME_TOLERANCE_MS);
+    }
+
     @Test
     public void testGetUserPasswordExpiryTime()
             throws IdentityGovernanceException, UserStoreException, ExpiredPasswordIdentificationException {
@@ -529,6 +608,20 @@ public class PasswordPolicyUtilsTest {
                 PasswordPolicyConstants.CONNECTOR_CONFIG_ENABLE_PASSWORD_EXPIRY}, tenantDomain)).thenReturn(properties);
     }
 
+    private void mockPasswordExpiryConfigs(String skipIfNoApplicableRules, Property[] ruleProperties)
+            throws IdentityGovernanceException {
+
+        List<Property> properties = new ArrayList<>();
+        Property enableProperty = new Property();
+        enableProperty.setName(PasswordPolicyConstants.CONNECTOR_CONFIG_ENABLE_PASSWORD_EXPIRY);
+        enableProperty.setValue(PasswordPolicyConstants.TRUE);
+        properties.add(enableProperty);
+        properties.addAll(Arrays.asList(getPasswordExpiryInDaysProperty()));
+        properties.addAll(Arrays.asList(getSkipIfNoRulesApplicableProperty(skipIfNoApplicableRules)));
+        properties.addAll(Arrays.asList(ruleProperties));
+        when(identityGovernanceService.getConfiguration(tenantDomain)).thenReturn(properties.toArray(new Property[0]));
+    }
+
     private static Long getDaysTimeInMillis(Integer days) {
 
         return days != null ? (long) days * 24 * 60 * 60 * 1000 : null;
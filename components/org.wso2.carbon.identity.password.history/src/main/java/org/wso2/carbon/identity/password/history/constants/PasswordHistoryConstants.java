@@ -32,6 +32,9 @@ public class PasswordHistoryConstants {
         public static final String LOAD_HISTORY_DATA = "SELECT * FROM IDN_PASSWORD_HISTORY_DATA WHERE USER_NAME= ? AND " +
                 "USER_DOMAIN = ? AND TENANT_ID = ? ORDER BY TIME_CREATED DESC  ";
 
+        public static final String LOAD_HISTORY_RECORD_IDS = "SELECT ID FROM IDN_PASSWORD_HISTORY_DATA WHERE " +
+                "USER_NAME= ? AND USER_DOMAIN = ? AND TENANT_ID = ? ORDER BY TIME_CREATED DESC";
+
         public static final String DELETE_HISTORY_RECORD = "DELETE FROM IDN_PASSWORD_HISTORY_DATA WHERE ID=?";
 
         public static final String DELETE_USER_HISTORY = "DELETE FROM IDN_PASSWORD_HISTORY_DATA WHERE USER_NAME = ? " +
@@ -44,12 +44,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.wso2.carbon.identity.password.history.Util.Utils.isPasswordTrimEnabled;
 
 public class PasswordHistoryValidationHandler extends AbstractEventHandler implements IdentityConnectorConfig {
 
     private static final Log log = LogFactory.getLog(PasswordHistoryValidationHandler.class);
+    private static final String DEFAULT_PASSWORD_HISTORY_DATA_STORE =
+            "org.wso2.carbon.identity.password.history.store.Impl.DefaultPasswordHistoryDataStore";
+
+    private final Map<String, TenantPasswordHistoryDataStore> passwordHistoryDataStores = new ConcurrentHashMap<>();
+    private final AtomicInteger dataStoreInitializationCount = new AtomicInteger();
 
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
@@ -79,7 +87,6 @@ public class PasswordHistoryValidationHandler extends AbstractEventHandler imple
 
         boolean passwordHistoryValidation = false;
         int historyCount = 0;
-        String hashingAlgorithm;
         for (Property identityProperty : identityProperties) {
             if (PasswordHistoryConstants.PW_HISTORY_ENABLE.equals(identityProperty.getName())) {
                 passwordHistoryValidation = Boolean.parseBoolean(identityProperty.getValue());
@@ -100,26 +107,7 @@ public class PasswordHistoryValidationHandler extends AbstractEventHandler imple
             return;
         }
 
-        hashingAlgorithm = configs.getModuleProperties().getProperty(PasswordHistoryConstants.PW_HISTORY_HASHING_ALGORITHM);
-        String passwordHistoryDataStoreClass = configs.getModuleProperties().getProperty(
-                PasswordHistoryConstants.PW_HISTORY_DATA_STORE);
-
-        if (StringUtils.isBlank(passwordHistoryDataStoreClass)) {
-            passwordHistoryDataStoreClass = "org.wso2.carbon.identity.password.history.store.Impl.DefaultPasswordHistoryDataStore";
-        }
-
-        PasswordHistoryDataStore passwordHistoryDataStore;
-        try {
-            Class<?> cls = Class.forName(passwordHistoryDataStoreClass);
-            Class[] parameterTypes = new Class[]{String.class, Integer.TYPE};
-            Constructor<?> cons = cls.getConstructor(parameterTypes);
-            Object[] arguments = {hashingAlgorithm, historyCount};
-            passwordHistoryDataStore = (PasswordHistoryDataStore) cons.newInstance(arguments);
-        } catch (ClassNotFoundException | InvocationTargetException | SecurityException | NoSuchMethodException |
-                InstantiationException | IllegalArgumentException | IllegalAccessException e) {
-            throw Utils.handleEventException(
-                    PasswordHistoryConstants.ErrorMessages.ERROR_CODE_LOADING_HISTORY_DATA_SOURCE, null, e);
-        }
+        PasswordHistoryDataStore passwordHistoryDataStore = getPasswordHistoryDataStore(tenantDomain, historyCount);
 
         if (IdentityEventConstants.Event.PRE_UPDATE_CREDENTIAL.equals(event.getEventName()) ||
                 IdentityEventConstants.Event.PRE_UPDATE_CREDENTIAL_BY_ADMIN.equals(event.getEventName())) {
@@ -163,6 +151,67 @@ public class PasswordHistoryValidationHandler extends AbstractEventHandler imple
         }
     }
 
+    /**
+     * Get the password history data store of the tenant. The configured data store is constructed once for a tenant
+     * and reused until the history count configured for the tenant changes.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param historyCount Password history count configured for the tenant.
+     * @return Password history data store.
+     * @throws IdentityEventException If the configured data store cannot be constructed.
+     */
+    PasswordHistoryDataStore getPasswordHistoryDataStore(String tenantDomain, int historyCount)
+            throws IdentityEventException {
+
+        if (tenantDomain == null) {
+            return createPasswordHistoryDataStore(tenantDomain, historyCount);
+        }
+        TenantPasswordHistoryDataStore tenantDataStore = passwordHistoryDataStores.get(tenantDomain);
+        if (tenantDataStore != null && tenantDataStore.historyCount == historyCount) {
+            return tenantDataStore.dataStore;
+        }
+        PasswordHistoryDataStore passwordHistoryDataStore = createPasswordHistoryDataStore(tenantDomain,
+                historyCount);
+        passwordHistoryDataStores.put(tenantDomain,
+                new TenantPasswordHistoryDataStore(historyCount, passwordHistoryDataStore));
+        return passwordHistoryDataStore;
+    }
+
+    private PasswordHistoryDataStore createPasswordHistoryDataStore(String tenantDomain, int historyCount)
+            throws IdentityEventException {
+
+        long startTime = System.nanoTime();
+        String hashingAlgorithm = configs.getModuleProperties().getProperty(
+                PasswordHistoryConstants.PW_HISTORY_HASHING_ALGORITHM);
+        String passwordHistoryDataStoreClass = configs.getModuleProperties().getProperty(
+                PasswordHistoryConstants.PW_HISTORY_DATA_STORE);
+
+        if (StringUtils.isBlank(passwordHistoryDataStoreClass)) {
+            passwordHistoryDataStoreClass = DEFAULT_PASSWORD_HISTORY_DATA_STORE;
+        }
+
+        PasswordHistoryDataStore passwordHistoryDataStore;
+        try {
+            Class<?> cls = Class.forName(passwordHistoryDataStoreClass);
+            Class[] parameterTypes = new Class[]{String.class, Integer.TYPE};
+            Constructor<?> cons = cls.getConstructor(parameterTypes);
+            Object[] arguments = {hashingAlgorithm, historyCount};
+            passwordHistoryDataStore = (PasswordHistoryDataStore) cons.newInstance(arguments);
+        } catch (ClassNotFoundException | InvocationTargetException | SecurityException | NoSuchMethodException |
+                InstantiationException | IllegalArgumentException | IllegalAccessException e) {
+            throw Utils.handleEventException(
+                    PasswordHistoryConstants.ErrorMessages.ERROR_CODE_LOADING_HISTORY_DATA_SOURCE, null, e);
+        }
+        int initializationCount = dataStoreInitializationCount.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Initialized password history data store: %s for tenant: %s with history " +
+                            "count: %d in %d microseconds. Total data store initializations: %d",
+                    passwordHistoryDataStoreClass, tenantDomain, historyCount,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime), initializationCount));
+        }
+        return passwordHistoryDataStore;
+    }
+
     @Override
     public String getName() {
 
@@ -217,6 +266,8 @@ public class PasswordHistoryValidationHandler extends AbstractEventHandler imple
     public void init(InitConfig configuration) throws IdentityRuntimeException {
 
         super.init(configuration);
+        // Data stores are constructed from the module configuration, which may have changed.
+        passwordHistoryDataStores.clear();
         IdentityPasswordHistoryServiceDataHolder.getInstance().getBundleContext().registerService
                 (IdentityConnectorConfig.class.getName(), this, null);
     }
@@ -247,4 +298,19 @@ public class PasswordHistoryValidationHandler extends AbstractEventHandler imple
 
         return null;
     }
+
+    /**
+     * Password history data store constructed for a tenant, along with the history count it was constructed with.
+     */
+    private static class TenantPasswordHistoryDataStore {
+
+        private final int historyCount;
+        private final PasswordHistoryDataStore dataStore;
+
+        TenantPasswordHistoryDataStore(int historyCount, PasswordHistoryDataStore dataStore) {
+
+            this.historyCount = historyCount;
+            this.dataStore = dataStore;
+        }
+    }
 }
@@ -22,6 +22,8 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.governance.common.MessageDigestProvider;
+import org.wso2.carbon.identity.governance.common.SecureRandomSource;
 import org.wso2.carbon.identity.password.history.constants.PasswordHistoryConstants;
 import org.wso2.carbon.identity.password.history.exeption.IdentityPasswordHistoryException;
 import org.wso2.carbon.identity.password.history.store.PasswordHistoryDataStore;
@@ -29,23 +31,19 @@ import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreException;
 
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
 
 /**
  * This interface provides to plug module for preferred persistence store.
  */
 public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore {
-    private static final String RANDOM_ALG_DRBG = "DRBG";
+    private static final int SALT_LENGTH = 16;
     private static final Log log = LogFactory.getLog(DefaultPasswordHistoryDataStore.class);
     private String digestFunction;
     private int maxHistoryCount;
@@ -69,55 +67,62 @@ public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore
         }
         String saltValue = generateSaltValue();
 
+        int tenantId = IdentityTenantUtil.getTenantId(user.getTenantDomain());
         Connection connection = IdentityDatabaseUtil.getDBConnection();
-        List<Integer> recordsToDelete = new ArrayList<>();
         int storedHistoryCount = 0;
-        PreparedStatement prepStmt1 = null;
-        PreparedStatement prepStmt2 = null;
-        PreparedStatement prepStmt3 = null;
+        int recordsToDelete = 0;
+        PreparedStatement loadStmt = null;
+        PreparedStatement deleteStmt = null;
+        PreparedStatement storeStmt = null;
 
         ResultSet resultSet = null;
         try {
-            prepStmt1 = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.LOAD_HISTORY_DATA);
-            prepStmt1.setString(1, user.getUserName());
-            prepStmt1.setString(2, user.getUserStoreDomain());
-            prepStmt1.setInt(3, IdentityTenantUtil.getTenantId(user.getTenantDomain()));
+            // Only the ids of the records are needed to trim the history beyond the configured count.
+            loadStmt = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.LOAD_HISTORY_RECORD_IDS);
+            loadStmt.setString(1, user.getUserName());
+            loadStmt.setString(2, user.getUserStoreDomain());
+            loadStmt.setInt(3, tenantId);
 
-            resultSet = prepStmt1.executeQuery();
+            resultSet = loadStmt.executeQuery();
 
             while (resultSet.next()) {
                 storedHistoryCount++;
                 if (storedHistoryCount >= maxHistoryCount) {
-                    recordsToDelete.add(resultSet.getInt("ID"));
+                    if (deleteStmt == null) {
+                        deleteStmt = connection.prepareStatement(
+                                PasswordHistoryConstants.SQLQueries.DELETE_HISTORY_RECORD);
+                    }
+                    deleteStmt.setInt(1, resultSet.getInt("ID"));
+                    deleteStmt.addBatch();
+                    recordsToDelete++;
                 }
             }
 
-            if (recordsToDelete.size() > 0) {
-                for (int i = 0; i < recordsToDelete.size(); i++) {
-                    prepStmt2 = connection.prepareStatement(
-                            PasswordHistoryConstants.SQLQueries.DELETE_HISTORY_RECORD);
-                    prepStmt2.setInt(1, recordsToDelete.get(i));
-                    prepStmt2.execute();
+            if (deleteStmt != null) {
+                deleteStmt.executeBatch();
+                if (log.isDebugEnabled()) {
+                    log.debug("Deleted " + recordsToDelete + " password history records of user: " +
+                            user.getUserName() + " exceeding the history count: " + maxHistoryCount);
                 }
             }
 
-            prepStmt3 = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.STORE_HISTORY_DATA);
-            prepStmt3.setString(1, user.getUserName());
-            prepStmt3.setString(2, user.getUserStoreDomain().toUpperCase(Locale.ENGLISH));
-            prepStmt3.setInt(3, IdentityTenantUtil.getTenantId(user.getTenantDomain()));
-            prepStmt3.setString(4, saltValue);
-            prepStmt3.setString(5, preparePassword(credential.toString(), saltValue));
-            prepStmt3.setTimestamp(6, new Timestamp(new java.util.Date().getTime()));
-            prepStmt3.execute();
+            storeStmt = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.STORE_HISTORY_DATA);
+            storeStmt.setString(1, user.getUserName());
+            storeStmt.setString(2, user.getUserStoreDomain().toUpperCase(Locale.ENGLISH));
+            storeStmt.setInt(3, tenantId);
+            storeStmt.setString(4, saltValue);
+            storeStmt.setString(5, preparePassword(credential.toString(), saltValue));
+            storeStmt.setTimestamp(6, new Timestamp(new java.util.Date().getTime()));
+            storeStmt.execute();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             throw new IdentityPasswordHistoryException("Error while storing password history", e);
         } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt1);
-            IdentityDatabaseUtil.closeStatement(prepStmt2);
-            IdentityDatabaseUtil.closeStatement(prepStmt3);
             IdentityDatabaseUtil.closeResultSet(resultSet);
+            IdentityDatabaseUtil.closeStatement(loadStmt);
+            IdentityDatabaseUtil.closeStatement(deleteStmt);
+            IdentityDatabaseUtil.closeStatement(storeStmt);
             IdentityDatabaseUtil.closeConnection(connection);
         }
     }
@@ -191,12 +196,19 @@ public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore
 
             resultSet = prepStmt.executeQuery();
 
+            String password = credential.toString();
             while (resultSet.next()) {
                 storedHistoryCount++;
-                if (storedHistoryCount <= maxHistoryCount) {
-                    if (isHistoryExists(resultSet.getString("SALT_VALUE"), resultSet.getString("HASH"), credential)) {
-                        return false;
-                    }
+                if (storedHistoryCount > maxHistoryCount) {
+                    break;
+                }
+                String storedPassword = resultSet.getString("HASH");
+                if (storedPassword == null) {
+                    continue;
+                }
+                String saltValue = resultSet.getString("SALT_VALUE");
+                if (storedPassword.equals(preparePassword(password, saltValue))) {
+                    return false;
                 }
             }
         } catch (SQLException e) {
@@ -209,34 +221,14 @@ public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore
         return true;
     }
 
-    private boolean isHistoryExists(String saltValue, String storedPassword, Object credential) throws
-            IdentityPasswordHistoryException {
-
-        String password;
-        password = this.preparePassword(credential.toString(), saltValue);
-        if ((storedPassword != null) && (storedPassword.equals(password))) {
-            return true;
-        }
-        return false;
-    }
-
     /**
-     * This private method returns a saltValue using SecureRandom.
+     * This private method returns a saltValue using the shared secure random.
      *
      * @return saltValue
      */
     private String generateSaltValue() {
-        String saltValue;
-        try {
-            SecureRandom secureRandom = SecureRandom.getInstance(RANDOM_ALG_DRBG);
-            byte[] bytes = new byte[16];
-            //secureRandom is automatically seeded by calling nextBytes
-            secureRandom.nextBytes(bytes);
-            saltValue = Base64.encode(bytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("DRBG algorithm could not be found.");
-        }
-        return saltValue;
+
+        return Base64.encode(SecureRandomSource.generateBytes(SALT_LENGTH));
     }
 
     /**
@@ -259,8 +251,8 @@ public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore
                     return password;
                 }
 
-                MessageDigest dgst = MessageDigest.getInstance(digestFunction);
-                byte[] byteValue = dgst.digest(digestInput.getBytes(StandardCharsets.UTF_8));
+                byte[] byteValue = MessageDigestProvider.digest(digestFunction,
+                        digestInput.getBytes(StandardCharsets.UTF_8));
                 password = Base64.encode(byteValue);
             }
             return password;
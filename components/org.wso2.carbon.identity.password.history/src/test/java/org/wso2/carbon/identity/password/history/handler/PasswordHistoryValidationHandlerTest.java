@@ -15,18 +15,29 @@
  */
 package org.wso2.carbon.identity.password.history.handler;
 
+import org.osgi.framework.BundleContext;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.password.history.constants.PasswordHistoryConstants;
+import org.wso2.carbon.identity.password.history.internal.IdentityPasswordHistoryServiceDataHolder;
+import org.wso2.carbon.identity.password.history.store.Impl.DefaultPasswordHistoryDataStore;
+import org.wso2.carbon.identity.password.history.store.PasswordHistoryDataStore;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Properties;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 public class PasswordHistoryValidationHandlerTest {
 
@@ -103,4 +114,32 @@ public class PasswordHistoryValidationHandlerTest {
         assertEquals(passwordHistoryValidationHandler.getPropertyNames(),
                 expectedPropertiesTrue.toArray(new String[0]), "getPropertyNames() has been changed.");
     }
+
+    @Test
+    public void testGetPasswordHistoryDataStoreIsReusedPerTenant() throws Exception {
+
+        PasswordHistoryValidationHandler handler = new PasswordHistoryValidationHandler();
+        IdentityPasswordHistoryServiceDataHolder.getInstance().setBundleContext(mock(BundleContext.class));
+        Properties moduleProperties = new Properties();
+        moduleProperties.setProperty(PasswordHistoryConstants.PW_HISTORY_HASHING_ALGORITHM, "SHA-256");
+        ModuleConfiguration moduleConfiguration = mock(ModuleConfiguration.class);
+        when(moduleConfiguration.getModuleProperties()).thenReturn(moduleProperties);
+        handler.init(moduleConfiguration);
+
+        PasswordHistoryDataStore dataStore = handler.getPasswordHistoryDataStore("carbon.super", 5);
+        assertTrue(dataStore instanceof DefaultPasswordHistoryDataStore);
+        assertSame(handler.getPasswordHistoryDataStore("carbon.super", 5), dataStore,
+                "Data store should be reused while the history count is unchanged.");
+        assertNotSame(handler.getPasswordHistoryDataStore("wso2.com", 5), dataStore,
+                "Data store should not be shared across tenants.");
+
+        PasswordHistoryDataStore rebuiltDataStore = handler.getPasswordHistoryDataStore("carbon.super", 3);
+        assertNotSame(rebuiltDataStore, dataStore, "Data store should be rebuilt when the history count changes.");
+        assertSame(handler.getPasswordHistoryDataStore("carbon.super", 3), rebuiltDataStore);
+
+        // Data stores should be rebuilt with the module configuration given at re-initialization.
+        handler.init(moduleConfiguration);
+        assertNotSame(handler.getPasswordHistoryDataStore("carbon.super", 3), rebuiltDataStore,
+                "Data store should be rebuilt when the handler is re-initialized.");
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.password.history.store.Impl;
+
+import org.apache.axiom.om.util.Base64;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.password.history.constants.PasswordHistoryConstants;
+import org.wso2.carbon.identity.password.history.exeption.IdentityPasswordHistoryException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for DefaultPasswordHistoryDataStore.
+ */
+public class DefaultPasswordHistoryDataStoreTest {
+
+    private static final String TEST_USER_NAME = "testUser";
+    private static final String TEST_USER_STORE_DOMAIN = "PRIMARY";
+    private static final String TEST_TENANT_DOMAIN = "carbon.super";
+    private static final int TEST_TENANT_ID = -1234;
+    private static final String DIGEST_FUNCTION = "SHA-256";
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement loadStatement;
+
+    @Mock
+    private PreparedStatement deleteStatement;
+
+    @Mock
+    private PreparedStatement storeStatement;
+
+    @Mock
+    private PreparedStatement historyStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private ResultSet historyResultSet;
+
+    private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
+    private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        MockitoAnnotations.openMocks(this);
+        mockedIdentityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        mockedIdentityTenantUtil = mockStatic(IdentityTenantUtil.class);
+
+        mockedIdentityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(false)).thenReturn(connection);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TEST_TENANT_DOMAIN))
+                .thenReturn(TEST_TENANT_ID);
+        when(connection.prepareStatement(PasswordHistoryConstants.SQLQueries.LOAD_HISTORY_RECORD_IDS))
+                .thenReturn(loadStatement);
+        when(connection.prepareStatement(PasswordHistoryConstants.SQLQueries.DELETE_HISTORY_RECORD))
+                .thenReturn(deleteStatement);
+        when(connection.prepareStatement(PasswordHistoryConstants.SQLQueries.STORE_HISTORY_DATA))
+                .thenReturn(storeStatement);
+        when(connection.prepareStatement(PasswordHistoryConstants.SQLQueries.LOAD_HISTORY_DATA))
+                .thenReturn(historyStatement);
+        when(loadStatement.executeQuery()).thenReturn(resultSet);
+        when(historyStatement.executeQuery()).thenReturn(historyResultSet);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedIdentityDatabaseUtil.close();
+        mockedIdentityTenantUtil.close();
+    }
+
+    @Test
+    public void testStoreTrimsHistoryInSingleBatch() throws Exception {
+
+        // Five stored records with a history count of three: the oldest three records should be deleted.
+        when(resultSet.next()).thenReturn(true, true, true, true, true, false);
+        when(resultSet.getInt("ID")).thenReturn(5, 4, 3, 2, 1);
+
+        new DefaultPasswordHistoryDataStore(DIGEST_FUNCTION, 3).store(getUser(), "password");
+
+        verify(deleteStatement).setInt(1, 3);
+        verify(deleteStatement).setInt(1, 2);
+        verify(deleteStatement).setInt(1, 1);
+        verify(deleteStatement, times(3)).addBatch();
+        verify(deleteStatement, times(1)).executeBatch();
+        verify(connection, times(1)).prepareStatement(PasswordHistoryConstants.SQLQueries.DELETE_HISTORY_RECORD);
+        verify(storeStatement).execute();
+        mockedIdentityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection));
+    }
+
+    @Test
+    public void testStoreWithinHistoryCount() throws Exception {
+
+        when(resultSet.next()).thenReturn(true, false);
+
+        new DefaultPasswordHistoryDataStore(DIGEST_FUNCTION, 3).store(getUser(), "password");
+
+        verify(connection, never()).prepareStatement(PasswordHistoryConstants.SQLQueries.DELETE_HISTORY_RECORD);
+        verify(storeStatement).execute();
+        mockedIdentityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection));
+    }
+
+    @Test
+    public void testStoreRollsBackOnFailure() throws Exception {
+
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt("ID")).thenReturn(2, 1);
+        doThrow(new SQLException()).when(storeStatement).execute();
+
+        try {
+            new DefaultPasswordHistoryDataStore(DIGEST_FUNCTION, 2).store(getUser(), "password");
+            fail("Expected IdentityPasswordHistoryException was not thrown.");
+        } catch (IdentityPasswordHistoryException e) {
+            // Expected exception.
+        }
+        verify(deleteStatement).executeBatch();
+        mockedIdentityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(connection));
+        mockedIdentityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection), never());
+    }
+
+    @Test
+    public void testValidateWithUsedPassword() throws Exception {
+
+        mockHistoryRecords();
+        assertFalse(new DefaultPasswordHistoryDataStore(DIGEST_FUNCTION, 5).validate(getUser(), "password"));
+
+        mockHistoryRecords();
+        assertTrue(new DefaultPasswordHistoryDataStore(DIGEST_FUNCTION, 5).validate(getUser(), "newPassword"));
+    }
+
+    @Test
+    public void testValidateIgnoresRecordsBeyondHistoryCount() throws Exception {
+
+        when(historyResultSet.next()).thenReturn(true, true, true, false);
+        when(historyResultSet.getString("SALT_VALUE")).thenReturn("salt", "salt", "salt");
+        when(historyResultSet.getString("HASH")).thenReturn(hash("other", "salt"), hash("other", "salt"),
+                hash("password", "salt"));
+
+        assertTrue(new DefaultPasswordHistoryDataStore(DIGEST_FUNCTION, 2).validate(getUser(), "password"));
+        // Records beyond the history count should not be read.
+        verify(historyResultSet, times(3)).next();
+        verify(historyResultSet, times(2)).getString("HASH");
+    }
+
+    private void mockHistoryRecords() throws Exception {
+
+        when(historyResultSet.next()).thenReturn(true, true, true, false);
+        when(historyResultSet.getString("SALT_VALUE")).thenReturn("salt1", "salt2", "salt3");
+        when(historyResultSet.getString("HASH")).thenReturn(hash("other", "salt1"), hash("other", "salt2"),
+                hash("password", "salt3"));
+    }
+
+    private String hash(String password, String saltValue) throws Exception {
+
+        MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_FUNCTION);
+        return Base64.encode(messageDigest.digest((password + saltValue).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private User getUser() {
+
+        User user = new User();
+        user.setUserName(TEST_USER_NAME);
+        user.setUserStoreDomain(TEST_USER_STORE_DOMAIN);
+        user.setTenantDomain(TEST_TENANT_DOMAIN);
+        return user;
+    }
+}
@@ -44,15 +44,25 @@ import org.wso2.carbon.identity.password.policy.util.Utils;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 public class PasswordPolicyValidationHandler extends AbstractEventHandler implements IdentityConnectorConfig {
 
     private static final Log log = LogFactory.getLog(PasswordPolicyValidationHandler.class);
 
+    // Resolved from the module configuration on first use and reset when the handler is re-initialized.
+    private volatile PolicyClasses policyClasses;
+    private final Map<String, CompiledPolicyConfig> compiledPolicyConfigs = new ConcurrentHashMap<>();
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
@@ -127,47 +137,93 @@ public class PasswordPolicyValidationHandler extends AbstractEventHandler implem
             }
         }
 
-        PolicyRegistry policyRegistry = new PolicyRegistry();
+        CompiledPolicyConfig policyConfig = getCompiledPolicyConfig(tenantDomain,
+                Arrays.asList(pwMinLength, pwMaxLength, pwPattern, errorMsg));
+        enforcePasswordPolicies(policyConfig, credentials.toString(), userName);
+    }
+
+    /**
+     * Get the compiled password policy configuration of a tenant. The compiled configuration is reused as long as
+     * the policy properties of the tenant are unchanged, and replaced once they change.
+     *
+     * @param tenantDomain   Tenant domain.
+     * @param policyProperty Minimum length, maximum length, pattern and error message of the policy.
+     * @return Compiled password policy configuration.
+     * @throws IdentityEventException If the password pattern could not be compiled.
+     */
+    CompiledPolicyConfig getCompiledPolicyConfig(String tenantDomain, List<String> policyProperty)
+            throws IdentityEventException {
+
+        String cacheKey = StringUtils.defaultString(tenantDomain);
+        CompiledPolicyConfig policyConfig = compiledPolicyConfigs.get(cacheKey);
+        if (policyConfig != null && policyConfig.policyProperty.equals(policyProperty)) {
+            return policyConfig;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            policyConfig = new CompiledPolicyConfig(policyProperty);
+        } catch (PatternSyntaxException e) {
+            throw Utils.handleEventException(
+                    PasswordPolicyConstants.ErrorMessages.ERROR_CODE_LOADING_PASSWORD_POLICY_CLASSES, null, e);
+        }
+        compiledPolicyConfigs.put(cacheKey, policyConfig);
+        if (log.isDebugEnabled()) {
+            log.debug("Password policy configuration of the tenant: " + tenantDomain + " is compiled in " +
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + " microseconds.");
+        }
+        return policyConfig;
+    }
+
+    private void enforcePasswordPolicies(CompiledPolicyConfig policyConfig, String password, String userName)
+            throws IdentityEventException {
 
-        String pwLengthPolicyCls = configs.getModuleProperties().
-                getProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS);
-        String pwNamePolicyCls = configs.getModuleProperties().
-                getProperty(PasswordPolicyConstants.PW_POLICY_NAME_CLASS);
-        String pwPatternPolicyCls = configs.getModuleProperties().
-                getProperty(PasswordPolicyConstants.PW_POLICY_PATTERN_CLASS);
+        PolicyClasses configuredPolicyClasses = getPolicyClasses();
         try {
-            if (StringUtils.isNotBlank(pwLengthPolicyCls)) {
-                DefaultPasswordLengthPolicy defaultPasswordLengthPolicy = (DefaultPasswordLengthPolicy) Class.
-                        forName(pwLengthPolicyCls).newInstance();
+            // Default length and pattern policies are enforced from the compiled configuration. Other configured
+            // policies keep per-enforcement state, hence they are instantiated for each event.
+            if (configuredPolicyClasses.lengthPolicyClass == DefaultPasswordLengthPolicy.class) {
+                if (password.length() < policyConfig.minLength) {
+                    throw policyViolation("Password at least should have " + policyConfig.minLength + " characters");
+                }
+                if (password.length() > policyConfig.maxLength) {
+                    throw policyViolation("Password cannot have more than " + policyConfig.maxLength + " characters");
+                }
+            } else if (configuredPolicyClasses.lengthPolicyClass != null) {
+                DefaultPasswordLengthPolicy defaultPasswordLengthPolicy =
+                        (DefaultPasswordLengthPolicy) newPolicyInstance(configuredPolicyClasses.lengthPolicyClass);
                 HashMap pwPolicyLengthParams = new HashMap<String, String>();
-                pwPolicyLengthParams.put("min.length", pwMinLength);
-                pwPolicyLengthParams.put("max.length", pwMaxLength);
+                pwPolicyLengthParams.put("min.length", policyConfig.policyProperty.get(0));
+                pwPolicyLengthParams.put("max.length", policyConfig.policyProperty.get(1));
                 defaultPasswordLengthPolicy.init(pwPolicyLengthParams);
+                PolicyRegistry policyRegistry = new PolicyRegistry();
                 policyRegistry.addPolicy(defaultPasswordLengthPolicy);
+                policyRegistry.enforcePasswordPolicies(password, userName);
             }
 
-            if (StringUtils.isNotBlank(pwNamePolicyCls)) {
-                DefaultPasswordNamePolicy defaultPasswordNamePolicy = (DefaultPasswordNamePolicy) Class.
-                        forName(pwNamePolicyCls).newInstance();
+            if (configuredPolicyClasses.namePolicyClass != null) {
+                DefaultPasswordNamePolicy defaultPasswordNamePolicy =
+                        (DefaultPasswordNamePolicy) newPolicyInstance(configuredPolicyClasses.namePolicyClass);
+                PolicyRegistry policyRegistry = new PolicyRegistry();
                 policyRegistry.addPolicy(defaultPasswordNamePolicy);
+                policyRegistry.enforcePasswordPolicies(password, userName);
             }
 
-            if (StringUtils.isNotBlank(pwPatternPolicyCls)) {
-                DefaultPasswordPatternPolicy defaultPasswordPatternPolicy = (DefaultPasswordPatternPolicy) Class.
-                        forName(pwPatternPolicyCls).newInstance();
+            if (configuredPolicyClasses.patternPolicyClass == DefaultPasswordPatternPolicy.class) {
+                if (!policyConfig.pattern.matcher(password).matches()) {
+                    throw policyViolation(policyConfig.errorMsg);
+                }
+            } else if (configuredPolicyClasses.patternPolicyClass != null) {
+                DefaultPasswordPatternPolicy defaultPasswordPatternPolicy =
+                        (DefaultPasswordPatternPolicy) newPolicyInstance(configuredPolicyClasses.patternPolicyClass);
                 HashMap pwPolicyPatternParams = new HashMap<String, String>();
-                pwPolicyPatternParams.put("pattern", pwPattern);
-                pwPolicyPatternParams.put("errorMsg", errorMsg);
+                pwPolicyPatternParams.put("pattern", policyConfig.policyProperty.get(2));
+                pwPolicyPatternParams.put("errorMsg", policyConfig.errorMsg);
                 defaultPasswordPatternPolicy.init(pwPolicyPatternParams);
+                PolicyRegistry policyRegistry = new PolicyRegistry();
                 policyRegistry.addPolicy(defaultPasswordPatternPolicy);
+                policyRegistry.enforcePasswordPolicies(password, userName);
             }
-        } catch (Exception e) {
-            throw Utils.handleEventException(
-                    PasswordPolicyConstants.ErrorMessages.ERROR_CODE_LOADING_PASSWORD_POLICY_CLASSES, null, e);
-        }
-
-        try {
-            policyRegistry.enforcePasswordPolicies(credentials.toString(), userName);
         } catch (PolicyViolationException e) {
             if (PasswordPolicyStatusCodes.ERROR_CODE_PASSWORD_POLICY_VIOLATION
                     .equals(e.getErrorCode())) {
@@ -178,6 +234,56 @@ public class PasswordPolicyValidationHandler extends AbstractEventHandler implem
         }
     }
 
+    private IdentityEventException policyViolation(String message) {
+
+        return IdentityException.error(IdentityEventException.class,
+                PasswordPolicyStatusCodes.ERROR_CODE_PASSWORD_POLICY_VIOLATION, message);
+    }
+
+    private Object newPolicyInstance(Class<?> policyClass) throws IdentityEventException {
+
+        try {
+            return policyClass.newInstance();
+        } catch (Exception e) {
+            throw Utils.handleEventException(
+                    PasswordPolicyConstants.ErrorMessages.ERROR_CODE_LOADING_PASSWORD_POLICY_CLASSES, null, e);
+        }
+    }
+
+    private PolicyClasses getPolicyClasses() throws IdentityEventException {
+
+        PolicyClasses resolvedPolicyClasses = policyClasses;
+        if (resolvedPolicyClasses != null) {
+            return resolvedPolicyClasses;
+        }
+
+        long startTime = System.nanoTime();
+        Properties moduleProperties = configs.getModuleProperties();
+        try {
+            resolvedPolicyClasses = new PolicyClasses(
+                    loadPolicyClass(moduleProperties.getProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS)),
+                    loadPolicyClass(moduleProperties.getProperty(PasswordPolicyConstants.PW_POLICY_NAME_CLASS)),
+                    loadPolicyClass(moduleProperties.getProperty(PasswordPolicyConstants.PW_POLICY_PATTERN_CLASS)));
+        } catch (ClassNotFoundException e) {
+            throw Utils.handleEventException(
+                    PasswordPolicyConstants.ErrorMessages.ERROR_CODE_LOADING_PASSWORD_POLICY_CLASSES, null, e);
+        }
+        policyClasses = resolvedPolicyClasses;
+        if (log.isDebugEnabled()) {
+            log.debug("Password policy classes are resolved in " +
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + " microseconds.");
+        }
+        return resolvedPolicyClasses;
+    }
+
+    private Class<?> loadPolicyClass(String policyClassName) throws ClassNotFoundException {
+
+        if (StringUtils.isBlank(policyClassName)) {
+            return null;
+        }
+        return Class.forName(policyClassName);
+    }
+
     @Override
     public String getName() {
 
@@ -240,6 +346,9 @@ public class PasswordPolicyValidationHandler extends AbstractEventHandler implem
     public void init(InitConfig configuration) throws IdentityRuntimeException {
 
         super.init(configuration);
+        // Policy class names may have changed with the new module configuration.
+        policyClasses = null;
+        compiledPolicyConfigs.clear();
     }
 
     public String[] getPropertyNames() {
@@ -277,4 +386,47 @@ public class PasswordPolicyValidationHandler extends AbstractEventHandler implem
 
         return null;
     }
+
+    /**
+     * Password policy classes configured for the module.
+     */
+    private static final class PolicyClasses {
+
+        private final Class<?> lengthPolicyClass;
+        private final Class<?> namePolicyClass;
+        private final Class<?> patternPolicyClass;
+
+        private PolicyClasses(Class<?> lengthPolicyClass, Class<?> namePolicyClass, Class<?> patternPolicyClass) {
+
+            this.lengthPolicyClass = lengthPolicyClass;
+            this.namePolicyClass = namePolicyClass;
+            this.patternPolicyClass = patternPolicyClass;
+        }
+    }
+
+    /**
+     * Password policy configuration of a tenant with the lengths parsed and the pattern compiled.
+     */
+    static final class CompiledPolicyConfig {
+
+        private final List<String> policyProperty;
+        private final int minLength;
+        private final int maxLength;
+        private final Pattern pattern;
+        private final String errorMsg;
+
+        private CompiledPolicyConfig(List<String> policyProperty) {
+
+            this.policyProperty = Collections.unmodifiableList(new ArrayList<>(policyProperty));
+            this.minLength = Integer.parseInt(policyProperty.get(0));
+            this.maxLength = Integer.parseInt(policyProperty.get(1));
+            this.pattern = Pattern.compile(policyProperty.get(2));
+            this.errorMsg = policyProperty.get(3);
+        }
+
+        int getMinLength() {
+
+            return minLength;
+        }
+    }
 }
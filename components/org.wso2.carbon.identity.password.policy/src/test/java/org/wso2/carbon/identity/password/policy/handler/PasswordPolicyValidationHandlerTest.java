@@ -15,22 +15,42 @@
  */
 package org.wso2.carbon.identity.password.policy.handler;
 
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.password.policy.constants.PasswordPolicyConstants;
+import org.wso2.carbon.identity.password.policy.internal.IdentityPasswordPolicyServiceDataHolder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
 
 public class PasswordPolicyValidationHandlerTest {
 
     private static final String PW_POLICY_DISABLE = "passwordPolicy.disable";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String PW_POLICY_PATTERN = "^((?=.*\\d)(?=.*[a-z])(?=.*[A-Z])(?=.*[!@#$%&*])).{0,100}$";
+    private static final String PW_POLICY_ERROR_MSG = "Password pattern policy violated.";
     PasswordPolicyValidationHandler passwordPolicyValidationHandler;
 
     @BeforeMethod
@@ -39,6 +59,12 @@ public class PasswordPolicyValidationHandlerTest {
         passwordPolicyValidationHandler = new PasswordPolicyValidationHandler();
     }
 
+    @AfterMethod
+    public void tearDown() {
+
+        IdentityPasswordPolicyServiceDataHolder.getInstance().setIdentityGovernanceService(null);
+    }
+
 
     @Test
     public void testGetName() throws Exception {
@@ -123,4 +149,110 @@ public class PasswordPolicyValidationHandlerTest {
 
         assertEquals(passwordPolicyValidationHandler.getOrder(), 0, "getOrder() has been changed.");
     }
+
+    @Test
+    public void testCompiledPolicyConfigIsReusedUntilPropertiesChange() throws Exception {
+
+        List<String> policyProperty = Arrays.asList("6", "12", PW_POLICY_PATTERN, PW_POLICY_ERROR_MSG);
+        PasswordPolicyValidationHandler.CompiledPolicyConfig policyConfig =
+                passwordPolicyValidationHandler.getCompiledPolicyConfig(TENANT_DOMAIN, policyProperty);
+
+        assertSame(passwordPolicyValidationHandler.getCompiledPolicyConfig(TENANT_DOMAIN,
+                Arrays.asList("6", "12", PW_POLICY_PATTERN, PW_POLICY_ERROR_MSG)), policyConfig);
+
+        PasswordPolicyValidationHandler.CompiledPolicyConfig updatedPolicyConfig =
+                passwordPolicyValidationHandler.getCompiledPolicyConfig(TENANT_DOMAIN,
+                        Arrays.asList("8", "12", PW_POLICY_PATTERN, PW_POLICY_ERROR_MSG));
+        assertNotSame(updatedPolicyConfig, policyConfig);
+        assertEquals(updatedPolicyConfig.getMinLength(), 8);
+        assertSame(passwordPolicyValidationHandler.getCompiledPolicyConfig(TENANT_DOMAIN,
+                Arrays.asList("8", "12", PW_POLICY_PATTERN, PW_POLICY_ERROR_MSG)), updatedPolicyConfig);
+    }
+
+    @Test
+    public void testHandleEventWithInvalidPolicyClass() throws Exception {
+
+        initWithPolicyClasses();
+        IdentityGovernanceService identityGovernanceService = mock(IdentityGovernanceService.class);
+        IdentityPasswordPolicyServiceDataHolder.getInstance().setIdentityGovernanceService(identityGovernanceService);
+        when(identityGovernanceService.getConfiguration(any(String[].class), anyString()))
+                .thenReturn(buildPolicyProperties("6"));
+        passwordPolicyValidationHandler.handleEvent(buildCredentialEvent("Wso2@test"));
+
+        Properties moduleProperties = new Properties();
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS,
+                "org.wso2.carbon.identity.mgt.policy.password.InvalidPasswordLengthPolicy");
+        ModuleConfiguration moduleConfiguration = mock(ModuleConfiguration.class);
+        when(moduleConfiguration.getModuleProperties()).thenReturn(moduleProperties);
+        passwordPolicyValidationHandler.init(moduleConfiguration);
+        try {
+            passwordPolicyValidationHandler.handleEvent(buildCredentialEvent("Wso2@test"));
+            fail("Policy classes of the previous module configuration are used after re-initialization.");
+        } catch (IdentityEventException e) {
+            // Expected since the configured policy class does not exist.
+        }
+    }
+
+    @Test
+    public void testHandleEventAfterPolicyConfigChange() throws Exception {
+
+        initWithPolicyClasses();
+        IdentityGovernanceService identityGovernanceService = mock(IdentityGovernanceService.class);
+        IdentityPasswordPolicyServiceDataHolder.getInstance().setIdentityGovernanceService(identityGovernanceService);
+
+        when(identityGovernanceService.getConfiguration(any(String[].class), anyString()))
+                .thenReturn(buildPolicyProperties("6"));
+        passwordPolicyValidationHandler.handleEvent(buildCredentialEvent("Wso2@test"));
+
+        when(identityGovernanceService.getConfiguration(any(String[].class), anyString()))
+                .thenReturn(buildPolicyProperties("10"));
+        try {
+            passwordPolicyValidationHandler.handleEvent(buildCredentialEvent("Wso2@test"));
+            fail("Password policy of the updated configuration is not enforced.");
+        } catch (IdentityEventException e) {
+            // Expected since the password is shorter than the updated minimum length.
+        }
+    }
+
+    private void initWithPolicyClasses() {
+
+        Properties moduleProperties = new Properties();
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS,
+                "org.wso2.carbon.identity.mgt.policy.password.DefaultPasswordLengthPolicy");
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_NAME_CLASS,
+                "org.wso2.carbon.identity.mgt.policy.password.DefaultPasswordNamePolicy");
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_PATTERN_CLASS,
+                "org.wso2.carbon.identity.mgt.policy.password.DefaultPasswordPatternPolicy");
+        ModuleConfiguration moduleConfiguration = mock(ModuleConfiguration.class);
+        when(moduleConfiguration.getModuleProperties()).thenReturn(moduleProperties);
+        passwordPolicyValidationHandler.init(moduleConfiguration);
+    }
+
+    private Property[] buildPolicyProperties(String minLength) {
+
+        return new Property[]{
+                buildProperty(PasswordPolicyConstants.PW_POLICY_ENABLE, "true"),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_MIN_LENGTH, minLength),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_MAX_LENGTH, "20"),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_PATTERN, PW_POLICY_PATTERN),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_ERROR_MSG, PW_POLICY_ERROR_MSG)
+        };
+    }
+
+    private Property buildProperty(String name, String value) {
+
+        Property property = new Property();
+        property.setName(name);
+        property.setValue(value);
+        return property;
+    }
+
+    private Event buildCredentialEvent(String credential) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_NAME, "testUser");
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, TENANT_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.CREDENTIAL, credential);
+        return new Event(IdentityEventConstants.Event.PRE_UPDATE_CREDENTIAL_BY_ADMIN, eventProperties);
+    }
 }
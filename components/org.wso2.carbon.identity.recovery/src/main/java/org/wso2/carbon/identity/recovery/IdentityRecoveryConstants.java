@@ -183,6 +183,14 @@ public class IdentityRecoveryConstants {
     public static final int RECOVERY_CODE_DEFAULT_EXPIRY_TIME = 1;
     public static final int RESEND_CODE_DEFAULT_EXPIRY_TIME = 1;
 
+    // Expired recovery data cleanup defaults.
+    public static final int RECOVERY_DATA_CLEANUP_DEFAULT_INTERVAL = 60;
+    public static final int RECOVERY_DATA_CLEANUP_DEFAULT_BATCH_SIZE = 500;
+    public static final int RECOVERY_DATA_CLEANUP_DEFAULT_BATCH_DELAY = 500;
+    public static final int RECOVERY_DATA_CLEANUP_DEFAULT_GRACE_PERIOD = 1440;
+    public static final String RECOVERY_DATA_CLEANUP_DEFAULT_SCENARIOS = "NOTIFICATION_BASED_PW_RECOVERY," +
+            "QUESTION_BASED_PWD_RECOVERY,USERNAME_RECOVERY";
+
     public static final String RECOVERY_QUESTION_PASSWORD_SKIP_ON_INSUFFICIENT_ANSWERS =
             "Recovery.Question.Password.SkipOnInsufficientAnswers";
     public static final String RECOVERY_CONFIRMATION_CODE_TOLERANCE_PERIOD =
@@ -330,6 +338,7 @@ public class IdentityRecoveryConstants {
         ERROR_CODE_MULTIPLE_CLAIMS_WITH_MULTI_ATTRIBUTE_URI("20066", "Multiple claims not allowed " +
                 "when user identifier claim is used."),
         ERROR_CODE_INVALID_PASSWORD("20067", "Error while validating the password. %s"),
+        ERROR_CODE_ERROR_DELETING_EXPIRED_RECOVERY_DATA("20068", "Error while deleting expired recovery data."),
 
         ERROR_CODE_ERROR_RETRIVING_CLAIM("18004", "Error when retrieving the locale claim of user '%s' of '%s' domain."),
         ERROR_CODE_RECOVERY_DATA_NOT_FOUND_FOR_USER("18005", "Recovery data not found."),
@@ -594,6 +603,12 @@ public class IdentityRecoveryConstants {
         public static final String PASSWORD_RECOVERY_SMS_OTP_REGEX = "Recovery.Notification.Password.smsOtp.Regex";
         public static final String RESEND_CODE_EXPIRY_TIME = "Recovery.Notification.ExpiryTime.ResendCode";
         public static final String RECOVERY_CODE_EXPIRY_TIME = "Recovery.Notification.ExpiryTime.RecoveryCode";
+        public static final String RECOVERY_DATA_CLEANUP_ENABLED = "Recovery.DataCleanup.Enable";
+        public static final String RECOVERY_DATA_CLEANUP_INTERVAL = "Recovery.DataCleanup.Interval";
+        public static final String RECOVERY_DATA_CLEANUP_BATCH_SIZE = "Recovery.DataCleanup.BatchSize";
+        public static final String RECOVERY_DATA_CLEANUP_BATCH_DELAY = "Recovery.DataCleanup.BatchDelay";
+        public static final String RECOVERY_DATA_CLEANUP_GRACE_PERIOD = "Recovery.DataCleanup.GracePeriod";
+        public static final String RECOVERY_DATA_CLEANUP_SCENARIOS = "Recovery.DataCleanup.Scenarios";
         public static final String ENABLE_ACCOUNT_LOCK_FOR_VERIFIED_PREFERRED_CHANNEL =
                 "SelfRegistration.EnableAccountLockForVerifiedPreferredChannel";
         public static final String PASSWORD_RECOVERY_SEND_OTP_IN_EMAIL = "Recovery.Notification.Password.OTP.SendOTPInEmail";
@@ -748,6 +763,7 @@ public class IdentityRecoveryConstants {
         public static final String USER_DOMAIN = "USER_DOMAIN";
         public static final String CODE = "CODE";
         public static final String SCENARIO = "SCENARIO";
+        public static final String STEP = "STEP";
         public static final String REMAINING_SETS = "REMAINING_SETS";
         public static final String RECOVERY_FLOW_ID = "RECOVERY_FLOW_ID";
         public static final String FAILED_ATTEMPTS = "FAILED_ATTEMPTS";
@@ -841,6 +857,22 @@ public class IdentityRecoveryConstants {
 
         public static final String INVALIDATE_BY_RECOVERY_FLOW_ID = "DELETE FROM IDN_RECOVERY_FLOW_DATA WHERE " +
                 "RECOVERY_FLOW_ID = ?";
+
+        public static final String LOAD_EXPIRY_CANDIDATE_RECOVERY_DATA = "SELECT CODE, TENANT_ID, SCENARIO, STEP, " +
+                "REMAINING_SETS, TIME_CREATED FROM IDN_RECOVERY_DATA WHERE TIME_CREATED < ? AND (TIME_CREATED > ? " +
+                "OR (TIME_CREATED = ? AND CODE > ?)) AND SCENARIO IN (";
+
+        public static final String LOAD_EXPIRY_CANDIDATE_RECOVERY_DATA_ORDER_BY = ") ORDER BY TIME_CREATED, CODE";
+
+        public static final String LOAD_ORPHAN_RECOVERY_FLOW_DATA_FIRST_PAGE = "SELECT RECOVERY_FLOW_ID FROM " +
+                "IDN_RECOVERY_FLOW_DATA F WHERE F.TIME_CREATED < ? AND NOT EXISTS " +
+                "(SELECT 1 FROM IDN_RECOVERY_DATA D WHERE D.RECOVERY_FLOW_ID = F.RECOVERY_FLOW_ID) " +
+                "ORDER BY F.RECOVERY_FLOW_ID";
+
+        public static final String LOAD_ORPHAN_RECOVERY_FLOW_DATA = "SELECT RECOVERY_FLOW_ID FROM " +
+                "IDN_RECOVERY_FLOW_DATA F WHERE F.TIME_CREATED < ? AND F.RECOVERY_FLOW_ID > ? AND NOT EXISTS " +
+                "(SELECT 1 FROM IDN_RECOVERY_DATA D WHERE D.RECOVERY_FLOW_ID = F.RECOVERY_FLOW_ID) " +
+                "ORDER BY F.RECOVERY_FLOW_ID";
     }
 
     public static class Questions {
@@ -32,6 +32,7 @@ import org.wso2.carbon.consent.mgt.core.ConsentManager;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.PostAuthenticationHandler;
 import org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandlerManager;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.listener.ClaimMetadataMgtListener;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.consent.mgt.services.ConsentUtilityService;
 import org.wso2.carbon.identity.core.persistence.registry.RegistryResourceMgtService;
@@ -64,18 +65,27 @@ import org.wso2.carbon.identity.recovery.handler.LiteUserRegistrationHandler;
 import org.wso2.carbon.identity.recovery.handler.UserSelfRegistrationHandler;
 import org.wso2.carbon.identity.recovery.internal.service.impl.password.PasswordRecoveryManagerImpl;
 import org.wso2.carbon.identity.recovery.internal.service.impl.username.UsernameRecoveryManagerImpl;
+import org.wso2.carbon.identity.recovery.listener.RecoveryClaimsCacheListener;
+import org.wso2.carbon.identity.recovery.listener.RecoveryConfigCacheListener;
 import org.wso2.carbon.identity.recovery.listener.TenantManagementListener;
 import org.wso2.carbon.identity.recovery.password.NotificationPasswordRecoveryManager;
 import org.wso2.carbon.identity.recovery.services.password.PasswordRecoveryManager;
 import org.wso2.carbon.identity.recovery.services.username.UsernameRecoveryManager;
 import org.wso2.carbon.identity.recovery.signup.UserSelfRegistrationManager;
+import org.wso2.carbon.identity.recovery.store.ExpiredRecoveryDataCleanupTask;
+import org.wso2.carbon.identity.recovery.store.JDBCRecoveryDataStore;
 import org.wso2.carbon.identity.recovery.username.NotificationUsernameRecoveryManager;
 import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityManager;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.FederatedAssociationManager;
+import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 @Component(
         name = "org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceComponent",
         immediate = true)
@@ -84,6 +94,7 @@ public class IdentityRecoveryServiceComponent {
     private static final Log log = LogFactory.getLog(IdentityRecoveryServiceComponent.class);
 
     private IdentityRecoveryServiceDataHolder dataHolder = IdentityRecoveryServiceDataHolder.getInstance();
+    private ScheduledExecutorService recoveryDataCleanupScheduler;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -140,11 +151,22 @@ public class IdentityRecoveryServiceComponent {
         // register the tenant management listener
         TenantMgtListener tenantMgtListener = new TenantManagementListener();
         context.getBundleContext().registerService(TenantMgtListener.class.getName(), tenantMgtListener, null);
+        // Register the listener which clears the cached recovery configurations on resident IdP updates.
+        context.getBundleContext().registerService(IdentityProviderMgtListener.class.getName(),
+                new RecoveryConfigCacheListener(), null);
+        // Register the listener which renews the recovery supported claims version on claim metadata changes.
+        context.getBundleContext().registerService(ClaimMetadataMgtListener.class.getName(),
+                new RecoveryClaimsCacheListener(), null);
+        scheduleExpiredRecoveryDataCleanup();
     }
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        if (recoveryDataCleanupScheduler != null) {
+            recoveryDataCleanupScheduler.shutdownNow();
+            recoveryDataCleanupScheduler = null;
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
@@ -208,6 +230,24 @@ public class IdentityRecoveryServiceComponent {
         IdentityRecoveryServiceDataHolder.getInstance().setIdentityEventService(identityEventService);
     }
 
+    @Reference(
+            name = "identity.event.handler",
+            service = org.wso2.carbon.identity.event.handler.AbstractEventHandler.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetEventHandler")
+    protected void setEventHandler(AbstractEventHandler eventHandler) {
+
+        dataHolder.addEventHandler(eventHandler);
+        JDBCRecoveryDataStore.resetRecoveryDataEventSubscriptions();
+    }
+
+    protected void unsetEventHandler(AbstractEventHandler eventHandler) {
+
+        dataHolder.removeEventHandler(eventHandler);
+        JDBCRecoveryDataStore.resetRecoveryDataEventSubscriptions();
+    }
+
     protected void unsetIdentityGovernanceService(IdentityGovernanceService idpManager) {
 
         dataHolder.setIdentityGovernanceService(null);
@@ -484,4 +524,22 @@ public class IdentityRecoveryServiceComponent {
 
         IdentityRecoveryServiceDataHolder.getInstance().setIdentityDataStoreService(null);
     }
+
+    /**
+     * Schedule the cleanup of the expired recovery data if it is enabled.
+     */
+    private void scheduleExpiredRecoveryDataCleanup() {
+
+        if (!ExpiredRecoveryDataCleanupTask.isEnabled()) {
+            return;
+        }
+        ExpiredRecoveryDataCleanupTask cleanupTask = new ExpiredRecoveryDataCleanupTask();
+        recoveryDataCleanupScheduler = Executors.newSingleThreadScheduledExecutor();
+        recoveryDataCleanupScheduler.scheduleWithFixedDelay(cleanupTask, cleanupTask.getInterval(),
+                cleanupTask.getInterval(), TimeUnit.MINUTES);
+        if (log.isDebugEnabled()) {
+            log.debug("Expired recovery data cleanup is scheduled with an interval of " + cleanupTask.getInterval() +
+                    " minutes.");
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementServic
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.consent.mgt.services.ConsentUtilityService;
 import org.wso2.carbon.identity.core.persistence.registry.RegistryResourceMgtService;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
@@ -37,8 +38,11 @@ import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class IdentityRecoveryServiceDataHolder {
 
@@ -60,6 +64,7 @@ public class IdentityRecoveryServiceDataHolder {
     private AuthAttributeHandlerManager authAttributeHandlerManager;
     private FederatedAssociationManager federatedAssociationManager;
     private IdentityDataStoreService identityDataStoreService;
+    private final Set<AbstractEventHandler> eventHandlers = ConcurrentHashMap.newKeySet();
     private static Map<Integer, UserOperationEventListener> userOperationEventListeners = new TreeMap<>();
     public static IdentityRecoveryServiceDataHolder getInstance() {
 
@@ -332,4 +337,24 @@ public class IdentityRecoveryServiceDataHolder {
 
         this.identityDataStoreService = identityDataStoreService;
     }
+
+    /**
+     * Get the names of the event handlers registered in the server.
+     *
+     * @return Names of the registered event handlers.
+     */
+    public Set<AbstractEventHandler> getEventHandlers() {
+
+        return Collections.unmodifiableSet(eventHandlers);
+    }
+
+    public void addEventHandler(AbstractEventHandler eventHandler) {
+
+        eventHandlers.add(eventHandler);
+    }
+
+    public void removeEventHandler(AbstractEventHandler eventHandler) {
+
+        eventHandlers.remove(eventHandler);
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.internal.cache;
+
+import java.io.Serializable;
+
+/**
+ * OTP generation profile resolved from the connector configurations of a tenant: the character types, the length
+ * and whether the OTP should be sent in e-mails.
+ */
+public class OTPProfile implements Serializable {
+
+    private static final long serialVersionUID = -1839437781930615126L;
+    private final boolean useNumeric;
+    private final boolean useUppercaseLetters;
+    private final boolean useLowercaseLetters;
+    private final int length;
+    private final boolean sendOTPInEmail;
+
+    public OTPProfile(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters, int length,
+                      boolean sendOTPInEmail) {
+
+        this.useNumeric = useNumeric;
+        this.useUppercaseLetters = useUppercaseLetters;
+        this.useLowercaseLetters = useLowercaseLetters;
+        this.length = length;
+        this.sendOTPInEmail = sendOTPInEmail;
+    }
+
+    public boolean isUseNumeric() {
+
+        return useNumeric;
+    }
+
+    public boolean isUseUppercaseLetters() {
+
+        return useUppercaseLetters;
+    }
+
+    public boolean isUseLowercaseLetters() {
+
+        return useLowercaseLetters;
+    }
+
+    public int getLength() {
+
+        return length;
+    }
+
+    public boolean isSendOTPInEmail() {
+
+        return sendOTPInEmail;
+    }
+
+    /**
+     * Check whether the OTP contains both letters and numbers.
+     *
+     * @return True if the OTP is alphanumeric.
+     */
+    public boolean isAlphanumeric() {
+
+        return useNumeric && (useUppercaseLetters || useLowercaseLetters);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+
+/**
+ * Cache to maintain the version of the recovery supported claims of a tenant.
+ */
+public class RecoveryClaimsVersionCache extends BaseCache<StringCacheKey, RecoveryClaimsVersionCacheEntry> {
+
+    private static final String RECOVERY_CLAIMS_VERSION_CACHE = "RecoveryClaimsVersionCache";
+    private static volatile RecoveryClaimsVersionCache instance;
+
+    public RecoveryClaimsVersionCache() {
+
+        super(RECOVERY_CLAIMS_VERSION_CACHE);
+    }
+
+    public static RecoveryClaimsVersionCache getInstance() {
+
+        if (instance == null) {
+            synchronized (RecoveryClaimsVersionCache.class) {
+                if (instance == null) {
+                    instance = new RecoveryClaimsVersionCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
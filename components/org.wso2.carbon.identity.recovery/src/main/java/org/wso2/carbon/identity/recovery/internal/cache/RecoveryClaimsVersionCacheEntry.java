@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Version of the recovery supported claims of a tenant. A new version is issued whenever the entry is cleared, so
+ * that the consumers of the claims can tell whether the claims they hold are still current.
+ */
+public class RecoveryClaimsVersionCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3150862275092376541L;
+    private final String version;
+
+    public RecoveryClaimsVersionCacheEntry(String version) {
+
+        this.version = version;
+    }
+
+    public String getVersion() {
+
+        return version;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.listener;
+
+import org.wso2.carbon.identity.governance.listener.AbstractClaimMetadataChangeListener;
+import org.wso2.carbon.identity.recovery.util.Utils;
+
+/**
+ * Claim metadata management listener which clears the version of the recovery supported claims of a tenant when
+ * the local claims or claim dialects of the tenant change, so that it is derived again from the claims.
+ */
+public class RecoveryClaimsCacheListener extends AbstractClaimMetadataChangeListener {
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return 11;
+    }
+
+    @Override
+    protected void onClaimMetadataChange(String tenantDomain) {
+
+        Utils.clearClaimsVersion(tenantDomain);
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.recovery.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryServerException;
+import org.wso2.carbon.identity.recovery.RecoveryScenarios;
+import org.wso2.carbon.identity.recovery.RecoverySteps;
+import org.wso2.carbon.identity.recovery.util.Utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.recovery.IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_ERROR_DELETING_EXPIRED_RECOVERY_DATA;
+
+/**
+ * Task which removes the expired recovery data and the recovery flow data left behind by them.
+ * <p>
+ * Expiry of a code is resolved with the expiry configurations of its tenant, recovery scenario and step, and a code is
+ * removed only after it has been expired for the configured grace period. Only the configured recovery scenarios are
+ * cleaned, since the recovery data of scenarios such as self sign up also represent the pending state of the user.
+ * The data are scanned and deleted in small batches, each in its own short transaction, with a delay between the
+ * batches so that the task does not hold long locks on the recovery tables. The deletions are idempotent, yet the
+ * task is expected to be enabled only on one node of a cluster.
+ */
+public class ExpiredRecoveryDataCleanupTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(ExpiredRecoveryDataCleanupTask.class);
+    private static final String UTC = "UTC";
+
+    private final int interval;
+    private final int batchSize;
+    private final long batchDelay;
+    private final long gracePeriod;
+    private final List<String> recoveryScenarios;
+
+    /**
+     * Create the cleanup task with the configurations of the identity.xml.
+     */
+    public ExpiredRecoveryDataCleanupTask() {
+
+        this(getIntProperty(IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_CLEANUP_INTERVAL,
+                        IdentityRecoveryConstants.RECOVERY_DATA_CLEANUP_DEFAULT_INTERVAL),
+                getIntProperty(IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_CLEANUP_BATCH_SIZE,
+                        IdentityRecoveryConstants.RECOVERY_DATA_CLEANUP_DEFAULT_BATCH_SIZE),
+                getIntProperty(IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_CLEANUP_BATCH_DELAY,
+                        IdentityRecoveryConstants.RECOVERY_DATA_CLEANUP_DEFAULT_BATCH_DELAY),
+                getIntProperty(IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_CLEANUP_GRACE_PERIOD,
+                        IdentityRecoveryConstants.RECOVERY_DATA_CLEANUP_DEFAULT_GRACE_PERIOD),
+                getRecoveryScenarios());
+    }
+
+    /**
+     * Create the cleanup task.
+     *
+     * @param interval          Interval between two runs of the task (In minutes).
+     * @param batchSize         Maximum number of entries scanned and deleted in a batch.
+     * @param batchDelay        Delay between two batches (In milliseconds).
+     * @param gracePeriod       Time an expired code is retained before it is deleted (In minutes).
+     * @param recoveryScenarios Recovery scenarios of which the expired codes are deleted.
+     */
+    ExpiredRecoveryDataCleanupTask(int interval, int batchSize, int batchDelay, int gracePeriod,
+                                   List<String> recoveryScenarios) {
+
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.batchDelay = batchDelay;
+        this.gracePeriod = TimeUnit.MINUTES.toMillis(gracePeriod);
+        this.recoveryScenarios = recoveryScenarios;
+    }
+
+    /**
+     * Check whether the expired recovery data cleanup is enabled.
+     *
+     * @return True if the cleanup is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(
+                IdentityUtil.getProperty(IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_CLEANUP_ENABLED));
+    }
+
+    /**
+     * Get the interval between two runs of the task.
+     *
+     * @return Interval (In minutes).
+     */
+    public int getInterval() {
+
+        return interval;
+    }
+
+    @Override
+    public void run() {
+
+        long startTime = System.currentTimeMillis();
+        try {
+            int deletedRecoveryDataCount = deleteExpiredRecoveryData();
+            int deletedRecoveryFlowDataCount = deleteOrphanRecoveryFlowData();
+            log.info(String.format("Deleted %d expired recovery data entries and %d recovery flow data entries " +
+                    "in %d ms.", deletedRecoveryDataCount, deletedRecoveryFlowDataCount,
+                    System.currentTimeMillis() - startTime));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (log.isDebugEnabled()) {
+                log.debug("Expired recovery data cleanup was interrupted.");
+            }
+        } catch (IdentityRecoveryException | RuntimeException e) {
+            // Exceptions are not propagated, since it would cancel the next runs of the task.
+            log.error("Error while deleting the expired recovery data.", e);
+        }
+    }
+
+    /**
+     * Delete the expired recovery data of the configured recovery scenarios.
+     *
+     * @return Number of deleted entries.
+     * @throws IdentityRecoveryException If an error occurred while deleting the recovery data.
+     * @throws InterruptedException      If the task is interrupted.
+     */
+    int deleteExpiredRecoveryData() throws IdentityRecoveryException, InterruptedException {
+
+        if (recoveryScenarios.isEmpty()) {
+            return 0;
+        }
+        String sql = buildExpiryCandidateQuery();
+        long now = System.currentTimeMillis();
+        // A code can not be expired for more than the grace period unless it is created before the grace period.
+        Timestamp createdBefore = new Timestamp(now - gracePeriod);
+        Timestamp lastTimeCreated = new Timestamp(0);
+        String lastCode = StringUtils.EMPTY;
+        Map<String, Integer> expiryTimes = new HashMap<>();
+        int deletedCount = 0;
+
+        while (true) {
+            List<String> expiredCodes = new ArrayList<>();
+            int scannedCount = 0;
+            Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+            PreparedStatement prepStmt = null;
+            ResultSet resultSet = null;
+            try {
+                prepStmt = connection.prepareStatement(sql);
+                prepStmt.setMaxRows(batchSize);
+                Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(UTC));
+                prepStmt.setTimestamp(1, createdBefore, utcCalendar);
+                prepStmt.setTimestamp(2, lastTimeCreated, utcCalendar);
+                prepStmt.setTimestamp(3, lastTimeCreated, utcCalendar);
+                prepStmt.setString(4, lastCode);
+                int index = 5;
+                for (String recoveryScenario : recoveryScenarios) {
+                    prepStmt.setString(index++, recoveryScenario);
+                }
+                resultSet = prepStmt.executeQuery();
+                while (resultSet.next()) {
+                    scannedCount++;
+                    lastCode = resultSet.getString(IdentityRecoveryConstants.DBConstants.CODE);
+                    lastTimeCreated = resultSet.getTimestamp(IdentityRecoveryConstants.DBConstants.TIME_CREATED,
+                            utcCalendar);
+                    int expiryTime = getCodeExpiryTime(expiryTimes,
+                            resultSet.getInt(IdentityRecoveryConstants.DBConstants.TENANT_ID),
+                            resultSet.getString(IdentityRecoveryConstants.DBConstants.SCENARIO),
+                            resultSet.getString(IdentityRecoveryConstants.DBConstants.STEP),
+                            resultSet.getString(IdentityRecoveryConstants.DBConstants.REMAINING_SETS));
+                    if (lastTimeCreated.getTime() + TimeUnit.MINUTES.toMillis(expiryTime) + gracePeriod < now) {
+                        expiredCodes.add(lastCode);
+                    }
+                }
+            } catch (SQLException e) {
+                throw Utils.handleServerException(ERROR_CODE_ERROR_DELETING_EXPIRED_RECOVERY_DATA, null, e);
+            } finally {
+                IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
+            }
+
+            deletedCount += deleteInBatch(IdentityRecoveryConstants.SQLQueries.INVALIDATE_CODE, expiredCodes);
+            if (scannedCount < batchSize) {
+                return deletedCount;
+            }
+            Thread.sleep(batchDelay);
+        }
+    }
+
+    /**
+     * Delete the recovery flow data which are no longer referred by any recovery data.
+     *
+     * @return Number of deleted entries.
+     * @throws IdentityRecoveryException If an error occurred while deleting the recovery flow data.
+     * @throws InterruptedException      If the task is interrupted.
+     */
+    int deleteOrphanRecoveryFlowData() throws IdentityRecoveryException, InterruptedException {
+
+        Timestamp createdBefore = new Timestamp(System.currentTimeMillis() - gracePeriod);
+        // The first page is loaded without the recovery flow ID cursor, as an empty cursor is stored as null by some
+        // databases and would not match any recovery flow ID.
+        String lastRecoveryFlowId = null;
+        int deletedCount = 0;
+
+        while (true) {
+            List<String> recoveryFlowIds = new ArrayList<>();
+            Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+            PreparedStatement prepStmt = null;
+            ResultSet resultSet = null;
+            try {
+                prepStmt = connection.prepareStatement(lastRecoveryFlowId == null ?
+                        IdentityRecoveryConstants.SQLQueries.LOAD_ORPHAN_RECOVERY_FLOW_DATA_FIRST_PAGE :
+                        IdentityRecoveryConstants.SQLQueries.LOAD_ORPHAN_RECOVERY_FLOW_DATA);
+                prepStmt.setMaxRows(batchSize);
+                prepStmt.setTimestamp(1, createdBefore, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                if (lastRecoveryFlowId != null) {
+                    prepStmt.setString(2, lastRecoveryFlowId);
+                }
+                resultSet = prepStmt.executeQuery();
+                while (resultSet.next()) {
+                    lastRecoveryFlowId = resultSet.getString(IdentityRecoveryConstants.DBConstants.RECOVERY_FLOW_ID);
+                    recoveryFlowIds.add(lastRecoveryFlowId);
+                }
+            } catch (SQLException e) {
+                throw Utils.handleServerException(ERROR_CODE_ERROR_DELETING_EXPIRED_RECOVERY_DATA, null, e);
+            } finally {
+                IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
+            }
+
+            deletedCount += deleteInBatch(IdentityRecoveryConstants.SQLQueries.INVALIDATE_BY_RECOVERY_FLOW_ID,
+                    recoveryFlowIds);
+            if (recoveryFlowIds.size() < batchSize) {
+                return deletedCount;
+            }
+            Thread.sleep(batchDelay);
+        }
+    }
+
+    private int deleteInBatch(String sql, List<String> identifiers) throws IdentityRecoveryServerException {
+
+        if (identifiers.isEmpty()) {
+            return 0;
+        }
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        PreparedStatement prepStmt = null;
+        try {
+            prepStmt = connection.prepareStatement(sql);
+            for (String identifier : identifiers) {
+                prepStmt.setString(1, identifier);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw Utils.handleServerException(ERROR_CODE_ERROR_DELETING_EXPIRED_RECOVERY_DATA, null, e);
+        } finally {
+            IdentityDatabaseUtil.closeStatement(prepStmt);
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+        return identifiers.size();
+    }
+
+    /**
+     * Get the code expiry time of the given recovery data. Resolved expiry times are kept for the rest of the run
+     * since they only depend on the tenant configurations.
+     */
+    private int getCodeExpiryTime(Map<String, Integer> expiryTimes, int tenantId, String recoveryScenario,
+                                  String recoveryStep, String recoveryData) {
+
+        String key = tenantId + ":" + recoveryScenario + ":" + recoveryStep + ":" + recoveryData;
+        Integer expiryTime = expiryTimes.get(key);
+        if (expiryTime != null) {
+            return expiryTime;
+        }
+
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(tenantId);
+            carbonContext.setTenantDomain(tenantDomain);
+            expiryTime = JDBCRecoveryDataStore.getCodeExpiryTime(tenantDomain,
+                    RecoveryScenarios.valueOf(recoveryScenario), RecoverySteps.valueOf(recoveryStep), recoveryData);
+        } catch (IdentityRecoveryServerException | IllegalArgumentException e) {
+            // Retain the recovery data when the expiry time can not be resolved.
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Unable to resolve the code expiry time of the recovery scenario: %s and " +
+                        "step: %s of the tenant: %s.", recoveryScenario, recoveryStep, tenantDomain), e);
+            }
+            expiryTime = Integer.MAX_VALUE;
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        expiryTimes.put(key, expiryTime);
+        return expiryTime;
+    }
+
+    private String buildExpiryCandidateQuery() {
+
+        StringBuilder sql = new StringBuilder(IdentityRecoveryConstants.SQLQueries.LOAD_EXPIRY_CANDIDATE_RECOVERY_DATA);
+        for (int i = 0; i < recoveryScenarios.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(IdentityRecoveryConstants.SQLQueries.LOAD_EXPIRY_CANDIDATE_RECOVERY_DATA_ORDER_BY);
+        return sql.toString();
+    }
+
+    private static List<String> getRecoveryScenarios() {
+
+        String scenarios = IdentityUtil.getProperty(
+                IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_CLEANUP_SCENARIOS);
+        if (StringUtils.isBlank(scenarios)) {
+            scenarios = IdentityRecoveryConstants.RECOVERY_DATA_CLEANUP_DEFAULT_SCENARIOS;
+        }
+        List<String> recoveryScenarios = new ArrayList<>();
+        for (String scenario : scenarios.split(",")) {
+            if (StringUtils.isNotBlank(scenario)) {
+                recoveryScenarios.add(scenario.trim());
+            }
+        }
+        return recoveryScenarios;
+    }
+
+    private static int getIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value.
+        }
+        log.warn(String.format("Invalid value: %s configured for %s. Hence using the default value: %d", value,
+                propertyName, defaultValue));
+        return defaultValue;
+    }
+}
@@ -25,9 +25,16 @@ import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
 import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.governance.common.CopyOnWriteCacheEntry;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
@@ -35,6 +42,7 @@ import org.wso2.carbon.identity.recovery.IdentityRecoveryServerException;
 import org.wso2.carbon.identity.recovery.RecoveryScenarios;
 import org.wso2.carbon.identity.recovery.RecoverySteps;
 import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+import org.wso2.carbon.identity.recovery.internal.cache.RecoveryExpiryPolicyCache;
 import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
 import org.wso2.carbon.identity.recovery.model.UserRecoveryFlowData;
 import org.wso2.carbon.identity.recovery.util.Utils;
@@ -50,6 +58,7 @@ import java.util.TimeZone;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.POST_GET_USER_RECOVERY_DATA;
 import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PRE_GET_USER_RECOVERY_DATA;
@@ -70,6 +79,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     private static UserRecoveryDataStore jdbcRecoveryDataStore = new JDBCRecoveryDataStore();
     private static final Log log = LogFactory.getLog(JDBCRecoveryDataStore.class);
     private static final String UTC = "UTC";
+    private static final AtomicReference<RecoveryDataEventSubscriptions> recoveryDataEventSubscriptions =
+            new AtomicReference<>(new RecoveryDataEventSubscriptions(null));
 
     private JDBCRecoveryDataStore() {
 
@@ -235,9 +246,11 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     public UserRecoveryData load(User user, Enum recoveryScenario, Enum recoveryStep, String code) throws
             IdentityRecoveryException {
 
-        handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
-                GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION,null, null, code, user,
-                new UserRecoveryData(user, code, recoveryScenario, recoveryStep));
+        if (isRecoveryDataEventSubscribed()) {
+            handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
+                    GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION,null, null, code, user,
+                    new UserRecoveryData(user, code, recoveryScenario, recoveryStep));
+        }
 
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
@@ -305,9 +318,11 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     @Override
     public UserRecoveryData load(String code, boolean skipExpiryValidation) throws IdentityRecoveryException, NotImplementedException {
 
-        handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
-                GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION, null, null, code, null,
-                new UserRecoveryData(null, code, null, null));
+        if (isRecoveryDataEventSubscribed()) {
+            handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
+                    GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION, null, null, code, null,
+                    new UserRecoveryData(null, code, null, null));
+        }
 
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
@@ -375,9 +390,11 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     public UserRecoveryData loadFromRecoveryFlowId(String recoveryFlowId, Enum recoveryStep)
             throws IdentityRecoveryException {
 
-        handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
-                GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION, null, null, null, null,
-                new UserRecoveryData(null, recoveryFlowId, null, null, recoveryStep));
+        if (isRecoveryDataEventSubscribed()) {
+            handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
+                    GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION, null, null, null, null,
+                    new UserRecoveryData(null, recoveryFlowId, null, null, recoveryStep));
+        }
 
         PreparedStatement prepStmt1 = null;
         PreparedStatement prepStmt2 = null;
@@ -528,9 +545,11 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     @Override
     public UserRecoveryData load(User user) throws IdentityRecoveryException {
 
-        handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
-                GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION, null, null, null, user,
-                new UserRecoveryData(user, null, null, null));
+        if (isRecoveryDataEventSubscribed()) {
+            handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
+                    GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION, null, null, null, user,
+                    new UserRecoveryData(user, null, null, null));
+        }
 
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
@@ -596,9 +615,11 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     public UserRecoveryData loadWithoutCodeExpiryValidation(User user) throws IdentityRecoveryException {
 
 
-        handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
-                GET_USER_RECOVERY_DATA_SCENARIO_WITHOUT_CODE_EXPIRY_VALIDATION, null, null, null, user,
-                new UserRecoveryData(user, null, null, null));
+        if (isRecoveryDataEventSubscribed()) {
+            handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
+                    GET_USER_RECOVERY_DATA_SCENARIO_WITHOUT_CODE_EXPIRY_VALIDATION, null, null, null, user,
+                    new UserRecoveryData(user, null, null, null));
+        }
 
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
@@ -659,9 +680,11 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     public UserRecoveryData loadWithoutCodeExpiryValidation(User user, Enum recoveryScenario)
             throws IdentityRecoveryException {
 
-        handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
-                GET_USER_RECOVERY_DATA_SCENARIO_WITHOUT_CODE_EXPIRY_VALIDATION, null, null, null, user,
-                new UserRecoveryData(user, null, recoveryScenario, null));
+        if (isRecoveryDataEventSubscribed()) {
+            handleRecoveryDataEventPublishing(PRE_GET_USER_RECOVERY_DATA,
+                    GET_USER_RECOVERY_DATA_SCENARIO_WITHOUT_CODE_EXPIRY_VALIDATION, null, null, null, user,
+                    new UserRecoveryData(user, null, recoveryScenario, null));
+        }
 
         PreparedStatement prepStmt = null;
         ResultSet resultSet = null;
@@ -922,6 +945,25 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     private boolean isCodeExpired(String tenantDomain, Enum recoveryScenario, Enum recoveryStep, long createdTimestamp,
             String recoveryData) throws IdentityRecoveryServerException {
 
+        int notificationExpiryTimeInMinutes = getCodeExpiryTime(tenantDomain, recoveryScenario, recoveryStep,
+                recoveryData);
+        long expiryTime = createdTimestamp + TimeUnit.MINUTES.toMillis(notificationExpiryTimeInMinutes);
+        return System.currentTimeMillis() > expiryTime;
+    }
+
+    /**
+     * Get the expiry time of the code issued for the given recovery scenario and step.
+     *
+     * @param tenantDomain     Tenant domain
+     * @param recoveryScenario Recovery scenario
+     * @param recoveryStep     Recovery step
+     * @param recoveryData     Additional data for validate the code
+     * @return Expiry time of the code (In minutes)
+     * @throws IdentityRecoveryServerException Error while reading the configs
+     */
+    static int getCodeExpiryTime(String tenantDomain, Enum recoveryScenario, Enum recoveryStep, String recoveryData)
+            throws IdentityRecoveryServerException {
+
         int notificationExpiryTimeInMinutes = 0;
         // Self sign up scenario has two sub scenarios as verification via email or verification via SMS.
         if (RecoveryScenarios.SELF_SIGN_UP.equals(recoveryScenario) && RecoverySteps.CONFIRM_SIGN_UP
@@ -933,9 +975,9 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                             + "and recovery step: %s", recoveryData, recoveryScenario, recoveryStep);
                     log.debug(message);
                 }
-                notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(
                         IdentityRecoveryConstants.ConnectorConfig.SELF_REGISTRATION_VERIFICATION_CODE_EXPIRY_TIME,
-                        tenantDomain));
+                        tenantDomain);
             } else if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(recoveryData)) {
                 // If the verification channel is SMS, use SMS OTP timeout configs to validate.
                 if (log.isDebugEnabled()) {
@@ -943,9 +985,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                             + "and recovery step: %s", recoveryData, recoveryScenario, recoveryStep);
                     log.debug(message);
                 }
-                notificationExpiryTimeInMinutes = Integer
-                        .parseInt(Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
-                                SELF_REGISTRATION_SMSOTP_VERIFICATION_CODE_EXPIRY_TIME, tenantDomain));
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(IdentityRecoveryConstants.ConnectorConfig.
+                        SELF_REGISTRATION_SMSOTP_VERIFICATION_CODE_EXPIRY_TIME, tenantDomain);
             } else {
                 // If the verification channel is not specified, verification will takes place according to default
                 // verification link timeout configs.
@@ -955,13 +996,13 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                             recoveryScenario, recoveryStep);
                     log.debug(message);
                 }
-                notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(
                         IdentityRecoveryConstants.ConnectorConfig.SELF_REGISTRATION_VERIFICATION_CODE_EXPIRY_TIME,
-                        tenantDomain));
+                        tenantDomain);
             }
         } else if (RecoveryScenarios.ASK_PASSWORD.equals(recoveryScenario)) {
-            notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(IdentityRecoveryConstants
-                    .ConnectorConfig.ASK_PASSWORD_EXPIRY_TIME, tenantDomain));
+            notificationExpiryTimeInMinutes = getExpiryPolicyValue(
+                    IdentityRecoveryConstants.ConnectorConfig.ASK_PASSWORD_EXPIRY_TIME, tenantDomain);
         } else if (RecoveryScenarios.USERNAME_RECOVERY.equals(recoveryScenario)) {
 
             // Validate the recovery code given at username recovery.
@@ -977,16 +1018,16 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             } else if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(recoveryData)) {
 
                 // Validate the SMS OTP confirmation code.
-                notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(
-                        IdentityRecoveryConstants.ConnectorConfig.PASSWORD_RECOVERY_SMS_OTP_EXPIRY_TIME, tenantDomain));
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(
+                        IdentityRecoveryConstants.ConnectorConfig.PASSWORD_RECOVERY_SMS_OTP_EXPIRY_TIME, tenantDomain);
             } else {
-                notificationExpiryTimeInMinutes = Integer.parseInt(
-                        Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.EXPIRY_TIME, tenantDomain));
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(
+                        IdentityRecoveryConstants.ConnectorConfig.EXPIRY_TIME, tenantDomain);
             }
         } else if (RecoveryScenarios.EMAIL_VERIFICATION_ON_UPDATE.equals(recoveryScenario) ||
                 RecoveryScenarios.EMAIL_VERIFICATION_ON_VERIFIED_LIST_UPDATE.equals(recoveryScenario)) {
-            notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(IdentityRecoveryConstants
-                    .ConnectorConfig.EMAIL_VERIFICATION_ON_UPDATE_EXPIRY_TIME, tenantDomain));
+            notificationExpiryTimeInMinutes = getExpiryPolicyValue(
+                    IdentityRecoveryConstants.ConnectorConfig.EMAIL_VERIFICATION_ON_UPDATE_EXPIRY_TIME, tenantDomain);
         } else if (RecoveryScenarios.TENANT_ADMIN_ASK_PASSWORD.equals(recoveryScenario)) {
             notificationExpiryTimeInMinutes = Integer.parseInt(IdentityUtil.getProperty(IdentityRecoveryConstants
                     .ConnectorConfig.TENANT_ADMIN_ASK_PASSWORD_EXPIRY_TIME));
@@ -999,9 +1040,9 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                             + "and recovery step: %s", recoveryData, recoveryScenario, recoveryStep);
                     log.debug(message);
                 }
-                notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(
                         IdentityRecoveryConstants.ConnectorConfig.LITE_REGISTRATION_VERIFICATION_CODE_EXPIRY_TIME,
-                        tenantDomain));
+                        tenantDomain);
             } else if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(recoveryData)) {
                 // If the verification channel is SMS, use SMS OTP timeout configs to validate.
                 if (log.isDebugEnabled()) {
@@ -1009,9 +1050,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                             + "and recovery step: %s", recoveryData, recoveryScenario, recoveryStep);
                     log.debug(message);
                 }
-                notificationExpiryTimeInMinutes = Integer
-                        .parseInt(Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
-                                LITE_REGISTRATION_SMSOTP_VERIFICATION_CODE_EXPIRY_TIME, tenantDomain));
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(IdentityRecoveryConstants.ConnectorConfig.
+                        LITE_REGISTRATION_SMSOTP_VERIFICATION_CODE_EXPIRY_TIME, tenantDomain);
             } else {
                 // If the verification channel is not specified, verification will takes place according to default
                 // verification link timeout configs.
@@ -1021,28 +1061,73 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                             recoveryScenario, recoveryStep);
                     log.debug(message);
                 }
-                notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(
+                notificationExpiryTimeInMinutes = getExpiryPolicyValue(
                         IdentityRecoveryConstants.ConnectorConfig.LITE_REGISTRATION_VERIFICATION_CODE_EXPIRY_TIME,
-                        tenantDomain));
+                        tenantDomain);
             }
         } else if (RecoveryScenarios.MOBILE_VERIFICATION_ON_UPDATE.equals(recoveryScenario) ||
                 RecoveryScenarios.MOBILE_VERIFICATION_ON_VERIFIED_LIST_UPDATE.equals(recoveryScenario)) {
-            notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(IdentityRecoveryConstants
-                    .ConnectorConfig.MOBILE_NUM_VERIFICATION_ON_UPDATE_EXPIRY_TIME, tenantDomain));
+            notificationExpiryTimeInMinutes = getExpiryPolicyValue(
+                    IdentityRecoveryConstants.ConnectorConfig.MOBILE_NUM_VERIFICATION_ON_UPDATE_EXPIRY_TIME,
+                    tenantDomain);
         } else if (RecoveryScenarios.ADMIN_FORCED_PASSWORD_RESET_VIA_EMAIL_LINK.equals(recoveryScenario) ||
                 RecoveryScenarios.ADMIN_FORCED_PASSWORD_RESET_VIA_OTP.equals(recoveryScenario)) {
-            notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(IdentityRecoveryConstants
-                    .ConnectorConfig.ADMIN_PASSWORD_RESET_EXPIRY_TIME, tenantDomain));
+            notificationExpiryTimeInMinutes = getExpiryPolicyValue(
+                    IdentityRecoveryConstants.ConnectorConfig.ADMIN_PASSWORD_RESET_EXPIRY_TIME, tenantDomain);
         } else {
-            notificationExpiryTimeInMinutes = Integer.parseInt(Utils.getRecoveryConfigs(IdentityRecoveryConstants
-                    .ConnectorConfig.EXPIRY_TIME, tenantDomain));
+            notificationExpiryTimeInMinutes = getExpiryPolicyValue(
+                    IdentityRecoveryConstants.ConnectorConfig.EXPIRY_TIME, tenantDomain);
         }
         if (notificationExpiryTimeInMinutes < 0) {
             // Make the code valid infinitely in case of negative value.
             notificationExpiryTimeInMinutes = Integer.MAX_VALUE;
         }
-        long expiryTime = createdTimestamp + TimeUnit.MINUTES.toMillis(notificationExpiryTimeInMinutes);
-        return System.currentTimeMillis() > expiryTime;
+        return notificationExpiryTimeInMinutes;
+    }
+
+    /**
+     * Clear the recovery code expiry policy cached for the given tenant, so that the expiry configurations are
+     * resolved again on the next code validation.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearExpiryPolicy(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        RecoveryExpiryPolicyCache.getInstance().clearCacheEntry(new StringCacheKey(tenantDomain), tenantDomain);
+    }
+
+    /**
+     * Get the value of an expiry configuration from the expiry policy of the tenant. The configuration is resolved
+     * and added to the cached policy on the first access.
+     *
+     * @param configName   Name of the expiry configuration.
+     * @param tenantDomain Tenant domain.
+     * @return Configured value.
+     * @throws IdentityRecoveryServerException Error while reading the configs.
+     */
+    private static int getExpiryPolicyValue(String configName, String tenantDomain)
+            throws IdentityRecoveryServerException {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return Integer.parseInt(Utils.getRecoveryConfigs(configName, tenantDomain));
+        }
+        RecoveryExpiryPolicyCache expiryPolicyCache = RecoveryExpiryPolicyCache.getInstance();
+        StringCacheKey cacheKey = new StringCacheKey(tenantDomain);
+        CopyOnWriteCacheEntry<Integer> expiryPolicy = expiryPolicyCache.getValueFromCache(cacheKey, tenantDomain);
+        if (expiryPolicy != null) {
+            Integer expiryTime = expiryPolicy.getValue(configName);
+            if (expiryTime != null) {
+                return expiryTime;
+            }
+        } else {
+            expiryPolicy = new CopyOnWriteCacheEntry<>();
+        }
+        int expiryTime = Integer.parseInt(Utils.getRecoveryConfigs(configName, tenantDomain));
+        expiryPolicyCache.addToCache(cacheKey, expiryPolicy.with(configName, expiryTime), tenantDomain);
+        return expiryTime;
     }
 
     /**
@@ -1061,15 +1146,15 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         int allowedResendAttempts;
         int recoveryFlowIdExpiryTime;
         if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(recoveryData)) {
-            codeExpiryTime = Integer.parseInt(Utils.getRecoveryConfigs(
-                    IdentityRecoveryConstants.ConnectorConfig.PASSWORD_RECOVERY_SMS_OTP_EXPIRY_TIME, tenantDomain));
-            allowedResendAttempts = Integer.parseInt(Utils.getRecoveryConfigs(
+            codeExpiryTime = getExpiryPolicyValue(
+                    IdentityRecoveryConstants.ConnectorConfig.PASSWORD_RECOVERY_SMS_OTP_EXPIRY_TIME, tenantDomain);
+            allowedResendAttempts = getExpiryPolicyValue(
                     IdentityRecoveryConstants.ConnectorConfig.RECOVERY_NOTIFICATION_PASSWORD_MAX_RESEND_ATTEMPTS,
-                    tenantDomain));
+                    tenantDomain);
             recoveryFlowIdExpiryTime = codeExpiryTime * allowedResendAttempts;
         } else {
-            recoveryFlowIdExpiryTime = Integer.parseInt(
-                    Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.EXPIRY_TIME, tenantDomain));
+            recoveryFlowIdExpiryTime = getExpiryPolicyValue(
+                    IdentityRecoveryConstants.ConnectorConfig.EXPIRY_TIME, tenantDomain);
         }
         if (recoveryFlowIdExpiryTime < 1) {
             recoveryFlowIdExpiryTime = IdentityRecoveryConstants.RECOVERY_FLOW_ID_DEFAULT_EXPIRY_TIME;
@@ -1084,7 +1169,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
      *
      * @return Expiry time of the recovery code (In minutes)
      */
-    private int getRecoveryCodeExpiryTime() {
+    private static int getRecoveryCodeExpiryTime() {
 
         String expiryTime = IdentityUtil
                 .getProperty(IdentityRecoveryConstants.ConnectorConfig.RECOVERY_CODE_EXPIRY_TIME);
@@ -1109,7 +1194,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
      *
      * @return Expiry time of the recovery code (In minutes)
      */
-    private int getResendCodeExpiryTime() {
+    private static int getResendCodeExpiryTime() {
 
         String expiryTime = IdentityUtil
                 .getProperty(IdentityRecoveryConstants.ConnectorConfig.RESEND_CODE_EXPIRY_TIME);
@@ -1129,10 +1214,106 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         }
     }
 
+    /**
+     * Reset the resolved subscription state of the recovery data events, so that it is resolved again from the
+     * registered event handlers on the next recovery data load. A resolution that is in progress while the state is
+     * reset is discarded instead of being stored.
+     */
+    public static void resetRecoveryDataEventSubscriptions() {
+
+        recoveryDataEventSubscriptions.set(new RecoveryDataEventSubscriptions(null));
+    }
+
+    /**
+     * Check whether any registered event handler subscribes to the recovery data events. The subscriptions are
+     * resolved once from the registered handlers and reused until the handlers change.
+     *
+     * @return True if the recovery data events have at least one subscriber.
+     */
+    private static boolean isRecoveryDataEventSubscribed() {
+
+        RecoveryDataEventSubscriptions subscriptions = recoveryDataEventSubscriptions.get();
+        if (subscriptions.subscribed != null) {
+            return subscriptions.subscribed;
+        }
+        boolean subscribed = resolveRecoveryDataEventSubscriptions();
+        // Store the resolved state only if the handlers have not changed since the resolution started.
+        recoveryDataEventSubscriptions.compareAndSet(subscriptions, new RecoveryDataEventSubscriptions(subscribed));
+        return subscribed;
+    }
+
+    private static boolean resolveRecoveryDataEventSubscriptions() {
+
+        Map<String, ModuleConfiguration> moduleConfigurations = null;
+        boolean moduleConfigurationsResolved = true;
+        try {
+            moduleConfigurations = IdentityEventConfigBuilder.getInstance().getModuleConfiguration();
+        } catch (IdentityEventException e) {
+            log.warn("Error while reading the identity event configurations. Recovery data events will be " +
+                    "published to all the handlers.", e);
+            moduleConfigurationsResolved = false;
+        }
+        for (AbstractEventHandler eventHandler : IdentityRecoveryServiceDataHolder.getInstance().getEventHandlers()) {
+            if (!moduleConfigurationsResolved ||
+                    isSubscribedInModuleConfiguration(moduleConfigurations, eventHandler.getName()) ||
+                    canHandleRecoveryDataEvents(eventHandler)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Recovery data events are subscribed by the event handler: " + eventHandler.getName());
+                }
+                return true;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("No event handler subscribes to the recovery data events. Skipping the event publishing.");
+        }
+        return false;
+    }
+
+    private static boolean canHandleRecoveryDataEvents(AbstractEventHandler eventHandler) {
+
+        for (String eventName : new String[]{PRE_GET_USER_RECOVERY_DATA, POST_GET_USER_RECOVERY_DATA}) {
+            try {
+                if (eventHandler.canHandle(new IdentityEventMessageContext(new Event(eventName, new HashMap<>())))) {
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                // A handler that cannot decide on the event without its properties is treated as a subscriber.
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while checking whether the event handler: " + eventHandler.getName() +
+                            " handles the event: " + eventName + ". Treating it as a subscriber.", e);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSubscribedInModuleConfiguration(Map<String, ModuleConfiguration> moduleConfigurations,
+                                                             String eventHandlerName) {
+
+        if (moduleConfigurations == null) {
+            return false;
+        }
+        ModuleConfiguration moduleConfiguration = moduleConfigurations.get(eventHandlerName);
+        if (moduleConfiguration == null || moduleConfiguration.getSubscriptions() == null) {
+            return false;
+        }
+        for (Subscription subscription : moduleConfiguration.getSubscriptions()) {
+            if (PRE_GET_USER_RECOVERY_DATA.equals(subscription.getSubscriptionName()) ||
+                    POST_GET_USER_RECOVERY_DATA.equals(subscription.getSubscriptionName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void handleRecoveryDataEventPublishing(String eventName, String scenario, Boolean status, Enum description,
                                                    String code, User user, UserRecoveryData userRecoveryData)
             throws IdentityRecoveryException {
 
+        if (!isRecoveryDataEventSubscribed()) {
+            return;
+        }
         Map<String, Object> eventProperties = new HashMap<>();
         eventProperties.put(OPERATION_STATUS, status);
         eventProperties.put(OPERATION_DESCRIPTION, description);
@@ -1169,4 +1350,18 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                     eventName, e);
         }
     }
+
+    /**
+     * Resolved subscription state of the recovery data events. A new instance is created on every reset so that a
+     * resolution started before the reset can be detected and discarded.
+     */
+    private static final class RecoveryDataEventSubscriptions {
+
+        private final Boolean subscribed;
+
+        private RecoveryDataEventSubscriptions(Boolean subscribed) {
+
+            this.subscribed = subscribed;
+        }
+    }
 }
@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.auth.attribute.handler.model.ValidationResult;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -46,6 +47,10 @@ import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.common.CopyOnWriteCacheEntry;
+import org.wso2.carbon.identity.governance.common.MessageDigestProvider;
+import org.wso2.carbon.identity.governance.common.SecureRandomSource;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorException;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannelManager;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
@@ -60,6 +65,10 @@ import org.wso2.carbon.identity.recovery.RecoveryScenarios;
 import org.wso2.carbon.identity.recovery.exception.SelfRegistrationClientException;
 import org.wso2.carbon.identity.recovery.exception.SelfRegistrationException;
 import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+import org.wso2.carbon.identity.recovery.internal.cache.OTPProfile;
+import org.wso2.carbon.identity.recovery.internal.cache.OTPProfileCache;
+import org.wso2.carbon.identity.recovery.internal.cache.RecoveryClaimsVersionCache;
+import org.wso2.carbon.identity.recovery.internal.cache.RecoveryClaimsVersionCacheEntry;
 import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
 import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityMgtConstants;
 import org.wso2.carbon.user.api.Claim;
@@ -84,7 +93,6 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.ArrayList;
@@ -92,6 +100,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
@@ -153,6 +162,13 @@ public class Utils {
     private static final String PROPERTY_PASSWORD_ERROR_MSG = "PasswordJavaRegExViolationErrorMsg";
 
     private static final String EMAIL_USERNAME_IDENTIFIER = "@";
+    private static final String RANDOM_PASSWORD_CHAR_SET = "abcdefghjkmnpqrstuvwxyzABCDEFGHJKMNPQRSTUVWXYZ23456789+@";
+    private static final String RANDOM_PASSWORD_SUFFIX = "A$g0";
+    private static final String HASH_DIGEST_FUNCTION = "SHA-256";
+    private static final String OTP_PROFILE_CONNECTOR_PREFIX = "connector:";
+    private static final String OTP_PROFILE_SCENARIO_PREFIX = "scenario:";
+    private static final OTPProfile DEFAULT_OTP_PROFILE = new OTPProfile(true, true, true,
+            IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH, false);
 
     /**
      * Get an instance of the NotificationChannelManager.
@@ -483,9 +499,7 @@ public class Utils {
      */
     public static String hashCode(String value) throws NoSuchAlgorithmException {
 
-        String digsestFunction = "SHA-256";
-        MessageDigest dgst = MessageDigest.getInstance(digsestFunction);
-        byte[] byteValue = dgst.digest(value.getBytes(StandardCharsets.UTF_8));
+        byte[] byteValue = MessageDigestProvider.digest(HASH_DIGEST_FUNCTION, value.getBytes(StandardCharsets.UTF_8));
         return Base64.encode(byteValue);
     }
 
@@ -1218,52 +1232,13 @@ public class Utils {
             throws IdentityRecoveryServerException {
 
         if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(channel)) {
-            int otpLength = IdentityRecoveryConstants.SMS_OTP_CODE_LENGTH;
-            String otpRegex = null;
-            boolean useNumeric = true;
-            boolean useUppercaseLetters = true;
-            boolean useLowercaseLetters = true;
-            if (StringUtils.equals(RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY.name(), recoveryScenario)) {
-                otpRegex = Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
-                        PASSWORD_RECOVERY_SMS_OTP_REGEX, tenantDomain);
-            } else if (StringUtils.equals(RecoveryScenarios.SELF_SIGN_UP.name(), recoveryScenario)) {
-                otpRegex = Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
-                        SELF_REGISTRATION_SMS_OTP_REGEX, tenantDomain);
-            } else if (StringUtils.equals(RecoveryScenarios.LITE_SIGN_UP.name(), recoveryScenario)) {
-                otpRegex = Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
-                        LITE_REGISTRATION_SMS_OTP_REGEX, tenantDomain);
-            }
-            // If the OTP regex is not specified we need to ensure that the default behavior will be executed.
-            if (StringUtils.isNotBlank(otpRegex)) {
-                if (StringUtils.equals(RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY.name(), recoveryScenario) ||
-                        StringUtils.equals(RecoveryScenarios.SELF_SIGN_UP.name(), recoveryScenario) ||
-                        StringUtils.equals(RecoveryScenarios.LITE_SIGN_UP.name(), recoveryScenario)) {
-                    if (!Pattern.matches(IdentityRecoveryConstants.VALID_SMS_OTP_REGEX_PATTERN, otpRegex)) {
-                        throw new IdentityRecoveryServerException(
-                                IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_UNSUPPORTED_SMS_OTP_REGEX.getCode(),
-                                IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_UNSUPPORTED_SMS_OTP_REGEX.getMessage());
-                    }
-                    String charsRegex = otpRegex.replaceAll("[{].*", "");
-                    otpLength = Integer.parseInt(otpRegex.replaceAll(".*[{]", "").replaceAll("}", ""));
-                    if (!charsRegex.contains("A-Z")) {
-                        useUppercaseLetters = false;
-                    }
-                    if (!charsRegex.contains("a-z")) {
-                        useLowercaseLetters = false;
-                    }
-                    if (!charsRegex.contains("0-9")) {
-                        useNumeric = false;
-                    }
-                }
-            }
-            try {
-                OTPGenerator otpGenerator = IdentityRecoveryServiceDataHolder.getInstance().getOtpGenerator();
-                return otpGenerator.generateOTP(useNumeric, useUppercaseLetters, useLowercaseLetters, otpLength,
-                        recoveryScenario);
-            } catch (OTPGeneratorException otpGeneratorException) {
-                throw new IdentityRecoveryServerException(otpGeneratorException.getErrorCode(),
-                        otpGeneratorException.getMessage());
+            String profileName = OTP_PROFILE_SCENARIO_PREFIX + recoveryScenario;
+            OTPProfile otpProfile = getCachedOTPProfile(profileName, tenantDomain);
+            if (otpProfile == null) {
+                otpProfile = buildSMSOTPProfile(tenantDomain, recoveryScenario);
+                cacheOTPProfile(profileName, otpProfile, tenantDomain);
             }
+            return generateOTP(otpProfile, recoveryScenario);
         } else {
             return UUID.randomUUID().toString();
         }
@@ -1284,43 +1259,229 @@ public class Utils {
             throws IdentityRecoveryServerException {
 
         // Set default OTP configuration values, for scenarios that don't have specific OTP configurations.
-        boolean useUppercase = true;
-        boolean useLowercase = true;
-        boolean useNumeric = true;
-        boolean sendOTPInEmail = false;
-        int otpLength = IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH;
+        OTPProfile otpProfile = DEFAULT_OTP_PROFILE;
         // Set connector specific OTP configuration values, for connectors that have separate OTP configurations.
         if (StringUtils.isNotBlank(connectorName)) {
-            sendOTPInEmail = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.SendOTPInEmail", tenantDomain));
-            useUppercase = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.UseUppercaseCharactersInOTP", tenantDomain));
-            useLowercase = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.UseLowercaseCharactersInOTP", tenantDomain));
-            useNumeric = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.UseNumbersInOTP", tenantDomain));
-            try {
-                otpLength = Integer.parseInt(Utils.getRecoveryConfigs(connectorName + ".OTP.OTPLength", tenantDomain));
-            } catch (NumberFormatException ex) {
-                log.warn("Configured OTP length is not a number. Hence using default length of "
-                        + IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH + " for OTP.");
+            String profileName = OTP_PROFILE_CONNECTOR_PREFIX + connectorName;
+            otpProfile = getCachedOTPProfile(profileName, tenantDomain);
+            if (otpProfile == null) {
+                otpProfile = buildConnectorOTPProfile(tenantDomain, connectorName);
+                cacheOTPProfile(profileName, otpProfile, tenantDomain);
             }
         }
         if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(channel) ||
                 RecoveryScenarios.ADMIN_FORCED_PASSWORD_RESET_VIA_OTP.name().equals(recoveryScenario) ||
-                sendOTPInEmail) {
-            try {
-                OTPGenerator otpGenerator = IdentityRecoveryServiceDataHolder.getInstance().getOtpGenerator();
-                return otpGenerator.generateOTP(useNumeric, useUppercase, useLowercase, otpLength,
-                        recoveryScenario);
-            } catch (OTPGeneratorException otpGeneratorException) {
-                throw new IdentityRecoveryServerException(otpGeneratorException.getErrorCode(),
-                        otpGeneratorException.getMessage());
-            }
+                otpProfile.isSendOTPInEmail()) {
+            return generateOTP(otpProfile, recoveryScenario);
         }
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Clear the OTP generation profiles cached for the given tenant, so that they are rebuilt from the connector
+     * configurations on the next secret key generation.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearOTPProfiles(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        OTPProfileCache.getInstance().clearCacheEntry(new StringCacheKey(tenantDomain), tenantDomain);
+    }
+
+    /**
+     * Get the current version of the recovery supported claims of the given tenant. The version is a digest of the
+     * local claims of the tenant, so every node of the cluster derives the same version for the same claims, and a
+     * value built from the claims can be reused for as long as the version it was built for is returned.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Claims version or null if the tenant domain is not given or the local claims cannot be resolved.
+     */
+    public static String getClaimsVersion(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return null;
+        }
+        RecoveryClaimsVersionCache claimsVersionCache = RecoveryClaimsVersionCache.getInstance();
+        StringCacheKey cacheKey = new StringCacheKey(tenantDomain);
+        RecoveryClaimsVersionCacheEntry cacheEntry = claimsVersionCache.getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry != null) {
+            return cacheEntry.getVersion();
+        }
+        String version = buildClaimsVersion(tenantDomain);
+        if (version != null) {
+            claimsVersionCache.addToCache(cacheKey, new RecoveryClaimsVersionCacheEntry(version), tenantDomain);
+        }
+        return version;
+    }
+
+    /**
+     * Clear the version of the recovery supported claims of the given tenant, so that a new version is issued on the
+     * next lookup.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearClaimsVersion(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        RecoveryClaimsVersionCache.getInstance().clearCacheEntry(new StringCacheKey(tenantDomain), tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Cleared the recovery supported claims version of tenant: " + tenantDomain);
+        }
+    }
+
+    private static String buildClaimsVersion(String tenantDomain) {
+
+        List<LocalClaim> localClaims;
+        try {
+            localClaims = IdentityRecoveryServiceDataHolder.getInstance().getClaimMetadataManagementService()
+                    .getLocalClaims(tenantDomain);
+        } catch (ClaimMetadataException e) {
+            log.error("Error while resolving the local claims of tenant: " + tenantDomain, e);
+            return null;
+        }
+        // Claims and their properties are ordered, so that the version does not depend on the order they are read.
+        Map<String, String> claimContents = new TreeMap<>();
+        for (LocalClaim localClaim : localClaims) {
+            StringBuilder claimContent = new StringBuilder();
+            if (localClaim.getClaimProperties() != null) {
+                claimContent.append(new TreeMap<>(localClaim.getClaimProperties()));
+            }
+            if (localClaim.getMappedAttributes() != null) {
+                for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                    claimContent.append('\n').append(attributeMapping.getUserStoreDomain()).append('/')
+                            .append(attributeMapping.getAttributeName());
+                }
+            }
+            claimContents.put(localClaim.getClaimURI(), claimContent.toString());
+        }
+        try {
+            return Base64.encode(MessageDigestProvider.digest(HASH_DIGEST_FUNCTION,
+                    claimContents.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            log.error("Error while building the claims version of tenant: " + tenantDomain, e);
+            return null;
+        }
+    }
+
+    private static OTPProfile getCachedOTPProfile(String profileName, String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return null;
+        }
+        CopyOnWriteCacheEntry<OTPProfile> cacheEntry = OTPProfileCache.getInstance()
+                .getValueFromCache(new StringCacheKey(tenantDomain), tenantDomain);
+        return cacheEntry == null ? null : cacheEntry.getValue(profileName);
+    }
+
+    private static void cacheOTPProfile(String profileName, OTPProfile otpProfile, String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        OTPProfileCache otpProfileCache = OTPProfileCache.getInstance();
+        StringCacheKey cacheKey = new StringCacheKey(tenantDomain);
+        CopyOnWriteCacheEntry<OTPProfile> cacheEntry = otpProfileCache.getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry == null) {
+            cacheEntry = new CopyOnWriteCacheEntry<>();
+        }
+        otpProfileCache.addToCache(cacheKey, cacheEntry.with(profileName, otpProfile), tenantDomain);
+    }
+
+    /**
+     * Build the OTP generation profile of a recovery scenario from the SMS OTP regex configured for the scenario.
+     *
+     * @param tenantDomain     Tenant domain.
+     * @param recoveryScenario Recovery scenario.
+     * @return OTP generation profile.
+     * @throws IdentityRecoveryServerException If the configured regex is not supported.
+     */
+    private static OTPProfile buildSMSOTPProfile(String tenantDomain, String recoveryScenario)
+            throws IdentityRecoveryServerException {
+
+        int otpLength = IdentityRecoveryConstants.SMS_OTP_CODE_LENGTH;
+        String otpRegex = null;
+        boolean useNumeric = true;
+        boolean useUppercaseLetters = true;
+        boolean useLowercaseLetters = true;
+        if (StringUtils.equals(RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY.name(), recoveryScenario)) {
+            otpRegex = Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
+                    PASSWORD_RECOVERY_SMS_OTP_REGEX, tenantDomain);
+        } else if (StringUtils.equals(RecoveryScenarios.SELF_SIGN_UP.name(), recoveryScenario)) {
+            otpRegex = Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
+                    SELF_REGISTRATION_SMS_OTP_REGEX, tenantDomain);
+        } else if (StringUtils.equals(RecoveryScenarios.LITE_SIGN_UP.name(), recoveryScenario)) {
+            otpRegex = Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.
+                    LITE_REGISTRATION_SMS_OTP_REGEX, tenantDomain);
+        }
+        // If the OTP regex is not specified we need to ensure that the default behavior will be executed.
+        if (StringUtils.isNotBlank(otpRegex)) {
+            if (!Pattern.matches(IdentityRecoveryConstants.VALID_SMS_OTP_REGEX_PATTERN, otpRegex)) {
+                throw new IdentityRecoveryServerException(
+                        IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_UNSUPPORTED_SMS_OTP_REGEX.getCode(),
+                        IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_UNSUPPORTED_SMS_OTP_REGEX.getMessage());
+            }
+            String charsRegex = otpRegex.replaceAll("[{].*", "");
+            otpLength = Integer.parseInt(otpRegex.replaceAll(".*[{]", "").replaceAll("}", ""));
+            if (!charsRegex.contains("A-Z")) {
+                useUppercaseLetters = false;
+            }
+            if (!charsRegex.contains("a-z")) {
+                useLowercaseLetters = false;
+            }
+            if (!charsRegex.contains("0-9")) {
+                useNumeric = false;
+            }
+        }
+        return new OTPProfile(useNumeric, useUppercaseLetters, useLowercaseLetters, otpLength, false);
+    }
+
+    /**
+     * Build the OTP generation profile of a connector from the OTP configurations of the connector.
+     *
+     * @param tenantDomain  Tenant domain.
+     * @param connectorName Connector name.
+     * @return OTP generation profile.
+     * @throws IdentityRecoveryServerException If an error occurred while getting the connector configurations.
+     */
+    private static OTPProfile buildConnectorOTPProfile(String tenantDomain, String connectorName)
+            throws IdentityRecoveryServerException {
+
+        boolean sendOTPInEmail = Boolean.parseBoolean(getRecoveryConfigs(
+                connectorName + ".OTP.SendOTPInEmail", tenantDomain));
+        boolean useUppercase = Boolean.parseBoolean(getRecoveryConfigs(
+                connectorName + ".OTP.UseUppercaseCharactersInOTP", tenantDomain));
+        boolean useLowercase = Boolean.parseBoolean(getRecoveryConfigs(
+                connectorName + ".OTP.UseLowercaseCharactersInOTP", tenantDomain));
+        boolean useNumeric = Boolean.parseBoolean(getRecoveryConfigs(
+                connectorName + ".OTP.UseNumbersInOTP", tenantDomain));
+        int otpLength = IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH;
+        try {
+            otpLength = Integer.parseInt(Utils.getRecoveryConfigs(connectorName + ".OTP.OTPLength", tenantDomain));
+        } catch (NumberFormatException ex) {
+            log.warn("Configured OTP length is not a number. Hence using default length of "
+                    + IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH + " for OTP.");
+        }
+        return new OTPProfile(useNumeric, useUppercase, useLowercase, otpLength, sendOTPInEmail);
+    }
+
+    private static String generateOTP(OTPProfile otpProfile, String recoveryScenario)
+            throws IdentityRecoveryServerException {
+
+        try {
+            OTPGenerator otpGenerator = IdentityRecoveryServiceDataHolder.getInstance().getOtpGenerator();
+            return otpGenerator.generateOTP(otpProfile.isUseNumeric(), otpProfile.isUseUppercaseLetters(),
+                    otpProfile.isUseLowercaseLetters(), otpProfile.getLength(), recoveryScenario);
+        } catch (OTPGeneratorException otpGeneratorException) {
+            throw new IdentityRecoveryServerException(otpGeneratorException.getErrorCode(),
+                    otpGeneratorException.getMessage());
+        }
+    }
+
     /**
      * Concatenate recovery flow id with the generated secret key if the notification channel is email.
      *
@@ -1572,16 +1733,13 @@ public class Utils {
      */
     public static char[] generateRandomPassword(int passwordLength) {
 
-        String letters = "abcdefghjkmnpqrstuvwxyzABCDEFGHJKMNPQRSTUVWXYZ23456789+@";
-        StringBuilder pw = new StringBuilder();
-        SecureRandom random = new SecureRandom();
-        for (int i = 0; i < (passwordLength - 4); i++) {
-            int index = (int) (random.nextDouble() * letters.length());
-            pw.append(letters.substring(index, index + 1));
+        int randomLength = Math.max(passwordLength - RANDOM_PASSWORD_SUFFIX.length(), 0);
+        char[] password = new char[randomLength + RANDOM_PASSWORD_SUFFIX.length()];
+        SecureRandom random = SecureRandomSource.getSecureRandom();
+        for (int i = 0; i < randomLength; i++) {
+            password[i] = RANDOM_PASSWORD_CHAR_SET.charAt(random.nextInt(RANDOM_PASSWORD_CHAR_SET.length()));
         }
-        pw.append("A$g0");
-        char[] password = new char[pw.length()];
-        pw.getChars(0, pw.length(), password, 0);
+        RANDOM_PASSWORD_SUFFIX.getChars(0, RANDOM_PASSWORD_SUFFIX.length(), password, randomLength);
         return password;
     }
 
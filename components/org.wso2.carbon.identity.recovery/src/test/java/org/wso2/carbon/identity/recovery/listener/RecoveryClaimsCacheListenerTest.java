@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.recovery.listener;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.recovery.util.Utils;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for RecoveryClaimsCacheListener.java.
+ */
+public class RecoveryClaimsCacheListenerTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String TENANT_DOMAIN = "wso2.com";
+
+    private RecoveryClaimsCacheListener listener;
+    private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
+    private MockedStatic<Utils> mockedUtils;
+
+    @BeforeMethod
+    public void setUp() {
+
+        listener = new RecoveryClaimsCacheListener();
+        mockedIdentityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(TENANT_ID)).thenReturn(TENANT_DOMAIN);
+        mockedUtils = mockStatic(Utils.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedIdentityTenantUtil.close();
+        mockedUtils.close();
+    }
+
+    @Test
+    public void testClaimsVersionIsClearedOnLocalClaimChanges() throws Exception {
+
+        LocalClaim localClaim = new LocalClaim("http://wso2.org/claims/emailaddress");
+        assertTrue(listener.doPostAddLocalClaim(TENANT_ID, localClaim));
+        assertTrue(listener.doPostUpdateLocalClaim(TENANT_ID, localClaim));
+        assertTrue(listener.doPostRemoveLocalClaim(TENANT_ID, localClaim.getClaimURI()));
+        mockedUtils.verify(() -> Utils.clearClaimsVersion(TENANT_DOMAIN), times(3));
+    }
+
+    @Test
+    public void testClaimsVersionIsClearedOnClaimDialectChanges() throws Exception {
+
+        ClaimDialect claimDialect = new ClaimDialect("http://wso2.org/oidc/claim");
+        assertTrue(listener.doPostRenameClaimDialect(TENANT_ID, claimDialect,
+                new ClaimDialect("http://wso2.org/oidc/claims")));
+        assertTrue(listener.doPostRemoveClaimDialect(TENANT_ID, claimDialect));
+        mockedUtils.verify(() -> Utils.clearClaimsVersion(TENANT_DOMAIN), times(2));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.recovery.store;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryServerException;
+import org.wso2.carbon.identity.recovery.RecoveryScenarios;
+import org.wso2.carbon.identity.recovery.RecoverySteps;
+import org.wso2.carbon.identity.recovery.internal.cache.RecoveryExpiryPolicyCache;
+import org.wso2.carbon.identity.recovery.util.Utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for ExpiredRecoveryDataCleanupTask.
+ */
+public class ExpiredRecoveryDataCleanupTaskTest {
+
+    private static final int TEST_TENANT_ID = 12;
+    private static final String TEST_TENANT_DOMAIN = "test.com";
+    private static final int GRACE_PERIOD = 1440;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @Mock
+    private PrivilegedCarbonContext privilegedCarbonContext;
+
+    @Mock
+    private RecoveryExpiryPolicyCache recoveryExpiryPolicyCache;
+
+    private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
+    private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
+    private MockedStatic<Utils> mockedUtils;
+    private MockedStatic<PrivilegedCarbonContext> mockedPrivilegedCarbonContext;
+    private MockedStatic<RecoveryExpiryPolicyCache> mockedRecoveryExpiryPolicyCache;
+
+    private ExpiredRecoveryDataCleanupTask cleanupTask;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        MockitoAnnotations.openMocks(this);
+        mockedIdentityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        mockedIdentityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        mockedUtils = mockStatic(Utils.class);
+        mockedPrivilegedCarbonContext = mockStatic(PrivilegedCarbonContext.class);
+        mockedRecoveryExpiryPolicyCache = mockStatic(RecoveryExpiryPolicyCache.class);
+
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenReturn(mockConnection);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(TEST_TENANT_ID))
+                .thenReturn(TEST_TENANT_DOMAIN);
+        mockedPrivilegedCarbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                .thenReturn(privilegedCarbonContext);
+        mockedRecoveryExpiryPolicyCache.when(RecoveryExpiryPolicyCache::getInstance)
+                .thenReturn(recoveryExpiryPolicyCache);
+        mockedUtils.when(() -> Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.EXPIRY_TIME,
+                TEST_TENANT_DOMAIN)).thenReturn("10");
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+
+        cleanupTask = new ExpiredRecoveryDataCleanupTask(60, 10, 0, GRACE_PERIOD,
+                Collections.singletonList(RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY.name()));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedIdentityDatabaseUtil.close();
+        mockedIdentityTenantUtil.close();
+        mockedUtils.close();
+        mockedPrivilegedCarbonContext.close();
+        mockedRecoveryExpiryPolicyCache.close();
+    }
+
+    @Test
+    public void testDeleteExpiredRecoveryData() throws Exception {
+
+        long now = System.currentTimeMillis();
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getString(IdentityRecoveryConstants.DBConstants.CODE)).thenReturn("code1", "code2");
+        when(mockResultSet.getTimestamp(eq(IdentityRecoveryConstants.DBConstants.TIME_CREATED),
+                any(Calendar.class))).thenReturn(new Timestamp(now - TimeUnit.DAYS.toMillis(3)),
+                new Timestamp(now - TimeUnit.MINUTES.toMillis(GRACE_PERIOD + 1)));
+        when(mockResultSet.getInt(IdentityRecoveryConstants.DBConstants.TENANT_ID)).thenReturn(TEST_TENANT_ID);
+        when(mockResultSet.getString(IdentityRecoveryConstants.DBConstants.SCENARIO))
+                .thenReturn(RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY.name());
+        when(mockResultSet.getString(IdentityRecoveryConstants.DBConstants.STEP))
+                .thenReturn(RecoverySteps.UPDATE_PASSWORD.name());
+        when(mockResultSet.getString(IdentityRecoveryConstants.DBConstants.REMAINING_SETS)).thenReturn("EMAIL");
+
+        assertEquals(cleanupTask.deleteExpiredRecoveryData(), 1);
+
+        // Only the code expired for more than the grace period should be deleted.
+        verify(mockPreparedStatement).setString(1, "code1");
+        verify(mockPreparedStatement, never()).setString(1, "code2");
+        verify(mockPreparedStatement, times(1)).addBatch();
+        verify(mockPreparedStatement).executeBatch();
+        // Expiry configurations should be resolved once per run.
+        mockedUtils.verify(() -> Utils.getRecoveryConfigs(IdentityRecoveryConstants.ConnectorConfig.EXPIRY_TIME,
+                TEST_TENANT_DOMAIN), times(1));
+        mockedIdentityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(mockConnection));
+    }
+
+    @Test
+    public void testDeleteOrphanRecoveryFlowData() throws Exception {
+
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getString(IdentityRecoveryConstants.DBConstants.RECOVERY_FLOW_ID))
+                .thenReturn("flow1", "flow2");
+
+        assertEquals(cleanupTask.deleteOrphanRecoveryFlowData(), 2);
+
+        verify(mockConnection).prepareStatement(IdentityRecoveryConstants.SQLQueries.INVALIDATE_BY_RECOVERY_FLOW_ID);
+        verify(mockPreparedStatement).setString(1, "flow1");
+        verify(mockPreparedStatement).setString(1, "flow2");
+        verify(mockPreparedStatement).executeBatch();
+    }
+
+    @Test
+    public void testRunWithDatabaseError() throws Exception {
+
+        when(mockConnection.prepareStatement(anyString())).thenThrow(new SQLException());
+        mockedUtils.when(() -> Utils.handleServerException(any(IdentityRecoveryConstants.ErrorMessages.class),
+                isNull(), any())).thenReturn(IdentityException.error(IdentityRecoveryServerException.class,
+                "err-code", new Throwable()));
+
+        // Errors should not be propagated to the scheduler.
+        cleanupTask.run();
+
+        verify(mockPreparedStatement, never()).executeBatch();
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.recovery.store;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
@@ -27,16 +28,28 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
+import org.wso2.carbon.identity.governance.common.CopyOnWriteCacheEntry;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryClientException;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryServerException;
 import org.wso2.carbon.identity.recovery.RecoveryScenarios;
 import org.wso2.carbon.identity.recovery.RecoverySteps;
+import org.wso2.carbon.identity.recovery.handler.CodeInvalidationHandler;
 import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+import org.wso2.carbon.identity.recovery.internal.cache.RecoveryExpiryPolicyCache;
 import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
 import org.wso2.carbon.identity.recovery.util.Utils;
 
@@ -46,6 +59,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -55,6 +69,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -86,17 +101,32 @@ public class JDBCRecoveryDataStoreTest {
     @Mock
     private IdentityEventService identityEventService;
 
+    @Mock
+    private RecoveryExpiryPolicyCache recoveryExpiryPolicyCache;
+
+    @Mock
+    private IdentityEventConfigBuilder identityEventConfigBuilder;
+
+    @Mock
+    private ModuleConfiguration moduleConfiguration;
+
+    @Mock
+    private Subscription subscription;
+
     private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
     private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtils;
     private MockedStatic<IdentityUtil> mockedIdentityUtil;
     private MockedStatic<Utils> mockedUtils;
     private MockedStatic<IdentityRecoveryServiceDataHolder> mockedIdentityRecoveryServiceDataHolder;
+    private MockedStatic<RecoveryExpiryPolicyCache> mockedRecoveryExpiryPolicyCache;
+    private MockedStatic<IdentityEventConfigBuilder> mockedIdentityEventConfigBuilder;
 
     private static final int TEST_TENANT_ID = 12;
     private static final String TEST_TENANT_DOMAIN = "test.com";
     private static final String TEST_USER_NAME = "testUser";
     private static final String TEST_USER_STORE_DOMAIN = "testUserStore";
     private static final String TEST_SECRET_CODE = "test-sec";
+    private static final String TEST_EVENT_HANDLER = "testEventHandler";
 
     @BeforeMethod
     public void setUp() throws Exception {
@@ -109,9 +139,13 @@ public class JDBCRecoveryDataStoreTest {
         mockedIdentityUtil = mockStatic(IdentityUtil.class);
         mockedUtils = mockStatic(Utils.class);
         mockedIdentityRecoveryServiceDataHolder = mockStatic(IdentityRecoveryServiceDataHolder.class);
+        mockedRecoveryExpiryPolicyCache = mockStatic(RecoveryExpiryPolicyCache.class);
+        mockedIdentityEventConfigBuilder = mockStatic(IdentityEventConfigBuilder.class);
 
         mockedIdentityRecoveryServiceDataHolder.when(IdentityRecoveryServiceDataHolder::getInstance)
                 .thenReturn(identityRecoveryServiceDataHolder);
+        mockedRecoveryExpiryPolicyCache.when(RecoveryExpiryPolicyCache::getInstance)
+                .thenReturn(recoveryExpiryPolicyCache);
         mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
                 .thenReturn(mockConnection);
         mockedIdentityTenantUtils.when(() -> IdentityTenantUtil.getTenantId(TEST_TENANT_DOMAIN))
@@ -120,6 +154,7 @@ public class JDBCRecoveryDataStoreTest {
                 .thenReturn(true);
 
         when(identityRecoveryServiceDataHolder.getIdentityEventService()).thenReturn(identityEventService);
+        mockRecoveryDataEventSubscription(IdentityEventConstants.Event.POST_GET_USER_RECOVERY_DATA);
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
     }
 
@@ -131,6 +166,8 @@ public class JDBCRecoveryDataStoreTest {
         mockedIdentityUtil.close();
         mockedUtils.close();
         mockedIdentityRecoveryServiceDataHolder.close();
+        mockedRecoveryExpiryPolicyCache.close();
+        mockedIdentityEventConfigBuilder.close();
 
         reset(mockConnection, mockPreparedStatement, mockResultSet);
     }
@@ -212,6 +249,100 @@ public class JDBCRecoveryDataStoreTest {
                 .closeAllConnections(mockConnection, mockResultSet, mockPreparedStatement));
     }
 
+    @Test
+    public void testLoadWithoutRecoveryDataEventSubscribers() throws Exception {
+
+        User user = createSampleUser();
+        mockRecoveryDataEventSubscription(IdentityEventConstants.Event.POST_ADD_USER);
+
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getTimestamp(eq("TIME_CREATED"), any(Calendar.class)))
+                .thenReturn(new Timestamp(System.currentTimeMillis() - 60000));
+
+        mockExpiryTimes();
+        UserRecoveryData result = userRecoveryDataStore.load(user, RecoveryScenarios.EMAIL_VERIFICATION_ON_UPDATE,
+                RecoverySteps.VERIFY_EMAIL, TEST_SECRET_CODE);
+
+        assertNotNull(result);
+        verify(identityEventService, never()).handleEvent(any());
+
+        // Subscriptions should be resolved again once the event handlers change.
+        mockRecoveryDataEventSubscription(IdentityEventConstants.Event.PRE_GET_USER_RECOVERY_DATA);
+        userRecoveryDataStore.load(user, RecoveryScenarios.EMAIL_VERIFICATION_ON_UPDATE,
+                RecoverySteps.VERIFY_EMAIL, TEST_SECRET_CODE);
+        verify(identityEventService, times(2)).handleEvent(any());
+    }
+
+    @Test
+    public void testLoadWithCustomRecoveryDataEventHandler() throws Exception {
+
+        User user = createSampleUser();
+        mockRecoveryDataEventSubscription(IdentityEventConstants.Event.POST_ADD_USER);
+        when(identityRecoveryServiceDataHolder.getEventHandlers())
+                .thenReturn(Collections.singleton(new CustomEventHandler()));
+
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getTimestamp(eq("TIME_CREATED"), any(Calendar.class)))
+                .thenReturn(new Timestamp(System.currentTimeMillis() - 60000));
+
+        mockExpiryTimes();
+        userRecoveryDataStore.load(user, RecoveryScenarios.EMAIL_VERIFICATION_ON_UPDATE,
+                RecoverySteps.VERIFY_EMAIL, TEST_SECRET_CODE);
+
+        // Handlers deciding on their own through canHandle should still receive the events.
+        verify(identityEventService, times(2)).handleEvent(any());
+    }
+
+    @Test
+    public void testLoadWithOnlyCodeInvalidationHandler() throws Exception {
+
+        User user = createSampleUser();
+        mockRecoveryDataEventSubscription(IdentityEventConstants.Event.POST_ADD_USER);
+        when(identityRecoveryServiceDataHolder.getEventHandlers())
+                .thenReturn(Collections.singleton(new CodeInvalidationHandler()));
+
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getTimestamp(eq("TIME_CREATED"), any(Calendar.class)))
+                .thenReturn(new Timestamp(System.currentTimeMillis() - 60000));
+
+        mockExpiryTimes();
+        userRecoveryDataStore.load(user, RecoveryScenarios.EMAIL_VERIFICATION_ON_UPDATE,
+                RecoverySteps.VERIFY_EMAIL, TEST_SECRET_CODE);
+
+        // Overriding canHandle for other events should not make a handler a recovery data event subscriber.
+        verify(identityEventService, never()).handleEvent(any());
+    }
+
+    @Test
+    public void testStaleRecoveryDataEventSubscriptionsAreDiscarded() throws Exception {
+
+        User user = createSampleUser();
+        mockRecoveryDataEventSubscription(IdentityEventConstants.Event.PRE_GET_USER_RECOVERY_DATA);
+        // Event handlers change while the subscriptions of the first load are being resolved.
+        when(identityEventConfigBuilder.getModuleConfiguration()).thenAnswer(invocation -> {
+            JDBCRecoveryDataStore.resetRecoveryDataEventSubscriptions();
+            return Collections.emptyMap();
+        }).thenReturn(Collections.singletonMap(TEST_EVENT_HANDLER, moduleConfiguration));
+
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getTimestamp(eq("TIME_CREATED"), any(Calendar.class)))
+                .thenReturn(new Timestamp(System.currentTimeMillis() - 60000));
+
+        mockExpiryTimes();
+        userRecoveryDataStore.load(user, RecoveryScenarios.EMAIL_VERIFICATION_ON_UPDATE,
+                RecoverySteps.VERIFY_EMAIL, TEST_SECRET_CODE);
+        userRecoveryDataStore.load(user, RecoveryScenarios.EMAIL_VERIFICATION_ON_UPDATE,
+                RecoverySteps.VERIFY_EMAIL, TEST_SECRET_CODE);
+
+        // The subscriptions resolved before the reset should not be reused by the second load.
+        verify(identityEventConfigBuilder, times(2)).getModuleConfiguration();
+        verify(identityEventService, times(2)).handleEvent(any());
+    }
+
     @Test()
     public void testLoadExpiredCode() throws Exception {
 
@@ -236,6 +367,48 @@ public class JDBCRecoveryDataStoreTest {
         }
     }
 
+    @Test
+    public void testCodeExpiryTimeIsResolvedFromCachedPolicy() throws Exception {
+
+        mockExpiryTimes();
+        int expiryTime = JDBCRecoveryDataStore.getCodeExpiryTime(TEST_TENANT_DOMAIN,
+                RecoveryScenarios.ADMIN_FORCED_PASSWORD_RESET_VIA_OTP, RecoverySteps.UPDATE_PASSWORD, null);
+        assertEquals(expiryTime, 10);
+
+        ArgumentCaptor<CopyOnWriteCacheEntry> policyCaptor = ArgumentCaptor.forClass(CopyOnWriteCacheEntry.class);
+        verify(recoveryExpiryPolicyCache).addToCache(any(StringCacheKey.class), policyCaptor.capture(),
+                eq(TEST_TENANT_DOMAIN));
+        assertEquals(policyCaptor.getValue().getValue(
+                IdentityRecoveryConstants.ConnectorConfig.ADMIN_PASSWORD_RESET_EXPIRY_TIME), Integer.valueOf(10));
+
+        // Expiry time should be served from the cached policy without reading the configs again.
+        when(recoveryExpiryPolicyCache.getValueFromCache(any(StringCacheKey.class),
+                eq(TEST_TENANT_DOMAIN))).thenReturn(policyCaptor.getValue());
+        expiryTime = JDBCRecoveryDataStore.getCodeExpiryTime(TEST_TENANT_DOMAIN,
+                RecoveryScenarios.ADMIN_FORCED_PASSWORD_RESET_VIA_EMAIL_LINK, RecoverySteps.UPDATE_PASSWORD, null);
+        assertEquals(expiryTime, 10);
+        mockedUtils.verify(() -> Utils.getRecoveryConfigs(
+                IdentityRecoveryConstants.ConnectorConfig.ADMIN_PASSWORD_RESET_EXPIRY_TIME, TEST_TENANT_DOMAIN),
+                times(1));
+
+        JDBCRecoveryDataStore.clearExpiryPolicy(TEST_TENANT_DOMAIN);
+        verify(recoveryExpiryPolicyCache).clearCacheEntry(any(StringCacheKey.class),
+                eq(TEST_TENANT_DOMAIN));
+    }
+
+    private void mockRecoveryDataEventSubscription(String eventName) {
+
+        mockedIdentityEventConfigBuilder.when(IdentityEventConfigBuilder::getInstance)
+                .thenReturn(identityEventConfigBuilder);
+        when(identityEventConfigBuilder.getModuleConfiguration())
+                .thenReturn(Collections.singletonMap(TEST_EVENT_HANDLER, moduleConfiguration));
+        when(moduleConfiguration.getSubscriptions()).thenReturn(Collections.singletonList(subscription));
+        when(subscription.getSubscriptionName()).thenReturn(eventName);
+        when(identityRecoveryServiceDataHolder.getEventHandlers())
+                .thenReturn(Collections.singleton(new ConfiguredEventHandler()));
+        JDBCRecoveryDataStore.resetRecoveryDataEventSubscriptions();
+    }
+
     private void mockExpiryTimes() {
 
         mockedUtils.when(() -> Utils.getRecoveryConfigs(IdentityRecoveryConstants
@@ -311,4 +484,35 @@ public class JDBCRecoveryDataStoreTest {
         user.setUserStoreDomain(TEST_USER_STORE_DOMAIN);
         return user;
     }
+
+    private static class ConfiguredEventHandler extends AbstractEventHandler {
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+
+        @Override
+        public String getName() {
+
+            return TEST_EVENT_HANDLER;
+        }
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            // Subscriptions of this handler are resolved from the mocked module configuration only.
+            return false;
+        }
+    }
+
+    private static class CustomEventHandler extends ConfiguredEventHandler {
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+            return IdentityEventConstants.Event.PRE_GET_USER_RECOVERY_DATA.equals(eventName);
+        }
+    }
 }
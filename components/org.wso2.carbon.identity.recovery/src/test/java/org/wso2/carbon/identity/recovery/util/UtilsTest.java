@@ -18,7 +18,9 @@
 
 package org.wso2.carbon.identity.recovery.util;
 
+import org.apache.axiom.om.util.Base64;
 import org.apache.commons.lang.StringUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -45,6 +47,9 @@ import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.common.CopyOnWriteCacheEntry;
+import org.wso2.carbon.identity.governance.common.StringCacheKey;
+import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 import org.wso2.carbon.identity.handler.event.account.lock.exception.AccountLockServiceException;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryClientException;
@@ -55,6 +60,10 @@ import org.wso2.carbon.identity.recovery.RecoverySteps;
 import org.wso2.carbon.identity.recovery.exception.SelfRegistrationClientException;
 import org.wso2.carbon.identity.recovery.exception.SelfRegistrationException;
 import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+import org.wso2.carbon.identity.recovery.internal.cache.OTPProfile;
+import org.wso2.carbon.identity.recovery.internal.cache.OTPProfileCache;
+import org.wso2.carbon.identity.recovery.internal.cache.RecoveryClaimsVersionCache;
+import org.wso2.carbon.identity.recovery.internal.cache.RecoveryClaimsVersionCacheEntry;
 import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityMgtConstants;
 import org.wso2.carbon.user.api.Claim;
 import org.wso2.carbon.user.api.RealmConfiguration;
@@ -76,11 +85,14 @@ import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -101,6 +113,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
@@ -453,6 +466,18 @@ public class UtilsTest {
         }
     }
 
+    @Test
+    public void testHashCode() throws Exception {
+
+        String value = "testValue";
+        String expectedHash = Base64.encode(MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(Utils.hashCode(value), expectedHash);
+        // Digest instance reused by the thread should be reset between the hash computations.
+        assertEquals(Utils.hashCode(value), expectedHash);
+    }
+
     @Test
     public void testSetClaimInUserStoreManager() throws org.wso2.carbon.user.api.UserStoreException {
 
@@ -553,6 +578,103 @@ public class UtilsTest {
         }
     }
 
+    @Test
+    public void testGenerateSecretKeyWithCachedOTPProfile() throws Exception {
+
+        String connectorName = "SelfRegistration";
+        OTPProfileCache otpProfileCache = mock(OTPProfileCache.class);
+        OTPGenerator otpGenerator = mock(OTPGenerator.class);
+        when(identityRecoveryServiceDataHolder.getOtpGenerator()).thenReturn(otpGenerator);
+        when(otpGenerator.generateOTP(true, false, false, 8, RecoveryScenarios.SELF_SIGN_UP.name()))
+                .thenReturn("12345678");
+        when(identityGovernanceService.getConfiguration(any(String[].class), eq(TENANT_DOMAIN)))
+                .thenAnswer(invocation -> {
+                    String key = ((String[]) invocation.getArguments()[0])[0];
+                    String value = "false";
+                    if (key.endsWith(".OTP.OTPLength")) {
+                        value = "8";
+                    } else if (key.endsWith(".OTP.UseNumbersInOTP") || key.endsWith(".OTP.SendOTPInEmail")) {
+                        value = "true";
+                    }
+                    Property property = new Property();
+                    property.setName(key);
+                    property.setValue(value);
+                    return new Property[]{property};
+                });
+
+        try (MockedStatic<OTPProfileCache> mockedOTPProfileCache = mockStatic(OTPProfileCache.class)) {
+            mockedOTPProfileCache.when(OTPProfileCache::getInstance).thenReturn(otpProfileCache);
+
+            // Profile is built from the connector configurations and cached on the first call.
+            String secretKey = Utils.generateSecretKey(NotificationChannels.EMAIL_CHANNEL.getChannelType(),
+                    RecoveryScenarios.SELF_SIGN_UP.name(), TENANT_DOMAIN, connectorName);
+            assertEquals(secretKey, "12345678");
+            ArgumentCaptor<CopyOnWriteCacheEntry> entryCaptor = ArgumentCaptor.forClass(CopyOnWriteCacheEntry.class);
+            verify(otpProfileCache).addToCache(any(StringCacheKey.class), entryCaptor.capture(),
+                    eq(TENANT_DOMAIN));
+            OTPProfile otpProfile = (OTPProfile) entryCaptor.getValue().getValue("connector:" + connectorName);
+            assertNotNull(otpProfile);
+            assertEquals(otpProfile.getLength(), 8);
+            assertTrue(otpProfile.isSendOTPInEmail());
+            assertFalse(otpProfile.isAlphanumeric());
+            verify(identityGovernanceService, Mockito.times(5))
+                    .getConfiguration(any(String[].class), eq(TENANT_DOMAIN));
+
+            // Cached profile is used without loading the connector configurations again.
+            when(otpProfileCache.getValueFromCache(any(StringCacheKey.class), eq(TENANT_DOMAIN)))
+                    .thenReturn(entryCaptor.getValue());
+            secretKey = Utils.generateSecretKey(NotificationChannels.EMAIL_CHANNEL.getChannelType(),
+                    RecoveryScenarios.SELF_SIGN_UP.name(), TENANT_DOMAIN, connectorName);
+            assertEquals(secretKey, "12345678");
+            verify(identityGovernanceService, Mockito.times(5))
+                    .getConfiguration(any(String[].class), eq(TENANT_DOMAIN));
+
+            Utils.clearOTPProfiles(TENANT_DOMAIN);
+            verify(otpProfileCache).clearCacheEntry(any(StringCacheKey.class), eq(TENANT_DOMAIN));
+        }
+    }
+
+    @Test
+    public void testGetClaimsVersion() throws Exception {
+
+        RecoveryClaimsVersionCache claimsVersionCache = mock(RecoveryClaimsVersionCache.class);
+        Map<String, String> claimProperties = new HashMap<>();
+        claimProperties.put("DisplayName", "Email");
+        LocalClaim emailClaim = new LocalClaim("http://wso2.org/claims/emailaddress",
+                Collections.singletonList(new AttributeMapping("PRIMARY", "mail")), claimProperties);
+        LocalClaim countryClaim = new LocalClaim("http://wso2.org/claims/country");
+
+        try (MockedStatic<RecoveryClaimsVersionCache> mockedClaimsVersionCache =
+                     mockStatic(RecoveryClaimsVersionCache.class)) {
+            mockedClaimsVersionCache.when(RecoveryClaimsVersionCache::getInstance).thenReturn(claimsVersionCache);
+
+            // The version is derived from the claims, so the order the claims are read in does not change it.
+            when(claimMetadataManagementService.getLocalClaims(TENANT_DOMAIN))
+                    .thenReturn(Arrays.asList(emailClaim, countryClaim));
+            String claimsVersion = Utils.getClaimsVersion(TENANT_DOMAIN);
+            assertNotNull(claimsVersion);
+            verify(claimsVersionCache).addToCache(any(StringCacheKey.class),
+                    any(RecoveryClaimsVersionCacheEntry.class), eq(TENANT_DOMAIN));
+            when(claimMetadataManagementService.getLocalClaims(TENANT_DOMAIN))
+                    .thenReturn(Arrays.asList(countryClaim, emailClaim));
+            assertEquals(Utils.getClaimsVersion(TENANT_DOMAIN), claimsVersion);
+
+            when(claimMetadataManagementService.getLocalClaims(TENANT_DOMAIN)).thenReturn(Arrays.asList(countryClaim,
+                    new LocalClaim(emailClaim.getClaimURI(), emailClaim.getMappedAttributes(),
+                            Collections.singletonMap("DisplayName", "Email Address"))));
+            assertNotEquals(Utils.getClaimsVersion(TENANT_DOMAIN), claimsVersion);
+
+            // The cached version is used without resolving the claims again.
+            when(claimsVersionCache.getValueFromCache(any(StringCacheKey.class), eq(TENANT_DOMAIN)))
+                    .thenReturn(new RecoveryClaimsVersionCacheEntry("cached-version"));
+            assertEquals(Utils.getClaimsVersion(TENANT_DOMAIN), "cached-version");
+            verify(claimMetadataManagementService, Mockito.times(3)).getLocalClaims(TENANT_DOMAIN);
+
+            Utils.clearClaimsVersion(TENANT_DOMAIN);
+            verify(claimsVersionCache).clearCacheEntry(any(StringCacheKey.class), eq(TENANT_DOMAIN));
+        }
+    }
+
     @Test
     public void testGetSignUpConfigs_Success() throws Exception {
 
@@ -1100,6 +1222,8 @@ public class UtilsTest {
         int passwordLength = 10;
         char[] result = Utils.generateRandomPassword(passwordLength);
         assertEquals(result.length, passwordLength);
+        assertEquals(new String(result, passwordLength - 4, 4), "A$g0");
+        assertEquals(Utils.generateRandomPassword(2), "A$g0".toCharArray());
     }
 
     @Test
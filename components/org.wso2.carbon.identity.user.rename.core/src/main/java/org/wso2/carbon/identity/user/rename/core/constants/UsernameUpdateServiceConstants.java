@@ -24,6 +24,7 @@ package org.wso2.carbon.identity.user.rename.core.constants;
 public class UsernameUpdateServiceConstants {
 
     public static final String ACCOUNT_DISABLE_CLAIM = "http://wso2.org/claims/identity/accountDisabled";
+    public static final String EMBEDDED_EXECUTION_ENABLE = "UserRename.EmbeddedExecution.Enable";
 
     private UsernameUpdateServiceConstants() {
 
@@ -70,6 +71,7 @@ public class UsernameUpdateServiceConstants {
         ERROR_INVALID_USERNAME("17101", "Existing username and the expected new username cannot be empty."),
         ERROR_INVALID_NEW_USERNAME("17102", "New username should be different from the existing username"),
         ERROR_USER_NOT_FOUND("17103", "User not found in tenant: %s for username: %s."),
+        ERROR_EMPTY_USER_LIST("17104", "At least one user should be given to update the usernames."),
         ERROR_UNEXPECTED("17199", "Unexpected error.");
 
         private final String code;
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.user.rename.core.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Object class that represents the Username update service response of a bulk username update.
+ */
+public class BulkStatusDTO {
+
+    private int totalCount;
+    private int successCount;
+    private final List<UsernameUpdateErrorDTO> errors = new ArrayList<>();
+
+    /**
+     * Returns the number of users included in the bulk username update.
+     *
+     * @return number of users
+     */
+    public int getTotalCount() {
+
+        return totalCount;
+    }
+
+    /**
+     * Sets the number of users included in the bulk username update.
+     *
+     * @param totalCount number of users
+     */
+    public void setTotalCount(int totalCount) {
+
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns the number of users whose username was updated.
+     *
+     * @return number of updated users
+     */
+    public int getSuccessCount() {
+
+        return successCount;
+    }
+
+    /**
+     * Increments the number of users whose username was updated.
+     */
+    public void incrementSuccessCount() {
+
+        successCount++;
+    }
+
+    /**
+     * Returns the failures of the users whose username was not updated.
+     *
+     * @return list of failures {@link UsernameUpdateErrorDTO}
+     */
+    public List<UsernameUpdateErrorDTO> getErrors() {
+
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Adds the failure of a user whose username was not updated.
+     *
+     * @param error failure of the user
+     */
+    public void addError(UsernameUpdateErrorDTO error) {
+
+        errors.add(error);
+    }
+}
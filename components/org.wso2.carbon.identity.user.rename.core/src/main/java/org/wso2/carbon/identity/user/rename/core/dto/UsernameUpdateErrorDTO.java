@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.user.rename.core.dto;
+
+/**
+ * Object class that represents the failure of updating the username of a user in a bulk username update.
+ */
+public class UsernameUpdateErrorDTO {
+
+    private final UserDTO user;
+    private final String errorCode;
+    private final String message;
+
+    public UsernameUpdateErrorDTO(UserDTO user, String errorCode, String message) {
+
+        this.user = user;
+        this.errorCode = errorCode;
+        this.message = message;
+    }
+
+    /**
+     * Returns the user whose username was not updated.
+     *
+     * @return user object {@link UserDTO}
+     */
+    public UserDTO getUser() {
+
+        return user;
+    }
+
+    /**
+     * Returns the error code of the failure.
+     *
+     * @return error code
+     */
+    public String getErrorCode() {
+
+        return errorCode;
+    }
+
+    /**
+     * Returns the error message of the failure.
+     *
+     * @return error message
+     */
+    public String getMessage() {
+
+        return message;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.user.rename.core.internal.service.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
+import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateException;
+import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateServerException;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.api.UserStoreManager;
+import org.wso2.carbon.user.core.UserCoreConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.sql.DataSource;
+
+/**
+ * Executes the user store SQL scripts of the forget-me tool within the server JVM to update the username of a user.
+ * Scripts are parsed once and run against the datasource the user store is already configured with, hence a rename
+ * does not require a separate JVM to be started.
+ */
+public class EmbeddedUsernameUpdateExecutor {
+
+    private static final Log log = LogFactory.getLog(EmbeddedUsernameUpdateExecutor.class);
+
+    private static final String SYSTEM_PROPERTY_CARBON_HOME = "carbon.home";
+    private static final String USER_STORE_SQL_SCRIPT_HOME =
+            "repository/components/tools/forget-me/extensions/user-store/conf/sql";
+    private static final String SQL_SCRIPT_EXTENSION = "*.sql";
+    private static final String DATASOURCE_PROPERTY = "dataSource";
+
+    static final String PARAM_USERNAME = "username";
+    static final String PARAM_NEW_USERNAME = "pseudonym";
+    static final String PARAM_TENANT_ID = "tenant_id";
+    static final String PARAM_TENANT_DOMAIN = "tenant_domain";
+    static final String PARAM_USER_STORE_DOMAIN = "user_store_domain";
+
+    // Forget-me tool scripts refer to the user attributes as back quoted names. i.e. `username`.
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("`(" + PARAM_USERNAME + "|" + PARAM_NEW_USERNAME +
+            "|" + PARAM_TENANT_ID + "|" + PARAM_TENANT_DOMAIN + "|" + PARAM_USER_STORE_DOMAIN + ")`");
+
+    private final Path scriptDirectory;
+    private final Map<String, DataSource> dataSources = new ConcurrentHashMap<>();
+    private volatile List<RenameStatement> renameStatements;
+
+    public EmbeddedUsernameUpdateExecutor() {
+
+        this(null);
+    }
+
+    EmbeddedUsernameUpdateExecutor(Path scriptDirectory) {
+
+        this.scriptDirectory = scriptDirectory;
+    }
+
+    /**
+     * Resolves the datasource of the user store the user belongs to. Only the datasources which are registered by the
+     * server are used, hence no connection pool is created for the rename.
+     *
+     * @param userStoreManager user store manager of the tenant
+     * @param userStoreDomain  user store domain of the user
+     * @return datasource of the user store, or null if the user store is not backed by a server datasource
+     * @throws UsernameUpdateServerException if an error occurs while resolving the datasource
+     */
+    public DataSource getDataSource(UserStoreManager userStoreManager, String userStoreDomain)
+            throws UsernameUpdateServerException {
+
+        String dataSourceName = getDataSourceName(userStoreManager, userStoreDomain);
+        if (StringUtils.isBlank(dataSourceName)) {
+            return null;
+        }
+
+        DataSource dataSource = dataSources.get(dataSourceName);
+        if (dataSource == null) {
+            try {
+                dataSource = (DataSource) new InitialContext().lookup(dataSourceName);
+            } catch (NamingException e) {
+                throw new UsernameUpdateServerException("Error while looking up the datasource: " + dataSourceName +
+                        " of user store domain: " + userStoreDomain, e);
+            }
+            dataSources.put(dataSourceName, dataSource);
+        }
+        return dataSource;
+    }
+
+    /**
+     * Updates the username of the given user using the given connection. The caller owns the transaction of the
+     * connection.
+     *
+     * @param connection connection to the user store database
+     * @param userDTO    user whose username needs to be updated
+     * @param tenantId   tenant id of the user
+     * @throws UsernameUpdateException if an error occurs while executing the scripts
+     */
+    public void run(Connection connection, UserDTO userDTO, int tenantId) throws UsernameUpdateException {
+
+        for (RenameStatement renameStatement : getRenameStatements()) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(renameStatement.sql)) {
+                for (int i = 0; i < renameStatement.parameters.size(); i++) {
+                    renameStatement.parameters.get(i).bind(prepStmt, i + 1, userDTO, tenantId);
+                }
+                prepStmt.executeUpdate();
+            } catch (SQLException e) {
+                throw new UsernameUpdateServerException("Error while updating the username from: " +
+                        userDTO.getExistingUsername() + " to: " + userDTO.getNewUsername() + " of user in userstore " +
+                        "domain: " + userDTO.getUserStoreDomain() + " and tenant domain: " +
+                        userDTO.getTenantDomain(), e);
+            }
+        }
+    }
+
+    private List<RenameStatement> getRenameStatements() throws UsernameUpdateServerException {
+
+        if (renameStatements == null) {
+            synchronized (this) {
+                if (renameStatements == null) {
+                    renameStatements = loadRenameStatements();
+                }
+            }
+        }
+        return renameStatements;
+    }
+
+    private List<RenameStatement> loadRenameStatements() throws UsernameUpdateServerException {
+
+        Path scriptDirectory = this.scriptDirectory;
+        if (scriptDirectory == null) {
+            scriptDirectory = Paths.get(System.getProperty(SYSTEM_PROPERTY_CARBON_HOME))
+                    .resolve(USER_STORE_SQL_SCRIPT_HOME);
+        }
+        List<Path> scripts = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(scriptDirectory, SQL_SCRIPT_EXTENSION)) {
+            directoryStream.forEach(scripts::add);
+        } catch (IOException e) {
+            throw new UsernameUpdateServerException("Error while reading the username update scripts from: " +
+                    scriptDirectory, e);
+        }
+        // Scripts are executed in the same order as the forget-me tool executes them.
+        Collections.sort(scripts);
+
+        List<RenameStatement> statements = new ArrayList<>();
+        for (Path script : scripts) {
+            try {
+                statements.addAll(parse(new String(Files.readAllBytes(script), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new UsernameUpdateServerException("Error while reading the username update script: " +
+                        script, e);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + statements.size() + " username update statements from: " + scriptDirectory);
+        }
+        return Collections.unmodifiableList(statements);
+    }
+
+    static List<RenameStatement> parse(String script) {
+
+        StringBuilder content = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmedLine = line.trim();
+            if (!trimmedLine.startsWith("--")) {
+                content.append(trimmedLine).append(' ');
+            }
+        }
+
+        List<RenameStatement> statements = new ArrayList<>();
+        for (String statement : content.toString().split(";")) {
+            if (StringUtils.isBlank(statement)) {
+                continue;
+            }
+            List<Parameter> parameters = new ArrayList<>();
+            StringBuffer sql = new StringBuffer();
+            Matcher matcher = PARAMETER_PATTERN.matcher(statement.trim());
+            while (matcher.find()) {
+                parameters.add(Parameter.forName(matcher.group(1)));
+                matcher.appendReplacement(sql, "?");
+            }
+            matcher.appendTail(sql);
+            statements.add(new RenameStatement(sql.toString(), parameters));
+        }
+        return statements;
+    }
+
+    private String getDataSourceName(UserStoreManager userStoreManager, String userStoreDomain) {
+
+        if (!(userStoreManager instanceof org.wso2.carbon.user.core.UserStoreManager)) {
+            return null;
+        }
+        org.wso2.carbon.user.core.UserStoreManager domainUserStoreManager =
+                (org.wso2.carbon.user.core.UserStoreManager) userStoreManager;
+        if (UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME.equalsIgnoreCase(userStoreDomain)) {
+            RealmConfiguration realmConfiguration = domainUserStoreManager.getRealmConfiguration();
+            return StringUtils.defaultIfBlank(realmConfiguration.getUserStoreProperty(DATASOURCE_PROPERTY),
+                    realmConfiguration.getRealmProperty(DATASOURCE_PROPERTY));
+        }
+        domainUserStoreManager = domainUserStoreManager.getSecondaryUserStoreManager(userStoreDomain);
+        if (domainUserStoreManager == null) {
+            return null;
+        }
+        return domainUserStoreManager.getRealmConfiguration().getUserStoreProperty(DATASOURCE_PROPERTY);
+    }
+
+    /**
+     * A user attribute referred by the forget-me tool scripts, along with the SQL type it is bound with.
+     */
+    enum Parameter {
+
+        USERNAME(PARAM_USERNAME),
+        NEW_USERNAME(PARAM_NEW_USERNAME),
+        TENANT_ID(PARAM_TENANT_ID),
+        TENANT_DOMAIN(PARAM_TENANT_DOMAIN),
+        USER_STORE_DOMAIN(PARAM_USER_STORE_DOMAIN);
+
+        private final String name;
+
+        Parameter(String name) {
+
+            this.name = name;
+        }
+
+        static Parameter forName(String name) {
+
+            for (Parameter parameter : values()) {
+                if (parameter.name.equals(name)) {
+                    return parameter;
+                }
+            }
+            throw new IllegalArgumentException("Unknown username update script parameter: " + name);
+        }
+
+        /**
+         * Binds the value of the parameter for the given user. The tenant id is bound as an integer, as the user
+         * store tables keep it in integer columns.
+         */
+        void bind(PreparedStatement prepStmt, int index, UserDTO userDTO, int tenantId) throws SQLException {
+
+            switch (this) {
+                case USERNAME:
+                    prepStmt.setString(index, userDTO.getExistingUsername());
+                    break;
+                case NEW_USERNAME:
+                    prepStmt.setString(index, userDTO.getNewUsername());
+                    break;
+                case TENANT_ID:
+                    prepStmt.setInt(index, tenantId);
+                    break;
+                case TENANT_DOMAIN:
+                    prepStmt.setString(index, userDTO.getTenantDomain());
+                    break;
+                default:
+                    prepStmt.setString(index, userDTO.getUserStoreDomain());
+            }
+        }
+    }
+
+    /**
+     * A parsed statement of a forget-me tool script.
+     */
+    static final class RenameStatement {
+
+        private final String sql;
+        private final List<Parameter> parameters;
+
+        RenameStatement(String sql, List<Parameter> parameters) {
+
+            this.sql = sql;
+            this.parameters = Collections.unmodifiableList(parameters);
+        }
+
+        String getSql() {
+
+            return sql;
+        }
+
+        List<Parameter> getParameters() {
+
+            return parameters;
+        }
+    }
+}
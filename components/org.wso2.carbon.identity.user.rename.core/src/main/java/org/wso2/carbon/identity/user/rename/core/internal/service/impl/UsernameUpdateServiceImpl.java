@@ -25,12 +25,16 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants;
+import org.wso2.carbon.identity.user.rename.core.dto.BulkStatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.StatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
+import org.wso2.carbon.identity.user.rename.core.dto.UsernameUpdateErrorDTO;
 import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateClientException;
 import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateException;
 import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateServerException;
+import org.wso2.carbon.identity.user.rename.core.service.UsernameUpdateProgressListener;
 import org.wso2.carbon.identity.user.rename.core.service.UsernameUpdateService;
 import org.wso2.carbon.identity.user.rename.core.utils.UpdateUsernameServiceUtil;
 import org.wso2.carbon.user.api.UserRealm;
@@ -40,11 +44,18 @@ import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import javax.sql.DataSource;
+
+import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Error.ERROR_EMPTY_USER_LIST;
 import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Error.ERROR_INVALID_NEW_USERNAME;
 import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Error.ERROR_INVALID_USERNAME;
+import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Error.ERROR_UNEXPECTED;
 import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Error.ERROR_USER_NOT_FOUND;
 import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Status.STATUS_SUCCESS;
 
@@ -59,40 +70,134 @@ public class UsernameUpdateServiceImpl implements UsernameUpdateService {
 
     protected RealmService realmService;
 
+    private final EmbeddedUsernameUpdateExecutor embeddedExecutor = new EmbeddedUsernameUpdateExecutor();
+
     @Override
     public StatusDTO updateUsername(UserDTO userDTO) throws UsernameUpdateException {
 
         validate(userDTO);
 
+        String tenantDomain = userDTO.getTenantDomain();
+        int tenantId = getTenantId(tenantDomain);
+        updateUsername(userDTO, getUserStoreManager(tenantId, tenantDomain), tenantId);
+
+        return UpdateUsernameServiceUtil.buildStatus(STATUS_SUCCESS.getCode(), String.format(STATUS_SUCCESS
+                .getMessage(), userDTO.getExistingUsername(), userDTO.getNewUsername()));
+
+    }
+
+    @Override
+    public BulkStatusDTO updateUsernames(List<UserDTO> userDTOs, UsernameUpdateProgressListener progressListener)
+            throws UsernameUpdateException {
+
+        if (userDTOs == null || userDTOs.isEmpty()) {
+            throw new UsernameUpdateClientException(ERROR_EMPTY_USER_LIST.getMessage(), ERROR_EMPTY_USER_LIST
+                    .getCode(), UsernameUpdateClientException.ErrorType.BAD_REQUEST);
+        }
+
+        BulkStatusDTO bulkStatusDTO = new BulkStatusDTO();
+        bulkStatusDTO.setTotalCount(userDTOs.size());
+        // Tenant id and user store manager are resolved once for all the users of a tenant.
+        Map<String, Integer> tenantIds = new HashMap<>();
+        Map<String, UserStoreManager> userStoreManagers = new HashMap<>();
+        int processedCount = 0;
+        for (UserDTO userDTO : userDTOs) {
+            try {
+                validate(userDTO);
+                String tenantDomain = userDTO.getTenantDomain();
+                Integer tenantId = tenantIds.get(tenantDomain);
+                if (tenantId == null) {
+                    tenantId = getTenantId(tenantDomain);
+                    tenantIds.put(tenantDomain, tenantId);
+                }
+                UserStoreManager userStoreManager = userStoreManagers.get(tenantDomain);
+                if (userStoreManager == null) {
+                    userStoreManager = getUserStoreManager(tenantId, tenantDomain);
+                    userStoreManagers.put(tenantDomain, userStoreManager);
+                }
+                updateUsername(userDTO, userStoreManager, tenantId);
+                bulkStatusDTO.incrementSuccessCount();
+            } catch (UsernameUpdateException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while updating the username of user: " + userDTO, e);
+                }
+                bulkStatusDTO.addError(new UsernameUpdateErrorDTO(userDTO, StringUtils.defaultIfBlank(
+                        e.getErrorCode(), ERROR_UNEXPECTED.getCode()), e.getMessage()));
+            }
+            processedCount++;
+            if (progressListener != null) {
+                progressListener.onProgress(userDTO, processedCount, userDTOs.size());
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Updated usernames of " + bulkStatusDTO.getSuccessCount() + " users out of " +
+                    bulkStatusDTO.getTotalCount() + " users.");
+        }
+        return bulkStatusDTO;
+    }
+
+    private void updateUsername(UserDTO userDTO, UserStoreManager userStoreManager, int tenantId)
+            throws UsernameUpdateException {
+
         String tenantDomain = userDTO.getTenantDomain();
         String domainQualifiedUsername = UserCoreUtil.addDomainToName(userDTO.getExistingUsername(), userDTO
                 .getUserStoreDomain());
-        UserStoreManager userStoreManager = getUserStoreManager(tenantDomain);
 
         if (isExistingUser(domainQualifiedUsername, tenantDomain, userStoreManager)) {
-            performUpdate(userDTO, userStoreManager);
+            performUpdate(userDTO, userStoreManager, tenantId);
         } else {
             throw new UsernameUpdateClientException(String.format(ERROR_USER_NOT_FOUND.getMessage(), tenantDomain,
                     domainQualifiedUsername), ERROR_USER_NOT_FOUND.getCode(), UsernameUpdateClientException.ErrorType
                     .NOT_FOUND);
         }
-
-        return UpdateUsernameServiceUtil.buildStatus(STATUS_SUCCESS.getCode(), String.format(STATUS_SUCCESS
-                .getMessage(), userDTO.getExistingUsername(), userDTO.getNewUsername()));
-
     }
 
-    private void performUpdate(UserDTO userDTO, UserStoreManager userStoreManager)
+    private void performUpdate(UserDTO userDTO, UserStoreManager userStoreManager, int tenantId)
             throws UsernameUpdateException {
 
         disableAccount(UserCoreUtil.addDomainToName(userDTO.getExistingUsername(), userDTO.getUserStoreDomain()),
                 userDTO.getTenantDomain(), userStoreManager);
-        ForgetMeToolExecutor.run(userDTO.getExistingUsername(), userDTO.getNewUsername(), userDTO.getUserStoreDomain
-                (), userDTO.getTenantDomain(), getTenantId(userDTO.getTenantDomain()));
+        DataSource dataSource = null;
+        if (isEmbeddedExecutionEnabled()) {
+            dataSource = embeddedExecutor.getDataSource(userStoreManager, userDTO.getUserStoreDomain());
+        }
+        if (dataSource != null) {
+            runEmbedded(dataSource, userDTO, tenantId);
+        } else {
+            ForgetMeToolExecutor.run(userDTO.getExistingUsername(), userDTO.getNewUsername(), userDTO
+                    .getUserStoreDomain(), userDTO.getTenantDomain(), tenantId);
+        }
         enableAccount(UserCoreUtil.addDomainToName(userDTO.getNewUsername(), userDTO.getUserStoreDomain()), userDTO
                 .getTenantDomain(), userStoreManager);
     }
 
+    private void runEmbedded(DataSource dataSource, UserDTO userDTO, int tenantId) throws UsernameUpdateException {
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                embeddedExecutor.run(connection, userDTO, tenantId);
+                connection.commit();
+            } catch (UsernameUpdateException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new UsernameUpdateServerException("Error while updating the username of user: " +
+                    userDTO.getExistingUsername() + " in tenant: " + userDTO.getTenantDomain(), e);
+        }
+    }
+
+    private boolean isEmbeddedExecutionEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(
+                UsernameUpdateServiceConstants.EMBEDDED_EXECUTION_ENABLE));
+    }
+
     private void validate(UserDTO userDTO) throws UsernameUpdateClientException {
 
         if (StringUtils.isBlank(userDTO.getExistingUsername()) || StringUtils.isBlank(userDTO.getNewUsername())) {
@@ -117,10 +222,10 @@ public class UsernameUpdateServiceImpl implements UsernameUpdateService {
         }
     }
 
-    private UserStoreManager getUserStoreManager(String tenantDomain) throws UsernameUpdateException {
+    private UserStoreManager getUserStoreManager(int tenantId, String tenantDomain) throws UsernameUpdateException {
 
         try {
-            UserRealm userRealm = realmService.getTenantUserRealm(getTenantId(tenantDomain));
+            UserRealm userRealm = realmService.getTenantUserRealm(tenantId);
             if (userRealm != null) {
                 return userRealm.getUserStoreManager();
             } else {
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.user.rename.core.service;
+
+import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
+
+/**
+ * Listener that is notified as the users of a bulk username update are processed.
+ */
+@FunctionalInterface
+public interface UsernameUpdateProgressListener {
+
+    /**
+     * Invoked after the username update of a user is processed, irrespective of the outcome.
+     *
+     * @param userDTO        the user that was processed {@link UserDTO}
+     * @param processedCount number of users processed so far
+     * @param totalCount     total number of users in the bulk username update
+     */
+    void onProgress(UserDTO userDTO, int processedCount, int totalCount);
+}
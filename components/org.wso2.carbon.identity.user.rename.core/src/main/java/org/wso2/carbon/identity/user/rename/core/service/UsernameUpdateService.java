@@ -18,10 +18,13 @@
 
 package org.wso2.carbon.identity.user.rename.core.service;
 
+import org.wso2.carbon.identity.user.rename.core.dto.BulkStatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.StatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
 import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateException;
 
+import java.util.List;
+
 /**
  * Service interface for username update.
  */
@@ -36,4 +39,16 @@ public interface UsernameUpdateService {
      */
     public StatusDTO updateUsername (UserDTO userDTO) throws UsernameUpdateException;
 
+    /**
+     * Updates the usernames of the given users in a single pass. A failure of a user does not stop the update of the
+     * remaining users and is reported in the returned status.
+     *
+     * @param userDTOs         the user objects that include identification parameters and the new usernames
+     * @param progressListener listener notified after each user is processed, can be null
+     * @return BulkStatusDTO {@link BulkStatusDTO} object that includes the per user failures of the update
+     * @throws UsernameUpdateException if no users are given
+     */
+    public BulkStatusDTO updateUsernames(List<UserDTO> userDTOs, UsernameUpdateProgressListener progressListener)
+            throws UsernameUpdateException;
+
 }
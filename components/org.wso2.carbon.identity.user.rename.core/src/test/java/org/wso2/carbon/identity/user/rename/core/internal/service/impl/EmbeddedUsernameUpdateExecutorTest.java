@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.user.rename.core.internal.service.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
+import org.wso2.carbon.identity.user.rename.core.internal.service.impl.EmbeddedUsernameUpdateExecutor.Parameter;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+public class EmbeddedUsernameUpdateExecutorTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:username_update;DB_CLOSE_DELAY=-1";
+    private static final String USER_STORE_SCRIPT = "-- Updates the username in the user store.\n" +
+            "UPDATE UM_USER SET UM_USER_NAME = `pseudonym` WHERE UM_USER_NAME = `username` AND\n" +
+            "UM_TENANT_ID = `tenant_id`;\n" +
+            "UPDATE UM_USER_ATTRIBUTE SET UM_ATTR_VALUE = `pseudonym` WHERE UM_ATTR_VALUE = `username`;\n";
+
+    private Connection connection;
+    private Path scriptDirectory;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        connection = DriverManager.getConnection(DB_URL);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE UM_USER (UM_USER_NAME VARCHAR(255), UM_TENANT_ID INTEGER)");
+            statement.execute("CREATE TABLE UM_USER_ATTRIBUTE (UM_ATTR_VALUE VARCHAR(255))");
+            statement.execute("INSERT INTO UM_USER VALUES ('testuser1', -1234), ('testuser1', 1)");
+            statement.execute("INSERT INTO UM_USER_ATTRIBUTE VALUES ('testuser1')");
+        }
+        scriptDirectory = Files.createTempDirectory("forget-me-sql");
+        Files.write(scriptDirectory.resolve("user-store.sql"), USER_STORE_SCRIPT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+        Files.delete(scriptDirectory.resolve("user-store.sql"));
+        Files.delete(scriptDirectory);
+    }
+
+    @Test
+    public void testParse() {
+
+        List<EmbeddedUsernameUpdateExecutor.RenameStatement> statements =
+                EmbeddedUsernameUpdateExecutor.parse(USER_STORE_SCRIPT);
+
+        Assert.assertEquals(statements.size(), 2);
+        Assert.assertEquals(statements.get(0).getSql(),
+                "UPDATE UM_USER SET UM_USER_NAME = ? WHERE UM_USER_NAME = ? AND UM_TENANT_ID = ?");
+        Assert.assertEquals(statements.get(0).getParameters(),
+                Arrays.asList(Parameter.NEW_USERNAME, Parameter.USERNAME, Parameter.TENANT_ID));
+        Assert.assertEquals(statements.get(1).getParameters(),
+                Arrays.asList(Parameter.NEW_USERNAME, Parameter.USERNAME));
+    }
+
+    @Test
+    public void testRun() throws Exception {
+
+        UserDTO userDTO = new UserDTO();
+        userDTO.setExistingUsername("testuser1");
+        userDTO.setNewUsername("testuser11");
+        userDTO.setUserStoreDomain(UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME);
+        userDTO.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+
+        new EmbeddedUsernameUpdateExecutor(scriptDirectory).run(connection, userDTO,
+                MultitenantConstants.SUPER_TENANT_ID);
+
+        Assert.assertEquals(getUsername(MultitenantConstants.SUPER_TENANT_ID), "testuser11");
+        Assert.assertEquals(getUsername(1), "testuser1");
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT UM_ATTR_VALUE FROM UM_USER_ATTRIBUTE")) {
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(resultSet.getString(1), "testuser11");
+        }
+    }
+
+    private String getUsername(int tenantId) throws Exception {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                "SELECT UM_USER_NAME FROM UM_USER WHERE UM_TENANT_ID = ?")) {
+            prepStmt.setInt(1, tenantId);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                Assert.assertTrue(resultSet.next());
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
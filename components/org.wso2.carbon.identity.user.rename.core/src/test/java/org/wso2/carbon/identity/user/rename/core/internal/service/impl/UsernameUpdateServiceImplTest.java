@@ -27,6 +27,8 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.user.rename.core.dto.BulkStatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.StatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
 import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateException;
@@ -39,28 +41,38 @@ import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Error.ERROR_INVALID_NEW_USERNAME;
+import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Error.ERROR_USER_NOT_FOUND;
 import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Status.STATUS_SUCCESS;
 
 public class UsernameUpdateServiceImplTest {
 
     private MockedStatic<ForgetMeToolExecutor> mockedForgetMeToolExecutor;
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
 
     @BeforeMethod
     public void setUp() {
 
         MockitoAnnotations.openMocks(this);
         mockedForgetMeToolExecutor = Mockito.mockStatic(ForgetMeToolExecutor.class);
+        mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
     }
 
     @AfterMethod
     public void tearDown() {
 
         mockedForgetMeToolExecutor.close();
+        mockedIdentityUtil.close();
     }
 
     @DataProvider
@@ -260,6 +272,59 @@ public class UsernameUpdateServiceImplTest {
         usernameUpdateServiceImpl.updateUsername(userDTO);
     }
 
+    @Test
+    public void testUpdateUsernames() throws Exception {
+
+        UserDTO validUser = buildUserDTO("testuser1", "testuser11", UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        UserDTO invalidUser = buildUserDTO("testuser2", "testuser2", UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        UserDTO nonExistingUser = buildUserDTO("testuser3", "testuser33", UserCoreConstants
+                .PRIMARY_DEFAULT_DOMAIN_NAME, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        UserRealm userRealm = mock(UserRealm.class);
+        UserStoreManager userStoreManager = mock(UserStoreManager.class);
+
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)).thenReturn(MultitenantConstants.SUPER_TENANT_ID);
+        when(realmService.getTenantUserRealm(MultitenantConstants.SUPER_TENANT_ID)).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        when(userStoreManager.isExistingUser(UserCoreUtil.addDomainToName(validUser.getExistingUsername(), validUser
+                .getUserStoreDomain()))).thenReturn(true);
+
+        UsernameUpdateServiceImpl usernameUpdateServiceImpl = new UsernameUpdateServiceImpl();
+        usernameUpdateServiceImpl.setRealmService(realmService);
+
+        List<Integer> progress = new ArrayList<>();
+        BulkStatusDTO bulkStatusDTO = usernameUpdateServiceImpl.updateUsernames(Arrays.asList(validUser,
+                invalidUser, nonExistingUser), (userDTO, processedCount, totalCount) -> {
+            Assert.assertEquals(totalCount, 3);
+            progress.add(processedCount);
+        });
+
+        Assert.assertEquals(progress, Arrays.asList(1, 2, 3));
+        Assert.assertEquals(bulkStatusDTO.getTotalCount(), 3);
+        Assert.assertEquals(bulkStatusDTO.getSuccessCount(), 1);
+        Assert.assertEquals(bulkStatusDTO.getErrors().size(), 2);
+        Assert.assertSame(bulkStatusDTO.getErrors().get(0).getUser(), invalidUser);
+        Assert.assertEquals(bulkStatusDTO.getErrors().get(0).getErrorCode(), ERROR_INVALID_NEW_USERNAME.getCode());
+        Assert.assertSame(bulkStatusDTO.getErrors().get(1).getUser(), nonExistingUser);
+        Assert.assertEquals(bulkStatusDTO.getErrors().get(1).getErrorCode(), ERROR_USER_NOT_FOUND.getCode());
+        mockedForgetMeToolExecutor.verify(() -> ForgetMeToolExecutor.run(validUser.getExistingUsername(),
+                validUser.getNewUsername(), validUser.getUserStoreDomain(), validUser.getTenantDomain(),
+                MultitenantConstants.SUPER_TENANT_ID));
+        Mockito.verify(realmService, Mockito.times(1)).getTenantUserRealm(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @Test(expectedExceptions = UsernameUpdateException.class)
+    public void testExceptionAtEmptyUserList() throws Exception {
+
+        UsernameUpdateServiceImpl usernameUpdateServiceImpl = new UsernameUpdateServiceImpl();
+        usernameUpdateServiceImpl.updateUsernames(Collections.emptyList(), null);
+    }
+
     private UserDTO buildUserDTO(String existingUsername, String newUsername, String userStoreDomain, String
             tenantDomain) {
 